@@ -0,0 +1,213 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two ways generated code saves many rows: the multi row insert of BatchInsertPlugin,
+ * executed in chunks like insertBatchChunked, and the single row insert executed with
+ * <code>ExecutorType.BATCH</code> like the writers of BatchWriterPlugin.
+ *
+ * <p>The benchmark uses an in-memory HSQLDB database by default. Another database can be used with
+ * the system properties bench.jdbc.driver, bench.jdbc.url, bench.jdbc.user and bench.jdbc.password
+ * - for example a MySQL database with <code>rewriteBatchedStatements=true</code>. They must be
+ * passed to the forked JVM, with <code>-jvmArgsAppend</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchWriteBenchmark {
+
+    private static final String INSERT_COLUMNS = "insert into bench_row (id, name, amount, quantity, created, flag)";
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    @Param({"100", "1000"})
+    public int rowsPerFlush;
+
+    private final List<BenchRow> records = new ArrayList<>();
+
+    private PooledDataSource dataSource;
+
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Setup
+    public void setup() throws Exception {
+        dataSource = new PooledDataSource(System.getProperty("bench.jdbc.driver", "org.hsqldb.jdbcDriver"),
+                System.getProperty("bench.jdbc.url", "jdbc:hsqldb:mem:bench_batch_write"),
+                System.getProperty("bench.jdbc.user", "sa"),
+                System.getProperty("bench.jdbc.password", ""));
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.addMapper(BenchRowMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+        execute("drop table if exists bench_row");
+        execute("create table bench_row (id bigint not null, name varchar(64), amount decimal(18,2),"
+                + " quantity integer, created timestamp, flag integer, primary key (id))");
+
+        Timestamp created = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < rows; i++) {
+            records.add(new BenchRow(i, "name " + i, BigDecimal.valueOf(i, 2), i % 100, created, i % 2));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() throws Exception {
+        execute("truncate table bench_row");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        execute("drop table if exists bench_row");
+        dataSource.forceCloseAll();
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+    }
+
+    @Benchmark
+    public int multiRowInsert() {
+        int inserted = 0;
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            BenchRowMapper mapper = sqlSession.getMapper(BenchRowMapper.class);
+            for (int fromIndex = 0; fromIndex < records.size(); fromIndex += rowsPerFlush) {
+                int toIndex = Math.min(fromIndex + rowsPerFlush, records.size());
+                inserted += mapper.insertBatch(records.subList(fromIndex, toIndex));
+            }
+            sqlSession.commit();
+        }
+        return inserted;
+    }
+
+    @Benchmark
+    public int batchExecutorInsert() {
+        int pending = 0;
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            BenchRowMapper mapper = sqlSession.getMapper(BenchRowMapper.class);
+            for (BenchRow record : records) {
+                mapper.insert(record);
+                if (++pending >= rowsPerFlush) {
+                    sqlSession.flushStatements();
+                    pending = 0;
+                }
+            }
+            sqlSession.commit();
+        }
+        return records.size();
+    }
+
+    /**
+     * The statements BatchInsertPlugin and the MyBatis3 runtime generate for the table.
+     */
+    public interface BenchRowMapper {
+        @Insert({
+                "<script>",
+                INSERT_COLUMNS + " values",
+                "<foreach collection='list' item='item' separator=','>",
+                "(#{item.id}, #{item.name}, #{item.amount}, #{item.quantity}, #{item.created}, #{item.flag})",
+                "</foreach>",
+                "</script>"
+        })
+        int insertBatch(List<BenchRow> records);
+
+        @Insert(INSERT_COLUMNS + " values (#{id}, #{name}, #{amount}, #{quantity}, #{created}, #{flag})")
+        int insert(BenchRow row);
+    }
+
+    public static class BenchRow {
+        private final long id;
+        private final String name;
+        private final BigDecimal amount;
+        private final int quantity;
+        private final Timestamp created;
+        private final int flag;
+
+        BenchRow(long id, String name, BigDecimal amount, int quantity, Timestamp created, int flag) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+            this.quantity = quantity;
+            this.created = created;
+            this.flag = flag;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public Timestamp getCreated() {
+            return created;
+        }
+
+        public int getFlag() {
+            return flag;
+        }
+    }
+}
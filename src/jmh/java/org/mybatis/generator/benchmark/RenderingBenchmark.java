@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.config.Context;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the rendering of generated files with DefaultJavaFormatter and DefaultXmlFormatter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RenderingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int tables;
+
+    @Param({"narrow", "wide"})
+    public String width;
+
+    private final List<GeneratedJavaFile> javaFiles = new ArrayList<>();
+
+    private final List<GeneratedXmlFile> xmlFiles = new ArrayList<>();
+
+    private DefaultJavaFormatter javaFormatter;
+
+    @Setup
+    public void setup() throws Exception {
+        String url = SyntheticSchema.create(tables, width);
+        Context context = SyntheticSchema.createContext(url, tables, "target");
+        SyntheticSchema.setBulkIntrospection(context, true);
+        SyntheticSchema.introspect(context);
+        SyntheticSchema.generate(context, javaFiles, xmlFiles);
+
+        javaFormatter = new DefaultJavaFormatter();
+        javaFormatter.setContext(context);
+    }
+
+    @Benchmark
+    public void renderJavaFiles(Blackhole blackhole) {
+        for (GeneratedJavaFile javaFile : javaFiles) {
+            blackhole.consume(javaFormatter.getFormattedContent(javaFile.getCompilationUnit()));
+        }
+    }
+
+    @Benchmark
+    public void renderXmlFiles(Blackhole blackhole) {
+        // the files are created with the context's formatter, which is the DefaultXmlFormatter
+        for (GeneratedXmlFile xmlFile : xmlFiles) {
+            blackhole.consume(xmlFile.getFormattedContent());
+        }
+    }
+}
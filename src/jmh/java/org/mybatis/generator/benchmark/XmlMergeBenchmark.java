@@ -0,0 +1,105 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.internal.XmlFileMergerJaxp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures XmlFileMergerJaxp merging newly generated mappers into existing mappers. Each existing
+ * mapper is the generated mapper with one hand written statement added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XmlMergeBenchmark {
+
+    private static final String CUSTOM_ELEMENT =
+            "  <select id=\"selectCustom\" resultType=\"java.lang.Long\">\n"
+            + "    select count(*) from dual\n"
+            + "  </select>\n"
+            + "</mapper>";
+
+    @Param({"100", "1000"})
+    public int tables;
+
+    @Param({"narrow", "wide"})
+    public String width;
+
+    private final List<GeneratedXmlFile> xmlFiles = new ArrayList<>();
+
+    private final List<File> existingFiles = new ArrayList<>();
+
+    private File directory;
+
+    @Setup
+    public void setup() throws Exception {
+        String url = SyntheticSchema.create(tables, width);
+        Context context = SyntheticSchema.createContext(url, tables, "target");
+        SyntheticSchema.setBulkIntrospection(context, true);
+        SyntheticSchema.introspect(context);
+        SyntheticSchema.generate(context, new ArrayList<GeneratedJavaFile>(), xmlFiles);
+
+        directory = Files.createTempDirectory("mbg-merge").toFile();
+        for (GeneratedXmlFile xmlFile : xmlFiles) {
+            String content = xmlFile.getFormattedContent().replace("</mapper>", CUSTOM_ELEMENT);
+            File existingFile = new File(directory, xmlFile.getFileName());
+            Files.write(existingFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+            existingFiles.add(existingFile);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (File existingFile : existingFiles) {
+            Files.delete(existingFile.toPath());
+        }
+        Files.delete(directory.toPath());
+    }
+
+    @Benchmark
+    public void mergeXmlFiles(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < xmlFiles.size(); i++) {
+            blackhole.consume(XmlFileMergerJaxp.getMergedSource(xmlFiles.get(i), existingFiles.get(i)));
+        }
+    }
+}
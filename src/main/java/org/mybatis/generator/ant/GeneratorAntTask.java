@@ -67,11 +67,16 @@ import org.mybatis.generator.internal.DefaultShellCallback;
  * <li>"overwrite" - if true, then existing Java files will be overwritten. if
  * false (default), then existing Java files will be untouched and the generator
  * will write new Java files with a unique name</li>
+ * <li>"mergeJava" - if true, then existing Java files will be merged with the
+ * newly generated files. Requires javaparser-core, a dependency of the generator, in the Ant classpath.
+ * Default is false</li>
  * <li>"verbose" - if true, then the generator will log progress messages to the
  * Ant log. Default is false</li>
  * <li>"contextIds" - a comma delimited list of contaxtIds to use for this run</li>
  * <li>"fullyQualifiedTableNames" - a comma delimited list of fully qualified
  * table names to use for this run</li>
+ * <li>"parallelContexts" - if true, then the contexts are run concurrently.
+ * Default is false</li>
  * </ul>
  *
  *
@@ -81,10 +86,12 @@ public class GeneratorAntTask extends Task {
 
     private String configfile;
     private boolean overwrite;
+    private boolean mergeJava;
     private PropertySet propertyset;
     private boolean verbose;
     private String contextIds;
     private String fullyQualifiedTableNames;
+    private boolean parallelContexts;
 
     public GeneratorAntTask() {
         super();
@@ -104,9 +111,10 @@ public class GeneratorAntTask extends Task {
             ConfigurationParser cp = new ConfigurationParser(p, warnings);
             Configuration config = cp.parseConfiguration(configurationFile);
 
-            DefaultShellCallback callback = new DefaultShellCallback(overwrite);
+            DefaultShellCallback callback = new DefaultShellCallback(overwrite, mergeJava);
 
             MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, callback, warnings);
+            myBatisGenerator.setParallelContexts(parallelContexts);
 
             myBatisGenerator.generate(new AntProgressCallback(this, verbose), contexts,
                     fullyqualifiedTables);
@@ -221,4 +229,20 @@ public class GeneratorAntTask extends Task {
     public void setFullyQualifiedTableNames(String fullyQualifiedTableNames) {
         this.fullyQualifiedTableNames = fullyQualifiedTableNames;
     }
+
+    public boolean isMergeJava() {
+        return mergeJava;
+    }
+
+    public void setMergeJava(boolean mergeJava) {
+        this.mergeJava = mergeJava;
+    }
+
+    public boolean isParallelContexts() {
+        return parallelContexts;
+    }
+
+    public void setParallelContexts(boolean parallelContexts) {
+        this.parallelContexts = parallelContexts;
+    }
 }
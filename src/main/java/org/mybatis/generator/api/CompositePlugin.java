@@ -16,6 +16,7 @@
 package org.mybatis.generator.api;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -31,6 +32,8 @@ import org.mybatis.generator.api.dom.kotlin.KotlinType;
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.config.Context;
+import org.mybatis.generator.internal.SynchronizedPlugin;
+import org.mybatis.generator.internal.TimedPlugin;
 
 /**
  * This class implements a composite plugin. It contains a list of plugins for the
@@ -44,12 +47,34 @@ import org.mybatis.generator.config.Context;
 public abstract class CompositePlugin implements Plugin {
     private final List<Plugin> plugins = new ArrayList<>();
 
+    /**
+     * For every hook, the plugins that override it. Plugins that inherit the default
+     * implementation from {@link Plugin} would not change the result of the hook, so they are not
+     * called at all.
+     */
+    private final Plugin[][] hookPlugins = new Plugin[Hook.count][];
+
     protected CompositePlugin() {
         super();
+        Arrays.fill(hookPlugins, new Plugin[0]);
     }
 
     public void addPlugin(Plugin plugin) {
         plugins.add(plugin);
+
+        Class<?> pluginClass = TimedPlugin.unwrap(SynchronizedPlugin.unwrap(plugin)).getClass();
+        for (Hook hook : Hook.values) {
+            if (hook.isOverriddenBy(pluginClass)) {
+                Plugin[] current = hookPlugins[hook.index];
+                Plugin[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = plugin;
+                hookPlugins[hook.index] = updated;
+            }
+        }
+    }
+
+    private Plugin[] pluginsFor(Hook hook) {
+        return hookPlugins[hook.index];
     }
 
     @Override
@@ -66,16 +91,40 @@ public abstract class CompositePlugin implements Plugin {
         }
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return plugins.stream().allMatch(Plugin::isThreadSafe);
+    }
+
+    /**
+     * Returns true if any plugin generates additional files for the whole context, rather than for
+     * a single table. Such files are usually built from every table of the context.
+     *
+     * @return true if any plugin overrides one of the context level
+     *     <code>contextGenerateAdditional...Files()</code> methods
+     */
+    public boolean generatesContextFiles() {
+        return pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES).length > 0
+                || pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_KOTLIN_FILES).length > 0
+                || pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_FILES).length > 0
+                || pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_XML_FILES).length > 0;
+    }
+
+    @Override
+    public boolean requiresIndexes() {
+        return plugins.stream().anyMatch(Plugin::requiresIndexes);
+    }
+
     @Override
     public void initialized(IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.INITIALIZED)) {
             plugin.initialized(introspectedTable);
         }
     }
 
     @Override
     public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles() {
-        return plugins.stream()
+        return Arrays.stream(pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES))
                 .map(Plugin::contextGenerateAdditionalJavaFiles)
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -83,7 +132,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles(IntrospectedTable introspectedTable) {
-        return plugins.stream()
+        return Arrays.stream(pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES_PER_TABLE))
                 .map(p -> p.contextGenerateAdditionalJavaFiles(introspectedTable))
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -91,7 +140,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public List<GeneratedKotlinFile> contextGenerateAdditionalKotlinFiles() {
-        return plugins.stream()
+        return Arrays.stream(pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_KOTLIN_FILES))
                         .map(Plugin::contextGenerateAdditionalKotlinFiles)
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -99,7 +148,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public List<GeneratedKotlinFile> contextGenerateAdditionalKotlinFiles(IntrospectedTable introspectedTable) {
-        return plugins.stream()
+        return Arrays.stream(pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_KOTLIN_FILES_PER_TABLE))
                 .map(p -> p.contextGenerateAdditionalKotlinFiles(introspectedTable))
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -107,7 +156,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public List<GeneratedFile> contextGenerateAdditionalFiles() {
-        return plugins.stream()
+        return Arrays.stream(pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_FILES))
                 .map(Plugin::contextGenerateAdditionalFiles)
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -115,7 +164,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public List<GeneratedFile> contextGenerateAdditionalFiles(IntrospectedTable introspectedTable) {
-        return plugins.stream()
+        return Arrays.stream(pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_FILES_PER_TABLE))
                 .map(p -> p.contextGenerateAdditionalFiles(introspectedTable))
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -123,7 +172,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles() {
-        return plugins.stream()
+        return Arrays.stream(pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_XML_FILES))
                 .map(Plugin::contextGenerateAdditionalXmlFiles)
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -131,7 +180,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles(IntrospectedTable introspectedTable) {
-        return plugins.stream()
+        return Arrays.stream(pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_XML_FILES_PER_TABLE))
                 .map(p -> p.contextGenerateAdditionalXmlFiles(introspectedTable))
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -139,7 +188,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERATED)) {
             if (!plugin.clientGenerated(interfaze, introspectedTable)) {
                 return false;
             }
@@ -151,7 +200,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicInsertMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_INSERT_METHOD_GENERATED)) {
             if (!plugin.clientBasicInsertMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -163,7 +212,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicInsertMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_INSERT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicInsertMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -175,7 +224,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicInsertMultipleMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_INSERT_MULTIPLE_METHOD_GENERATED)) {
             if (!plugin.clientBasicInsertMultipleMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -187,7 +236,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicInsertMultipleMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_INSERT_MULTIPLE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicInsertMultipleMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -199,7 +248,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicSelectManyMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED)) {
             if (!plugin.clientBasicSelectManyMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -211,7 +260,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicSelectManyMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicSelectManyMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -223,7 +272,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicSelectOneMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED)) {
             if (!plugin.clientBasicSelectOneMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -235,7 +284,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicSelectOneMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicSelectOneMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -247,7 +296,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientCountByExampleMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.clientCountByExampleMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -259,7 +308,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientDeleteByExampleMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.clientDeleteByExampleMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -271,7 +320,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientDeleteByPrimaryKeyMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED)) {
             if (!plugin.clientDeleteByPrimaryKeyMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -283,7 +332,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientDeleteByPrimaryKeyMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientDeleteByPrimaryKeyMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -295,7 +344,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralCountMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_COUNT_METHOD_GENERATED)) {
             if (!plugin.clientGeneralCountMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -307,7 +356,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralCountMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_COUNT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralCountMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -319,7 +368,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralDeleteMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_DELETE_METHOD_GENERATED)) {
             if (!plugin.clientGeneralDeleteMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -331,7 +380,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralDeleteMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_DELETE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralDeleteMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -343,7 +392,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralSelectDistinctMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_SELECT_DISTINCT_METHOD_GENERATED)) {
             if (!plugin.clientGeneralSelectDistinctMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -355,7 +404,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralSelectDistinctMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_SELECT_DISTINCT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralSelectDistinctMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -367,7 +416,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralSelectMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_SELECT_METHOD_GENERATED)) {
             if (!plugin.clientGeneralSelectMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -379,7 +428,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralSelectMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_SELECT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralSelectMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -391,7 +440,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralUpdateMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_UPDATE_METHOD_GENERATED)) {
             if (!plugin.clientGeneralUpdateMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -403,7 +452,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralUpdateMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_UPDATE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralUpdateMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -415,7 +464,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientInsertMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_METHOD_GENERATED)) {
             if (!plugin.clientInsertMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -427,7 +476,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientInsertMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientInsertMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -439,7 +488,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientInsertMultipleMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_MULTIPLE_METHOD_GENERATED)) {
             if (!plugin.clientInsertMultipleMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -451,7 +500,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientInsertMultipleMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_MULTIPLE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientInsertMultipleMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -463,7 +512,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientInsertSelectiveMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.clientInsertSelectiveMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -475,7 +524,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientInsertSelectiveMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_SELECTIVE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientInsertSelectiveMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -487,7 +536,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectByExampleWithBLOBsMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientSelectByExampleWithBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -499,7 +548,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectByExampleWithoutBLOBsMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientSelectByExampleWithoutBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -511,7 +560,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectByPrimaryKeyMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED)) {
             if (!plugin.clientSelectByPrimaryKeyMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -523,7 +572,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectByPrimaryKeyMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientSelectByPrimaryKeyMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -535,7 +584,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectListFieldGenerated(Field field, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_LIST_FIELD_GENERATED)) {
             if (!plugin.clientSelectListFieldGenerated(field, interfaze, introspectedTable)) {
                 return false;
             }
@@ -547,7 +596,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectOneMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_ONE_METHOD_GENERATED)) {
             if (!plugin.clientSelectOneMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -559,7 +608,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectOneMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_ONE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientSelectOneMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -571,7 +620,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByExampleSelectiveMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByExampleSelectiveMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -583,7 +632,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateAllColumnsMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_ALL_COLUMNS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateAllColumnsMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -595,7 +644,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateAllColumnsMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_ALL_COLUMNS_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientUpdateAllColumnsMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -607,7 +656,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateSelectiveColumnsMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_SELECTIVE_COLUMNS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateSelectiveColumnsMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -619,7 +668,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateSelectiveColumnsMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_SELECTIVE_COLUMNS_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientUpdateSelectiveColumnsMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -631,7 +680,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByExampleWithBLOBsMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByExampleWithBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -643,7 +692,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByExampleWithoutBLOBsMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByExampleWithoutBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -655,7 +704,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByPrimaryKeySelectiveMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeySelectiveMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -667,7 +716,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByPrimaryKeySelectiveMethodGenerated(KotlinFunction kotlinFunction,
             KotlinFile kotlinFile, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientUpdateByPrimaryKeySelectiveMethodGenerated(kotlinFunction, kotlinFile,
                     introspectedTable)) {
                 return false;
@@ -680,7 +729,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByPrimaryKeyWithBLOBsMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeyWithBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -692,7 +741,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -704,7 +753,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectAllMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_ALL_METHOD_GENERATED)) {
             if (!plugin.clientSelectAllMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -717,7 +766,7 @@ public abstract class CompositePlugin implements Plugin {
     public boolean modelFieldGenerated(Field field, TopLevelClass topLevelClass,
             IntrospectedColumn introspectedColumn, IntrospectedTable introspectedTable,
             ModelClassType modelClassType) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_FIELD_GENERATED)) {
             if (!plugin.modelFieldGenerated(field, topLevelClass, introspectedColumn, introspectedTable,
                     modelClassType)) {
                 return false;
@@ -731,7 +780,7 @@ public abstract class CompositePlugin implements Plugin {
     public boolean modelGetterMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedColumn introspectedColumn, IntrospectedTable introspectedTable,
             ModelClassType modelClassType) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_GETTER_METHOD_GENERATED)) {
             if (!plugin.modelGetterMethodGenerated(method, topLevelClass, introspectedColumn, introspectedTable,
                     modelClassType)) {
                 return false;
@@ -745,7 +794,7 @@ public abstract class CompositePlugin implements Plugin {
     public boolean modelSetterMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedColumn introspectedColumn, IntrospectedTable introspectedTable,
             ModelClassType modelClassType) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_SETTER_METHOD_GENERATED)) {
             if (!plugin.modelSetterMethodGenerated(method, topLevelClass, introspectedColumn, introspectedTable,
                     modelClassType)) {
                 return false;
@@ -757,7 +806,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean modelPrimaryKeyClassGenerated(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_PRIMARY_KEY_CLASS_GENERATED)) {
             if (!plugin.modelPrimaryKeyClassGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -768,7 +817,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean modelBaseRecordClassGenerated(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_BASE_RECORD_CLASS_GENERATED)) {
             if (!plugin.modelBaseRecordClassGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -780,7 +829,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean modelRecordWithBLOBsClassGenerated(TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_RECORD_WITH_BLOBS_CLASS_GENERATED)) {
             if (!plugin.modelRecordWithBLOBsClassGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -791,7 +840,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean modelExampleClassGenerated(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_EXAMPLE_CLASS_GENERATED)) {
             if (!plugin.modelExampleClassGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -802,7 +851,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapGenerated(GeneratedXmlFile sqlMap, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_GENERATED)) {
             if (!plugin.sqlMapGenerated(sqlMap, introspectedTable)) {
                 return false;
             }
@@ -813,7 +862,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapDocumentGenerated(Document document, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_DOCUMENT_GENERATED)) {
             if (!plugin.sqlMapDocumentGenerated(document, introspectedTable)) {
                 return false;
             }
@@ -825,7 +874,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapResultMapWithoutBLOBsElementGenerated(XmlElement element,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_RESULT_MAP_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapResultMapWithoutBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -836,7 +885,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapCountByExampleElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_COUNT_BY_EXAMPLE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapCountByExampleElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -847,7 +896,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapDeleteByExampleElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_DELETE_BY_EXAMPLE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapDeleteByExampleElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -858,7 +907,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapDeleteByPrimaryKeyElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_DELETE_BY_PRIMARY_KEY_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapDeleteByPrimaryKeyElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -869,7 +918,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapExampleWhereClauseElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_EXAMPLE_WHERE_CLAUSE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapExampleWhereClauseElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -880,7 +929,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapBaseColumnListElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_BASE_COLUMN_LIST_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapBaseColumnListElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -891,7 +940,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapBlobColumnListElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_BLOB_COLUMN_LIST_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapBlobColumnListElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -902,7 +951,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapInsertElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_INSERT_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapInsertElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -913,7 +962,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapInsertSelectiveElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_INSERT_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapInsertSelectiveElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -924,7 +973,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapResultMapWithBLOBsElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_RESULT_MAP_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapResultMapWithBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -935,7 +984,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapSelectAllElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_ALL_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectAllElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -946,7 +995,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapSelectByPrimaryKeyElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_BY_PRIMARY_KEY_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByPrimaryKeyElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -958,7 +1007,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapSelectByExampleWithoutBLOBsElementGenerated(XmlElement element,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByExampleWithoutBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -970,7 +1019,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapSelectByExampleWithBLOBsElementGenerated(XmlElement element,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByExampleWithBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -982,7 +1031,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByExampleSelectiveElementGenerated(XmlElement element,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_EXAMPLE_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleSelectiveElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -994,7 +1043,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByExampleWithBLOBsElementGenerated(XmlElement element,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleWithBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1006,7 +1055,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByExampleWithoutBLOBsElementGenerated(XmlElement element,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleWithoutBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1018,7 +1067,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByPrimaryKeySelectiveElementGenerated(XmlElement element,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_PRIMARY_KEY_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeySelectiveElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1030,7 +1079,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated(XmlElement element,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1042,7 +1091,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated(XmlElement element,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1053,7 +1102,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean providerGenerated(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_GENERATED)) {
             if (!plugin.providerGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1065,7 +1114,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerApplyWhereMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_APPLY_WHERE_METHOD_GENERATED)) {
             if (!plugin.providerApplyWhereMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1077,7 +1126,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerCountByExampleMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_COUNT_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.providerCountByExampleMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1089,7 +1138,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerDeleteByExampleMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_DELETE_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.providerDeleteByExampleMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1101,7 +1150,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerInsertSelectiveMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_INSERT_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerInsertSelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1113,7 +1162,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerSelectByExampleWithBLOBsMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerSelectByExampleWithBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1125,7 +1174,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerSelectByExampleWithoutBLOBsMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerSelectByExampleWithoutBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1137,7 +1186,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerUpdateByExampleSelectiveMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleSelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1149,7 +1198,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerUpdateByExampleWithBLOBsMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleWithBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1161,7 +1210,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerUpdateByExampleWithoutBLOBsMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleWithoutBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1173,7 +1222,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerUpdateByPrimaryKeySelectiveMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByPrimaryKeySelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1184,7 +1233,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean dynamicSqlSupportGenerated(TopLevelClass supportClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.DYNAMIC_SQL_SUPPORT_GENERATED)) {
             if (!plugin.dynamicSqlSupportGenerated(supportClass, introspectedTable)) {
                 return false;
             }
@@ -1196,7 +1245,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean dynamicSqlSupportGenerated(KotlinFile kotlinFile, KotlinType outerSupportObject,
                                               KotlinType innerSupportClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.DYNAMIC_SQL_SUPPORT_GENERATED_KOTLIN)) {
             if (!plugin.dynamicSqlSupportGenerated(kotlinFile, outerSupportObject, innerSupportClass,
                     introspectedTable)) {
                 return false;
@@ -1208,7 +1257,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean mapperGenerated(KotlinFile mapperFile, KotlinType mapper, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MAPPER_GENERATED)) {
             if (!plugin.mapperGenerated(mapperFile, mapper, introspectedTable)) {
                 return false;
             }
@@ -1220,7 +1269,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean kotlinDataClassGenerated(KotlinFile kotlinFile, KotlinType dataClass,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.KOTLIN_DATA_CLASS_GENERATED)) {
             if (!plugin.kotlinDataClassGenerated(kotlinFile, dataClass, introspectedTable)) {
                 return false;
             }
@@ -1232,7 +1281,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientColumnListPropertyGenerated(KotlinProperty kotlinProperty, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_COLUMN_LIST_PROPERTY_GENERATED)) {
             if (!plugin.clientColumnListPropertyGenerated(kotlinProperty, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -1244,7 +1293,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientInsertMultipleVarargMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_MULTIPLE_VARARG_METHOD_GENERATED)) {
             if (!plugin.clientInsertMultipleVarargMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -1256,7 +1305,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByPrimaryKeyMethodGenerated(KotlinFunction kotlinFunction, KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeyMethodGenerated(kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
             }
@@ -1264,4 +1313,311 @@ public abstract class CompositePlugin implements Plugin {
 
         return true;
     }
+
+    /**
+     * A plugin method that is only dispatched to the plugins that override it.
+     */
+    private static final class Hook {
+        private static final List<Hook> values = new ArrayList<>();
+
+        private static int count;
+
+        static final Hook INITIALIZED = new Hook("initialized", IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES = new Hook(
+                "contextGenerateAdditionalJavaFiles"); //$NON-NLS-1$
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES_PER_TABLE = new Hook(
+                "contextGenerateAdditionalJavaFiles", IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_KOTLIN_FILES = new Hook(
+                "contextGenerateAdditionalKotlinFiles"); //$NON-NLS-1$
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_KOTLIN_FILES_PER_TABLE = new Hook(
+                "contextGenerateAdditionalKotlinFiles", IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_FILES = new Hook("contextGenerateAdditionalFiles"); //$NON-NLS-1$
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_FILES_PER_TABLE = new Hook(
+                "contextGenerateAdditionalFiles", IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_XML_FILES = new Hook(
+                "contextGenerateAdditionalXmlFiles"); //$NON-NLS-1$
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_XML_FILES_PER_TABLE = new Hook(
+                "contextGenerateAdditionalXmlFiles", IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CLIENT_GENERATED = new Hook(
+                "clientGenerated", Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CLIENT_BASIC_INSERT_METHOD_GENERATED = new Hook(
+                "clientBasicInsertMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_INSERT_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientBasicInsertMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_INSERT_MULTIPLE_METHOD_GENERATED = new Hook(
+                "clientBasicInsertMultipleMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_INSERT_MULTIPLE_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientBasicInsertMultipleMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED = new Hook(
+                "clientBasicSelectManyMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientBasicSelectManyMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED = new Hook(
+                "clientBasicSelectOneMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientBasicSelectOneMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED = new Hook(
+                "clientCountByExampleMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED = new Hook(
+                "clientDeleteByExampleMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED = new Hook(
+                "clientDeleteByPrimaryKeyMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientDeleteByPrimaryKeyMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_COUNT_METHOD_GENERATED = new Hook(
+                "clientGeneralCountMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_COUNT_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientGeneralCountMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_DELETE_METHOD_GENERATED = new Hook(
+                "clientGeneralDeleteMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_DELETE_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientGeneralDeleteMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_SELECT_DISTINCT_METHOD_GENERATED = new Hook(
+                "clientGeneralSelectDistinctMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_SELECT_DISTINCT_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientGeneralSelectDistinctMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_SELECT_METHOD_GENERATED = new Hook(
+                "clientGeneralSelectMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_SELECT_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientGeneralSelectMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_UPDATE_METHOD_GENERATED = new Hook(
+                "clientGeneralUpdateMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_UPDATE_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientGeneralUpdateMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_METHOD_GENERATED = new Hook(
+                "clientInsertMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CLIENT_INSERT_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientInsertMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_MULTIPLE_METHOD_GENERATED = new Hook(
+                "clientInsertMultipleMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_MULTIPLE_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientInsertMultipleMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_SELECTIVE_METHOD_GENERATED = new Hook(
+                "clientInsertSelectiveMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_SELECTIVE_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientInsertSelectiveMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED = new Hook(
+                "clientSelectByExampleWithBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED = new Hook(
+                "clientSelectByExampleWithoutBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED = new Hook(
+                "clientSelectByPrimaryKeyMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientSelectByPrimaryKeyMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_LIST_FIELD_GENERATED = new Hook(
+                "clientSelectListFieldGenerated", Field.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CLIENT_SELECT_ONE_METHOD_GENERATED = new Hook(
+                "clientSelectOneMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CLIENT_SELECT_ONE_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientSelectOneMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED = new Hook(
+                "clientUpdateByExampleSelectiveMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_ALL_COLUMNS_METHOD_GENERATED = new Hook(
+                "clientUpdateAllColumnsMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_ALL_COLUMNS_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientUpdateAllColumnsMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_SELECTIVE_COLUMNS_METHOD_GENERATED = new Hook(
+                "clientUpdateSelectiveColumnsMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_SELECTIVE_COLUMNS_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientUpdateSelectiveColumnsMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED = new Hook(
+                "clientUpdateByExampleWithBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED = new Hook(
+                "clientUpdateByExampleWithoutBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED = new Hook(
+                "clientUpdateByPrimaryKeySelectiveMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED_KOTLIN = new Hook(
+                "clientUpdateByPrimaryKeySelectiveMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED = new Hook(
+                "clientUpdateByPrimaryKeyWithBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED = new Hook(
+                "clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_ALL_METHOD_GENERATED = new Hook(
+                "clientSelectAllMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook MODEL_FIELD_GENERATED = new Hook(
+                "modelFieldGenerated", //$NON-NLS-1$
+                Field.class, TopLevelClass.class, IntrospectedColumn.class, IntrospectedTable.class,
+                ModelClassType.class);
+        static final Hook MODEL_GETTER_METHOD_GENERATED = new Hook(
+                "modelGetterMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedColumn.class, IntrospectedTable.class,
+                ModelClassType.class);
+        static final Hook MODEL_SETTER_METHOD_GENERATED = new Hook(
+                "modelSetterMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedColumn.class, IntrospectedTable.class,
+                ModelClassType.class);
+        static final Hook MODEL_PRIMARY_KEY_CLASS_GENERATED = new Hook(
+                "modelPrimaryKeyClassGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook MODEL_BASE_RECORD_CLASS_GENERATED = new Hook(
+                "modelBaseRecordClassGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook MODEL_RECORD_WITH_BLOBS_CLASS_GENERATED = new Hook(
+                "modelRecordWithBLOBsClassGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook MODEL_EXAMPLE_CLASS_GENERATED = new Hook(
+                "modelExampleClassGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_GENERATED = new Hook(
+                "sqlMapGenerated", GeneratedXmlFile.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_DOCUMENT_GENERATED = new Hook(
+                "sqlMapDocumentGenerated", Document.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_RESULT_MAP_WITHOUT_BLOBS_ELEMENT_GENERATED = new Hook(
+                "sqlMapResultMapWithoutBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_COUNT_BY_EXAMPLE_ELEMENT_GENERATED = new Hook(
+                "sqlMapCountByExampleElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_DELETE_BY_EXAMPLE_ELEMENT_GENERATED = new Hook(
+                "sqlMapDeleteByExampleElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_DELETE_BY_PRIMARY_KEY_ELEMENT_GENERATED = new Hook(
+                "sqlMapDeleteByPrimaryKeyElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_EXAMPLE_WHERE_CLAUSE_ELEMENT_GENERATED = new Hook(
+                "sqlMapExampleWhereClauseElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_BASE_COLUMN_LIST_ELEMENT_GENERATED = new Hook(
+                "sqlMapBaseColumnListElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_BLOB_COLUMN_LIST_ELEMENT_GENERATED = new Hook(
+                "sqlMapBlobColumnListElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_INSERT_ELEMENT_GENERATED = new Hook(
+                "sqlMapInsertElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_INSERT_SELECTIVE_ELEMENT_GENERATED = new Hook(
+                "sqlMapInsertSelectiveElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_RESULT_MAP_WITH_BLOBS_ELEMENT_GENERATED = new Hook(
+                "sqlMapResultMapWithBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_SELECT_ALL_ELEMENT_GENERATED = new Hook(
+                "sqlMapSelectAllElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_SELECT_BY_PRIMARY_KEY_ELEMENT_GENERATED = new Hook(
+                "sqlMapSelectByPrimaryKeyElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook SQL_MAP_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED = new Hook(
+                "sqlMapSelectByExampleWithoutBLOBsElementGenerated", //$NON-NLS-1$
+                XmlElement.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_SELECT_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED = new Hook(
+                "sqlMapSelectByExampleWithBLOBsElementGenerated", //$NON-NLS-1$
+                XmlElement.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_EXAMPLE_SELECTIVE_ELEMENT_GENERATED = new Hook(
+                "sqlMapUpdateByExampleSelectiveElementGenerated", //$NON-NLS-1$
+                XmlElement.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED = new Hook(
+                "sqlMapUpdateByExampleWithBLOBsElementGenerated", //$NON-NLS-1$
+                XmlElement.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED = new Hook(
+                "sqlMapUpdateByExampleWithoutBLOBsElementGenerated", //$NON-NLS-1$
+                XmlElement.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_PRIMARY_KEY_SELECTIVE_ELEMENT_GENERATED = new Hook(
+                "sqlMapUpdateByPrimaryKeySelectiveElementGenerated", //$NON-NLS-1$
+                XmlElement.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_ELEMENT_GENERATED = new Hook(
+                "sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated", //$NON-NLS-1$
+                XmlElement.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_ELEMENT_GENERATED = new Hook(
+                "sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated", //$NON-NLS-1$
+                XmlElement.class, IntrospectedTable.class);
+        static final Hook PROVIDER_GENERATED = new Hook(
+                "providerGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook PROVIDER_APPLY_WHERE_METHOD_GENERATED = new Hook(
+                "providerApplyWhereMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_COUNT_BY_EXAMPLE_METHOD_GENERATED = new Hook(
+                "providerCountByExampleMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_DELETE_BY_EXAMPLE_METHOD_GENERATED = new Hook(
+                "providerDeleteByExampleMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_INSERT_SELECTIVE_METHOD_GENERATED = new Hook(
+                "providerInsertSelectiveMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED = new Hook(
+                "providerSelectByExampleWithBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED = new Hook(
+                "providerSelectByExampleWithoutBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED = new Hook(
+                "providerUpdateByExampleSelectiveMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED = new Hook(
+                "providerUpdateByExampleWithBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED = new Hook(
+                "providerUpdateByExampleWithoutBLOBsMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED = new Hook(
+                "providerUpdateByPrimaryKeySelectiveMethodGenerated", //$NON-NLS-1$
+                Method.class, TopLevelClass.class, IntrospectedTable.class);
+        static final Hook DYNAMIC_SQL_SUPPORT_GENERATED = new Hook(
+                "dynamicSqlSupportGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook DYNAMIC_SQL_SUPPORT_GENERATED_KOTLIN = new Hook(
+                "dynamicSqlSupportGenerated", //$NON-NLS-1$
+                KotlinFile.class, KotlinType.class, KotlinType.class, IntrospectedTable.class);
+        static final Hook MAPPER_GENERATED = new Hook(
+                "mapperGenerated", KotlinFile.class, KotlinType.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook KOTLIN_DATA_CLASS_GENERATED = new Hook(
+                "kotlinDataClassGenerated", KotlinFile.class, KotlinType.class, IntrospectedTable.class); //$NON-NLS-1$
+        static final Hook CLIENT_COLUMN_LIST_PROPERTY_GENERATED = new Hook(
+                "clientColumnListPropertyGenerated", //$NON-NLS-1$
+                KotlinProperty.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_MULTIPLE_VARARG_METHOD_GENERATED = new Hook(
+                "clientInsertMultipleVarargMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_METHOD_GENERATED = new Hook(
+                "clientUpdateByPrimaryKeyMethodGenerated", //$NON-NLS-1$
+                KotlinFunction.class, KotlinFile.class, IntrospectedTable.class);
+
+        private final int index;
+        private final String name;
+        private final Class<?>[] parameterTypes;
+
+        private Hook(String name, Class<?>... parameterTypes) {
+            this.index = count++;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            values.add(this);
+        }
+
+        boolean isOverriddenBy(Class<?> pluginClass) {
+            try {
+                return pluginClass.getMethod(name, parameterTypes).getDeclaringClass() != Plugin.class;
+            } catch (NoSuchMethodException e) {
+                // not possible for an implementation of Plugin, but calling the plugin is always safe
+                return true;
+            }
+        }
+    }
 }
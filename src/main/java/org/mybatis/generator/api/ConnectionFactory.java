@@ -23,7 +23,9 @@ public interface ConnectionFactory {
 
     /**
      * Should return a connection to the database in use for this context.
-     * The generator will call this method only one time for each context.
+     * The generator will call this method only one time for each context, unless
+     * the context enables parallel introspection - in that case the generator may
+     * call this method once for each connection in its introspection pool.
      * The generator will close the connection.
      *
      * @return the connection
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives the files generated for one table, or the additional files plugins generate for the
+ * whole context, as soon as they are generated. This is used when a context enables streaming
+ * generation, so the files of a table can be written and released before the next table is
+ * generated.
+ */
+@FunctionalInterface
+public interface GeneratedFilesConsumer {
+
+    /**
+     * Called once for every generated table, and once for the context level files.
+     *
+     * @param javaFiles
+     *            the generated Java files
+     * @param xmlFiles
+     *            the generated XML files
+     * @param kotlinFiles
+     *            the generated Kotlin files
+     * @param otherFiles
+     *            any other generated files
+     * @throws IOException
+     *             if the files cannot be saved
+     * @throws InterruptedException
+     *             if the run is canceled
+     */
+    void accept(List<GeneratedJavaFile> javaFiles, List<GeneratedXmlFile> xmlFiles,
+            List<GeneratedKotlinFile> kotlinFiles, List<GeneratedFile> otherFiles)
+            throws IOException, InterruptedException;
+}
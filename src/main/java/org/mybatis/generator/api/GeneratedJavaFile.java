@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 
 public class GeneratedJavaFile extends GeneratedFile {
@@ -46,6 +48,19 @@ public class GeneratedJavaFile extends GeneratedFile {
         return javaFormatter.getFormattedContent(compilationUnit);
     }
 
+    /**
+     * Writes the formatted content to the appendable, without building the complete source
+     * in memory first if the formatter supports it.
+     *
+     * @param out
+     *            where to write the formatted content
+     * @throws IOException
+     *             if the content cannot be written
+     */
+    public void writeFormattedContent(Appendable out) throws IOException {
+        javaFormatter.writeFormattedContent(compilationUnit, out);
+    }
+
     @Override
     public String getFileName() {
         return compilationUnit.getType().getShortNameWithoutTypeArguments() + ".java"; //$NON-NLS-1$
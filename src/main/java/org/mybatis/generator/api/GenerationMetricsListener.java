@@ -0,0 +1,108 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+/**
+ * This interface can be implemented to receive timing and allocation metrics of a generation run.
+ * Listeners are added with {@link MyBatisGenerator#addMetricsListener(GenerationMetricsListener)}.
+ * Metrics are only collected if a listener is added, a metrics report file is set, or the JVM is
+ * recording with JDK Flight Recorder.
+ *
+ * <p>Elapsed times are in nanoseconds. Allocated bytes are the bytes allocated by the thread that
+ * did the work, or -1 if the JVM does not support allocation measurement. When tables are
+ * introspected or generated in parallel, the allocations of the phases only include the calling
+ * thread - the table metrics include the worker threads.
+ *
+ * <p>Methods may be called from several threads at the same time.
+ */
+public interface GenerationMetricsListener {
+
+    /** the introspection of a context or table. */
+    String PHASE_INTROSPECTION = "introspection"; //$NON-NLS-1$
+
+    /** the initialization of a table, and the calculation of its generators. */
+    String PHASE_INITIALIZATION = "initialization"; //$NON-NLS-1$
+
+    /** the generation of the files of a context or table, including the plugin hooks. */
+    String PHASE_GENERATION = "generation"; //$NON-NLS-1$
+
+    /** the rendering of generated files to strings. */
+    String PHASE_RENDER = "render"; //$NON-NLS-1$
+
+    /** the merging of generated files with existing files, including rendering of the new files. */
+    String PHASE_MERGE = "merge"; //$NON-NLS-1$
+
+    /** the writing of files, including rendering of files that are rendered straight to disk. */
+    String PHASE_WRITE = "write"; //$NON-NLS-1$
+
+    /** the saving of all generated files. */
+    String PHASE_SAVE = "save"; //$NON-NLS-1$
+
+    /**
+     * Called when a table has been introspected, initialized, or generated.
+     *
+     * @param contextId
+     *            the id of the context of the table
+     * @param tableName
+     *            the fully qualified name of the table, as specified in the configuration for
+     *            introspection, or as introspected for the other phases
+     * @param phase
+     *            the phase
+     * @param elapsedNanos
+     *            the elapsed time
+     * @param allocatedBytes
+     *            the allocated bytes, or -1
+     */
+    default void tableCompleted(String contextId, String tableName, String phase, long elapsedNanos,
+            long allocatedBytes) {}
+
+    /**
+     * Called at the end of the run, once for every phase of every context.
+     *
+     * @param contextId
+     *            the id of the context, or null for the phases of the run that are not related to
+     *            a context (render, merge, write, and save)
+     * @param phase
+     *            the phase
+     * @param count
+     *            the number of times the phase was executed, for example the number of rendered
+     *            files
+     * @param elapsedNanos
+     *            the total elapsed time
+     * @param allocatedBytes
+     *            the total allocated bytes, or -1
+     */
+    default void phaseSummary(String contextId, String phase, long count, long elapsedNanos,
+            long allocatedBytes) {}
+
+    /**
+     * Called at the end of the run, once for every plugin method that was called. Overloaded
+     * methods are summarized together.
+     *
+     * @param pluginType
+     *            the class name of the plugin
+     * @param hook
+     *            the name of the plugin method
+     * @param calls
+     *            the number of calls
+     * @param elapsedNanos
+     *            the total elapsed time
+     * @param allocatedBytes
+     *            the total allocated bytes, or -1
+     */
+    default void pluginHookSummary(String pluginType, String hook, long calls, long elapsedNanos,
+            long allocatedBytes) {}
+}
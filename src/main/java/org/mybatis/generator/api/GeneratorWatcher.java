@@ -0,0 +1,265 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.exception.InvalidConfigurationException;
+import org.mybatis.generator.exception.XMLParserException;
+import org.mybatis.generator.internal.db.SchemaChangeDetector;
+
+/**
+ * Runs the generator repeatedly in one JVM. The configuration file is parsed again when it changes,
+ * and all tables are generated. In between, the database schema is checked at a fixed interval, and
+ * only the tables whose metadata changed are generated again. A context with a plugin that generates
+ * files for the whole context, such as the MapperConfigPlugin, is generated completely instead.
+ *
+ * <p>This keeps the parsed configuration, the loaded classes, and the JIT compiled code between
+ * runs, so regenerating after a migration takes a fraction of the time of a new process.
+ */
+public class GeneratorWatcher {
+
+    private final File configurationFile;
+
+    private final ShellCallback shellCallback;
+
+    private final Set<String> contextIds;
+
+    private final Set<String> fullyQualifiedTableNames;
+
+    private final ProgressCallback progressCallback;
+
+    private final long checkIntervalMillis;
+
+    private Configuration configuration;
+
+    private long configurationLastModified = -1;
+
+    private final Map<Context, SchemaChangeDetector> detectors = new LinkedHashMap<>();
+
+    private File metricsReportFile;
+
+    private boolean parallelContexts;
+
+    /**
+     * Constructs a watcher.
+     *
+     * @param configurationFile
+     *            the XML configuration file
+     * @param shellCallback
+     *            the shell callback used for every run
+     * @param contextIds
+     *            the contexts to run, or an empty set for all contexts
+     * @param fullyQualifiedTableNames
+     *            the tables to generate, or an empty set for all tables
+     * @param progressCallback
+     *            the progress callback used for every run, may be null
+     * @param checkIntervalMillis
+     *            the time between two checks for changes, in milliseconds
+     */
+    public GeneratorWatcher(File configurationFile, ShellCallback shellCallback, Set<String> contextIds,
+            Set<String> fullyQualifiedTableNames, ProgressCallback progressCallback, long checkIntervalMillis) {
+        super();
+        this.configurationFile = configurationFile;
+        this.shellCallback = shellCallback;
+        this.contextIds = contextIds;
+        this.fullyQualifiedTableNames = fullyQualifiedTableNames;
+        this.progressCallback = progressCallback;
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    /**
+     * Sets a file that receives the metrics report of every run.
+     *
+     * @param metricsReportFile
+     *            the report file, or null for no report
+     * @see MyBatisGenerator#setMetricsReportFile(File)
+     */
+    public void setMetricsReportFile(File metricsReportFile) {
+        this.metricsReportFile = metricsReportFile;
+    }
+
+    /**
+     * Sets whether the contexts of every run are run concurrently.
+     *
+     * @param parallelContexts
+     *            true to run the contexts concurrently
+     * @see MyBatisGenerator#setParallelContexts(boolean)
+     */
+    public void setParallelContexts(boolean parallelContexts) {
+        this.parallelContexts = parallelContexts;
+    }
+
+    /**
+     * Watches for changes until the thread is interrupted.
+     *
+     * @throws InterruptedException
+     *             if the thread is interrupted
+     */
+    public void watch() throws InterruptedException {
+        writeLine(getString("Progress.24", configurationFile.getPath(), //$NON-NLS-1$
+                Long.toString(checkIntervalMillis / 1000)));
+
+        while (true) {
+            long lastModified = configurationFile.lastModified();
+            if (lastModified != configurationLastModified) {
+                configurationLastModified = lastModified;
+                List<String> warnings = new ArrayList<>();
+                if (parseConfiguration(warnings)) {
+                    // the baseline for the schema checks. It is taken first, so changes made while
+                    // generating are found by the next check
+                    detectSchemaChanges();
+                    generate(contextIds, fullyQualifiedTableNames, warnings);
+                }
+            } else if (configuration != null) {
+                Set<String> changedContextIds = new LinkedHashSet<>();
+                Set<String> changedTables = new LinkedHashSet<>();
+                // contexts with a plugin that generates files for the whole context, like the
+                // MapperConfigPlugin, are generated completely or those files would miss tables
+                Set<String> fullContextIds = new LinkedHashSet<>();
+                Set<String> allChangedTables = new LinkedHashSet<>();
+                for (Map.Entry<Context, Set<String>> entry : detectSchemaChanges().entrySet()) {
+                    if (entry.getKey().generatesContextFiles()) {
+                        fullContextIds.add(entry.getKey().getId());
+                    } else {
+                        changedContextIds.add(entry.getKey().getId());
+                        changedTables.addAll(entry.getValue());
+                    }
+                    allChangedTables.addAll(entry.getValue());
+                }
+
+                if (!allChangedTables.isEmpty()) {
+                    writeLine(getString("Progress.26", String.join(", ", allChangedTables))); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+                if (!changedContextIds.isEmpty()) {
+                    generate(changedContextIds, changedTables, new ArrayList<>());
+                }
+                if (!fullContextIds.isEmpty()) {
+                    generate(fullContextIds, fullyQualifiedTableNames, new ArrayList<>());
+                }
+            }
+
+            Thread.sleep(checkIntervalMillis);
+        }
+    }
+
+    private boolean parseConfiguration(List<String> warnings) {
+        writeLine(getString("Progress.25", configurationFile.getPath())); //$NON-NLS-1$
+        try {
+            ConfigurationParser cp = new ConfigurationParser(warnings);
+            configuration = cp.parseConfiguration(configurationFile);
+        } catch (XMLParserException e) {
+            writeLine(getString("Progress.3")); //$NON-NLS-1$
+            writeLine();
+            for (String error : e.getErrors()) {
+                writeLine(error);
+            }
+            configuration = null;
+        } catch (IOException e) {
+            e.printStackTrace(System.out);
+            configuration = null;
+        }
+
+        detectors.clear();
+        if (configuration == null) {
+            return false;
+        }
+
+        for (Context context : configuration.getContexts()) {
+            if (contextIds.isEmpty() || contextIds.contains(context.getId())) {
+                detectors.put(context, new SchemaChangeDetector(context));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the changed tables of every context with changes. Tables that are not selected for
+     * generation are ignored.
+     */
+    private Map<Context, Set<String>> detectSchemaChanges() {
+        Map<Context, Set<String>> answer = new LinkedHashMap<>();
+        for (Map.Entry<Context, SchemaChangeDetector> entry : detectors.entrySet()) {
+            Set<String> changedTables;
+            try {
+                changedTables = entry.getValue().detectChangedTables();
+            } catch (SQLException e) {
+                writeLine(getString("Warning.36", entry.getKey().getId(), e.getMessage())); //$NON-NLS-1$
+                continue;
+            }
+
+            if (!fullyQualifiedTableNames.isEmpty()) {
+                changedTables.retainAll(fullyQualifiedTableNames);
+            }
+
+            if (!changedTables.isEmpty()) {
+                answer.put(entry.getKey(), changedTables);
+            }
+        }
+        return answer;
+    }
+
+    private void generate(Set<String> runContextIds, Set<String> runTables, List<String> warnings)
+            throws InterruptedException {
+        try {
+            MyBatisGenerator myBatisGenerator = new MyBatisGenerator(configuration, shellCallback, warnings);
+            myBatisGenerator.setMetricsReportFile(metricsReportFile);
+            myBatisGenerator.setParallelContexts(parallelContexts);
+            myBatisGenerator.generate(progressCallback, runContextIds, runTables);
+        } catch (InvalidConfigurationException e) {
+            writeLine(getString("Progress.16")); //$NON-NLS-1$
+            for (String error : e.getErrors()) {
+                writeLine(error);
+            }
+            return;
+        } catch (SQLException | IOException e) {
+            e.printStackTrace(System.out);
+            return;
+        }
+
+        for (String warning : warnings) {
+            writeLine(warning);
+        }
+
+        if (warnings.isEmpty()) {
+            writeLine(getString("Progress.4")); //$NON-NLS-1$
+        } else {
+            writeLine();
+            writeLine(getString("Progress.5")); //$NON-NLS-1$
+        }
+    }
+
+    private static void writeLine(String message) {
+        System.out.println(message);
+    }
+
+    private static void writeLine() {
+        System.out.println();
+    }
+}
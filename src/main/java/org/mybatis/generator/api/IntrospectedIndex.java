@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An index of an introspected table, as reported by the database metadata. Only columns that are
+ * part of the introspected table are included.
+ */
+public class IntrospectedIndex {
+
+    private final String name;
+
+    private final boolean unique;
+
+    private final List<IntrospectedColumn> columns;
+
+    public IntrospectedIndex(String name, boolean unique, List<IntrospectedColumn> columns) {
+        this.name = name;
+        this.unique = unique;
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isUnique() {
+        return unique;
+    }
+
+    /**
+     * Returns the columns of the index in index order.
+     *
+     * @return the columns of the index
+     */
+    public List<IntrospectedColumn> getColumns() {
+        return columns;
+    }
+}
@@ -113,6 +113,11 @@ public abstract class IntrospectedTable {
 
     protected final List<IntrospectedColumn> blobColumns = new ArrayList<>();
 
+    /**
+     * Indexes retrieved from database metadata. Only calculated if a plugin requires them.
+     */
+    protected final List<IntrospectedIndex> indexes = new ArrayList<>();
+
     protected TargetRuntime targetRuntime;
 
     /**
@@ -1097,4 +1102,20 @@ public abstract class IntrospectedTable {
     public void setTableType(String tableType) {
         this.tableType = tableType;
     }
+
+    /**
+     * Returns the indexes of the table, in the order reported by the database. The primary key
+     * index is included if the database reports it as an index. Indexes are only introspected if
+     * a configured plugin requires them (see {@link Plugin#requiresIndexes()}), otherwise the list
+     * is empty.
+     *
+     * @return the indexes of the table
+     */
+    public List<IntrospectedIndex> getIndexes() {
+        return indexes;
+    }
+
+    public void addIndex(IntrospectedIndex index) {
+        indexes.add(index);
+    }
 }
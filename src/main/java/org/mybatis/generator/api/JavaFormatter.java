@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.config.Context;
 
@@ -34,4 +36,19 @@ public interface JavaFormatter {
     void setContext(Context context);
 
     String getFormattedContent(CompilationUnit compilationUnit);
+
+    /**
+     * Writes the formatted content to the appendable. Formatters that can render incrementally
+     * should override this method, so large files need not be held in memory as a single string.
+     *
+     * @param compilationUnit
+     *            the compilation unit to format
+     * @param out
+     *            where to write the formatted content
+     * @throws IOException
+     *             if the content cannot be written
+     */
+    default void writeFormattedContent(CompilationUnit compilationUnit, Appendable out) throws IOException {
+        out.append(getFormattedContent(compilationUnit));
+    }
 }
@@ -20,25 +20,39 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.generator.codegen.RootClassInfo;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.MergeConstants;
+import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.ShellException;
 import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.GenerationMetrics;
 import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.ParallelExecutor;
+import org.mybatis.generator.internal.SynchronizedProgressCallback;
 import org.mybatis.generator.internal.XmlFileMergerJaxp;
+import org.mybatis.generator.internal.util.JavaBeansUtil;
 
 /**
  * This class is the main interface to MyBatis generator. A typical execution of the tool involves these steps:
@@ -74,7 +88,27 @@ public class MyBatisGenerator {
 
     private final List<String> warnings;
 
-    private final Set<String> projects = new HashSet<>();
+    private final Set<String> projects = Collections.synchronizedSet(new HashSet<>());
+
+    /** generated files that are not written again if the existing file has the same content. */
+    private final Set<GeneratedFile> skipIfUnchangedFiles = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private boolean parallelContexts;
+
+    private final AtomicInteger filesWritten = new AtomicInteger();
+
+    private final AtomicInteger filesUnchanged = new AtomicInteger();
+
+    /** limits the number of concurrent writes while files are saved in parallel, else null. */
+    private Semaphore writePermits;
+
+    private final List<GenerationMetricsListener> metricsListeners = new ArrayList<>();
+
+    private File metricsReportFile;
+
+    /** the metrics of the current run. */
+    private GenerationMetrics metrics = GenerationMetrics.DISABLED;
 
     /**
      * Constructs a MyBatisGenerator object.
@@ -119,6 +153,41 @@ public class MyBatisGenerator {
         this.configuration.validate();
     }
 
+    /**
+     * Sets whether the contexts of a run are introspected and generated concurrently, one thread per
+     * context. This is useful when the contexts use different databases. Each context uses its own
+     * connections and plugins, and the generated files and warnings are merged in context order, so
+     * the result is the same as in sequential mode. The default is false.
+     *
+     * @param parallelContexts
+     *            true to run the contexts concurrently
+     */
+    public void setParallelContexts(boolean parallelContexts) {
+        this.parallelContexts = parallelContexts;
+    }
+
+    /**
+     * Adds a listener that receives the timing and allocation metrics of every run.
+     *
+     * @param listener
+     *            the listener
+     */
+    public void addMetricsListener(GenerationMetricsListener listener) {
+        metricsListeners.add(listener);
+    }
+
+    /**
+     * Sets a file that receives a JSON report of the timing and allocation metrics at the end of
+     * every run. The report lists the phases, the plugins and plugin methods (most expensive first),
+     * and the tables.
+     *
+     * @param metricsReportFile
+     *            the report file, or null for no report
+     */
+    public void setMetricsReportFile(File metricsReportFile) {
+        this.metricsReportFile = metricsReportFile;
+    }
+
     /**
      * This is the main method for generating code. This method is long running, but progress can be provided and the
      * method can be canceled through the ProgressCallback interface. This version of the method runs all configured
@@ -224,8 +293,13 @@ public class MyBatisGenerator {
 
         generatedJavaFiles.clear();
         generatedXmlFiles.clear();
+        skipIfUnchangedFiles.clear();
+        filesWritten.set(0);
+        filesUnchanged.set(0);
         ObjectFactory.reset();
         RootClassInfo.reset();
+        JavaBeansUtil.reset();
+        metrics = GenerationMetrics.create(metricsListeners, metricsReportFile != null);
 
         // calculate the contexts to run
         List<Context> contextsToRun;
@@ -240,6 +314,10 @@ public class MyBatisGenerator {
             }
         }
 
+        for (Context context : contextsToRun) {
+            context.setGenerationMetrics(metrics);
+        }
+
         // setup custom classloader if required
         if (!configuration.getClassPathEntries().isEmpty()) {
             ClassLoader classLoader = getCustomClassloader(configuration.getClassPathEntries());
@@ -253,9 +331,13 @@ public class MyBatisGenerator {
         }
         callback.introspectionStarted(totalSteps);
 
-        for (Context context : contextsToRun) {
-            context.introspectTables(callback, warnings,
-                    fullyQualifiedTableNames);
+        boolean parallel = parallelContexts && contextsToRun.size() > 1;
+        if (parallel) {
+            introspectContextsInParallel(callback, contextsToRun, fullyQualifiedTableNames);
+        } else {
+            for (Context context : contextsToRun) {
+                introspectContext(context, callback, fullyQualifiedTableNames, warnings);
+            }
         }
 
         // now run the generates
@@ -265,151 +347,484 @@ public class MyBatisGenerator {
         }
         callback.generationStarted(totalSteps);
 
-        for (Context context : contextsToRun) {
-            context.generateFiles(callback, generatedJavaFiles,
-                    generatedXmlFiles, generatedKotlinFiles, otherGeneratedFiles, warnings);
+        if (parallel) {
+            generateContextsInParallel(callback, contextsToRun, writeFiles);
+        } else {
+            for (Context context : contextsToRun) {
+                generateContext(context, callback, writeFiles, generatedJavaFiles, generatedXmlFiles,
+                        generatedKotlinFiles, otherGeneratedFiles, warnings);
+            }
         }
 
         // now save the files
         if (writeFiles) {
+            long startTime = metrics.startTime();
+            long startAllocation = metrics.startAllocation();
             callback.saveStarted(generatedXmlFiles.size()
                     + generatedJavaFiles.size());
 
-            for (GeneratedXmlFile gxf : generatedXmlFiles) {
+            if (contextsToRun.stream().anyMatch(Context::isParallelSaveEnabled)) {
+                saveFilesInParallel(callback, contextsToRun);
+            } else {
+                for (GeneratedXmlFile gxf : generatedXmlFiles) {
+                    projects.add(gxf.getTargetProject());
+                    writeGeneratedXmlFile(gxf, callback, warnings);
+                }
+
+                for (GeneratedJavaFile gjf : generatedJavaFiles) {
+                    projects.add(gjf.getTargetProject());
+                    writeGeneratedJavaFile(gjf, callback, warnings);
+                }
+
+                for (GeneratedKotlinFile gkf : generatedKotlinFiles) {
+                    projects.add(gkf.getTargetProject());
+                    writeGeneratedFile(gkf, callback, warnings);
+                }
+
+                for (GeneratedFile gf : otherGeneratedFiles) {
+                    projects.add(gf.getTargetProject());
+                    writeGeneratedFile(gf, callback, warnings);
+                }
+            }
+
+            for (String project : projects) {
+                shellCallback.refreshProject(project);
+            }
+
+            for (Context context : contextsToRun) {
+                context.saveGenerationManifest(warnings);
+            }
+
+            callback.saveCompleted(filesWritten.get(), filesUnchanged.get());
+            metrics.phaseCompleted(null, GenerationMetricsListener.PHASE_SAVE, startTime, startAllocation);
+        }
+
+        finishMetrics();
+        callback.done();
+    }
+
+    private void introspectContext(Context context, ProgressCallback callback, Set<String> fullyQualifiedTableNames,
+            List<String> contextWarnings) throws SQLException, InterruptedException {
+        long startTime = metrics.startTime();
+        long startAllocation = metrics.startAllocation();
+        context.introspectTables(callback, contextWarnings,
+                fullyQualifiedTableNames);
+        metrics.phaseCompleted(context.getId(), GenerationMetricsListener.PHASE_INTROSPECTION, startTime,
+                startAllocation);
+    }
+
+    private void generateContext(Context context, ProgressCallback callback, boolean writeFiles,
+            List<GeneratedJavaFile> javaFiles, List<GeneratedXmlFile> xmlFiles,
+            List<GeneratedKotlinFile> kotlinFiles, List<GeneratedFile> otherFiles,
+            List<String> contextWarnings) throws IOException, InterruptedException {
+        long startTime = metrics.startTime();
+        long startAllocation = metrics.startAllocation();
+        boolean skipIfUnchanged = context.isSkipUnchangedFilesEnabled();
+        // without writing, the generated files are only available from the lists, so a
+        // streaming context is generated like any other
+        if (writeFiles && context.isStreamingGenerationEnabled()) {
+            context.generateFiles(callback, (tableJavaFiles, tableXmlFiles, tableKotlinFiles, tableOtherFiles) ->
+                    saveStreamedFiles(callback, skipIfUnchanged, tableJavaFiles, tableXmlFiles, tableKotlinFiles,
+                            tableOtherFiles, contextWarnings), contextWarnings);
+        } else {
+            int javaFileCount = javaFiles.size();
+            int xmlFileCount = xmlFiles.size();
+            int kotlinFileCount = kotlinFiles.size();
+            int otherFileCount = otherFiles.size();
+
+            context.generateFiles(callback, javaFiles,
+                    xmlFiles, kotlinFiles, otherFiles, contextWarnings);
+
+            if (skipIfUnchanged) {
+                skipIfUnchangedFiles.addAll(javaFiles.subList(javaFileCount, javaFiles.size()));
+                skipIfUnchangedFiles.addAll(xmlFiles.subList(xmlFileCount, xmlFiles.size()));
+                skipIfUnchangedFiles.addAll(kotlinFiles.subList(kotlinFileCount, kotlinFiles.size()));
+                skipIfUnchangedFiles.addAll(otherFiles.subList(otherFileCount, otherFiles.size()));
+            }
+        }
+        metrics.phaseCompleted(context.getId(), GenerationMetricsListener.PHASE_GENERATION, startTime,
+                startAllocation);
+    }
+
+    /**
+     * Introspects the contexts concurrently, one thread per context. Each context uses its own
+     * connections. The warnings are merged in context order, so they are reported as in sequential
+     * mode.
+     */
+    private void introspectContextsInParallel(ProgressCallback callback, List<Context> contextsToRun,
+            Set<String> fullyQualifiedTableNames) throws SQLException, InterruptedException {
+        ProgressCallback sharedCallback = new SynchronizedProgressCallback(callback);
+        List<List<String>> contextWarnings = createContextWarnings(contextsToRun.size());
+        try (ParallelExecutor executor = new ParallelExecutor(contextsToRun.size(), "mbg-context-")) { //$NON-NLS-1$
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < contextsToRun.size(); i++) {
+                Context context = contextsToRun.get(i);
+                List<String> taskWarnings = contextWarnings.get(i);
+                tasks.add(() -> {
+                    introspectContext(context, sharedCallback, fullyQualifiedTableNames, taskWarnings);
+                    return null;
+                });
+            }
+            executor.invokeAll(tasks, SQLException.class);
+        }
+
+        for (List<String> w : contextWarnings) {
+            warnings.addAll(w);
+        }
+    }
+
+    /**
+     * Generates the files of the contexts concurrently, one thread per context. Every context has
+     * its own plugins and output lists, which are merged in context order - so the generated files
+     * and the warnings are the same as in sequential mode.
+     */
+    private void generateContextsInParallel(ProgressCallback callback, List<Context> contextsToRun,
+            boolean writeFiles) throws IOException, InterruptedException {
+        ProgressCallback sharedCallback = new SynchronizedProgressCallback(callback);
+        List<List<String>> contextWarnings = createContextWarnings(contextsToRun.size());
+        List<ContextFiles> results;
+        try (ParallelExecutor executor = new ParallelExecutor(contextsToRun.size(), "mbg-context-")) { //$NON-NLS-1$
+            List<Callable<ContextFiles>> tasks = new ArrayList<>();
+            for (int i = 0; i < contextsToRun.size(); i++) {
+                Context context = contextsToRun.get(i);
+                List<String> taskWarnings = contextWarnings.get(i);
+                tasks.add(() -> {
+                    ContextFiles files = new ContextFiles();
+                    generateContext(context, sharedCallback, writeFiles, files.javaFiles, files.xmlFiles,
+                            files.kotlinFiles, files.otherFiles, taskWarnings);
+                    return files;
+                });
+            }
+            results = executor.invokeAll(tasks, IOException.class);
+        }
+
+        for (int i = 0; i < contextsToRun.size(); i++) {
+            warnings.addAll(contextWarnings.get(i));
+            ContextFiles files = results.get(i);
+            generatedJavaFiles.addAll(files.javaFiles);
+            generatedXmlFiles.addAll(files.xmlFiles);
+            generatedKotlinFiles.addAll(files.kotlinFiles);
+            otherGeneratedFiles.addAll(files.otherFiles);
+        }
+    }
+
+    private static List<List<String>> createContextWarnings(int contexts) {
+        List<List<String>> answer = new ArrayList<>(contexts);
+        for (int i = 0; i < contexts; i++) {
+            // synchronized - cached root class information may report warnings to the list of the
+            // context that first used the root class, from the thread of another context
+            answer.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+        return answer;
+    }
+
+    private static class ContextFiles {
+        private final List<GeneratedJavaFile> javaFiles = new ArrayList<>();
+        private final List<GeneratedXmlFile> xmlFiles = new ArrayList<>();
+        private final List<GeneratedKotlinFile> kotlinFiles = new ArrayList<>();
+        private final List<GeneratedFile> otherFiles = new ArrayList<>();
+    }
+
+    /**
+     * Saves the files of one table of a context with streaming generation enabled. The files are
+     * not added to the lists of generated files, so they can be released once they are written.
+     */
+    private void saveStreamedFiles(ProgressCallback callback, boolean skipIfUnchanged,
+            List<GeneratedJavaFile> javaFiles, List<GeneratedXmlFile> xmlFiles,
+            List<GeneratedKotlinFile> kotlinFiles, List<GeneratedFile> otherFiles, List<String> contextWarnings)
+            throws IOException, InterruptedException {
+        List<GeneratedFile> files = new ArrayList<>();
+        files.addAll(xmlFiles);
+        files.addAll(javaFiles);
+        files.addAll(kotlinFiles);
+        files.addAll(otherFiles);
+        if (skipIfUnchanged) {
+            skipIfUnchangedFiles.addAll(files);
+        }
+
+        try {
+            for (GeneratedXmlFile gxf : xmlFiles) {
                 projects.add(gxf.getTargetProject());
-                writeGeneratedXmlFile(gxf, callback);
+                writeGeneratedXmlFile(gxf, callback, contextWarnings);
             }
 
-            for (GeneratedJavaFile gjf : generatedJavaFiles) {
+            for (GeneratedJavaFile gjf : javaFiles) {
                 projects.add(gjf.getTargetProject());
-                writeGeneratedJavaFile(gjf, callback);
+                writeGeneratedJavaFile(gjf, callback, contextWarnings);
             }
 
-            for (GeneratedKotlinFile gkf : generatedKotlinFiles) {
+            for (GeneratedKotlinFile gkf : kotlinFiles) {
                 projects.add(gkf.getTargetProject());
-                writeGeneratedFile(gkf, callback);
+                writeGeneratedFile(gkf, callback, contextWarnings);
             }
 
-            for (GeneratedFile gf : otherGeneratedFiles) {
+            for (GeneratedFile gf : otherFiles) {
                 projects.add(gf.getTargetProject());
-                writeGeneratedFile(gf, callback);
+                writeGeneratedFile(gf, callback, contextWarnings);
             }
+        } finally {
+            skipIfUnchangedFiles.removeAll(files);
+        }
+    }
 
-            for (String project : projects) {
-                shellCallback.refreshProject(project);
+    private void finishMetrics() {
+        metrics.finish();
+        if (metricsReportFile != null) {
+            try {
+                metrics.writeReport(metricsReportFile.toPath());
+            } catch (IOException e) {
+                warnings.add(getString("Warning.37", //$NON-NLS-1$
+                        metricsReportFile.getPath(), e.getMessage()));
             }
         }
+    }
 
-        callback.done();
+    /**
+     * Saves the generated files on a pool of worker threads, so formatting, merging, and writing of
+     * different files overlap. Files with the same target are saved one after the other in the
+     * sequential order, so merging and unique file names work exactly as in sequential mode. The
+     * number of concurrent writes is limited by the context property concurrentFileWrites, and
+     * warnings are reported in the sequential order.
+     */
+    private void saveFilesInParallel(ProgressCallback callback, List<Context> contextsToRun)
+            throws IOException, InterruptedException {
+        ProgressCallback sharedCallback = new SynchronizedProgressCallback(callback);
+
+        List<GeneratedFile> files = new ArrayList<>();
+        files.addAll(generatedXmlFiles);
+        files.addAll(generatedJavaFiles);
+        int xmlFileCount = generatedXmlFiles.size();
+        int javaFileCount = generatedJavaFiles.size();
+        files.addAll(generatedKotlinFiles);
+        files.addAll(otherGeneratedFiles);
+
+        Map<String, List<Integer>> filesByTarget = new LinkedHashMap<>();
+        Map<String, GeneratedFile> directories = new LinkedHashMap<>();
+        List<List<String>> fileWarnings = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            GeneratedFile gf = files.get(i);
+            projects.add(gf.getTargetProject());
+            String directory = gf.getTargetProject() + '|' + gf.getTargetPackage();
+            directories.putIfAbsent(directory, gf);
+            filesByTarget.computeIfAbsent(directory + '|' + gf.getFileName(), k -> new ArrayList<>()).add(i);
+            fileWarnings.add(new ArrayList<>());
+        }
+
+        // create the directories up front - shell callbacks are not required to be thread safe
+        for (GeneratedFile gf : directories.values()) {
+            try {
+                shellCallback.getDirectory(gf.getTargetProject(), gf.getTargetPackage());
+            } catch (ShellException e) {
+                // reported again when the file is saved
+            }
+        }
+
+        int concurrentWrites = 0;
+        for (Context context : contextsToRun) {
+            concurrentWrites = Math.max(concurrentWrites, ParallelExecutor.calculateThreadCount(
+                    context.getProperty(PropertyRegistry.CONTEXT_CONCURRENT_FILE_WRITES), 4));
+        }
+
+        writePermits = new Semaphore(concurrentWrites);
+        try (ParallelExecutor executor = new ParallelExecutor(ParallelExecutor.calculateThreadCount(null),
+                "mbg-save-")) { //$NON-NLS-1$
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (List<Integer> indexes : filesByTarget.values()) {
+                tasks.add(() -> {
+                    for (int i : indexes) {
+                        if (i < xmlFileCount) {
+                            writeGeneratedXmlFile((GeneratedXmlFile) files.get(i), sharedCallback,
+                                    fileWarnings.get(i));
+                        } else if (i < xmlFileCount + javaFileCount) {
+                            writeGeneratedJavaFile((GeneratedJavaFile) files.get(i), sharedCallback,
+                                    fileWarnings.get(i));
+                        } else {
+                            writeGeneratedFile(files.get(i), sharedCallback, fileWarnings.get(i));
+                        }
+                    }
+                    return null;
+                });
+            }
+            executor.invokeAll(tasks, IOException.class);
+        } finally {
+            writePermits = null;
+        }
+
+        for (List<String> w : fileWarnings) {
+            warnings.addAll(w);
+        }
     }
 
-    private void writeGeneratedJavaFile(GeneratedJavaFile gjf, ProgressCallback callback)
-            throws InterruptedException, IOException {
+    private void writeGeneratedJavaFile(GeneratedJavaFile gjf, ProgressCallback callback,
+            List<String> warnings) throws InterruptedException, IOException {
         File targetFile;
         String source;
         try {
-            File directory = shellCallback.getDirectory(gjf
-                    .getTargetProject(), gjf.getTargetPackage());
+            File directory = getDirectory(gjf);
             targetFile = new File(directory, gjf.getFileName());
+            boolean unchanged = false;
             if (targetFile.exists()) {
                 if (shellCallback.isMergeSupported()) {
-                    source = shellCallback.mergeJavaFile(gjf
-                            .getFormattedContent(), targetFile,
-                            MergeConstants.getOldElementTags(),
-                            gjf.getFileEncoding());
-                } else if (shellCallback.isOverwriteEnabled()) {
-                    source = gjf.getFormattedContent();
-                    warnings.add(getString("Warning.11", //$NON-NLS-1$
-                            targetFile.getAbsolutePath()));
+                    String newContent = render(gjf);
+                    long startTime = metrics.startTime();
+                    long startAllocation = metrics.startAllocation();
+                    source = mergeJavaFile(newContent, targetFile, gjf.getFileEncoding());
+                    metrics.phaseCompleted(null, GenerationMetricsListener.PHASE_MERGE, startTime, startAllocation);
+                    unchanged = isUnchanged(gjf, targetFile, source);
                 } else {
-                    source = gjf.getFormattedContent();
-                    targetFile = getUniqueFileName(directory, gjf
-                            .getFileName());
-                    warnings.add(getString(
-                            "Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
+                    source = render(gjf);
+                    unchanged = isUnchanged(gjf, targetFile, source);
+                    if (!unchanged) {
+                        if (shellCallback.isOverwriteEnabled()) {
+                            warnings.add(getString("Warning.11", //$NON-NLS-1$
+                                    targetFile.getAbsolutePath()));
+                        } else {
+                            targetFile = getUniqueFileName(directory, gjf
+                                    .getFileName());
+                            warnings.add(getString(
+                                    "Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
+                        }
+                    }
                 }
             } else {
-                source = gjf.getFormattedContent();
+                // nothing to merge or compare with - render straight to the file
+                callback.checkCancel();
+                callback.startTask(getString(
+                        "Progress.15", targetFile.getName())); //$NON-NLS-1$
+                writeFile(targetFile, gjf);
+                filesWritten.incrementAndGet();
+                return;
             }
 
             callback.checkCancel();
-            callback.startTask(getString(
-                    "Progress.15", targetFile.getName())); //$NON-NLS-1$
-            writeFile(targetFile, source, gjf.getFileEncoding());
+            writeFile(targetFile, source, gjf.getFileEncoding(), unchanged, callback);
         } catch (ShellException e) {
             warnings.add(e.getMessage());
         }
     }
 
-    private void writeGeneratedFile(GeneratedFile gf, ProgressCallback callback)
-            throws InterruptedException, IOException {
+    private void writeGeneratedFile(GeneratedFile gf, ProgressCallback callback,
+            List<String> warnings) throws InterruptedException, IOException {
         File targetFile;
         String source;
         try {
-            File directory = shellCallback.getDirectory(gf
-                    .getTargetProject(), gf.getTargetPackage());
+            File directory = getDirectory(gf);
             targetFile = new File(directory, gf.getFileName());
+            boolean unchanged = false;
             if (targetFile.exists()) {
-                if (shellCallback.isOverwriteEnabled()) {
-                    source = gf.getFormattedContent();
-                    warnings.add(getString("Warning.11", //$NON-NLS-1$
-                            targetFile.getAbsolutePath()));
-                } else {
-                    source = gf.getFormattedContent();
-                    targetFile = getUniqueFileName(directory, gf
-                            .getFileName());
-                    warnings.add(getString(
-                            "Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
+                source = render(gf);
+                unchanged = isUnchanged(gf, targetFile, source);
+                if (!unchanged) {
+                    if (shellCallback.isOverwriteEnabled()) {
+                        warnings.add(getString("Warning.11", //$NON-NLS-1$
+                                targetFile.getAbsolutePath()));
+                    } else {
+                        targetFile = getUniqueFileName(directory, gf
+                                .getFileName());
+                        warnings.add(getString(
+                                "Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
+                    }
                 }
             } else {
-                source = gf.getFormattedContent();
+                source = render(gf);
             }
 
             callback.checkCancel();
-            callback.startTask(getString(
-                    "Progress.15", targetFile.getName())); //$NON-NLS-1$
-            writeFile(targetFile, source, gf.getFileEncoding());
+            writeFile(targetFile, source, gf.getFileEncoding(), unchanged, callback);
         } catch (ShellException e) {
             warnings.add(e.getMessage());
         }
     }
 
-    private void writeGeneratedXmlFile(GeneratedXmlFile gxf, ProgressCallback callback)
-            throws InterruptedException, IOException {
+    private void writeGeneratedXmlFile(GeneratedXmlFile gxf, ProgressCallback callback,
+            List<String> warnings) throws InterruptedException, IOException {
         File targetFile;
         String source;
         try {
-            File directory = shellCallback.getDirectory(gxf
-                    .getTargetProject(), gxf.getTargetPackage());
+            File directory = getDirectory(gxf);
             targetFile = new File(directory, gxf.getFileName());
+            boolean unchanged = false;
             if (targetFile.exists()) {
                 if (gxf.isMergeable()) {
+                    long startTime = metrics.startTime();
+                    long startAllocation = metrics.startAllocation();
                     source = XmlFileMergerJaxp.getMergedSource(gxf,
                             targetFile);
-                } else if (shellCallback.isOverwriteEnabled()) {
-                    source = gxf.getFormattedContent();
-                    warnings.add(getString("Warning.11", //$NON-NLS-1$
-                            targetFile.getAbsolutePath()));
+                    metrics.phaseCompleted(null, GenerationMetricsListener.PHASE_MERGE, startTime, startAllocation);
+                    unchanged = isUnchanged(gxf, targetFile, source);
                 } else {
-                    source = gxf.getFormattedContent();
-                    targetFile = getUniqueFileName(directory, gxf
-                            .getFileName());
-                    warnings.add(getString(
-                            "Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
+                    source = render(gxf);
+                    unchanged = isUnchanged(gxf, targetFile, source);
+                    if (!unchanged) {
+                        if (shellCallback.isOverwriteEnabled()) {
+                            warnings.add(getString("Warning.11", //$NON-NLS-1$
+                                    targetFile.getAbsolutePath()));
+                        } else {
+                            targetFile = getUniqueFileName(directory, gxf
+                                    .getFileName());
+                            warnings.add(getString(
+                                    "Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
+                        }
+                    }
                 }
             } else {
-                source = gxf.getFormattedContent();
+                source = render(gxf);
             }
 
             callback.checkCancel();
-            callback.startTask(getString(
-                    "Progress.15", targetFile.getName())); //$NON-NLS-1$
-            writeFile(targetFile, source, gxf.getFileEncoding());
+            writeFile(targetFile, source, gxf.getFileEncoding(), unchanged, callback);
         } catch (ShellException e) {
             warnings.add(e.getMessage());
         }
     }
 
+    private File getDirectory(GeneratedFile generatedFile) throws ShellException {
+        if (shellCallback.isThreadSafe()) {
+            return shellCallback.getDirectory(generatedFile.getTargetProject(), generatedFile.getTargetPackage());
+        }
+        // shell callbacks are not required to be thread safe
+        synchronized (shellCallback) {
+            return shellCallback.getDirectory(generatedFile.getTargetProject(), generatedFile.getTargetPackage());
+        }
+    }
+
+    private String mergeJavaFile(String newContent, File targetFile, String fileEncoding) throws ShellException {
+        if (shellCallback.isThreadSafe()) {
+            return shellCallback.mergeJavaFile(newContent, targetFile, MergeConstants.getOldElementTags(),
+                    fileEncoding);
+        }
+        // shell callbacks are not required to be thread safe
+        synchronized (shellCallback) {
+            return shellCallback.mergeJavaFile(newContent, targetFile, MergeConstants.getOldElementTags(),
+                    fileEncoding);
+        }
+    }
+
+    private String render(GeneratedFile generatedFile) {
+        long startTime = metrics.startTime();
+        long startAllocation = metrics.startAllocation();
+        String answer = generatedFile.getFormattedContent();
+        metrics.phaseCompleted(null, GenerationMetricsListener.PHASE_RENDER, startTime, startAllocation);
+        return answer;
+    }
+
+    /**
+     * Writes the file, unless its content is unchanged, and reports the progress.
+     */
+    private void writeFile(File file, String content, String fileEncoding, boolean unchanged,
+            ProgressCallback callback) throws IOException, InterruptedException {
+        if (unchanged) {
+            callback.startTask(getString(
+                    "Progress.22", file.getName())); //$NON-NLS-1$
+            filesUnchanged.incrementAndGet();
+        } else {
+            callback.startTask(getString(
+                    "Progress.15", file.getName())); //$NON-NLS-1$
+            writeFile(file, content, fileEncoding);
+            filesWritten.incrementAndGet();
+        }
+    }
+
     /**
      * Writes, or overwrites, the contents of the specified file.
      *
@@ -422,21 +837,78 @@ public class MyBatisGenerator {
      * @throws IOException
      *             Signals that an I/O exception has occurred.
      */
-    private void writeFile(File file, String content, String fileEncoding) throws IOException {
-        try (FileOutputStream fos = new FileOutputStream(file, false)) {
-            OutputStreamWriter osw;
-            if (fileEncoding == null) {
-                osw = new OutputStreamWriter(fos);
-            } else {
-                osw = new OutputStreamWriter(fos, Charset.forName(fileEncoding));
-            }
+    private void writeFile(File file, String content, String fileEncoding)
+            throws IOException, InterruptedException {
+        byte[] bytes = content.getBytes(getCharset(fileEncoding));
 
-            try (BufferedWriter bw = new BufferedWriter(osw)) {
-                bw.write(content);
-            }
+        Semaphore permits = acquireWritePermit();
+        long startTime = metrics.startTime();
+        long startAllocation = metrics.startAllocation();
+        try {
+            Files.write(file.toPath(), bytes);
+        } finally {
+            metrics.phaseCompleted(null, GenerationMetricsListener.PHASE_WRITE, startTime, startAllocation);
+            releaseWritePermit(permits);
+        }
+    }
+
+    private void writeFile(File file, GeneratedJavaFile gjf) throws IOException, InterruptedException {
+        Semaphore permits = acquireWritePermit();
+        long startTime = metrics.startTime();
+        long startAllocation = metrics.startAllocation();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file.toPath()),
+                getCharset(gjf.getFileEncoding())))) {
+            gjf.writeFormattedContent(writer);
+        } finally {
+            metrics.phaseCompleted(null, GenerationMetricsListener.PHASE_WRITE, startTime, startAllocation);
+            releaseWritePermit(permits);
         }
     }
 
+    private Semaphore acquireWritePermit() throws InterruptedException {
+        Semaphore permits = writePermits;
+        if (permits != null) {
+            permits.acquire();
+        }
+        return permits;
+    }
+
+    private void releaseWritePermit(Semaphore permits) {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    private Charset getCharset(String fileEncoding) {
+        return fileEncoding == null ? Charset.defaultCharset() : Charset.forName(fileEncoding);
+    }
+
+    /**
+     * Returns true if the existing file already has exactly the content that would be written, and
+     * the context that generated the file skips writing unchanged files.
+     *
+     * @param generatedFile
+     *            the generated file
+     * @param file
+     *            the existing file
+     * @param content
+     *            the content that would be written
+     * @return true if the file does not need to be written
+     * @throws IOException
+     *             if the existing file cannot be read
+     */
+    private boolean isUnchanged(GeneratedFile generatedFile, File file, String content) throws IOException {
+        if (!skipIfUnchangedFiles.contains(generatedFile)) {
+            return false;
+        }
+
+        byte[] bytes = content.getBytes(getCharset(generatedFile.getFileEncoding()));
+
+        // compare the length first, so changed files are usually detected without reading them
+        return file.length() == bytes.length
+                && Arrays.equals(Files.readAllBytes(file.toPath()), bytes);
+    }
+
     /**
      * Gets the unique file name.
      *
@@ -129,6 +129,29 @@ public interface Plugin {
      */
     boolean validate(List<String> warnings);
 
+    /**
+     * This method is consulted when the context runs in parallel generation mode (context property
+     * <code>parallelGeneration</code>). In that mode the per-table plugin methods may be called
+     * concurrently for different introspected tables. Plugins that keep mutable state across tables
+     * should return false - the generator will then serialize every call into the plugin.
+     *
+     * @return true if this plugin may be called concurrently for different tables
+     */
+    default boolean isThreadSafe() {
+        return true;
+    }
+
+    /**
+     * This method is consulted before the tables are introspected. Index metadata is only read from
+     * the database if at least one configured plugin returns true. The indexes are then available
+     * from {@link IntrospectedTable#getIndexes()}.
+     *
+     * @return true if this plugin reads the indexes of the introspected tables
+     */
+    default boolean requiresIndexes() {
+        return false;
+    }
+
     /**
      * This method can be used to generate any additional Java file needed by
      * your implementation. This method is called once, after all other Java
@@ -81,6 +81,18 @@ public interface ProgressCallback {
      */
     default void startTask(String taskName) {}
 
+    /**
+     * Called at the end of the file saving phase.
+     *
+     * @param filesWritten
+     *            the number of files that were written
+     * @param filesUnchanged
+     *            the number of files that were not written because the existing
+     *            file already had the same content (see the context property
+     *            <code>skipUnchangedFiles</code>)
+     */
+    default void saveCompleted(int filesWritten, int filesUnchanged) {}
+
     /**
      * This method is called when all generated files have been saved.
      */
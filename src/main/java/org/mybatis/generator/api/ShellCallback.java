@@ -132,6 +132,18 @@ public interface ShellCallback {
         return false;
     }
 
+    /**
+     * Return true if the methods of this callback may be called by several threads at the same time.
+     * If you return <code>false</code>, the generator never calls <code>getDirectory()</code> or
+     * <code>mergeJavaFile()</code> concurrently - so Java files are merged one at a time, even when
+     * files are saved in parallel.
+     *
+     * @return true if the callback is thread safe
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Return true if the generator should overwrite an existing file if one exists.
      * This method will be called only if <code>isMergeSupported()</code>
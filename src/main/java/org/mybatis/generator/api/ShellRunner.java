@@ -43,12 +43,18 @@ import org.mybatis.generator.logging.LogFactory;
 public class ShellRunner {
     private static final String CONFIG_FILE = "-configfile"; //$NON-NLS-1$
     private static final String OVERWRITE = "-overwrite"; //$NON-NLS-1$
+    private static final String MERGE_JAVA = "-mergeJava"; //$NON-NLS-1$
     private static final String CONTEXT_IDS = "-contextids"; //$NON-NLS-1$
     private static final String TABLES = "-tables"; //$NON-NLS-1$
     private static final String VERBOSE = "-verbose"; //$NON-NLS-1$
     private static final String FORCE_JAVA_LOGGING = "-forceJavaLogging"; //$NON-NLS-1$
+    private static final String WATCH = "-watch"; //$NON-NLS-1$
+    private static final String WATCH_INTERVAL = "-watchInterval"; //$NON-NLS-1$
+    private static final String METRICS_REPORT = "-metricsReport"; //$NON-NLS-1$
+    private static final String PARALLEL_CONTEXTS = "-parallelContexts"; //$NON-NLS-1$
     private static final String HELP_1 = "-?"; //$NON-NLS-1$
     private static final String HELP_2 = "-h"; //$NON-NLS-1$
+    private static final long DEFAULT_WATCH_INTERVAL_SECONDS = 5;
 
     public static void main(String[] args) {
         if (args.length == 0) {
@@ -102,14 +108,23 @@ public class ShellRunner {
             }
         }
 
+        if (arguments.containsKey(WATCH)) {
+            watch(configurationFile, arguments, contexts, fullyqualifiedTables);
+            return;
+        }
+
+        DefaultShellCallback shellCallback = new DefaultShellCallback(arguments.containsKey(OVERWRITE),
+                arguments.containsKey(MERGE_JAVA));
+
         try {
             ConfigurationParser cp = new ConfigurationParser(warnings);
             Configuration config = cp.parseConfiguration(configurationFile);
 
-            DefaultShellCallback shellCallback = new DefaultShellCallback(
-                    arguments.containsKey(OVERWRITE));
-
             MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, shellCallback, warnings);
+            myBatisGenerator.setParallelContexts(arguments.containsKey(PARALLEL_CONTEXTS));
+            if (arguments.containsKey(METRICS_REPORT)) {
+                myBatisGenerator.setMetricsReportFile(new File(arguments.get(METRICS_REPORT)));
+            }
 
             ProgressCallback progressCallback = arguments.containsKey(VERBOSE) ? new VerboseProgressCallback()
                     : null;
@@ -149,6 +164,42 @@ public class ShellRunner {
         }
     }
 
+    private static void watch(File configurationFile, Map<String, String> arguments, Set<String> contexts,
+            Set<String> fullyqualifiedTables) {
+        long interval = DEFAULT_WATCH_INTERVAL_SECONDS;
+        if (arguments.containsKey(WATCH_INTERVAL)) {
+            try {
+                interval = Long.parseLong(arguments.get(WATCH_INTERVAL));
+            } catch (NumberFormatException e) {
+                interval = 0;
+            }
+
+            if (interval <= 0) {
+                writeLine(getString("RuntimeError.25", //$NON-NLS-1$
+                        WATCH_INTERVAL, arguments.get(WATCH_INTERVAL)));
+                return;
+            }
+        }
+
+        DefaultShellCallback shellCallback = new DefaultShellCallback(arguments.containsKey(OVERWRITE),
+                arguments.containsKey(MERGE_JAVA));
+
+        ProgressCallback progressCallback = arguments.containsKey(VERBOSE) ? new VerboseProgressCallback()
+                : null;
+
+        GeneratorWatcher watcher = new GeneratorWatcher(configurationFile, shellCallback, contexts,
+                fullyqualifiedTables, progressCallback, interval * 1000);
+        watcher.setParallelContexts(arguments.containsKey(PARALLEL_CONTEXTS));
+        if (arguments.containsKey(METRICS_REPORT)) {
+            watcher.setMetricsReportFile(new File(arguments.get(METRICS_REPORT)));
+        }
+        try {
+            watcher.watch();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static void usage() {
         writeLine(getString("Usage")); //$NON-NLS-1$
     }
@@ -176,6 +227,8 @@ public class ShellRunner {
                 i++;
             } else if (OVERWRITE.equalsIgnoreCase(args[i])) {
                 arguments.put(OVERWRITE, "Y"); //$NON-NLS-1$
+            } else if (MERGE_JAVA.equalsIgnoreCase(args[i])) {
+                arguments.put(MERGE_JAVA, "Y"); //$NON-NLS-1$
             } else if (VERBOSE.equalsIgnoreCase(args[i])) {
                 arguments.put(VERBOSE, "Y"); //$NON-NLS-1$
             } else if (HELP_1.equalsIgnoreCase(args[i])) {
@@ -184,6 +237,24 @@ public class ShellRunner {
                 // put HELP_1 in the map here too - so we only
                 // have to check for one entry in the mainline
                 arguments.put(HELP_1, "Y"); //$NON-NLS-1$
+            } else if (PARALLEL_CONTEXTS.equalsIgnoreCase(args[i])) {
+                arguments.put(PARALLEL_CONTEXTS, "Y"); //$NON-NLS-1$
+            } else if (WATCH.equalsIgnoreCase(args[i])) {
+                arguments.put(WATCH, "Y"); //$NON-NLS-1$
+            } else if (WATCH_INTERVAL.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(WATCH_INTERVAL, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", WATCH_INTERVAL)); //$NON-NLS-1$
+                }
+                i++;
+            } else if (METRICS_REPORT.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(METRICS_REPORT, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", METRICS_REPORT)); //$NON-NLS-1$
+                }
+                i++;
             } else if (FORCE_JAVA_LOGGING.equalsIgnoreCase(args[i])) {
                 LogFactory.forceJavaLogging();
             } else if (CONTEXT_IDS.equalsIgnoreCase(args[i])) {
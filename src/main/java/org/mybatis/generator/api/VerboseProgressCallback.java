@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api;
 
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
 /**
  * A slightly more verbose progress callback.
  *
@@ -31,4 +33,10 @@ public class VerboseProgressCallback implements ProgressCallback {
     public void startTask(String taskName) {
         System.out.println(taskName);
     }
+
+    @Override
+    public void saveCompleted(int filesWritten, int filesUnchanged) {
+        System.out.println(getString("Progress.23", //$NON-NLS-1$
+                Integer.toString(filesWritten), Integer.toString(filesUnchanged)));
+    }
 }
@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.JavaFormatter;
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.api.dom.java.CompilationUnitVisitor;
@@ -41,6 +43,26 @@ public class DefaultJavaFormatter implements JavaFormatter, CompilationUnitVisit
         return compilationUnit.accept(this);
     }
 
+    /**
+     * Renders directly to the appendable. The built in renderers are only used by this class
+     * itself - a subclass may override the visit methods, so for subclasses the content is formatted
+     * with {@link #getFormattedContent(CompilationUnit)}.
+     */
+    @Override
+    public void writeFormattedContent(CompilationUnit compilationUnit, Appendable out) throws IOException {
+        if (getClass() != DefaultJavaFormatter.class) {
+            out.append(getFormattedContent(compilationUnit));
+        } else if (compilationUnit instanceof TopLevelClass) {
+            new TopLevelClassRenderer().render((TopLevelClass) compilationUnit, out);
+        } else if (compilationUnit instanceof TopLevelEnumeration) {
+            new TopLevelEnumerationRenderer().render((TopLevelEnumeration) compilationUnit, out);
+        } else if (compilationUnit instanceof Interface) {
+            new TopLevelInterfaceRenderer().render((Interface) compilationUnit, out);
+        } else {
+            out.append(getFormattedContent(compilationUnit));
+        }
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
@@ -19,14 +19,22 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class FullyQualifiedJavaType implements
         Comparable<FullyQualifiedJavaType> {
 
     private static final String JAVA_LANG = "java.lang"; //$NON-NLS-1$
 
+    /** Upper bound for the number of shared instances, new types are not cached above it. */
+    private static final int MAX_SHARED_INSTANCES = 4096;
+
+    private static final Map<String, FullyQualifiedJavaType> sharedInstances = new ConcurrentHashMap<>();
+
     private static FullyQualifiedJavaType intInstance = null;
 
     private static FullyQualifiedJavaType stringInstance = null;
@@ -57,7 +65,7 @@ public class FullyQualifiedJavaType implements
 
     private PrimitiveTypeWrapper primitiveTypeWrapper;
 
-    private final List<FullyQualifiedJavaType> typeArguments;
+    private List<FullyQualifiedJavaType> typeArguments;
 
     // the following three values are used for dealing with wildcard types
     private boolean wildcardType;
@@ -66,6 +74,16 @@ public class FullyQualifiedJavaType implements
 
     private boolean extendsBoundedWildcard;
 
+    /** True for the instances returned by {@link #of(String)}, which cannot be modified. */
+    private final boolean shared;
+
+    // names of shared instances, calculated once as they cannot change
+    private String fullyQualifiedName;
+
+    private String shortName;
+
+    private List<String> importList;
+
     /**
      * Use this constructor to construct a generic type with the specified type parameters.
      *
@@ -73,9 +91,46 @@ public class FullyQualifiedJavaType implements
      *            the full type specification
      */
     public FullyQualifiedJavaType(String fullTypeSpecification) {
+        this(fullTypeSpecification, false);
+    }
+
+    private FullyQualifiedJavaType(String fullTypeSpecification, boolean shared) {
         super();
+        this.shared = shared;
         typeArguments = new ArrayList<>();
         parse(fullTypeSpecification);
+        if (shared) {
+            typeArguments = Collections.unmodifiableList(typeArguments);
+            fullyQualifiedName = calculateFullyQualifiedName();
+            shortName = calculateShortName();
+            importList = Collections.unmodifiableList(calculateImportList());
+        }
+    }
+
+    /**
+     * Returns a shared, unmodifiable instance of the type. The type specification is only parsed
+     * the first time a type is requested, later calls return the same instance. This method is
+     * safe to call from multiple threads.
+     *
+     * <p>Type arguments cannot be added to shared instances - use the constructor for types that
+     * are built up with {@link #addTypeArgument(FullyQualifiedJavaType)}.
+     *
+     * @param fullTypeSpecification
+     *            the full type specification
+     * @return the shared instance
+     */
+    public static FullyQualifiedJavaType of(String fullTypeSpecification) {
+        FullyQualifiedJavaType type = sharedInstances.get(fullTypeSpecification);
+        if (type == null) {
+            type = new FullyQualifiedJavaType(fullTypeSpecification, true);
+            if (sharedInstances.size() < MAX_SHARED_INSTANCES) {
+                FullyQualifiedJavaType existing = sharedInstances.putIfAbsent(fullTypeSpecification, type);
+                if (existing != null) {
+                    type = existing;
+                }
+            }
+        }
+        return type;
     }
 
     public boolean isExplicitlyImported() {
@@ -88,6 +143,10 @@ public class FullyQualifiedJavaType implements
      * @return Returns the fullyQualifiedName.
      */
     public String getFullyQualifiedName() {
+        return shared ? fullyQualifiedName : calculateFullyQualifiedName();
+    }
+
+    private String calculateFullyQualifiedName() {
         StringBuilder sb = new StringBuilder();
         if (wildcardType) {
             sb.append('?');
@@ -133,6 +192,10 @@ public class FullyQualifiedJavaType implements
      * @return the import list
      */
     public List<String> getImportList() {
+        return shared ? importList : calculateImportList();
+    }
+
+    private List<String> calculateImportList() {
         List<String> answer = new ArrayList<>();
         if (isExplicitlyImported()) {
             int index = baseShortName.indexOf('.');
@@ -169,6 +232,10 @@ public class FullyQualifiedJavaType implements
     }
 
     public String getShortName() {
+        return shared ? shortName : calculateShortName();
+    }
+
+    private String calculateShortName() {
         StringBuilder sb = new StringBuilder();
         if (wildcardType) {
             sb.append('?');
@@ -323,6 +390,10 @@ public class FullyQualifiedJavaType implements
     }
 
     public void addTypeArgument(FullyQualifiedJavaType type) {
+        if (shared) {
+            throw new UnsupportedOperationException(getString(
+                    "RuntimeError.24", getFullyQualifiedName())); //$NON-NLS-1$
+        }
         typeArguments.add(type);
     }
 
@@ -447,8 +518,7 @@ public class FullyQualifiedJavaType implements
                 openCount--;
             } else if (",".equals(token)) { //$NON-NLS-1$
                 if (openCount == 0) {
-                    typeArguments
-                            .add(new FullyQualifiedJavaType(sb.toString()));
+                    typeArguments.add(parseTypeArgument(sb.toString()));
                     sb.setLength(0);
                 } else {
                     sb.append(token);
@@ -465,10 +535,15 @@ public class FullyQualifiedJavaType implements
 
         String finalType = sb.toString();
         if (stringHasValue(finalType)) {
-            typeArguments.add(new FullyQualifiedJavaType(finalType));
+            typeArguments.add(parseTypeArgument(finalType));
         }
     }
 
+    private FullyQualifiedJavaType parseTypeArgument(String typeSpecification) {
+        // the type arguments of a shared instance must not be modifiable either
+        return shared ? of(typeSpecification) : new FullyQualifiedJavaType(typeSpecification);
+    }
+
     /**
      * Returns the package name of a fully qualified type.
      *
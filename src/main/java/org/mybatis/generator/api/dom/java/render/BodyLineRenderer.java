@@ -15,30 +15,27 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 import java.util.ListIterator;
 
-import org.mybatis.generator.api.dom.OutputUtilities;
-
 public class BodyLineRenderer {
 
     public List<String> render(List<String> bodyLines) {
-        List<String> lines = new ArrayList<>();
+        return RenderingUtilities.renderLines(writer -> render(bodyLines, writer));
+    }
+
+    public void render(List<String> bodyLines, JavaSourceWriter writer) throws IOException {
         int indentLevel = 1;
-        StringBuilder sb = new StringBuilder();
 
         ListIterator<String> listIter = bodyLines.listIterator();
         while (listIter.hasNext()) {
-            sb.setLength(0);
             String line = listIter.next();
             if (line.startsWith("}")) { //$NON-NLS-1$
                 indentLevel--;
             }
 
-            OutputUtilities.javaIndent(sb, indentLevel);
-            sb.append(line);
-            lines.add(sb.toString());
+            writer.writeLine(indentLevel, line);
 
             if (isCodeBlockStartExceptSwitchStatement(line) || line.endsWith(":")) { //$NON-NLS-1$
                 indentLevel++;
@@ -58,8 +55,6 @@ public class BodyLineRenderer {
                 indentLevel--;
             }
         }
-
-        return lines;
     }
 
     private boolean isCodeBlockStartExceptSwitchStatement(String line) {
@@ -15,7 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 import org.mybatis.generator.api.dom.java.CompilationUnit;
@@ -25,13 +25,13 @@ import org.mybatis.generator.api.dom.java.JavaDomUtils;
 public class FieldRenderer {
 
     public List<String> render(Field field, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(field.getJavaDocLines());
-        lines.addAll(field.getAnnotations());
-        lines.add(renderField(field, compilationUnit));
+        return RenderingUtilities.renderLines(writer -> render(field, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(Field field, CompilationUnit compilationUnit, JavaSourceWriter writer) throws IOException {
+        writer.writeLines(field.getJavaDocLines());
+        writer.writeLines(field.getAnnotations());
+        writer.writeLine(renderField(field, compilationUnit));
     }
 
     private String renderField(Field field, CompilationUnit compilationUnit) {
@@ -15,7 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 import org.mybatis.generator.api.dom.java.InitializationBlock;
@@ -25,13 +25,14 @@ public class InitializationBlockRenderer {
     private final BodyLineRenderer bodyLineRenderer = new BodyLineRenderer();
 
     public List<String> render(InitializationBlock initializationBlock) {
+        return RenderingUtilities.renderLines(writer -> render(initializationBlock, writer));
+    }
 
-        List<String> lines = new ArrayList<>(initializationBlock.getJavaDocLines());
-        lines.add(renderFirstLine(initializationBlock));
-        lines.addAll(bodyLineRenderer.render(initializationBlock.getBodyLines()));
-        lines.add("}"); //$NON-NLS-1$
-
-        return lines;
+    public void render(InitializationBlock initializationBlock, JavaSourceWriter writer) throws IOException {
+        writer.writeLines(initializationBlock.getJavaDocLines());
+        writer.writeLine(renderFirstLine(initializationBlock));
+        bodyLineRenderer.render(initializationBlock.getBodyLines(), writer);
+        writer.writeLine("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InitializationBlock initializationBlock) {
@@ -15,7 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 import org.mybatis.generator.api.dom.java.CompilationUnit;
@@ -26,23 +26,24 @@ import org.mybatis.generator.internal.util.CustomCollectors;
 public class InnerClassRenderer {
 
     public List<String> render(InnerClass innerClass, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerClass.getJavaDocLines());
-        lines.addAll(innerClass.getAnnotations());
-        lines.add(renderFirstLine(innerClass, compilationUnit));
-        lines.addAll(RenderingUtilities.renderFields(innerClass.getFields(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInitializationBlocks(innerClass.getInitializationBlocks()));
-        lines.addAll(RenderingUtilities.renderClassOrEnumMethods(innerClass.getMethods(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInnerClasses(innerClass.getInnerClasses(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInnerInterfaces(innerClass.getInnerInterfaces(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInnerEnums(innerClass.getInnerEnums(), compilationUnit));
-
-        lines = RenderingUtilities.removeLastEmptyLine(lines);
-
-        lines.add("}"); //$NON-NLS-1$
+        return RenderingUtilities.renderLines(writer -> render(innerClass, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(InnerClass innerClass, CompilationUnit compilationUnit, JavaSourceWriter writer)
+            throws IOException {
+        writer.writeLines(innerClass.getJavaDocLines());
+        writer.writeLines(innerClass.getAnnotations());
+        writer.writeLine(renderFirstLine(innerClass, compilationUnit));
+        RenderingUtilities.renderFields(innerClass.getFields(), compilationUnit, writer);
+        RenderingUtilities.renderInitializationBlocks(innerClass.getInitializationBlocks(), writer);
+        RenderingUtilities.renderClassOrEnumMethods(innerClass.getMethods(), compilationUnit, writer);
+        RenderingUtilities.renderInnerClasses(innerClass.getInnerClasses(), compilationUnit, writer);
+        RenderingUtilities.renderInnerInterfaces(innerClass.getInnerInterfaces(), compilationUnit, writer);
+        RenderingUtilities.renderInnerEnums(innerClass.getInnerEnums(), compilationUnit, writer);
+
+        writer.discardEmptyLine();
+
+        writer.writeLine("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InnerClass innerClass, CompilationUnit compilationUnit) {
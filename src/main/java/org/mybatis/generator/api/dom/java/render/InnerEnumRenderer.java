@@ -15,7 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
 
@@ -27,24 +27,25 @@ import org.mybatis.generator.internal.util.CustomCollectors;
 public class InnerEnumRenderer {
 
     public List<String> render(InnerEnum innerEnum, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerEnum.getJavaDocLines());
-        lines.addAll(innerEnum.getAnnotations());
-        lines.add(renderFirstLine(innerEnum, compilationUnit));
-        lines.addAll(renderEnumConstants(innerEnum));
-        lines.addAll(RenderingUtilities.renderFields(innerEnum.getFields(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInitializationBlocks(innerEnum.getInitializationBlocks()));
-        lines.addAll(RenderingUtilities.renderClassOrEnumMethods(innerEnum.getMethods(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInnerClasses(innerEnum.getInnerClasses(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInnerInterfaces(innerEnum.getInnerInterfaces(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInnerEnums(innerEnum.getInnerEnums(), compilationUnit));
-
-        lines = RenderingUtilities.removeLastEmptyLine(lines);
-
-        lines.add("}"); //$NON-NLS-1$
+        return RenderingUtilities.renderLines(writer -> render(innerEnum, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(InnerEnum innerEnum, CompilationUnit compilationUnit, JavaSourceWriter writer)
+            throws IOException {
+        writer.writeLines(innerEnum.getJavaDocLines());
+        writer.writeLines(innerEnum.getAnnotations());
+        writer.writeLine(renderFirstLine(innerEnum, compilationUnit));
+        renderEnumConstants(innerEnum, writer);
+        RenderingUtilities.renderFields(innerEnum.getFields(), compilationUnit, writer);
+        RenderingUtilities.renderInitializationBlocks(innerEnum.getInitializationBlocks(), writer);
+        RenderingUtilities.renderClassOrEnumMethods(innerEnum.getMethods(), compilationUnit, writer);
+        RenderingUtilities.renderInnerClasses(innerEnum.getInnerClasses(), compilationUnit, writer);
+        RenderingUtilities.renderInnerInterfaces(innerEnum.getInnerInterfaces(), compilationUnit, writer);
+        RenderingUtilities.renderInnerEnums(innerEnum.getInnerEnums(), compilationUnit, writer);
+
+        writer.discardEmptyLine();
+
+        writer.writeLine("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InnerEnum innerEnum, CompilationUnit compilationUnit) {
@@ -64,22 +65,21 @@ public class InnerEnumRenderer {
         return sb.toString();
     }
 
-    private List<String> renderEnumConstants(InnerEnum innerEnum) {
-        List<String> answer = new ArrayList<>();
-
+    private void renderEnumConstants(InnerEnum innerEnum, JavaSourceWriter writer) throws IOException {
+        writer.indent();
         Iterator<String> iter = innerEnum.getEnumConstants().iterator();
         while (iter.hasNext()) {
             String enumConstant = iter.next();
 
             if (iter.hasNext()) {
-                answer.add(RenderingUtilities.JAVA_INDENT + enumConstant + ","); //$NON-NLS-1$
+                writer.writeLine(enumConstant + ","); //$NON-NLS-1$
             } else {
-                answer.add(RenderingUtilities.JAVA_INDENT + enumConstant + ";"); //$NON-NLS-1$
+                writer.writeLine(enumConstant + ";"); //$NON-NLS-1$
             }
         }
+        writer.outdent();
 
-        answer.add(""); //$NON-NLS-1$
-        return answer;
+        writer.writeEmptyLineBeforeNext();
     }
 
     // should return an empty string if no super interfaces
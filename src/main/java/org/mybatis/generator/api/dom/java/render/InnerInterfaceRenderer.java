@@ -15,7 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 import org.mybatis.generator.api.dom.java.CompilationUnit;
@@ -26,22 +26,23 @@ import org.mybatis.generator.internal.util.CustomCollectors;
 public class InnerInterfaceRenderer {
 
     public List<String> render(InnerInterface innerInterface, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerInterface.getJavaDocLines());
-        lines.addAll(innerInterface.getAnnotations());
-        lines.add(renderFirstLine(innerInterface, compilationUnit));
-        lines.addAll(RenderingUtilities.renderFields(innerInterface.getFields(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInterfaceMethods(innerInterface.getMethods(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInnerClasses(innerInterface.getInnerClasses(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInnerInterfaces(innerInterface.getInnerInterfaces(), compilationUnit));
-        lines.addAll(RenderingUtilities.renderInnerEnums(innerInterface.getInnerEnums(), compilationUnit));
+        return RenderingUtilities.renderLines(writer -> render(innerInterface, compilationUnit, writer));
+    }
 
-        lines = RenderingUtilities.removeLastEmptyLine(lines);
+    public void render(InnerInterface innerInterface, CompilationUnit compilationUnit, JavaSourceWriter writer)
+            throws IOException {
+        writer.writeLines(innerInterface.getJavaDocLines());
+        writer.writeLines(innerInterface.getAnnotations());
+        writer.writeLine(renderFirstLine(innerInterface, compilationUnit));
+        RenderingUtilities.renderFields(innerInterface.getFields(), compilationUnit, writer);
+        RenderingUtilities.renderInterfaceMethods(innerInterface.getMethods(), compilationUnit, writer);
+        RenderingUtilities.renderInnerClasses(innerInterface.getInnerClasses(), compilationUnit, writer);
+        RenderingUtilities.renderInnerInterfaces(innerInterface.getInnerInterfaces(), compilationUnit, writer);
+        RenderingUtilities.renderInnerEnums(innerInterface.getInnerEnums(), compilationUnit, writer);
 
-        lines.add("}"); //$NON-NLS-1$
+        writer.discardEmptyLine();
 
-        return lines;
+        writer.writeLine("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InnerInterface innerInterface, CompilationUnit compilationUnit) {
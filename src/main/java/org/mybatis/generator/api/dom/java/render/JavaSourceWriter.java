@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.java.render;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes rendered Java source lines to an {@link Appendable} as they are produced, so a
+ * compilation unit can be rendered to a file or a buffer without first building a list of
+ * lines for every member.
+ *
+ * <p>Lines are separated by the line separator, with no separator after the last line.
+ * Non-empty lines are prefixed with {@link RenderingUtilities#JAVA_INDENT} once for every
+ * indent level. An empty line that separates members is held back until the next line is
+ * written, so it can be dropped before the closing brace of a type.
+ */
+public class JavaSourceWriter {
+    private final Appendable out;
+    private final String lineSeparator;
+    private final List<String> lines;
+    private int indentLevel;
+    private boolean firstLine = true;
+    private boolean pendingEmptyLine;
+
+    public JavaSourceWriter(Appendable out) {
+        this(out, System.getProperty("line.separator")); //$NON-NLS-1$
+    }
+
+    public JavaSourceWriter(Appendable out, String lineSeparator) {
+        this.out = out;
+        this.lineSeparator = lineSeparator;
+        this.lines = null;
+    }
+
+    /**
+     * Creates a writer that adds the lines to a list. Used by the renderers that return lists of
+     * lines.
+     */
+    JavaSourceWriter(List<String> lines, int indentLevel) {
+        this.out = null;
+        this.lineSeparator = null;
+        this.lines = lines;
+        this.indentLevel = indentLevel;
+    }
+
+    public void writeLine(String line) throws IOException {
+        writeLine(0, line);
+    }
+
+    /**
+     * Writes a line with additional indentation - as used for method bodies.
+     */
+    public void writeLine(int extraIndentLevel, String line) throws IOException {
+        if (pendingEmptyLine) {
+            pendingEmptyLine = false;
+            appendLine(0, ""); //$NON-NLS-1$
+        }
+        appendLine(extraIndentLevel, line);
+    }
+
+    public void writeLines(List<String> lines) throws IOException {
+        for (String line : lines) {
+            writeLine(line);
+        }
+    }
+
+    /**
+     * Requests an empty line before the next line written.
+     */
+    public void writeEmptyLineBeforeNext() {
+        pendingEmptyLine = true;
+    }
+
+    /**
+     * Drops a requested empty line - called before the closing brace of a type.
+     */
+    public void discardEmptyLine() {
+        pendingEmptyLine = false;
+    }
+
+    /**
+     * Writes a requested empty line that was not yet written.
+     */
+    public void flush() throws IOException {
+        if (pendingEmptyLine) {
+            pendingEmptyLine = false;
+            appendLine(0, ""); //$NON-NLS-1$
+        }
+    }
+
+    public void indent() {
+        indentLevel++;
+    }
+
+    public void outdent() {
+        indentLevel--;
+    }
+
+    private void appendLine(int extraIndentLevel, String line) throws IOException {
+        int extra = Math.max(extraIndentLevel, 0);
+        int indent = line.isEmpty() && extra == 0 ? 0 : indentLevel + extra;
+
+        if (lines != null) {
+            StringBuilder sb = new StringBuilder(indent * RenderingUtilities.JAVA_INDENT.length() + line.length());
+            appendIndent(sb, indent);
+            sb.append(line);
+            lines.add(sb.toString());
+            return;
+        }
+
+        if (firstLine) {
+            firstLine = false;
+        } else {
+            out.append(lineSeparator);
+        }
+        appendIndent(out, indent);
+        out.append(line);
+    }
+
+    private static void appendIndent(Appendable appendable, int indent) throws IOException {
+        for (int i = 0; i < indent; i++) {
+            appendable.append(RenderingUtilities.JAVA_INDENT);
+        }
+    }
+}
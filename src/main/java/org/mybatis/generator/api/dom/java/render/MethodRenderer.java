@@ -15,7 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,18 +31,19 @@ public class MethodRenderer {
     private final BodyLineRenderer bodyLineRenderer = new BodyLineRenderer();
 
     public List<String> render(Method method, boolean inInterface, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
+        return RenderingUtilities.renderLines(writer -> render(method, inInterface, compilationUnit, writer));
+    }
 
-        lines.addAll(method.getJavaDocLines());
-        lines.addAll(method.getAnnotations());
-        lines.add(getFirstLine(method, inInterface, compilationUnit));
+    public void render(Method method, boolean inInterface, CompilationUnit compilationUnit,
+            JavaSourceWriter writer) throws IOException {
+        writer.writeLines(method.getJavaDocLines());
+        writer.writeLines(method.getAnnotations());
+        writer.writeLine(getFirstLine(method, inInterface, compilationUnit));
 
         if (!method.isAbstract() && !method.isNative()) {
-            lines.addAll(bodyLineRenderer.render(method.getBodyLines()));
-            lines.add("}"); //$NON-NLS-1$
+            bodyLineRenderer.render(method.getBodyLines(), writer);
+            writer.writeLine("}"); //$NON-NLS-1$
         }
-
-        return lines;
     }
 
     private String getFirstLine(Method method, boolean inInterface, CompilationUnit compilationUnit) {
@@ -17,6 +17,8 @@ package org.mybatis.generator.api.dom.java.render;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -57,45 +59,59 @@ public class RenderingUtilities {
     }
 
     public static List<String> renderFields(List<Field> fields, CompilationUnit compilationUnit) {
-        return fields.stream()
-                .flatMap(f -> renderField(f, compilationUnit))
-                .collect(Collectors.toList());
+        return renderLines(writer -> renderFields(fields, compilationUnit, writer));
     }
 
-    private static Stream<String> renderField(Field field, CompilationUnit compilationUnit) {
-//        return addEmptyLine(fieldRenderer.render(field, compilationUnit).stream()
-//                .map(RenderingUtilities::javaIndent));
-    	// filed not add empty line
-		return fieldRenderer.render(field, compilationUnit).stream().map(RenderingUtilities::javaIndent);
+    public static void renderFields(List<Field> fields, CompilationUnit compilationUnit, JavaSourceWriter writer)
+            throws IOException {
+        writer.indent();
+        for (Field field : fields) {
+            // filed not add empty line
+            fieldRenderer.render(field, compilationUnit, writer);
+        }
+        writer.outdent();
     }
 
     public static List<String> renderInitializationBlocks(List<InitializationBlock> initializationBlocks) {
-        return initializationBlocks.stream()
-                .flatMap(RenderingUtilities::renderInitializationBlock)
-                .collect(Collectors.toList());
+        return renderLines(writer -> renderInitializationBlocks(initializationBlocks, writer));
     }
 
-    private static Stream<String> renderInitializationBlock(InitializationBlock initializationBlock) {
-        return addEmptyLine(initializationBlockRenderer.render(initializationBlock).stream()
-                .map(RenderingUtilities::javaIndent));
+    public static void renderInitializationBlocks(List<InitializationBlock> initializationBlocks,
+            JavaSourceWriter writer) throws IOException {
+        writer.indent();
+        for (InitializationBlock initializationBlock : initializationBlocks) {
+            initializationBlockRenderer.render(initializationBlock, writer);
+            writer.writeEmptyLineBeforeNext();
+        }
+        writer.outdent();
     }
 
     public static List<String> renderClassOrEnumMethods(List<Method> methods, CompilationUnit compilationUnit) {
-        return methods.stream()
-                .flatMap(m -> renderMethod(m, false, compilationUnit))
-                .collect(Collectors.toList());
+        return renderLines(writer -> renderMethods(methods, false, compilationUnit, writer));
+    }
+
+    public static void renderClassOrEnumMethods(List<Method> methods, CompilationUnit compilationUnit,
+            JavaSourceWriter writer) throws IOException {
+        renderMethods(methods, false, compilationUnit, writer);
     }
 
     public static List<String> renderInterfaceMethods(List<Method> methods, CompilationUnit compilationUnit) {
-        return methods.stream()
-                .flatMap(m -> renderMethod(m, true, compilationUnit))
-                .collect(Collectors.toList());
+        return renderLines(writer -> renderMethods(methods, true, compilationUnit, writer));
     }
 
-    private static Stream<String> renderMethod(Method method, boolean inInterface, CompilationUnit compilationUnit) {
-//        return addEmptyLine(methodRenderer.render(method, inInterface, compilationUnit).stream()
-//                .map(RenderingUtilities::javaIndent));
-		return methodRenderer.render(method, inInterface, compilationUnit).stream().map(RenderingUtilities::javaIndent);
+    public static void renderInterfaceMethods(List<Method> methods, CompilationUnit compilationUnit,
+            JavaSourceWriter writer) throws IOException {
+        renderMethods(methods, true, compilationUnit, writer);
+    }
+
+    private static void renderMethods(List<Method> methods, boolean inInterface, CompilationUnit compilationUnit,
+            JavaSourceWriter writer) throws IOException {
+        writer.indent();
+        for (Method method : methods) {
+            // method not add empty line
+            methodRenderer.render(method, inInterface, compilationUnit, writer);
+        }
+        writer.outdent();
     }
 
     private static Stream<String> addEmptyLine(Stream<String> in) {
@@ -104,25 +120,41 @@ public class RenderingUtilities {
     }
 
     public static List<String> renderInnerClasses(List<InnerClass> innerClasses, CompilationUnit compilationUnit) {
-        return innerClasses.stream()
-                .flatMap(ic -> renderInnerClass(ic, compilationUnit))
-                .collect(Collectors.toList());
+        return renderLines(writer -> renderInnerClasses(innerClasses, compilationUnit, writer));
+    }
+
+    public static void renderInnerClasses(List<InnerClass> innerClasses, CompilationUnit compilationUnit,
+            JavaSourceWriter writer) throws IOException {
+        writer.indent();
+        for (InnerClass innerClass : innerClasses) {
+            innerClassRenderer.render(innerClass, compilationUnit, writer);
+            writer.writeEmptyLineBeforeNext();
+        }
+        writer.outdent();
     }
 
     public static List<String> renderInnerClassNoIndent(InnerClass innerClass, CompilationUnit compilationUnit) {
         return innerClassRenderer.render(innerClass, compilationUnit);
     }
 
-    private static Stream<String> renderInnerClass(InnerClass innerClass, CompilationUnit compilationUnit) {
-        return addEmptyLine(innerClassRenderer.render(innerClass, compilationUnit).stream()
-                .map(RenderingUtilities::javaIndent));
+    public static void renderInnerClassNoIndent(InnerClass innerClass, CompilationUnit compilationUnit,
+            JavaSourceWriter writer) throws IOException {
+        innerClassRenderer.render(innerClass, compilationUnit, writer);
     }
 
     public static List<String> renderInnerInterfaces(List<InnerInterface> innerInterfaces,
             CompilationUnit compilationUnit) {
-        return innerInterfaces.stream()
-                .flatMap(ii -> renderInnerInterface(ii, compilationUnit))
-                .collect(Collectors.toList());
+        return renderLines(writer -> renderInnerInterfaces(innerInterfaces, compilationUnit, writer));
+    }
+
+    public static void renderInnerInterfaces(List<InnerInterface> innerInterfaces,
+            CompilationUnit compilationUnit, JavaSourceWriter writer) throws IOException {
+        writer.indent();
+        for (InnerInterface innerInterface : innerInterfaces) {
+            innerInterfaceRenderer.render(innerInterface, compilationUnit, writer);
+            writer.writeEmptyLineBeforeNext();
+        }
+        writer.outdent();
     }
 
     public static List<String> renderInnerInterfaceNoIndent(InnerInterface innerInterface,
@@ -130,24 +162,80 @@ public class RenderingUtilities {
         return innerInterfaceRenderer.render(innerInterface, compilationUnit);
     }
 
-    private static Stream<String> renderInnerInterface(InnerInterface innerInterface, CompilationUnit compilationUnit) {
-        return addEmptyLine(innerInterfaceRenderer.render(innerInterface, compilationUnit).stream()
-                .map(RenderingUtilities::javaIndent));
+    public static void renderInnerInterfaceNoIndent(InnerInterface innerInterface,
+            CompilationUnit compilationUnit, JavaSourceWriter writer) throws IOException {
+        innerInterfaceRenderer.render(innerInterface, compilationUnit, writer);
     }
 
     public static List<String> renderInnerEnums(List<InnerEnum> innerEnums, CompilationUnit compilationUnit) {
-        return innerEnums.stream()
-                .flatMap(ie -> renderInnerEnum(ie, compilationUnit))
-                .collect(Collectors.toList());
+        return renderLines(writer -> renderInnerEnums(innerEnums, compilationUnit, writer));
+    }
+
+    public static void renderInnerEnums(List<InnerEnum> innerEnums, CompilationUnit compilationUnit,
+            JavaSourceWriter writer) throws IOException {
+        writer.indent();
+        for (InnerEnum innerEnum : innerEnums) {
+            innerEnumRenderer.render(innerEnum, compilationUnit, writer);
+            writer.writeEmptyLineBeforeNext();
+        }
+        writer.outdent();
     }
 
     public static List<String> renderInnerEnumNoIndent(InnerEnum innerEnum, CompilationUnit compilationUnit) {
         return innerEnumRenderer.render(innerEnum, compilationUnit);
     }
 
-    private static Stream<String> renderInnerEnum(InnerEnum innerEnum, CompilationUnit compilationUnit) {
-        return addEmptyLine(innerEnumRenderer.render(innerEnum, compilationUnit).stream()
-                .map(RenderingUtilities::javaIndent));
+    public static void renderInnerEnumNoIndent(InnerEnum innerEnum, CompilationUnit compilationUnit,
+            JavaSourceWriter writer) throws IOException {
+        innerEnumRenderer.render(innerEnum, compilationUnit, writer);
+    }
+
+    /**
+     * Writes the file comment, package, and imports of a compilation unit.
+     */
+    public static void renderCompilationUnitHeader(CompilationUnit compilationUnit, JavaSourceWriter writer)
+            throws IOException {
+        writer.writeLines(compilationUnit.getFileCommentLines());
+        writer.writeLines(renderPackage(compilationUnit));
+        writer.writeLines(renderStaticImports(compilationUnit));
+        writer.writeLines(renderImports(compilationUnit));
+    }
+
+    @FunctionalInterface
+    interface Rendering {
+        void render(JavaSourceWriter writer) throws IOException;
+    }
+
+    /**
+     * Collects the lines written by the rendering in a list.
+     */
+    static List<String> renderLines(Rendering rendering) {
+        List<String> lines = new ArrayList<>();
+        JavaSourceWriter writer = new JavaSourceWriter(lines, 0);
+        try {
+            rendering.render(writer);
+            writer.flush();
+        } catch (IOException e) {
+            // adding to a list does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return lines;
+    }
+
+    /**
+     * Renders to a string, the lines separated by the line separator.
+     */
+    static String renderString(Rendering rendering) {
+        StringBuilder sb = new StringBuilder();
+        JavaSourceWriter writer = new JavaSourceWriter(sb);
+        try {
+            rendering.render(writer);
+            writer.flush();
+        } catch (IOException e) {
+            // StringBuilder does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
     }
 
     public static List<String> renderPackage(CompilationUnit compilationUnit) {
@@ -194,14 +282,6 @@ public class RenderingUtilities {
     }
 
 
-    private static String javaIndent(String in) {
-        if (in.isEmpty()) {
-            return in; // don't indent empty lines
-        }
-
-        return JAVA_INDENT + in;
-    }
-
     public static List<String> removeLastEmptyLine(List<String> lines) {
         if (lines.get(lines.size() - 1).isEmpty()) {
             return lines.subList(0, lines.size() - 1);
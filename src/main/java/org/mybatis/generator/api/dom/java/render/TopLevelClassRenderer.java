@@ -15,29 +15,26 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderImports;
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderInnerClassNoIndent;
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderPackage;
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderStaticImports;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
 
 import org.mybatis.generator.api.dom.java.TopLevelClass;
 
 public class TopLevelClassRenderer {
 
     public String render(TopLevelClass topLevelClass) {
-        List<String> lines = new ArrayList<>();
+        return RenderingUtilities.renderString(writer -> render(topLevelClass, writer));
+    }
 
-        lines.addAll(topLevelClass.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelClass));
-        lines.addAll(renderStaticImports(topLevelClass));
-        lines.addAll(renderImports(topLevelClass));
-        lines.addAll(renderInnerClassNoIndent(topLevelClass, topLevelClass));
+    /**
+     * Renders the class directly to the appendable, without building the complete source in memory
+     * first.
+     */
+    public void render(TopLevelClass topLevelClass, Appendable out) throws IOException {
+        render(topLevelClass, new JavaSourceWriter(out));
+    }
 
-        return lines.stream()
-                .collect(Collectors.joining(System.getProperty("line.separator"))); //$NON-NLS-1$
+    private void render(TopLevelClass topLevelClass, JavaSourceWriter writer) throws IOException {
+        RenderingUtilities.renderCompilationUnitHeader(topLevelClass, writer);
+        RenderingUtilities.renderInnerClassNoIndent(topLevelClass, topLevelClass, writer);
     }
 }
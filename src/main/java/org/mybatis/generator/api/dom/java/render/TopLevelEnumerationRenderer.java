@@ -15,29 +15,26 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderImports;
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderInnerEnumNoIndent;
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderPackage;
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderStaticImports;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
 
 import org.mybatis.generator.api.dom.java.TopLevelEnumeration;
 
 public class TopLevelEnumerationRenderer {
 
     public String render(TopLevelEnumeration topLevelEnumeration) {
-        List<String> lines = new ArrayList<>();
+        return RenderingUtilities.renderString(writer -> render(topLevelEnumeration, writer));
+    }
 
-        lines.addAll(topLevelEnumeration.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelEnumeration));
-        lines.addAll(renderStaticImports(topLevelEnumeration));
-        lines.addAll(renderImports(topLevelEnumeration));
-        lines.addAll(renderInnerEnumNoIndent(topLevelEnumeration, topLevelEnumeration));
+    /**
+     * Renders the enumeration directly to the appendable, without building the complete source in memory
+     * first.
+     */
+    public void render(TopLevelEnumeration topLevelEnumeration, Appendable out) throws IOException {
+        render(topLevelEnumeration, new JavaSourceWriter(out));
+    }
 
-        return lines.stream()
-                .collect(Collectors.joining(System.getProperty("line.separator"))); //$NON-NLS-1$
+    private void render(TopLevelEnumeration topLevelEnumeration, JavaSourceWriter writer) throws IOException {
+        RenderingUtilities.renderCompilationUnitHeader(topLevelEnumeration, writer);
+        RenderingUtilities.renderInnerEnumNoIndent(topLevelEnumeration, topLevelEnumeration, writer);
     }
 }
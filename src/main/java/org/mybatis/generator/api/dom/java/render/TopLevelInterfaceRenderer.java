@@ -15,29 +15,26 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderImports;
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderInnerInterfaceNoIndent;
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderPackage;
-import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderStaticImports;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
 
 import org.mybatis.generator.api.dom.java.Interface;
 
 public class TopLevelInterfaceRenderer {
 
     public String render(Interface topLevelInterface) {
-        List<String> lines = new ArrayList<>();
+        return RenderingUtilities.renderString(writer -> render(topLevelInterface, writer));
+    }
 
-        lines.addAll(topLevelInterface.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelInterface));
-        lines.addAll(renderStaticImports(topLevelInterface));
-        lines.addAll(renderImports(topLevelInterface));
-        lines.addAll(renderInnerInterfaceNoIndent(topLevelInterface, topLevelInterface));
+    /**
+     * Renders the interface directly to the appendable, without building the complete source in memory
+     * first.
+     */
+    public void render(Interface topLevelInterface, Appendable out) throws IOException {
+        render(topLevelInterface, new JavaSourceWriter(out));
+    }
 
-        return lines.stream()
-                .collect(Collectors.joining(System.getProperty("line.separator"))); //$NON-NLS-1$
+    private void render(Interface topLevelInterface, JavaSourceWriter writer) throws IOException {
+        RenderingUtilities.renderCompilationUnitHeader(topLevelInterface, writer);
+        RenderingUtilities.renderInnerInterfaceNoIndent(topLevelInterface, topLevelInterface, writer);
     }
 }
@@ -20,18 +20,29 @@ import static org.mybatis.generator.internal.util.StringUtility.isTrue;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import org.mybatis.generator.api.CommentGenerator;
 import org.mybatis.generator.api.ConnectionFactory;
 import org.mybatis.generator.api.GeneratedFile;
+import org.mybatis.generator.api.GeneratedFilesConsumer;
 import org.mybatis.generator.api.GeneratedJavaFile;
 import org.mybatis.generator.api.GeneratedKotlinFile;
 import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.GenerationMetricsListener;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.JavaFormatter;
@@ -40,13 +51,31 @@ import org.mybatis.generator.api.KotlinFormatter;
 import org.mybatis.generator.api.Plugin;
 import org.mybatis.generator.api.ProgressCallback;
 import org.mybatis.generator.api.XmlFormatter;
+import org.mybatis.generator.internal.GenerationManifest;
+import org.mybatis.generator.internal.GenerationMetrics;
 import org.mybatis.generator.internal.JDBCConnectionFactory;
 import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.ParallelExecutor;
 import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.internal.SynchronizedPlugin;
+import org.mybatis.generator.internal.SynchronizedProgressCallback;
+import org.mybatis.generator.internal.TableFingerprint;
+import org.mybatis.generator.internal.TimedPlugin;
 import org.mybatis.generator.internal.db.DatabaseIntrospector;
+import org.mybatis.generator.internal.db.IntrospectionConnectionPool;
+import org.mybatis.generator.internal.db.SchemaMetadataCache;
+import org.mybatis.generator.internal.db.SchemaSnapshot;
+import org.mybatis.generator.logging.LogFactory;
 
 public class Context extends PropertyHolder {
 
+    private static final String SNAPSHOT_MODE_READ = "read"; //$NON-NLS-1$
+
+    private static final String SNAPSHOT_MODE_WRITE = "write"; //$NON-NLS-1$
+
+    /** Seconds parallel introspection waits at least for its tasks to stop. */
+    private static final int INTROSPECTION_STOP_TIMEOUT = 30;
+
     private String id;
 
     private JDBCConnectionConfiguration jdbcConnectionConfiguration;
@@ -77,6 +106,14 @@ public class Context extends PropertyHolder {
 
     private final List<PluginConfiguration> pluginConfigurations;
 
+    /**
+     * The plugins of the current run. They are created when the tables are introspected, so the
+     * introspection can ask them what they require, and are validated and used by generateFiles.
+     */
+    private List<Plugin> plugins;
+
+    private Boolean indexIntrospectionRequired;
+
     private String targetRuntime;
 
     private String introspectedColumnImpl;
@@ -108,6 +145,20 @@ public class Context extends PropertyHolder {
         tableConfigurations.add(tc);
     }
 
+    /**
+     * Sets the metrics of the current run. This is called by {@link org.mybatis.generator.api.MyBatisGenerator}.
+     *
+     * @param generationMetrics
+     *            the metrics, or null if no metrics are collected
+     */
+    public void setGenerationMetrics(GenerationMetrics generationMetrics) {
+        this.generationMetrics = generationMetrics == null ? GenerationMetrics.DISABLED : generationMetrics;
+    }
+
+    public List<TableConfiguration> getTableConfigurations() {
+        return Collections.unmodifiableList(tableConfigurations);
+    }
+
     public JavaClientGeneratorConfiguration getJavaClientGeneratorConfiguration() {
         return javaClientGeneratorConfiguration;
     }
@@ -127,6 +178,8 @@ public class Context extends PropertyHolder {
     public void addPluginConfiguration(
             PluginConfiguration pluginConfiguration) {
         pluginConfigurations.add(pluginConfiguration);
+        plugins = null;
+        indexIntrospectionRequired = null;
     }
 
     /**
@@ -153,6 +206,15 @@ public class Context extends PropertyHolder {
             connectionFactoryConfiguration.validate(errors);
         }
 
+        String snapshotMode = getProperty(PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_MODE);
+        if (snapshotMode != null) {
+            if (!SNAPSHOT_MODE_READ.equals(snapshotMode) && !SNAPSHOT_MODE_WRITE.equals(snapshotMode)) {
+                errors.add(getString("ValidationError.29", snapshotMode, id)); //$NON-NLS-1$
+            } else if (!stringHasValue(getProperty(PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_FILE))) {
+                errors.add(getString("ValidationError.30", id)); //$NON-NLS-1$
+            }
+        }
+
         if (javaModelGeneratorConfiguration == null) {
             errors.add(getString("ValidationError.8", id)); //$NON-NLS-1$
         } else {
@@ -331,6 +393,17 @@ public class Context extends PropertyHolder {
 
     private final List<IntrospectedTable> introspectedTables = new ArrayList<>();
 
+    /** the metrics of the current run. */
+    private GenerationMetrics generationMetrics = GenerationMetrics.DISABLED;
+
+    /** the manifest of the current run when incremental generation is enabled, else null. */
+    private GenerationManifest generationManifest;
+
+    private final Map<IntrospectedTable, String> tableFingerprints = new IdentityHashMap<>();
+
+    /** true if the last introspection was not restricted to some of the configured tables. */
+    private boolean allTablesIntrospected;
+
     /**
      * This method could be useful for users that use the library for introspection only
      * and not for code generation.
@@ -386,6 +459,25 @@ public class Context extends PropertyHolder {
             throws SQLException, InterruptedException {
 
         introspectedTables.clear();
+        synchronized (this) {
+            plugins = null;
+            indexIntrospectionRequired = null;
+        }
+        allTablesIntrospected = fullyQualifiedTableNames == null || fullyQualifiedTableNames.isEmpty();
+
+        if (isSchemaSnapshotReadEnabled()) {
+            introspectTablesFromSnapshot(callback, warnings, fullyQualifiedTableNames);
+            return;
+        }
+
+        SchemaMetadataCache metadataCache = createMetadataCache();
+
+        if (isParallelIntrospectionEnabled()) {
+            introspectTablesInParallel(callback, warnings, fullyQualifiedTableNames, metadataCache);
+            writeSchemaSnapshot(callback, warnings, metadataCache);
+            return;
+        }
+
         JavaTypeResolver javaTypeResolver = ObjectFactory
                 .createJavaTypeResolver(this, warnings);
 
@@ -396,35 +488,246 @@ public class Context extends PropertyHolder {
             connection = getConnection();
 
             DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(
-                    this, connection.getMetaData(), javaTypeResolver, warnings);
+                    this, connection.getMetaData(), javaTypeResolver, warnings,
+                    metadataCache);
 
-            for (TableConfiguration tc : tableConfigurations) {
-                String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc
-                                .getSchema(), tc.getTableName(), '.');
+            introspectTables(databaseIntrospector, callback, warnings, fullyQualifiedTableNames);
+        } finally {
+            closeConnection(connection);
+        }
 
-                if (fullyQualifiedTableNames != null
-                        && !fullyQualifiedTableNames.isEmpty()
-                        && !fullyQualifiedTableNames.contains(tableName)) {
-                    continue;
-                }
+        writeSchemaSnapshot(callback, warnings, metadataCache);
+    }
 
-                if (!tc.areAnyStatementsEnabled()) {
-                    warnings.add(getString("Warning.0", tableName)); //$NON-NLS-1$
-                    continue;
-                }
+    private void introspectTables(DatabaseIntrospector databaseIntrospector, ProgressCallback callback,
+            List<String> warnings, Set<String> fullyQualifiedTableNames)
+            throws SQLException, InterruptedException {
+        for (TableConfiguration tc : tableConfigurations) {
+            if (!isIntrospectionRequired(tc, warnings, fullyQualifiedTableNames)) {
+                continue;
+            }
 
-                callback.startTask(getString("Progress.1", tableName)); //$NON-NLS-1$
-                List<IntrospectedTable> tables = databaseIntrospector
-                        .introspectTables(tc);
+            String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(),
+                    tc.getTableName(), '.');
+            callback.startTask(getString("Progress.1", tableName)); //$NON-NLS-1$
+            long startTime = generationMetrics.startTime();
+            long startAllocation = generationMetrics.startAllocation();
+            List<IntrospectedTable> tables = databaseIntrospector
+                    .introspectTables(tc);
+            generationMetrics.tableCompleted(id, tableName, GenerationMetricsListener.PHASE_INTROSPECTION,
+                    startTime, startAllocation);
+
+            if (tables != null) {
+                introspectedTables.addAll(tables);
+            }
 
-                if (tables != null) {
-                    introspectedTables.addAll(tables);
-                }
+            callback.checkCancel();
+        }
+    }
+
+    /**
+     * Introspects the tables from the metadata saved in a schema snapshot, without connecting to
+     * the database.
+     */
+    private void introspectTablesFromSnapshot(ProgressCallback callback,
+            List<String> warnings, Set<String> fullyQualifiedTableNames)
+            throws SQLException, InterruptedException {
+        String snapshotFile = getProperty(PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_FILE);
+        callback.startTask(getString("Progress.19", snapshotFile)); //$NON-NLS-1$
+
+        SchemaMetadataCache metadataCache;
+        try {
+            metadataCache = SchemaSnapshot.read(Paths.get(snapshotFile));
+        } catch (IOException e) {
+            throw new SQLException(getString("RuntimeError.23", snapshotFile, e.getMessage()), e); //$NON-NLS-1$
+        }
+
+        DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(this, null,
+                ObjectFactory.createJavaTypeResolver(this, warnings), warnings, metadataCache);
+        introspectTables(databaseIntrospector, callback, warnings, fullyQualifiedTableNames);
+    }
+
+    private void writeSchemaSnapshot(ProgressCallback callback, List<String> warnings,
+            SchemaMetadataCache metadataCache) {
+        if (!SNAPSHOT_MODE_WRITE.equals(getProperty(PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_MODE))) {
+            return;
+        }
+
+        String snapshotFile = getProperty(PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_FILE);
+        callback.startTask(getString("Progress.20", snapshotFile)); //$NON-NLS-1$
+        try {
+            SchemaSnapshot.write(metadataCache, Paths.get(snapshotFile));
+        } catch (IOException e) {
+            warnings.add(getString("Warning.32", snapshotFile, e.getMessage())); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Introspects the table configurations concurrently. Each table configuration is introspected
+     * on a connection leased from a small pool, with its own type resolver and warnings. The results
+     * and warnings are merged in configuration order, so the outcome is the same as in sequential
+     * mode.
+     */
+    private void introspectTablesInParallel(ProgressCallback callback,
+            List<String> warnings, Set<String> fullyQualifiedTableNames,
+            SchemaMetadataCache metadataCache)
+            throws SQLException, InterruptedException {
+        ProgressCallback sharedCallback = new SynchronizedProgressCallback(callback);
+        List<TableConfiguration> tcs = new ArrayList<>();
+        for (TableConfiguration tc : tableConfigurations) {
+            if (isIntrospectionRequired(tc, warnings, fullyQualifiedTableNames)) {
+                tcs.add(tc);
+            }
+        }
 
-                callback.checkCancel();
+        int connections = ParallelExecutor.calculateThreadCount(
+                getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_CONNECTIONS), 4);
+        List<TableIntrospectionResult> results;
+        IntrospectionConnectionPool pool = new IntrospectionConnectionPool(createConnectionFactory(), connections);
+        ParallelExecutor executor = new ParallelExecutor(connections, "mbg-" + id + "-"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            // connect once up front so configuration errors are reported before any work starts
+            callback.startTask(getString("Progress.0")); //$NON-NLS-1$
+            pool.release(pool.lease());
+
+            List<Callable<TableIntrospectionResult>> tasks = new ArrayList<>();
+            for (TableConfiguration tc : tcs) {
+                tasks.add(() -> {
+                    String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(),
+                            tc.getTableName(), '.');
+                    sharedCallback.startTask(getString("Progress.1", tableName)); //$NON-NLS-1$
+                    List<String> tableWarnings = new ArrayList<>();
+                    Connection connection = pool.lease();
+                    try {
+                        long startTime = generationMetrics.startTime();
+                        long startAllocation = generationMetrics.startAllocation();
+                        DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(this,
+                                connection.getMetaData(), ObjectFactory.createJavaTypeResolver(this, tableWarnings),
+                                tableWarnings, metadataCache);
+                        List<IntrospectedTable> tables = databaseIntrospector.introspectTables(tc);
+                        generationMetrics.tableCompleted(id, tableName, GenerationMetricsListener.PHASE_INTROSPECTION,
+                                startTime, startAllocation);
+                        sharedCallback.checkCancel();
+                        return new TableIntrospectionResult(tables, tableWarnings);
+                    } finally {
+                        pool.release(connection);
+                    }
+                });
             }
+            results = executor.invokeAll(tasks, SQLException.class);
         } finally {
-            closeConnection(connection);
+            // after a failure, other tasks may be blocked in a JDBC call that ignores the interrupt.
+            // The pool leaves their connections open and closes them when the tasks release them.
+            int timeout = getIntrospectionStopTimeout();
+            if (!executor.shutdown(timeout, TimeUnit.SECONDS)) {
+                LogFactory.getLog(getClass()).warn(getString("Warning.42", id, //$NON-NLS-1$
+                        Integer.toString(timeout)));
+            }
+            pool.close();
+        }
+
+        for (TableIntrospectionResult result : results) {
+            warnings.addAll(result.warnings);
+            if (result.tables != null) {
+                introspectedTables.addAll(result.tables);
+            }
+        }
+    }
+
+    /**
+     * Returns how many seconds parallel introspection waits for its tasks to stop: the JDBC login
+     * timeout if one is set, since a task may be opening a connection, but at least
+     * {@value #INTROSPECTION_STOP_TIMEOUT}.
+     */
+    private static int getIntrospectionStopTimeout() {
+        return Math.max(DriverManager.getLoginTimeout(), INTROSPECTION_STOP_TIMEOUT);
+    }
+
+    private boolean isIntrospectionRequired(TableConfiguration tc, List<String> warnings,
+            Set<String> fullyQualifiedTableNames) {
+        String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc
+                        .getSchema(), tc.getTableName(), '.');
+
+        if (fullyQualifiedTableNames != null
+                && !fullyQualifiedTableNames.isEmpty()
+                && !fullyQualifiedTableNames.contains(tableName)) {
+            return false;
+        }
+
+        if (!tc.areAnyStatementsEnabled()) {
+            warnings.add(getString("Warning.0", tableName)); //$NON-NLS-1$
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if the indexes of the tables must be introspected. That is the case if any
+     * configured plugin requires them, or if a schema snapshot is written - the snapshot may later be
+     * read by a configuration with different plugins.
+     *
+     * @return true if the indexes of the tables must be introspected
+     */
+    public synchronized boolean isIndexIntrospectionRequired() {
+        if (indexIntrospectionRequired == null) {
+            indexIntrospectionRequired = SNAPSHOT_MODE_WRITE.equals(
+                    getProperty(PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_MODE))
+                    || getRunPlugins().stream().anyMatch(Plugin::requiresIndexes);
+        }
+        return indexIntrospectionRequired;
+    }
+
+    /**
+     * Returns true if a plugin of this context generates files for the whole context, such as the
+     * MapperConfigPlugin. These files are built from every table, so the tables of such a context
+     * cannot be generated one at a time.
+     *
+     * @return true if a plugin generates files for the whole context
+     */
+    public boolean generatesContextFiles() {
+        PluginAggregator aggregator = new PluginAggregator();
+        getRunPlugins().forEach(aggregator::addPlugin);
+        return aggregator.generatesContextFiles();
+    }
+
+    /**
+     * Returns the plugins of the current run, creating them if necessary.
+     */
+    private synchronized List<Plugin> getRunPlugins() {
+        if (plugins == null) {
+            plugins = new ArrayList<>();
+            for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
+                plugins.add(ObjectFactory.createPlugin(this, pluginConfiguration));
+            }
+        }
+        return plugins;
+    }
+
+    public boolean isParallelIntrospectionEnabled() {
+        return isTrue(getProperty(PropertyRegistry.CONTEXT_PARALLEL_INTROSPECTION));
+    }
+
+    public boolean isBulkIntrospectionEnabled() {
+        return isTrue(getProperty(PropertyRegistry.CONTEXT_BULK_INTROSPECTION));
+    }
+
+    private SchemaMetadataCache createMetadataCache() {
+        // a snapshot is written from the bulk metadata, so writing one implies bulk introspection
+        if (isBulkIntrospectionEnabled()
+                || SNAPSHOT_MODE_WRITE.equals(getProperty(PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_MODE))) {
+            return new SchemaMetadataCache();
+        }
+        return null;
+    }
+
+    private static class TableIntrospectionResult {
+        private final List<IntrospectedTable> tables;
+        private final List<String> warnings;
+
+        TableIntrospectionResult(List<IntrospectedTable> tables, List<String> warnings) {
+            this.tables = tables;
+            this.warnings = warnings;
         }
     }
 
@@ -446,53 +749,343 @@ public class Context extends PropertyHolder {
             List<String> warnings)
             throws InterruptedException {
 
+        boolean parallel = isParallelGenerationEnabled() && introspectedTables.size() > 1;
+        // plugins may keep the list they are validated with, and add warnings while generating
+        List<String> runWarnings = parallel ? Collections.synchronizedList(warnings) : warnings;
+        createPlugins(parallel, runWarnings);
+
+        List<IntrospectedTable> tablesToGenerate = calculateTablesToGenerate(callback, warnings);
+        if (parallel && tablesToGenerate.size() > 1) {
+            generateTableFilesInParallel(tablesToGenerate, callback, generatedJavaFiles, generatedXmlFiles,
+                    generatedKotlinFiles, otherGeneratedFiles, runWarnings);
+        } else {
+            generateTableFiles(tablesToGenerate, callback, generatedJavaFiles, generatedXmlFiles,
+                    generatedKotlinFiles, otherGeneratedFiles, warnings);
+        }
+
+        generatedJavaFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalJavaFiles());
+        generatedXmlFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalXmlFiles());
+        generatedKotlinFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalKotlinFiles());
+        otherGeneratedFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalFiles());
+    }
+
+    /**
+     * Generates the files table by table, and hands the files of each table to the consumer as soon
+     * as they are generated, so they can be written and released before the next table is
+     * generated. The additional files plugins generate for the whole context are handed to the
+     * consumer last. As in {@link #generateFiles(ProgressCallback, List, List, List, List, List)},
+     * every table is initialized before any table is generated. Tables are generated one at a
+     * time - parallel generation does not apply.
+     *
+     * @param callback
+     *            the progress callback
+     * @param consumer
+     *            receives the generated files
+     * @param warnings
+     *            any warning is added to this list
+     * @throws IOException
+     *             if the consumer cannot save the files
+     * @throws InterruptedException
+     *             if the progress callback reports a cancel
+     */
+    public void generateFiles(ProgressCallback callback, GeneratedFilesConsumer consumer,
+            List<String> warnings) throws IOException, InterruptedException {
+
+        createPlugins(false, warnings);
+
+        List<IntrospectedTable> tablesToGenerate = calculateTablesToGenerate(callback, warnings);
+
+        for (IntrospectedTable introspectedTable : tablesToGenerate) {
+            callback.checkCancel();
+            initializeTable(introspectedTable, warnings, callback);
+        }
+
+        for (IntrospectedTable introspectedTable : tablesToGenerate) {
+            callback.checkCancel();
+            GeneratedTableFiles tableFiles = generateTable(introspectedTable);
+            completeTableFiles(introspectedTable, tableFiles);
+            consumer.accept(tableFiles.javaFiles, tableFiles.xmlFiles, tableFiles.kotlinFiles,
+                    tableFiles.otherFiles);
+        }
+
+        consumer.accept(pluginAggregator.contextGenerateAdditionalJavaFiles(),
+                pluginAggregator.contextGenerateAdditionalXmlFiles(),
+                pluginAggregator.contextGenerateAdditionalKotlinFiles(),
+                pluginAggregator.contextGenerateAdditionalFiles());
+    }
+
+    private void createPlugins(boolean parallel, List<String> warnings) {
+        List<Plugin> created = getRunPlugins();
+        // plugins may keep state for a run, so the next run creates new instances
+        synchronized (this) {
+            plugins = null;
+        }
+
         pluginAggregator = new PluginAggregator();
-        for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
-            Plugin plugin = ObjectFactory.createPlugin(this,
-                    pluginConfiguration);
+        for (int i = 0; i < created.size(); i++) {
+            Plugin plugin = created.get(i);
+            PluginConfiguration pluginConfiguration = pluginConfigurations.get(i);
             if (plugin.validate(warnings)) {
+                if (generationMetrics.isEnabled()) {
+                    plugin = TimedPlugin.wrap(plugin, generationMetrics);
+                }
+                if (parallel && !plugin.isThreadSafe()) {
+                    plugin = SynchronizedPlugin.wrap(plugin);
+                }
                 pluginAggregator.addPlugin(plugin);
             } else {
                 warnings.add(getString("Warning.24", //$NON-NLS-1$
                         pluginConfiguration.getConfigurationType(), id));
             }
         }
+    }
 
+    /**
+     * Returns the tables that must be generated. When incremental generation is enabled, tables
+     * whose fingerprint is unchanged since the last run (and whose files still exist) are skipped.
+     * No table is skipped if a plugin generates files for the whole context, because the plugin
+     * only sees the tables that are generated. Must be called after the plugins are created.
+     */
+    private List<IntrospectedTable> calculateTablesToGenerate(ProgressCallback callback,
+            List<String> warnings) {
+        generationManifest = null;
+        tableFingerprints.clear();
+
+        String manifestFile = getProperty(PropertyRegistry.CONTEXT_INCREMENTAL_MANIFEST);
+        if (!stringHasValue(manifestFile)) {
+            return introspectedTables;
+        }
+
+        try {
+            generationManifest = GenerationManifest.load(Paths.get(manifestFile));
+        } catch (IOException e) {
+            warnings.add(getString("Warning.33", manifestFile, e.getMessage())); //$NON-NLS-1$
+            return introspectedTables;
+        }
+
+        // entries of tables that are no longer configured, or no longer exist, are removed
+        if (allTablesIntrospected) {
+            Set<String> keys = new HashSet<>();
+            for (IntrospectedTable introspectedTable : introspectedTables) {
+                keys.add(getManifestKey(introspectedTable));
+            }
+            generationManifest.retainAll(id + '/', keys);
+        }
+
+        boolean fullRun = pluginAggregator.generatesContextFiles();
+        TableFingerprint fingerprint = new TableFingerprint(this, pluginConfigurations);
+        List<IntrospectedTable> answer = new ArrayList<>();
+        for (IntrospectedTable introspectedTable : introspectedTables) {
+            String tableFingerprint = fingerprint.calculate(introspectedTable);
+            if (!fullRun && generationManifest.isUpToDate(getManifestKey(introspectedTable), tableFingerprint)) {
+                callback.startTask(getString("Progress.21", //$NON-NLS-1$
+                        introspectedTable.getFullyQualifiedTable().toString()));
+            } else {
+                tableFingerprints.put(introspectedTable, tableFingerprint);
+                answer.add(introspectedTable);
+            }
+        }
+        return answer;
+    }
+
+    private String getManifestKey(IntrospectedTable introspectedTable) {
+        return id + '/' + introspectedTable.getFullyQualifiedTable() + '/'
+                + introspectedTable.getFullyQualifiedTable().getDomainObjectName();
+    }
+
+    /**
+     * Saves the incremental generation manifest. This should be called after the generated files
+     * have been written, so tables are only recorded as up to date when their files exist.
+     *
+     * @param warnings
+     *            any warning is added to this list
+     */
+    public void saveGenerationManifest(List<String> warnings) {
+        if (generationManifest == null) {
+            return;
+        }
+
+        try {
+            generationManifest.save();
+        } catch (IOException e) {
+            warnings.add(getString("Warning.34", //$NON-NLS-1$
+                    getProperty(PropertyRegistry.CONTEXT_INCREMENTAL_MANIFEST), e.getMessage()));
+        }
+    }
+
+    private void generateTableFiles(List<IntrospectedTable> tables, ProgressCallback callback,
+            List<GeneratedJavaFile> generatedJavaFiles,
+            List<GeneratedXmlFile> generatedXmlFiles,
+            List<GeneratedKotlinFile> generatedKotlinFiles,
+            List<GeneratedFile> otherGeneratedFiles,
+            List<String> warnings)
+            throws InterruptedException {
         // initialize everything first before generating. This allows plugins to know about other
         // items in the configuration.
-        for (IntrospectedTable introspectedTable : introspectedTables) {
+        for (IntrospectedTable introspectedTable : tables) {
             callback.checkCancel();
-            introspectedTable.initialize();
-            introspectedTable.calculateGenerators(warnings, callback);
+            initializeTable(introspectedTable, warnings, callback);
         }
 
-        for (IntrospectedTable introspectedTable : introspectedTables) {
+        for (IntrospectedTable introspectedTable : tables) {
             callback.checkCancel();
-            generatedJavaFiles.addAll(introspectedTable
-                    .getGeneratedJavaFiles());
-            generatedXmlFiles.addAll(introspectedTable
-                    .getGeneratedXmlFiles());
-            generatedKotlinFiles.addAll(introspectedTable
-                    .getGeneratedKotlinFiles());
-
-            generatedJavaFiles.addAll(pluginAggregator
-                    .contextGenerateAdditionalJavaFiles(introspectedTable));
-            generatedXmlFiles.addAll(pluginAggregator
-                    .contextGenerateAdditionalXmlFiles(introspectedTable));
-            generatedKotlinFiles.addAll(pluginAggregator
-                    .contextGenerateAdditionalKotlinFiles(introspectedTable));
-            otherGeneratedFiles.addAll(pluginAggregator
-                    .contextGenerateAdditionalFiles(introspectedTable));
+            addTableFiles(introspectedTable, generateTable(introspectedTable), generatedJavaFiles,
+                    generatedXmlFiles, generatedKotlinFiles, otherGeneratedFiles);
         }
+    }
 
-        generatedJavaFiles.addAll(pluginAggregator
-                .contextGenerateAdditionalJavaFiles());
-        generatedXmlFiles.addAll(pluginAggregator
-                .contextGenerateAdditionalXmlFiles());
-        generatedKotlinFiles.addAll(pluginAggregator
-                .contextGenerateAdditionalKotlinFiles());
-        otherGeneratedFiles.addAll(pluginAggregator
-                .contextGenerateAdditionalFiles());
+    /**
+     * Generates the files for each table on a pool of worker threads. The two phases of the
+     * sequential algorithm are kept - every table is initialized before any table is generated - and
+     * the results are merged in table order so the output lists are the same as in sequential mode.
+     * The warnings list must be synchronized - it is shared with the plugins.
+     */
+    private void generateTableFilesInParallel(List<IntrospectedTable> tables, ProgressCallback callback,
+            List<GeneratedJavaFile> generatedJavaFiles,
+            List<GeneratedXmlFile> generatedXmlFiles,
+            List<GeneratedKotlinFile> generatedKotlinFiles,
+            List<GeneratedFile> otherGeneratedFiles,
+            List<String> warnings)
+            throws InterruptedException {
+        ProgressCallback sharedCallback = new SynchronizedProgressCallback(callback);
+
+        // create the lazily initialized collaborators before they are shared between threads
+        getCommentGenerator();
+        getJavaFormatter();
+        getKotlinFormatter();
+        getXmlFormatter();
+
+        int threads = ParallelExecutor.calculateThreadCount(
+                getProperty(PropertyRegistry.CONTEXT_GENERATION_THREADS));
+        List<GeneratedTableFiles> results;
+        try (ParallelExecutor executor = new ParallelExecutor(threads, "mbg-" + id + "-")) { //$NON-NLS-1$ //$NON-NLS-2$
+            List<Callable<Void>> initializers = new ArrayList<>();
+            for (IntrospectedTable introspectedTable : tables) {
+                initializers.add(() -> {
+                    sharedCallback.checkCancel();
+                    initializeTable(introspectedTable, warnings, sharedCallback);
+                    return null;
+                });
+            }
+            executor.invokeAll(initializers);
+
+            List<Callable<GeneratedTableFiles>> generators = new ArrayList<>();
+            for (IntrospectedTable introspectedTable : tables) {
+                generators.add(() -> {
+                    sharedCallback.checkCancel();
+                    return generateTable(introspectedTable);
+                });
+            }
+            results = executor.invokeAll(generators);
+        }
+
+        for (int i = 0; i < tables.size(); i++) {
+            addTableFiles(tables.get(i), results.get(i), generatedJavaFiles, generatedXmlFiles,
+                    generatedKotlinFiles, otherGeneratedFiles);
+        }
+    }
+
+    private void initializeTable(IntrospectedTable introspectedTable, List<String> warnings,
+            ProgressCallback callback) {
+        long startTime = generationMetrics.startTime();
+        long startAllocation = generationMetrics.startAllocation();
+        introspectedTable.initialize();
+        introspectedTable.calculateGenerators(warnings, callback);
+        generationMetrics.tableCompleted(id, introspectedTable.getFullyQualifiedTable().toString(),
+                GenerationMetricsListener.PHASE_INITIALIZATION, startTime, startAllocation);
+    }
+
+    private GeneratedTableFiles generateTable(IntrospectedTable introspectedTable) {
+        long startTime = generationMetrics.startTime();
+        long startAllocation = generationMetrics.startAllocation();
+        GeneratedTableFiles answer = new GeneratedTableFiles(introspectedTable);
+        generationMetrics.tableCompleted(id, introspectedTable.getFullyQualifiedTable().toString(),
+                GenerationMetricsListener.PHASE_GENERATION, startTime, startAllocation);
+        return answer;
+    }
+
+    /**
+     * Adds the files generated for a table, and the additional files plugins generate for it, to
+     * the output lists.
+     */
+    private void addTableFiles(IntrospectedTable introspectedTable, GeneratedTableFiles tableFiles,
+            List<GeneratedJavaFile> generatedJavaFiles,
+            List<GeneratedXmlFile> generatedXmlFiles,
+            List<GeneratedKotlinFile> generatedKotlinFiles,
+            List<GeneratedFile> otherGeneratedFiles) {
+        completeTableFiles(introspectedTable, tableFiles);
+
+        generatedJavaFiles.addAll(tableFiles.javaFiles);
+        generatedXmlFiles.addAll(tableFiles.xmlFiles);
+        generatedKotlinFiles.addAll(tableFiles.kotlinFiles);
+        otherGeneratedFiles.addAll(tableFiles.otherFiles);
+    }
+
+    /**
+     * Adds the additional files plugins generate for a table to its files, and records them in the
+     * incremental generation manifest.
+     */
+    private void completeTableFiles(IntrospectedTable introspectedTable, GeneratedTableFiles tableFiles) {
+        tableFiles.javaFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalJavaFiles(introspectedTable));
+        tableFiles.xmlFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalXmlFiles(introspectedTable));
+        tableFiles.kotlinFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalKotlinFiles(introspectedTable));
+        tableFiles.otherFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalFiles(introspectedTable));
+
+        if (generationManifest != null) {
+            List<GeneratedFile> files = new ArrayList<>();
+            files.addAll(tableFiles.javaFiles);
+            files.addAll(tableFiles.xmlFiles);
+            files.addAll(tableFiles.kotlinFiles);
+            files.addAll(tableFiles.otherFiles);
+            generationManifest.put(getManifestKey(introspectedTable),
+                    tableFingerprints.get(introspectedTable), files);
+        }
+    }
+
+    public boolean isParallelSaveEnabled() {
+        return isTrue(getProperty(PropertyRegistry.CONTEXT_PARALLEL_SAVE));
+    }
+
+    /**
+     * Returns true if the tables are introspected from a schema snapshot rather than the database.
+     *
+     * @return true if the schema snapshot mode is read
+     */
+    public boolean isSchemaSnapshotReadEnabled() {
+        return SNAPSHOT_MODE_READ.equals(getProperty(PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_MODE));
+    }
+
+    public boolean isSkipUnchangedFilesEnabled() {
+        return isTrue(getProperty(PropertyRegistry.CONTEXT_SKIP_UNCHANGED_FILES));
+    }
+
+    public boolean isParallelGenerationEnabled() {
+        return isTrue(getProperty(PropertyRegistry.CONTEXT_PARALLEL_GENERATION));
+    }
+
+    public boolean isStreamingGenerationEnabled() {
+        return isTrue(getProperty(PropertyRegistry.CONTEXT_STREAMING_GENERATION));
+    }
+
+    private static class GeneratedTableFiles {
+        private final List<GeneratedJavaFile> javaFiles;
+        private final List<GeneratedXmlFile> xmlFiles;
+        private final List<GeneratedKotlinFile> kotlinFiles;
+        private final List<GeneratedFile> otherFiles = new ArrayList<>();
+
+        GeneratedTableFiles(IntrospectedTable introspectedTable) {
+            javaFiles = new ArrayList<>(introspectedTable.getGeneratedJavaFiles());
+            xmlFiles = new ArrayList<>(introspectedTable.getGeneratedXmlFiles());
+            kotlinFiles = new ArrayList<>(introspectedTable.getGeneratedKotlinFiles());
+        }
     }
 
     /**
@@ -505,14 +1098,15 @@ public class Context extends PropertyHolder {
      * @throws SQLException if any error occurs while creating the connection
      */
     public Connection getConnection() throws SQLException {
-        ConnectionFactory connectionFactory;
+        return createConnectionFactory().getConnection();
+    }
+
+    private ConnectionFactory createConnectionFactory() {
         if (jdbcConnectionConfiguration != null) {
-            connectionFactory = new JDBCConnectionFactory(jdbcConnectionConfiguration);
+            return new JDBCConnectionFactory(jdbcConnectionConfiguration);
         } else {
-            connectionFactory = ObjectFactory.createConnectionFactory(this);
+            return ObjectFactory.createConnectionFactory(this);
         }
-
-        return connectionFactory.getConnection();
     }
 
     /**
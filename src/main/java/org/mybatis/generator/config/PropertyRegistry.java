@@ -60,6 +60,18 @@ public class PropertyRegistry {
     public static final String CONTEXT_XML_FORMATTER = "xmlFormatter"; //$NON-NLS-1$
     public static final String CONTEXT_KOTLIN_FORMATTER = "kotlinFormatter"; //$NON-NLS-1$
     public static final String CONTEXT_KOTLIN_FILE_ENCODING = "kotlinFileEncoding"; //$NON-NLS-1$
+    public static final String CONTEXT_PARALLEL_GENERATION = "parallelGeneration"; //$NON-NLS-1$
+    public static final String CONTEXT_GENERATION_THREADS = "generationThreads"; //$NON-NLS-1$
+    public static final String CONTEXT_STREAMING_GENERATION = "streamingGeneration"; //$NON-NLS-1$
+    public static final String CONTEXT_PARALLEL_INTROSPECTION = "parallelIntrospection"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_CONNECTIONS = "introspectionConnections"; //$NON-NLS-1$
+    public static final String CONTEXT_BULK_INTROSPECTION = "bulkIntrospection"; //$NON-NLS-1$
+    public static final String CONTEXT_SCHEMA_SNAPSHOT_FILE = "schemaSnapshotFile"; //$NON-NLS-1$
+    public static final String CONTEXT_SCHEMA_SNAPSHOT_MODE = "schemaSnapshotMode"; //$NON-NLS-1$
+    public static final String CONTEXT_INCREMENTAL_MANIFEST = "incrementalManifest"; //$NON-NLS-1$
+    public static final String CONTEXT_SKIP_UNCHANGED_FILES = "skipUnchangedFiles"; //$NON-NLS-1$
+    public static final String CONTEXT_PARALLEL_SAVE = "parallelSave"; //$NON-NLS-1$
+    public static final String CONTEXT_CONCURRENT_FILE_WRITES = "concurrentFileWrites"; //$NON-NLS-1$
 
     public static final String CLIENT_DYNAMIC_SQL_SUPPORT_PACKAGE = "dynamicSqlSupportPackage"; //$NON-NLS-1$
 
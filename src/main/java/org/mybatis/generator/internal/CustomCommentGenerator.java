@@ -130,7 +130,7 @@ public class CustomCommentGenerator extends DefaultCommentGenerator {
 		addJavadoc(javaElement, null);
 	}
 	/**
-	 * 增加注释
+	 * 增加注释. 注释里总是有@mbg.generated标记, 合并Java文件时靠这个标记区分生成的成员和自定义的成员
 	 * @param javaElement
 	 */
 	public void addJavadoc(JavaElement javaElement, String remark) {
@@ -18,6 +18,9 @@ package org.mybatis.generator.internal;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.StringTokenizer;
 
 import org.mybatis.generator.api.ShellCallback;
@@ -27,9 +30,27 @@ public class DefaultShellCallback implements ShellCallback {
 
     private final boolean overwrite;
 
+    private final boolean merge;
+
+    private JavaFileMergerJavaParser javaFileMerger;
+
     public DefaultShellCallback(boolean overwrite) {
+        this(overwrite, false);
+    }
+
+    /**
+     * Constructs a shell callback.
+     *
+     * @param overwrite
+     *            if true, existing files that cannot be merged are overwritten
+     * @param merge
+     *            if true, newly generated Java files are merged into existing Java files with
+     *            JavaParser
+     */
+    public DefaultShellCallback(boolean overwrite, boolean merge) {
         super();
         this.overwrite = overwrite;
+        this.merge = merge;
     }
 
     @Override
@@ -58,7 +79,8 @@ public class DefaultShellCallback implements ShellCallback {
         File directory = new File(project, sb.toString());
         if (!directory.isDirectory()) {
             boolean rc = directory.mkdirs();
-            if (!rc) {
+            // another thread may have created the directory in the meantime
+            if (!rc && !directory.isDirectory()) {
                 throw new ShellException(getString("Warning.10", //$NON-NLS-1$
                         directory.getAbsolutePath()));
             }
@@ -71,4 +93,47 @@ public class DefaultShellCallback implements ShellCallback {
     public boolean isOverwriteEnabled() {
         return overwrite;
     }
+
+    @Override
+    public boolean isMergeSupported() {
+        return merge;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public String mergeJavaFile(String newFileSource, File existingFile,
+            String[] javadocTags, String fileEncoding) throws ShellException {
+        String existingSource;
+        try {
+            Charset charset = fileEncoding == null ? Charset.defaultCharset() : Charset.forName(fileEncoding);
+            existingSource = new String(Files.readAllBytes(existingFile.toPath()), charset);
+        } catch (IOException e) {
+            throw new ShellException(getString("Warning.39", //$NON-NLS-1$
+                    existingFile.getName(), e.getMessage()), e);
+        }
+
+        try {
+            return getJavaFileMerger().getMergedSource(newFileSource, existingSource, javadocTags,
+                    existingFile.getName());
+        } catch (NoClassDefFoundError e) {
+            // JavaParser is a dependency of the generator, but may be missing from a hand made classpath
+            throw new ShellException(getString("Warning.40"), e); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Returns the Java file merger. The merger caches parsed files in memory, so it is kept for the
+     * lifetime of the callback - files that are merged again with the same content are not parsed
+     * again. The cache is not saved, so every process starts with an empty cache.
+     */
+    private synchronized JavaFileMergerJavaParser getJavaFileMerger() {
+        if (javaFileMerger == null) {
+            javaFileMerger = new JavaFileMergerJavaParser();
+        }
+        return javaFileMerger;
+    }
 }
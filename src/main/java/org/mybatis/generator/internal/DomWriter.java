@@ -89,11 +89,23 @@ public class DomWriter {
 
     protected void normalizeAndPrint(String s, boolean isAttValue) {
 
+        // print runs of characters that need no normalization in one call
         int len = (s != null) ? s.length() : 0;
+        int start = 0;
         for (int i = 0; i < len; i++) {
             char c = s.charAt(i);
-            normalizeAndPrint(c, isAttValue);
+            if (mayNeedNormalization(c)) {
+                printWriter.write(s, start, i - start);
+                normalizeAndPrint(c, isAttValue);
+                start = i + 1;
+            }
         }
+        printWriter.write(s, start, len - start);
+    }
+
+    private boolean mayNeedNormalization(char c) {
+        return c < 0x20 || c == '<' || c == '>' || c == '&' || c == '"'
+                || (c >= 0x7F && c <= 0x9F) || c == 0x2028;
     }
 
     protected void normalizeAndPrint(char c, boolean isAttValue) {
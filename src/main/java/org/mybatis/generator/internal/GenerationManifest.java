@@ -0,0 +1,237 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.TreeMap;
+
+import org.mybatis.generator.api.GeneratedFile;
+
+/**
+ * The manifest used for incremental generation. For every table, it records the fingerprint the
+ * table had when its files were last generated, and the files that were generated.
+ *
+ * <p>The manifest is a sorted, tab separated text file, so it is stable under version control.
+ * Several contexts may share a manifest file - each context loads its own instance, and only writes
+ * back the entries it changed.
+ */
+public class GenerationManifest {
+
+    private static final String HEADER = "# MyBatis Generator incremental manifest, version 1"; //$NON-NLS-1$
+
+    private final Path file;
+
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    /** the entries put since the manifest was loaded. */
+    private final Map<String, Entry> putEntries = new HashMap<>();
+
+    /** the keys removed since the manifest was loaded. */
+    private final Set<String> removedKeys = new HashSet<>();
+
+    private GenerationManifest(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads a manifest. If the file does not exist, the manifest is empty.
+     *
+     * @param file
+     *            the manifest file
+     * @return the manifest
+     * @throws IOException
+     *             if the file exists but cannot be read
+     */
+    public static GenerationManifest load(Path file) throws IOException {
+        GenerationManifest manifest = new GenerationManifest(file);
+        read(file, manifest.entries);
+        return manifest;
+    }
+
+    private static void read(Path file, Map<String, Entry> entries) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (!HEADER.equals(line)) {
+                throw new IOException("Not an incremental manifest: " + file); //$NON-NLS-1$
+            }
+
+            while ((line = reader.readLine()) != null) {
+                StringTokenizer st = new StringTokenizer(line, "\t"); //$NON-NLS-1$
+                if (st.countTokens() < 2) {
+                    continue;
+                }
+
+                String key = st.nextToken();
+                String fingerprint = st.nextToken();
+                List<String> files = new ArrayList<>();
+                while (st.hasMoreTokens()) {
+                    files.add(st.nextToken());
+                }
+                entries.put(key, new Entry(fingerprint, files));
+            }
+        }
+    }
+
+    /**
+     * Returns true if the table was last generated with the same fingerprint, and all files
+     * generated at that time still exist.
+     *
+     * @param key
+     *            the key of the table
+     * @param fingerprint
+     *            the current fingerprint of the table
+     * @return true if the table does not need to be generated again
+     */
+    public synchronized boolean isUpToDate(String key, String fingerprint) {
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+            return false;
+        }
+
+        for (String f : entry.files) {
+            if (!Files.exists(Paths.get(f))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Records the fingerprint of a table and the files generated for it.
+     *
+     * @param key
+     *            the key of the table
+     * @param fingerprint
+     *            the fingerprint of the table
+     * @param generatedFiles
+     *            the files generated for the table
+     */
+    public synchronized void put(String key, String fingerprint,
+            List<? extends GeneratedFile> generatedFiles) {
+        List<String> files = new ArrayList<>();
+        for (GeneratedFile generatedFile : generatedFiles) {
+            files.add(getPath(generatedFile).toString());
+        }
+        Entry entry = new Entry(fingerprint, files);
+        entries.put(key, entry);
+        putEntries.put(key, entry);
+        removedKeys.remove(key);
+    }
+
+    /**
+     * Removes the entries whose key starts with the prefix, unless the key is one of the specified
+     * keys. This drops the tables that were removed from a context.
+     *
+     * @param keyPrefix
+     *            the prefix of the keys of a context
+     * @param keys
+     *            the keys to keep
+     */
+    public synchronized void retainAll(String keyPrefix, Set<String> keys) {
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            String key = iterator.next();
+            if (key.startsWith(keyPrefix) && !keys.contains(key)) {
+                iterator.remove();
+                putEntries.remove(key);
+                removedKeys.add(key);
+            }
+        }
+    }
+
+    /**
+     * Saves the entries put or removed since the manifest was loaded. The file is read again first,
+     * so the entries another context saved to the same file in the meantime are kept.
+     *
+     * @throws IOException
+     *             if the file cannot be read or written
+     */
+    public synchronized void save() throws IOException {
+        Map<String, Entry> merged = new TreeMap<>();
+        read(file, merged);
+        merged.keySet().removeAll(removedKeys);
+        merged.putAll(putEntries);
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        // write to a temporary file first so an interrupted run cannot leave a broken manifest
+        Path temp = Paths.get(file.toString() + ".tmp"); //$NON-NLS-1$
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Map.Entry<String, Entry> entry : merged.entrySet()) {
+                writer.write(entry.getKey());
+                writer.write('\t');
+                writer.write(entry.getValue().fingerprint);
+                for (String f : entry.getValue().files) {
+                    writer.write('\t');
+                    writer.write(f);
+                }
+                writer.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Calculates the location of a generated file the same way the default shell callback does.
+     * If a different shell callback puts the file elsewhere, the file is reported as missing and
+     * the table is generated again - never wrongly skipped.
+     */
+    private static Path getPath(GeneratedFile generatedFile) {
+        Path path = Paths.get(generatedFile.getTargetProject());
+        String targetPackage = generatedFile.getTargetPackage();
+        if (targetPackage != null && !targetPackage.isEmpty()) {
+            for (String part : targetPackage.split("\\.")) { //$NON-NLS-1$
+                path = path.resolve(part);
+            }
+        }
+        return path.resolve(generatedFile.getFileName());
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        private final List<String> files;
+
+        Entry(String fingerprint, List<String> files) {
+            this.fingerprint = fingerprint;
+            this.files = files;
+        }
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.mybatis.generator.api.GenerationMetricsListener;
+
+/**
+ * This class is for internal use only. It measures the phases, tables, and plugin hooks of one
+ * generation run, passes the measurements to the {@link GenerationMetricsListener}s, and writes
+ * the optional JSON report.
+ *
+ * <p>Code that is measured asks for {@link #startTime()} and {@link #startAllocation()} before the
+ * work, and reports the work afterwards. The {@link #DISABLED} instance measures nothing, so the
+ * calls cost next to nothing when no metrics are requested.
+ */
+public class GenerationMetrics {
+
+    public static final GenerationMetrics DISABLED = new GenerationMetrics(Collections.emptyList(), false);
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    private final boolean enabled;
+
+    private final List<GenerationMetricsListener> listeners;
+
+    /** if true, the table measurements are kept for the report. */
+    private final boolean report;
+
+    private final long runStartTime;
+
+    private final Map<Key, Totals> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final Map<Key, Totals> pluginHooks = new ConcurrentHashMap<>();
+
+    private final List<TableMeasurement> tables = Collections.synchronizedList(new ArrayList<>());
+
+    private GenerationMetrics(List<GenerationMetricsListener> listeners, boolean report) {
+        this.enabled = report || !listeners.isEmpty();
+        this.listeners = listeners;
+        this.report = report;
+        this.runStartTime = System.nanoTime();
+    }
+
+    /**
+     * Creates the metrics of a run.
+     *
+     * @param listeners
+     *            the listeners added to the generator
+     * @param report
+     *            true if a report will be written
+     * @return the metrics, or {@link #DISABLED} if there are no listeners, no report is written,
+     *         and the JVM is not recording with JDK Flight Recorder
+     */
+    public static GenerationMetrics create(List<GenerationMetricsListener> listeners, boolean report) {
+        List<GenerationMetricsListener> allListeners = new ArrayList<>(listeners);
+        GenerationMetricsListener jfrListener = JfrMetricsListener.createIfRecording();
+        if (jfrListener != null) {
+            allListeners.add(jfrListener);
+        }
+
+        if (allListeners.isEmpty() && !report) {
+            return DISABLED;
+        }
+        return new GenerationMetrics(allListeners, report);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long startTime() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public long startAllocation() {
+        return enabled ? allocatedBytes() : 0;
+    }
+
+    public void tableCompleted(String contextId, String tableName, String phase, long startTime,
+            long startAllocation) {
+        if (!enabled) {
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        long allocatedBytes = allocatedBytesSince(startAllocation);
+        if (report) {
+            tables.add(new TableMeasurement(contextId, tableName, phase, elapsedNanos, allocatedBytes));
+        }
+        for (GenerationMetricsListener listener : listeners) {
+            listener.tableCompleted(contextId, tableName, phase, elapsedNanos, allocatedBytes);
+        }
+    }
+
+    /**
+     * Adds one execution of a phase. The executions are summarized at the end of the run.
+     *
+     * @param contextId
+     *            the context, or null for phases that are not related to a context
+     * @param phase
+     *            the phase
+     * @param startTime
+     *            the value of {@link #startTime()} before the execution
+     * @param startAllocation
+     *            the value of {@link #startAllocation()} before the execution
+     */
+    public void phaseCompleted(String contextId, String phase, long startTime, long startAllocation) {
+        if (!enabled) {
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        long allocatedBytes = allocatedBytesSince(startAllocation);
+        phases.computeIfAbsent(new Key(contextId, phase), k -> new Totals()).add(elapsedNanos, allocatedBytes);
+    }
+
+    void pluginHookCompleted(String pluginType, String hook, long startTime, long startAllocation) {
+        long elapsedNanos = System.nanoTime() - startTime;
+        long allocatedBytes = allocatedBytesSince(startAllocation);
+        pluginHooks.computeIfAbsent(new Key(pluginType, hook), k -> new Totals()).add(elapsedNanos,
+                allocatedBytes);
+    }
+
+    /**
+     * Passes the phase and plugin hook summaries to the listeners. This should be called once, at
+     * the end of the run.
+     */
+    public void finish() {
+        if (!enabled) {
+            return;
+        }
+
+        for (Map.Entry<Key, Totals> entry : getPhases()) {
+            Totals totals = entry.getValue();
+            for (GenerationMetricsListener listener : listeners) {
+                listener.phaseSummary(entry.getKey().first, entry.getKey().second, totals.count.sum(),
+                        totals.elapsedNanos.sum(), totals.getAllocatedBytes());
+            }
+        }
+
+        for (Map.Entry<Key, Totals> entry : getPluginHooks()) {
+            Totals totals = entry.getValue();
+            for (GenerationMetricsListener listener : listeners) {
+                listener.pluginHookSummary(entry.getKey().first, entry.getKey().second, totals.count.sum(),
+                        totals.elapsedNanos.sum(), totals.getAllocatedBytes());
+            }
+        }
+    }
+
+    /**
+     * Writes the JSON report of the run. The plugins and plugin hooks are sorted by elapsed time,
+     * most expensive first.
+     *
+     * @param file
+     *            the report file
+     * @throws IOException
+     *             if the file cannot be written
+     */
+    public void writeReport(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\n  \"elapsedMillis\": "); //$NON-NLS-1$
+            out.write(millis(System.nanoTime() - runStartTime));
+            out.write(",\n  \"allocationMeasured\": "); //$NON-NLS-1$
+            out.write(Boolean.toString(THREAD_MX_BEAN != null));
+
+            out.write(",\n  \"phases\": ["); //$NON-NLS-1$
+            String separator = "\n"; //$NON-NLS-1$
+            for (Map.Entry<Key, Totals> entry : getPhases()) {
+                out.write(separator);
+                out.write("    {\"context\": "); //$NON-NLS-1$
+                out.write(quote(entry.getKey().first));
+                out.write(", \"phase\": "); //$NON-NLS-1$
+                out.write(quote(entry.getKey().second));
+                writeTotals(out, "count", entry.getValue()); //$NON-NLS-1$
+                separator = ",\n"; //$NON-NLS-1$
+            }
+
+            out.write("\n  ],\n  \"plugins\": ["); //$NON-NLS-1$
+            separator = "\n"; //$NON-NLS-1$
+            for (Map.Entry<String, Totals> entry : getPlugins()) {
+                out.write(separator);
+                out.write("    {\"plugin\": "); //$NON-NLS-1$
+                out.write(quote(entry.getKey()));
+                writeTotals(out, "calls", entry.getValue()); //$NON-NLS-1$
+                separator = ",\n"; //$NON-NLS-1$
+            }
+
+            out.write("\n  ],\n  \"pluginHooks\": ["); //$NON-NLS-1$
+            separator = "\n"; //$NON-NLS-1$
+            for (Map.Entry<Key, Totals> entry : getPluginHooks()) {
+                out.write(separator);
+                out.write("    {\"plugin\": "); //$NON-NLS-1$
+                out.write(quote(entry.getKey().first));
+                out.write(", \"hook\": "); //$NON-NLS-1$
+                out.write(quote(entry.getKey().second));
+                writeTotals(out, "calls", entry.getValue()); //$NON-NLS-1$
+                separator = ",\n"; //$NON-NLS-1$
+            }
+
+            out.write("\n  ],\n  \"tables\": ["); //$NON-NLS-1$
+            separator = "\n"; //$NON-NLS-1$
+            synchronized (tables) {
+                for (TableMeasurement table : tables) {
+                    out.write(separator);
+                    out.write("    {\"context\": "); //$NON-NLS-1$
+                    out.write(quote(table.contextId));
+                    out.write(", \"table\": "); //$NON-NLS-1$
+                    out.write(quote(table.tableName));
+                    out.write(", \"phase\": "); //$NON-NLS-1$
+                    out.write(quote(table.phase));
+                    out.write(", \"elapsedMillis\": "); //$NON-NLS-1$
+                    out.write(millis(table.elapsedNanos));
+                    out.write(", \"allocatedBytes\": "); //$NON-NLS-1$
+                    out.write(Long.toString(table.allocatedBytes));
+                    out.write('}');
+                    separator = ",\n"; //$NON-NLS-1$
+                }
+            }
+            out.write("\n  ]\n}\n"); //$NON-NLS-1$
+        }
+    }
+
+    private List<Map.Entry<Key, Totals>> getPhases() {
+        synchronized (phases) {
+            return new ArrayList<>(phases.entrySet());
+        }
+    }
+
+    private List<Map.Entry<Key, Totals>> getPluginHooks() {
+        List<Map.Entry<Key, Totals>> answer = new ArrayList<>(pluginHooks.entrySet());
+        answer.sort(Comparator.comparingLong((Map.Entry<Key, Totals> e) -> e.getValue().elapsedNanos.sum())
+                .reversed());
+        return answer;
+    }
+
+    private List<Map.Entry<String, Totals>> getPlugins() {
+        Map<String, Totals> plugins = new LinkedHashMap<>();
+        for (Map.Entry<Key, Totals> entry : pluginHooks.entrySet()) {
+            plugins.computeIfAbsent(entry.getKey().first, k -> new Totals()).add(entry.getValue());
+        }
+
+        List<Map.Entry<String, Totals>> answer = new ArrayList<>(plugins.entrySet());
+        answer.sort(Comparator.comparingLong((Map.Entry<String, Totals> e) -> e.getValue().elapsedNanos.sum())
+                .reversed());
+        return answer;
+    }
+
+    private static void writeTotals(Writer out, String countName, Totals totals) throws IOException {
+        out.write(", \""); //$NON-NLS-1$
+        out.write(countName);
+        out.write("\": "); //$NON-NLS-1$
+        out.write(Long.toString(totals.count.sum()));
+        out.write(", \"elapsedMillis\": "); //$NON-NLS-1$
+        out.write(millis(totals.elapsedNanos.sum()));
+        out.write(", \"allocatedBytes\": "); //$NON-NLS-1$
+        out.write(Long.toString(totals.getAllocatedBytes()));
+        out.write('}');
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.US, "%.3f", nanos / 1_000_000.0); //$NON-NLS-1$
+    }
+
+    private static String quote(String s) {
+        if (s == null) {
+            return "null"; //$NON-NLS-1$
+        }
+
+        StringBuilder sb = new StringBuilder(s.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static long allocatedBytesSince(long startAllocation) {
+        return THREAD_MX_BEAN == null ? -1 : allocatedBytes() - startAllocation;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        try {
+            java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean answer = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (answer.isThreadAllocatedMemorySupported() && answer.isThreadAllocatedMemoryEnabled()) {
+                    return answer;
+                }
+            }
+        } catch (LinkageError e) {
+            // the com.sun.management API is not available on this JVM
+        }
+        return null;
+    }
+
+    private static class Key {
+        private final String first;
+        private final String second;
+
+        Key(String first, String second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(first, other.first) && Objects.equals(second, other.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(first, second);
+        }
+    }
+
+    private static class Totals {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        void add(long nanos, long bytes) {
+            count.increment();
+            elapsedNanos.add(nanos);
+            allocatedBytes.add(bytes);
+        }
+
+        void add(Totals totals) {
+            count.add(totals.count.sum());
+            elapsedNanos.add(totals.elapsedNanos.sum());
+            allocatedBytes.add(totals.allocatedBytes.sum());
+        }
+
+        long getAllocatedBytes() {
+            return THREAD_MX_BEAN == null ? -1 : allocatedBytes.sum();
+        }
+    }
+
+    private static class TableMeasurement {
+        private final String contextId;
+        private final String tableName;
+        private final String phase;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+
+        TableMeasurement(String contextId, String tableName, String phase, long elapsedNanos,
+                long allocatedBytes) {
+            this.contextId = contextId;
+            this.tableName = tableName;
+            this.phase = phase;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
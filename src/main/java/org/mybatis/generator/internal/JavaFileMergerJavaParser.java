@@ -0,0 +1,673 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.mybatis.generator.exception.ShellException;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.Position;
+import com.github.javaparser.Problem;
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.EnumDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+
+/**
+ * Merges a newly generated Java file into an existing Java file with JavaParser.
+ *
+ * <p>The existing file is the base of the merged file. Members of the existing file that are
+ * marked as generated - with one of the JavaDoc tags, or with a <code>@Generated</code> annotation
+ * of MyBatis Generator - are removed, and the members of the newly generated file are inserted where
+ * the first removed member was. Members tagged <code>do_not_delete_during_merge</code> are kept like
+ * any custom member, and a custom member replaces the generated member with the same signature.
+ * Missing imports, super interfaces and the super class are taken from the new file. Everything else
+ * in the existing file - custom members, comments, formatting - is left exactly as it is, and the new
+ * members are copied exactly as the generator formatted them.
+ *
+ * <p>Members are only recognized by their tags or annotations. A comment generator that suppresses
+ * all comments (and does not add <code>@Generated</code> annotations) produces members that look
+ * like custom members, so members of dropped columns are never removed from the merged file.
+ *
+ * <p>Parsed files are cached by the hash of their content, and merges that produce the existing
+ * file are remembered, so a file that is merged again with the same generated source - in a later run
+ * of a long lived process, for example in watch mode - is not parsed again. Instances are thread
+ * safe.
+ */
+public class JavaFileMergerJavaParser {
+
+    private static final String DO_NOT_DELETE = "do_not_delete_during_merge"; //$NON-NLS-1$
+
+    private static final int MAX_CACHED_SOURCES = 256;
+
+    private static final int MAX_CACHED_MERGES = 16384;
+
+    private final Map<String, ParsedSource> parsedSources = Collections.synchronizedMap(
+            new LruMap<>(MAX_CACHED_SOURCES));
+
+    /** the keys of merges whose result is the existing file. */
+    private final Set<String> unchangedMerges = Collections.synchronizedSet(
+            Collections.newSetFromMap(new LruMap<>(MAX_CACHED_MERGES)));
+
+    public JavaFileMergerJavaParser() {
+        super();
+    }
+
+    /**
+     * Merges the newly generated source into the existing source.
+     *
+     * @param newSource
+     *            the newly generated source
+     * @param existingSource
+     *            the source of the existing file
+     * @param javadocTags
+     *            the JavaDoc tags that mark generated members
+     * @param existingFileName
+     *            the name of the existing file, for messages
+     * @return the merged source
+     * @throws ShellException
+     *             if a file cannot be parsed, or the files declare different kinds of types
+     */
+    public String getMergedSource(String newSource, String existingSource, String[] javadocTags,
+            String existingFileName) throws ShellException {
+        String tags = String.join(",", javadocTags); //$NON-NLS-1$
+        String newDigest = digest(newSource);
+        if (unchangedMerges.contains(mergeKey(newDigest, digest(existingSource), tags))) {
+            return existingSource;
+        }
+
+        ParsedSource newFile = parse(newSource, javadocTags, existingFileName);
+        ParsedSource existingFile = parse(existingSource, javadocTags, existingFileName);
+        String mergedSource = new Merge(newFile, existingFile, existingFileName).getMergedSource();
+
+        // merging the same source into the merged file gives the merged file again
+        unchangedMerges.add(mergeKey(newDigest, digest(mergedSource), tags));
+        return mergedSource;
+    }
+
+    private static String mergeKey(String newDigest, String existingDigest, String tags) {
+        return newDigest + '/' + existingDigest + '/' + tags;
+    }
+
+    private ParsedSource parse(String source, String[] javadocTags, String fileName) throws ShellException {
+        String key = digest(source) + '/' + String.join(",", javadocTags); //$NON-NLS-1$
+        ParsedSource answer = parsedSources.get(key);
+        if (answer == null) {
+            answer = new ParsedSource(source, javadocTags, fileName);
+            parsedSources.put(key, answer);
+        }
+        return answer;
+    }
+
+    private static String digest(String source) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+            return Base64.getEncoder().encodeToString(md.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The parts of a parsed source that are needed for merging. Lines and columns are zero based.
+     */
+    private static class ParsedSource {
+        private final String[] lines;
+        private final String lineSeparator;
+        private final boolean endsWithLineSeparator;
+        private final int packageLine;
+        private final Map<String, Integer> imports = new LinkedHashMap<>();
+        private final Map<String, TypeInfo> types = new LinkedHashMap<>();
+
+        ParsedSource(String source, String[] javadocTags, String fileName) throws ShellException {
+            lines = source.split("\r\n|\r|\n", -1); //$NON-NLS-1$
+            lineSeparator = calculateLineSeparator(source);
+            endsWithLineSeparator = source.endsWith("\n") || source.endsWith("\r"); //$NON-NLS-1$ //$NON-NLS-2$
+
+            ParserConfiguration configuration = new ParserConfiguration()
+                    .setLanguageLevel(ParserConfiguration.LanguageLevel.RAW);
+            ParseResult<CompilationUnit> result = new JavaParser(configuration).parse(source);
+            Optional<CompilationUnit> compilationUnit = result.getResult();
+            if (!result.isSuccessful() || !compilationUnit.isPresent()) {
+                String cause = result.getProblems().stream().findFirst().map(Problem::getMessage)
+                        .orElse(""); //$NON-NLS-1$
+                throw new ShellException(getString("Warning.39", fileName, cause)); //$NON-NLS-1$
+            }
+
+            CompilationUnit cu = compilationUnit.get();
+            packageLine = cu.getPackageDeclaration().map(pd -> endLine(pd)).orElse(-1);
+            for (ImportDeclaration importDeclaration : cu.getImports()) {
+                imports.put(importKey(importDeclaration), endLine(importDeclaration));
+            }
+            for (TypeDeclaration<?> type : cu.getTypes()) {
+                types.put(type.getNameAsString(), new TypeInfo(type, javadocTags));
+            }
+        }
+
+        private static String calculateLineSeparator(String source) {
+            int index = source.indexOf('\n');
+            if (index > 0 && source.charAt(index - 1) == '\r') {
+                return "\r\n"; //$NON-NLS-1$
+            } else if (index == -1 && source.indexOf('\r') != -1) {
+                return "\r"; //$NON-NLS-1$
+            }
+            return "\n"; //$NON-NLS-1$
+        }
+
+        private static String importKey(ImportDeclaration importDeclaration) {
+            return (importDeclaration.isStatic() ? "static " : "") //$NON-NLS-1$ //$NON-NLS-2$
+                    + importDeclaration.getNameAsString()
+                    + (importDeclaration.isAsterisk() ? ".*" : ""); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        private List<String> lineRange(int firstLine, int lastLine) {
+            return Arrays.asList(lines).subList(firstLine, lastLine + 1);
+        }
+
+        private int lastImportLine() {
+            int answer = -1;
+            for (int line : imports.values()) {
+                answer = Math.max(answer, line);
+            }
+            return answer;
+        }
+    }
+
+    private static class TypeInfo {
+        private final String kind;
+        private final int firstLine;
+        private final int lastLine;
+        private final Position nameEnd;
+        private final Range superClass;
+        private final String superClassName;
+        private final List<String> superInterfaces = new ArrayList<>();
+        private final Position superInterfacesEnd;
+        private final boolean interfaceKind;
+        private final List<MemberInfo> members = new ArrayList<>();
+
+        TypeInfo(TypeDeclaration<?> type, String[] javadocTags) {
+            firstLine = firstLine(type);
+            lastLine = endLine(type);
+
+            Position end = end(type.getName());
+            NodeList<ClassOrInterfaceType> interfaces = new NodeList<>();
+            Range superClassRange = null;
+            String superClassText = null;
+            boolean isInterface = false;
+            if (type instanceof ClassOrInterfaceDeclaration) {
+                ClassOrInterfaceDeclaration cid = (ClassOrInterfaceDeclaration) type;
+                isInterface = cid.isInterface();
+                end = cid.getTypeParameters().stream().map(JavaFileMergerJavaParser::end)
+                        .reduce(end, JavaFileMergerJavaParser::max);
+                if (isInterface) {
+                    interfaces = cid.getExtendedTypes();
+                } else {
+                    interfaces = cid.getImplementedTypes();
+                    if (cid.getExtendedTypes().isNonEmpty()) {
+                        ClassOrInterfaceType extendedType = cid.getExtendedTypes().get(0);
+                        superClassRange = extendedType.getRange().orElse(null);
+                        superClassText = extendedType.toString();
+                    }
+                }
+            } else if (type instanceof EnumDeclaration) {
+                interfaces = ((EnumDeclaration) type).getImplementedTypes();
+            }
+            nameEnd = end;
+            interfaceKind = isInterface;
+            kind = type.getClass().getSimpleName() + (isInterface ? " interface" : ""); //$NON-NLS-1$ //$NON-NLS-2$
+            superClass = superClassRange;
+            superClassName = superClassText;
+            Position interfacesEnd = null;
+            for (ClassOrInterfaceType interfaceType : interfaces) {
+                superInterfaces.add(interfaceType.toString());
+                interfacesEnd = interfacesEnd == null ? end(interfaceType) : max(interfacesEnd, end(interfaceType));
+            }
+            superInterfacesEnd = interfacesEnd;
+
+            for (BodyDeclaration<?> member : type.getMembers()) {
+                members.add(new MemberInfo(member, javadocTags));
+            }
+        }
+
+        /**
+         * Returns the end of the type header before any super interfaces, that is the end of the
+         * name, type parameters, or super class.
+         */
+        private Position headerEnd() {
+            if (interfaceKind || superClass == null) {
+                return nameEnd;
+            }
+            return max(nameEnd, superClass.end);
+        }
+    }
+
+    private static class MemberInfo {
+        /** identifies a member by its kind, name, and parameter types - null for initializers. */
+        private final String key;
+        private final boolean generated;
+        private final int firstLine;
+        private final int lastLine;
+
+        MemberInfo(BodyDeclaration<?> member, String[] javadocTags) {
+            key = calculateKey(member);
+            generated = isGenerated(member, javadocTags);
+            firstLine = firstLine(member);
+            lastLine = endLine(member);
+        }
+
+        private static String calculateKey(BodyDeclaration<?> member) {
+            if (member.isFieldDeclaration()) {
+                FieldDeclaration field = member.asFieldDeclaration();
+                StringBuilder sb = new StringBuilder("field"); //$NON-NLS-1$
+                for (VariableDeclarator variable : field.getVariables()) {
+                    sb.append(' ').append(variable.getNameAsString());
+                }
+                return sb.toString();
+            } else if (member.isMethodDeclaration() || member.isConstructorDeclaration()) {
+                CallableDeclaration<?> callable = member.isMethodDeclaration() ? member.asMethodDeclaration()
+                        : member.asConstructorDeclaration();
+                String kind = callable.isMethodDeclaration() ? "method" : "constructor"; //$NON-NLS-1$ //$NON-NLS-2$
+                StringBuilder sb = new StringBuilder(kind);
+                sb.append(' ').append(callable.getNameAsString()).append('(');
+                for (Parameter parameter : callable.getParameters()) {
+                    sb.append(parameter.getType().asString());
+                    if (parameter.isVarArgs()) {
+                        sb.append("..."); //$NON-NLS-1$
+                    }
+                    sb.append(',');
+                }
+                return sb.append(')').toString();
+            } else if (member.isTypeDeclaration()) {
+                return "type " + member.asTypeDeclaration().getNameAsString(); //$NON-NLS-1$
+            } else if (member.isAnnotationMemberDeclaration()) {
+                return "annotation member " + member.asAnnotationMemberDeclaration().getNameAsString(); //$NON-NLS-1$
+            }
+            return null;
+        }
+
+        private static boolean isGenerated(BodyDeclaration<?> member, String[] javadocTags) {
+            Optional<Comment> comment = member.getComment();
+            if (comment.isPresent()) {
+                String content = comment.get().getContent();
+                if (content.contains(DO_NOT_DELETE)) {
+                    return false;
+                }
+                if (Arrays.stream(javadocTags).anyMatch(content::contains)) {
+                    return true;
+                }
+            }
+
+            for (AnnotationExpr annotation : member.getAnnotations()) {
+                String name = annotation.getNameAsString();
+                if (("Generated".equals(name) || name.endsWith(".Generated")) //$NON-NLS-1$ //$NON-NLS-2$
+                        && annotation.toString().contains("org.mybatis.generator")) { //$NON-NLS-1$
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Merges one newly generated file into one existing file.
+     */
+    private static class Merge {
+        private final ParsedSource newFile;
+        private final ParsedSource existingFile;
+        private final String existingFileName;
+        private final String[] lines;
+        private final boolean[] deleted;
+        private final Map<Integer, List<String>> insertions = new HashMap<>();
+        private final List<String> appendedLines = new ArrayList<>();
+        private final List<LineEdit> lineEdits = new ArrayList<>();
+
+        Merge(ParsedSource newFile, ParsedSource existingFile, String existingFileName) {
+            this.newFile = newFile;
+            this.existingFile = existingFile;
+            this.existingFileName = existingFileName;
+            lines = existingFile.lines.clone();
+            deleted = new boolean[lines.length];
+        }
+
+        String getMergedSource() throws ShellException {
+            for (Map.Entry<String, TypeInfo> entry : newFile.types.entrySet()) {
+                TypeInfo existingType = existingFile.types.get(entry.getKey());
+                if (existingType == null) {
+                    appendType(entry.getValue());
+                } else if (existingType.kind.equals(entry.getValue().kind)) {
+                    mergeType(entry.getValue(), existingType);
+                } else {
+                    throw new ShellException(getString("Warning.38", existingFileName)); //$NON-NLS-1$
+                }
+            }
+
+            mergeImports();
+
+            return render();
+        }
+
+        private void mergeImports() {
+            List<String> newImports = new ArrayList<>();
+            for (String key : newFile.imports.keySet()) {
+                if (!existingFile.imports.containsKey(key)) {
+                    newImports.add("import " + key + ';'); //$NON-NLS-1$
+                }
+            }
+            if (newImports.isEmpty()) {
+                return;
+            }
+
+            int line = existingFile.lastImportLine();
+            if (line == -1 && existingFile.packageLine != -1) {
+                line = existingFile.packageLine;
+                newImports.add(0, ""); //$NON-NLS-1$
+                if (line + 1 < lines.length && !isBlank(lines[line + 1])) {
+                    newImports.add(""); //$NON-NLS-1$
+                }
+            } else if (line == -1) {
+                newImports.add(""); //$NON-NLS-1$
+            }
+            insert(line + 1, newImports, true);
+        }
+
+        private void mergeType(TypeInfo newType, TypeInfo existingType) {
+            Set<String> customKeys = new HashSet<>();
+            int insertLine = -1;
+            for (MemberInfo member : existingType.members) {
+                if (member.generated) {
+                    delete(member);
+                    if (insertLine == -1) {
+                        insertLine = member.firstLine;
+                    }
+                } else if (member.key != null) {
+                    customKeys.add(member.key);
+                }
+            }
+            for (MemberInfo member : existingType.members) {
+                if (member.generated) {
+                    deleteBlankLinesBetweenDeletedMembers(member, existingType);
+                }
+            }
+            removeBlankLinesBeforeEnd(existingType, insertLine);
+
+            // the new members are copied with the lines between them, so the merged members are
+            // formatted exactly like the newly generated file
+            List<String> block = new ArrayList<>();
+            boolean blankSeparated = false;
+            for (int i = 0; i < newType.members.size(); i++) {
+                MemberInfo member = newType.members.get(i);
+                List<String> gap = i == 0 ? Collections.emptyList()
+                        : newFile.lineRange(newType.members.get(i - 1).lastLine + 1, member.firstLine - 1);
+                blankSeparated |= gap.stream().anyMatch(JavaFileMergerJavaParser::isBlank);
+                if (member.key != null && customKeys.contains(member.key)) {
+                    continue;
+                }
+                if (!block.isEmpty()) {
+                    block.addAll(gap);
+                }
+                block.addAll(newFile.lineRange(member.firstLine, member.lastLine));
+            }
+
+            if (!block.isEmpty()) {
+                int line = insertLine == -1 ? existingType.lastLine : insertLine;
+                String previous = previousKeptLine(line, existingType.firstLine);
+                if (blankSeparated && previous != null && !isBlank(previous)
+                        && !previous.trim().endsWith("{")) { //$NON-NLS-1$
+                    block.add(0, ""); //$NON-NLS-1$
+                }
+                int next = nextKeptLine(line);
+                if (blankSeparated && next != existingType.lastLine && !isBlank(lines[next])) {
+                    block.add(""); //$NON-NLS-1$
+                }
+                insert(line, block, false);
+            }
+
+            mergeSuperTypes(newType, existingType);
+        }
+
+        private void mergeSuperTypes(TypeInfo newType, TypeInfo existingType) {
+            if (newType.superClassName != null && existingType.superClass != null
+                    && !newType.superClassName.equals(existingType.superClassName)
+                    && existingType.superClass.begin.line == existingType.superClass.end.line) {
+                lineEdits.add(new LineEdit(existingType.superClass.begin, existingType.superClass.end.column
+                        - existingType.superClass.begin.column + 1, newType.superClassName, 0));
+            } else if (newType.superClassName != null && existingType.superClass == null) {
+                lineEdits.add(new LineEdit(after(existingType.nameEnd), 0,
+                        " extends " + newType.superClassName, 0)); //$NON-NLS-1$
+            }
+
+            List<String> interfaces = new ArrayList<>();
+            for (String superInterface : newType.superInterfaces) {
+                if (!existingType.superInterfaces.contains(superInterface)) {
+                    interfaces.add(superInterface);
+                }
+            }
+            if (interfaces.isEmpty()) {
+                return;
+            }
+
+            String list = String.join(", ", interfaces); //$NON-NLS-1$
+            if (existingType.superInterfacesEnd != null) {
+                lineEdits.add(new LineEdit(after(existingType.superInterfacesEnd), 0, ", " + list, 1)); //$NON-NLS-1$
+            } else {
+                String keyword = existingType.interfaceKind ? " extends " : " implements "; //$NON-NLS-1$ //$NON-NLS-2$
+                lineEdits.add(new LineEdit(after(existingType.headerEnd()), 0, keyword + list, 1));
+            }
+        }
+
+        private void appendType(TypeInfo newType) {
+            appendedLines.add(""); //$NON-NLS-1$
+            appendedLines.addAll(newFile.lineRange(newType.firstLine, newType.lastLine));
+        }
+
+        private void delete(MemberInfo member) {
+            for (int i = member.firstLine; i <= member.lastLine; i++) {
+                deleted[i] = true;
+            }
+        }
+
+        /**
+         * Deletes the blank lines after a deleted member if another deleted member follows them. Blank
+         * lines that separate generated members from custom code are kept.
+         */
+        private void deleteBlankLinesBetweenDeletedMembers(MemberInfo member, TypeInfo type) {
+            int i = member.lastLine + 1;
+            while (i < type.lastLine && isBlank(lines[i])) {
+                i++;
+            }
+            if (i < type.lastLine && deleted[i]) {
+                for (int j = member.lastLine + 1; j < i; j++) {
+                    deleted[j] = true;
+                }
+            }
+        }
+
+        /**
+         * If the last members of a type were deleted, and the new members are inserted elsewhere, the
+         * blank lines before them are deleted too - so the type does not end with a blank line.
+         */
+        private void removeBlankLinesBeforeEnd(TypeInfo type, int insertLine) {
+            int i = type.lastLine - 1;
+            if (i <= type.firstLine || !deleted[i]) {
+                return;
+            }
+            while (i > type.firstLine && deleted[i]) {
+                i--;
+            }
+            if (insertLine > i) {
+                return;
+            }
+            while (i > type.firstLine && isBlank(lines[i])) {
+                deleted[i--] = true;
+            }
+        }
+
+        private String previousKeptLine(int line, int firstLine) {
+            for (int i = line - 1; i >= firstLine; i--) {
+                if (!deleted[i]) {
+                    return lines[i];
+                }
+            }
+            return null;
+        }
+
+        private int nextKeptLine(int line) {
+            int i = line;
+            while (i < lines.length - 1 && deleted[i]) {
+                i++;
+            }
+            return i;
+        }
+
+        private void insert(int line, List<String> insertedLines, boolean first) {
+            List<String> list = insertions.computeIfAbsent(line, k -> new ArrayList<>());
+            list.addAll(first ? 0 : list.size(), insertedLines);
+        }
+
+        private String render() {
+            lineEdits.sort((a, b) -> a.position.line != b.position.line ? b.position.line - a.position.line
+                    : a.position.column != b.position.column ? b.position.column - a.position.column
+                            : b.order - a.order);
+            for (LineEdit edit : lineEdits) {
+                int line = edit.position.line - 1;
+                int column = Math.min(edit.position.column - 1, lines[line].length());
+                lines[line] = lines[line].substring(0, column) + edit.text
+                        + lines[line].substring(Math.min(column + edit.length, lines[line].length()));
+            }
+
+            List<String> answer = new ArrayList<>(lines.length);
+            for (int i = 0; i < lines.length; i++) {
+                List<String> inserted = insertions.get(i);
+                if (inserted != null) {
+                    answer.addAll(inserted);
+                }
+                if (!deleted[i]) {
+                    answer.add(lines[i]);
+                }
+            }
+
+            if (!appendedLines.isEmpty()) {
+                // the last line is empty if the file ends with a line separator
+                int index = existingFile.endsWithLineSeparator ? answer.size() - 1 : answer.size();
+                answer.addAll(index, appendedLines);
+            }
+
+            return String.join(existingFile.lineSeparator, answer);
+        }
+    }
+
+    /**
+     * A change within a line of the existing file - positions are one based, like JavaParser
+     * positions.
+     */
+    private static class LineEdit {
+        private final Position position;
+        private final int length;
+        private final String text;
+        /** the order of edits at the same position. */
+        private final int order;
+
+        LineEdit(Position position, int length, String text, int order) {
+            this.position = position;
+            this.length = length;
+            this.text = text;
+            this.order = order;
+        }
+    }
+
+    private static boolean isBlank(String line) {
+        return line.trim().isEmpty();
+    }
+
+    /** Returns the zero based first line of a node, including its comment. */
+    private static int firstLine(Node node) {
+        int line = begin(node).line;
+        Optional<Comment> comment = node.getComment();
+        if (comment.isPresent() && comment.get().getRange().isPresent()) {
+            line = Math.min(line, comment.get().getRange().get().begin.line);
+        }
+        return line - 1;
+    }
+
+    /** Returns the zero based last line of a node. */
+    private static int endLine(Node node) {
+        return end(node).line - 1;
+    }
+
+    private static Position begin(Node node) {
+        return node.getRange().map(r -> r.begin).orElseThrow(IllegalStateException::new);
+    }
+
+    private static Position end(Node node) {
+        return node.getRange().map(r -> r.end).orElseThrow(IllegalStateException::new);
+    }
+
+    private static Position max(Position a, Position b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Position after(Position position) {
+        return new Position(position.line, position.column + 1);
+    }
+
+    private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        LruMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.mybatis.generator.api.GenerationMetricsListener;
+
+/**
+ * This class is for internal use only. It emits the metrics of a run as JDK Flight Recorder events
+ * named <code>org.mybatis.generator.Table</code>, <code>org.mybatis.generator.Phase</code>, and
+ * <code>org.mybatis.generator.PluginHook</code>.
+ *
+ * <p>The generator still runs on Java 8 runtimes without JFR, so the events are defined at runtime
+ * through the <code>jdk.jfr.EventFactory</code> API, which is accessed reflectively.
+ */
+final class JfrMetricsListener implements GenerationMetricsListener {
+
+    private static final String CATEGORY = "MyBatis Generator"; //$NON-NLS-1$
+
+    private final Object tableEvents;
+
+    private final Object phaseEvents;
+
+    private final Object pluginHookEvents;
+
+    private final Method newEvent;
+
+    private final Method set;
+
+    private final Method commit;
+
+    private JfrMetricsListener() throws ReflectiveOperationException {
+        Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory"); //$NON-NLS-1$
+        Class<?> event = Class.forName("jdk.jfr.Event"); //$NON-NLS-1$
+        newEvent = eventFactory.getMethod("newEvent"); //$NON-NLS-1$
+        set = event.getMethod("set", int.class, Object.class); //$NON-NLS-1$
+        commit = event.getMethod("commit"); //$NON-NLS-1$
+
+        tableEvents = createFactory(eventFactory, "Table", "Table Completed", //$NON-NLS-1$ //$NON-NLS-2$
+                field(String.class, "context", null), //$NON-NLS-1$
+                field(String.class, "table", null), //$NON-NLS-1$
+                field(String.class, "phase", null), //$NON-NLS-1$
+                field(long.class, "elapsed", timespan()), //$NON-NLS-1$
+                field(long.class, "allocated", dataAmount())); //$NON-NLS-1$
+        phaseEvents = createFactory(eventFactory, "Phase", "Phase Summary", //$NON-NLS-1$ //$NON-NLS-2$
+                field(String.class, "context", null), //$NON-NLS-1$
+                field(String.class, "phase", null), //$NON-NLS-1$
+                field(long.class, "count", null), //$NON-NLS-1$
+                field(long.class, "elapsed", timespan()), //$NON-NLS-1$
+                field(long.class, "allocated", dataAmount())); //$NON-NLS-1$
+        pluginHookEvents = createFactory(eventFactory, "PluginHook", "Plugin Hook Summary", //$NON-NLS-1$ //$NON-NLS-2$
+                field(String.class, "plugin", null), //$NON-NLS-1$
+                field(String.class, "hook", null), //$NON-NLS-1$
+                field(long.class, "calls", null), //$NON-NLS-1$
+                field(long.class, "elapsed", timespan()), //$NON-NLS-1$
+                field(long.class, "allocated", dataAmount())); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns a listener if the JVM is recording with JDK Flight Recorder.
+     *
+     * @return the listener, or null if JFR is not available or not recording
+     */
+    static GenerationMetricsListener createIfRecording() {
+        try {
+            Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder"); //$NON-NLS-1$
+            // do not start JFR just to look for recordings
+            if (!(Boolean) flightRecorder.getMethod("isInitialized").invoke(null)) { //$NON-NLS-1$
+                return null;
+            }
+
+            Object recorder = flightRecorder.getMethod("getFlightRecorder").invoke(null); //$NON-NLS-1$
+            for (Object recording : (List<?>) flightRecorder.getMethod("getRecordings").invoke(recorder)) { //$NON-NLS-1$
+                Object state = recording.getClass().getMethod("getState").invoke(recording); //$NON-NLS-1$
+                if ("RUNNING".equals(String.valueOf(state))) { //$NON-NLS-1$
+                    return new JfrMetricsListener();
+                }
+            }
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // JFR is not available
+        }
+        return null;
+    }
+
+    @Override
+    public void tableCompleted(String contextId, String tableName, String phase, long elapsedNanos,
+            long allocatedBytes) {
+        emit(tableEvents, contextId, tableName, phase, elapsedNanos, allocatedBytes);
+    }
+
+    @Override
+    public void phaseSummary(String contextId, String phase, long count, long elapsedNanos,
+            long allocatedBytes) {
+        emit(phaseEvents, contextId, phase, count, elapsedNanos, allocatedBytes);
+    }
+
+    @Override
+    public void pluginHookSummary(String pluginType, String hook, long calls, long elapsedNanos,
+            long allocatedBytes) {
+        emit(pluginHookEvents, pluginType, hook, calls, elapsedNanos, allocatedBytes);
+    }
+
+    private void emit(Object factory, Object... values) {
+        try {
+            Object event = newEvent.invoke(factory);
+            for (int i = 0; i < values.length; i++) {
+                set.invoke(event, i, values[i]);
+            }
+            commit.invoke(event);
+        } catch (ReflectiveOperationException e) {
+            // the event is lost, there is nothing else to do
+        }
+    }
+
+    private static Object createFactory(Class<?> eventFactory, String name, String label, Object... fields)
+            throws ReflectiveOperationException {
+        List<Object> annotations = new ArrayList<>();
+        annotations.add(annotation("jdk.jfr.Name", "org.mybatis.generator." + name)); //$NON-NLS-1$ //$NON-NLS-2$
+        annotations.add(annotation("jdk.jfr.Label", label)); //$NON-NLS-1$
+        annotations.add(annotation("jdk.jfr.Category", new String[] { CATEGORY })); //$NON-NLS-1$
+        annotations.add(annotation("jdk.jfr.StackTrace", Boolean.FALSE)); //$NON-NLS-1$
+        return eventFactory.getMethod("create", List.class, List.class) //$NON-NLS-1$
+                .invoke(null, annotations, Arrays.asList(fields));
+    }
+
+    private static Object field(Class<?> type, String name, Object annotation) throws ReflectiveOperationException {
+        Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor"); //$NON-NLS-1$
+        Constructor<?> constructor = valueDescriptor.getConstructor(Class.class, String.class, List.class);
+        List<Object> annotations = annotation == null ? Collections.emptyList()
+                : Collections.singletonList(annotation);
+        return constructor.newInstance(type, name, annotations);
+    }
+
+    private static Object timespan() throws ReflectiveOperationException {
+        return annotation("jdk.jfr.Timespan", "NANOSECONDS"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private static Object dataAmount() throws ReflectiveOperationException {
+        return annotation("jdk.jfr.DataAmount", "BYTES"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object annotation(String type, Object value) throws ReflectiveOperationException {
+        Class<? extends Annotation> annotationType = (Class<? extends Annotation>) Class.forName(type);
+        Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement"); //$NON-NLS-1$
+        return annotationElement.getConstructor(Class.class, Object.class).newInstance(annotationType, value);
+    }
+}
@@ -19,8 +19,10 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.mybatis.generator.api.CommentGenerator;
 import org.mybatis.generator.api.ConnectionFactory;
@@ -57,8 +59,15 @@ public class ObjectFactory {
 
     private static final List<ClassLoader> externalClassLoaders;
 
+    /** Results of external class lookups by type name, including classes that were not found. */
+    private static final Map<String, ClassLookup> externalClasses = new ConcurrentHashMap<>();
+
+    /** Results of internal class lookups by type name, including classes that were not found. */
+    private static final Map<String, ClassLookup> internalClasses = new ConcurrentHashMap<>();
+
     static {
-        externalClassLoaders = new ArrayList<>();
+        // contexts may be run in parallel, so the list must be safe to iterate while it changes
+        externalClassLoaders = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -77,6 +86,8 @@ public class ObjectFactory {
      */
     public static void reset() {
         externalClassLoaders.clear();
+        externalClasses.clear();
+        internalClasses.clear();
     }
 
     /**
@@ -90,6 +101,8 @@ public class ObjectFactory {
     public static synchronized void addExternalClassLoader(
             ClassLoader classLoader) {
         ObjectFactory.externalClassLoaders.add(classLoader);
+        // the new class loader may find classes that were not found before
+        externalClasses.clear();
     }
 
     /**
@@ -105,7 +118,10 @@ public class ObjectFactory {
      */
     public static Class<?> externalClassForName(String type)
             throws ClassNotFoundException {
+        return classForName(externalClasses, type, ObjectFactory::loadExternalClass);
+    }
 
+    private static Class<?> loadExternalClass(String type) throws ClassNotFoundException {
         Class<?> clazz;
 
         for (ClassLoader classLoader : externalClassLoaders) {
@@ -136,6 +152,10 @@ public class ObjectFactory {
 
     public static Class<?> internalClassForName(String type)
             throws ClassNotFoundException {
+        return classForName(internalClasses, type, ObjectFactory::loadInternalClass);
+    }
+
+    private static Class<?> loadInternalClass(String type) throws ClassNotFoundException {
         Class<?> clazz = null;
 
         try {
@@ -152,6 +172,48 @@ public class ObjectFactory {
         return clazz;
     }
 
+    /**
+     * Returns a class from the lookup cache, loading it on a cache miss. Failed lookups are cached
+     * too, as they are the expensive case - every class loader is tried and throws an exception.
+     * The result depends on the context class loader, so a cached lookup is only used by threads
+     * with the same context class loader.
+     */
+    private static Class<?> classForName(Map<String, ClassLookup> cache, String type, ClassLoading loading)
+            throws ClassNotFoundException {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ClassLookup lookup = cache.get(type);
+        if (lookup == null || lookup.contextClassLoader != contextClassLoader) {
+            Class<?> clazz;
+            try {
+                clazz = loading.load(type);
+            } catch (ClassNotFoundException e) {
+                clazz = null;
+            }
+            lookup = new ClassLookup(contextClassLoader, clazz);
+            cache.put(type, lookup);
+        }
+
+        if (lookup.clazz == null) {
+            throw new ClassNotFoundException(type);
+        }
+        return lookup.clazz;
+    }
+
+    @FunctionalInterface
+    private interface ClassLoading {
+        Class<?> load(String type) throws ClassNotFoundException;
+    }
+
+    private static class ClassLookup {
+        private final ClassLoader contextClassLoader;
+        private final Class<?> clazz;
+
+        ClassLookup(ClassLoader contextClassLoader, Class<?> clazz) {
+            this.contextClassLoader = contextClassLoader;
+            this.clazz = clazz;
+        }
+    }
+
     public static URL getResource(String resource) {
         URL url;
 
@@ -0,0 +1,203 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class is for internal use only. It runs a list of independent tasks on a
+ * fixed size pool of daemon threads and returns the results in the same order as
+ * the tasks were supplied, so callers can merge the results deterministically.
+ *
+ * <p>If any task fails, the remaining tasks are cancelled and the failure is
+ * rethrown on the calling thread. Shutting the executor down interrupts the running
+ * tasks and waits, for a bounded time, until they have stopped. Callers can tell
+ * whether resources the tasks use can be released safely afterwards.
+ */
+public class ParallelExecutor implements AutoCloseable {
+
+    /** How long {@link #close()} waits for the running tasks to stop. */
+    private static final long CLOSE_TIMEOUT_SECONDS = 60;
+
+    private final ExecutorService executorService;
+
+    public ParallelExecutor(int threads, String threadNamePrefix) {
+        super();
+        executorService = Executors.newFixedThreadPool(threads, new NamedThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * Runs all tasks and waits for them to finish.
+     *
+     * @param <T>
+     *            the result type of the tasks
+     * @param tasks
+     *            the tasks to run
+     * @return the results of the tasks, in task order
+     * @throws InterruptedException
+     *             if a task was canceled, or the calling thread was interrupted
+     */
+    public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws InterruptedException {
+        return invokeAll(tasks, RuntimeException.class);
+    }
+
+    /**
+     * Runs all tasks and waits for them to finish. If a task throws an exception of the
+     * specified type, that exception is rethrown unchanged.
+     *
+     * @param <T>
+     *            the result type of the tasks
+     * @param <E>
+     *            the checked exception type the tasks may throw
+     * @param tasks
+     *            the tasks to run
+     * @param exceptionType
+     *            the checked exception type the tasks may throw
+     * @return the results of the tasks, in task order
+     * @throws E
+     *             if a task failed with an exception of the specified type
+     * @throws InterruptedException
+     *             if a task was canceled, or the calling thread was interrupted
+     */
+    public <T, E extends Exception> List<T> invokeAll(List<? extends Callable<T>> tasks,
+            Class<E> exceptionType) throws E, InterruptedException {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executorService.submit(task));
+        }
+
+        List<T> answer = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : futures) {
+                answer.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (exceptionType.isInstance(cause)) {
+                throw exceptionType.cast(cause);
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        return answer;
+    }
+
+    /**
+     * Interrupts the running tasks and waits until they have stopped, but no longer than the
+     * timeout. A task blocked in a call that ignores interrupts, such as some JDBC calls, may keep
+     * running. If the calling thread is interrupted while waiting, it stops waiting and its interrupt
+     * status is set again.
+     *
+     * @param timeout
+     *            the maximum time to wait
+     * @param unit
+     *            the unit of the timeout
+     * @return true if every task has stopped, false if some task is still running
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        executorService.shutdownNow();
+        try {
+            return executorService.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return executorService.isTerminated();
+        }
+    }
+
+    /**
+     * Interrupts the running tasks and waits up to a minute until they have stopped.
+     *
+     * @see #shutdown(long, TimeUnit)
+     */
+    @Override
+    public void close() {
+        shutdown(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Calculates the number of threads to use from a configuration property value.
+     *
+     * @param property
+     *            the property value, may be null
+     * @return the number of threads specified by the property, or the number of
+     *         available processors if the property is not specified or invalid
+     */
+    public static int calculateThreadCount(String property) {
+        return calculateThreadCount(property, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Calculates the number of threads to use from a configuration property value.
+     *
+     * @param property
+     *            the property value, may be null
+     * @param defaultThreads
+     *            the number of threads to use if the property is not specified or invalid
+     * @return the number of threads
+     */
+    public static int calculateThreadCount(String property, int defaultThreads) {
+        if (stringHasValue(property)) {
+            try {
+                int threads = Integer.parseInt(property.trim());
+                if (threads > 0) {
+                    return threads;
+                }
+            } catch (NumberFormatException e) {
+                // ignore - use the default
+            }
+        }
+
+        return defaultThreads;
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String prefix;
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, prefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
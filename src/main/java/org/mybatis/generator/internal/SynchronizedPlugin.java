@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.mybatis.generator.api.Plugin;
+
+/**
+ * This class is for internal use only. It wraps a plugin that is not thread safe so that
+ * all calls into the plugin are serialized when tables are generated in parallel.
+ */
+public final class SynchronizedPlugin implements InvocationHandler {
+
+    private final Plugin delegate;
+
+    private SynchronizedPlugin(Plugin delegate) {
+        this.delegate = delegate;
+    }
+
+    public static Plugin wrap(Plugin plugin) {
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(),
+                new Class<?>[] { Plugin.class }, new SynchronizedPlugin(plugin));
+    }
+
+    /**
+     * Returns the plugin wrapped by {@link #wrap(Plugin)}, or the plugin itself if it is not wrapped.
+     *
+     * @param plugin
+     *            the plugin, possibly wrapped
+     * @return the plugin that implements the plugin methods
+     */
+    public static Plugin unwrap(Plugin plugin) {
+        if (Proxy.isProxyClass(plugin.getClass())
+                && Proxy.getInvocationHandler(plugin) instanceof SynchronizedPlugin) {
+            return ((SynchronizedPlugin) Proxy.getInvocationHandler(plugin)).delegate;
+        }
+        return plugin;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        synchronized (delegate) {
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedIndex;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.config.PropertyRegistry;
+
+/**
+ * Calculates a stable fingerprint of everything that influences the code generated for a table:
+ * the introspected metadata, the table configuration, the context configuration, the plugins,
+ * and the generator version. The code of the generator and of every configured class is included
+ * as a digest of the jar file or class directory it is loaded from, so a changed helper class
+ * or an upgraded dependency in the same jar is detected too.
+ *
+ * <p>Configuration objects are described by walking their fields, so new configuration options
+ * are picked up without changes to this class.
+ */
+public class TableFingerprint {
+
+    private static final String CONFIG_PACKAGE = "org.mybatis.generator.config"; //$NON-NLS-1$
+
+    /** context properties that change how MBG runs, but not what it generates. */
+    private static final List<String> EXECUTION_PROPERTIES = Arrays.asList(
+            PropertyRegistry.CONTEXT_PARALLEL_GENERATION,
+            PropertyRegistry.CONTEXT_GENERATION_THREADS,
+            PropertyRegistry.CONTEXT_STREAMING_GENERATION,
+            PropertyRegistry.CONTEXT_PARALLEL_INTROSPECTION,
+            PropertyRegistry.CONTEXT_INTROSPECTION_CONNECTIONS,
+            PropertyRegistry.CONTEXT_BULK_INTROSPECTION,
+            PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_FILE,
+            PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_MODE,
+            PropertyRegistry.CONTEXT_INCREMENTAL_MANIFEST,
+            PropertyRegistry.CONTEXT_SKIP_UNCHANGED_FILES,
+            PropertyRegistry.CONTEXT_PARALLEL_SAVE,
+            PropertyRegistry.CONTEXT_CONCURRENT_FILE_WRITES);
+
+    /** digests of the jar files and class directories, by path. */
+    private static final Map<Path, String> CODE_SOURCE_DIGESTS = new ConcurrentHashMap<>();
+
+    private final String contextDescription;
+
+    /**
+     * Describes the context level input of the fingerprint. This is done once per generation run.
+     *
+     * @param context
+     *            the context
+     * @param pluginConfigurations
+     *            the plugin configurations of the context
+     */
+    public TableFingerprint(Context context, List<PluginConfiguration> pluginConfigurations) {
+        StringBuilder sb = new StringBuilder();
+        String version = MyBatisGenerator.class.getPackage().getImplementationVersion();
+        sb.append("generator=").append(version == null ? "development" : version); //$NON-NLS-1$ //$NON-NLS-2$
+        sb.append(";context="); //$NON-NLS-1$
+        describe(sb, context.getId());
+        describe(sb, context.getTargetRuntime());
+        describe(sb, context.getDefaultModelType());
+        describe(sb, context.getIntrospectedColumnImpl());
+        describe(sb, context.getBeginningDelimiter());
+        describe(sb, context.getEndingDelimiter());
+        describe(sb, context.autoDelimitKeywords());
+        Properties properties = new Properties();
+        properties.putAll(context.getProperties());
+        EXECUTION_PROPERTIES.forEach(properties::remove);
+        describe(sb, properties);
+        describe(sb, context.getJavaModelGeneratorConfiguration());
+        describe(sb, context.getSqlMapGeneratorConfiguration());
+        describe(sb, context.getJavaClientGeneratorConfiguration());
+        describe(sb, context.getJavaTypeResolverConfiguration());
+        describe(sb, context.getCommentGeneratorConfiguration());
+        describe(sb, pluginConfigurations);
+
+        sb.append(";classes="); //$NON-NLS-1$
+        // the generator's own code source also covers the built in runtimes, plugins and
+        // resolvers, and the classes they use
+        describeCodeSource(sb, MyBatisGenerator.class.getName());
+        describeCodeSource(sb, context.getTargetRuntime());
+        describeCodeSource(sb, context.getIntrospectedColumnImpl());
+        if (context.getJavaTypeResolverConfiguration() != null) {
+            describeCodeSource(sb, context.getJavaTypeResolverConfiguration().getConfigurationType());
+        }
+        if (context.getCommentGeneratorConfiguration() != null) {
+            describeCodeSource(sb, context.getCommentGeneratorConfiguration().getConfigurationType());
+        }
+        for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
+            describeCodeSource(sb, pluginConfiguration.getConfigurationType());
+        }
+
+        contextDescription = sb.toString();
+    }
+
+    /**
+     * Returns the fingerprint of a table, as a hex string.
+     *
+     * @param introspectedTable
+     *            the introspected table (before initialization)
+     * @return the fingerprint
+     */
+    public String calculate(IntrospectedTable introspectedTable) {
+        StringBuilder sb = new StringBuilder(contextDescription);
+
+        FullyQualifiedTable table = introspectedTable.getFullyQualifiedTable();
+        sb.append(";table="); //$NON-NLS-1$
+        describe(sb, table.toString());
+        describe(sb, table.getDomainObjectName());
+        describe(sb, introspectedTable.getRemarks());
+        describe(sb, introspectedTable.getTableType());
+        describe(sb, introspectedTable.getTableConfiguration());
+
+        sb.append(";primaryKey="); //$NON-NLS-1$
+        for (IntrospectedColumn column : introspectedTable.getPrimaryKeyColumns()) {
+            describe(sb, column.getActualColumnName());
+        }
+
+        sb.append(";indexes="); //$NON-NLS-1$
+        for (IntrospectedIndex index : introspectedTable.getIndexes()) {
+            describe(sb, index.getName());
+            describe(sb, index.isUnique());
+            for (IntrospectedColumn column : index.getColumns()) {
+                describe(sb, column.getActualColumnName());
+            }
+        }
+
+        sb.append(";columns="); //$NON-NLS-1$
+        for (IntrospectedColumn column : introspectedTable.getAllColumns()) {
+            describe(sb, column.getActualColumnName());
+            describe(sb, column.getJdbcType());
+            describe(sb, column.getActualTypeName());
+            describe(sb, column.getLength());
+            describe(sb, column.getScale());
+            describe(sb, column.isNullable());
+            describe(sb, column.getRemarks());
+            describe(sb, column.getDefaultValue());
+            describe(sb, column.isAutoIncrement());
+            describe(sb, column.isGeneratedColumn());
+            describe(sb, column.isGeneratedAlways());
+            describe(sb, column.isIdentity());
+            describe(sb, column.isSequenceColumn());
+            describe(sb, column.isColumnNameDelimited());
+            describe(sb, column.getJavaProperty());
+            describe(sb, column.getFullyQualifiedJavaType() == null ? null
+                    : column.getFullyQualifiedJavaType().getFullyQualifiedName());
+            describe(sb, column.getJdbcTypeName());
+            describe(sb, column.getTypeHandler());
+            describe(sb, column.getTableAlias());
+            describe(sb, column.getProperties());
+        }
+
+        return digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void describe(StringBuilder sb, Object o) {
+        if (o == null) {
+            sb.append("null"); //$NON-NLS-1$
+        } else if (o instanceof CharSequence || o instanceof Number || o instanceof Boolean
+                || o instanceof Character || o instanceof Enum) {
+            String s = o.toString();
+            // length prefix keeps the description unambiguous
+            sb.append(s.length()).append(':').append(s);
+        } else if (o instanceof Pattern) {
+            describe(sb, ((Pattern) o).pattern());
+        } else if (o instanceof Map) {
+            // sort by the description of the keys so the order of hash based maps does not matter
+            Map<String, Object> sorted = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) o).entrySet()) {
+                StringBuilder key = new StringBuilder();
+                describe(key, entry.getKey());
+                sorted.put(key.toString(), entry.getValue());
+            }
+            sb.append('{');
+            for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+                sb.append(entry.getKey()).append('=');
+                describe(sb, entry.getValue());
+                sb.append(',');
+            }
+            sb.append('}');
+        } else if (o instanceof Collection) {
+            sb.append('[');
+            for (Object element : (Collection<?>) o) {
+                describe(sb, element);
+                sb.append(',');
+            }
+            sb.append(']');
+        } else if (o.getClass().getName().startsWith(CONFIG_PACKAGE) && !(o instanceof Context)) {
+            sb.append(o.getClass().getName()).append('(');
+            for (Field field : getFields(o.getClass())) {
+                sb.append(field.getName()).append('=');
+                try {
+                    describe(sb, field.get(o));
+                } catch (IllegalAccessException e) {
+                    sb.append('?');
+                }
+                sb.append(',');
+            }
+            sb.append(')');
+        } else {
+            // no stable description available
+            sb.append(o.getClass().getName());
+        }
+    }
+
+    private static List<Field> getFields(Class<?> clazz) {
+        List<Field> answer = new ArrayList<>();
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    field.setAccessible(true);
+                    answer.add(field);
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static void describeCodeSource(StringBuilder sb, String type) {
+        if (type == null) {
+            return;
+        }
+
+        sb.append(type).append('=');
+        String resource = type.replace('.', '/') + ".class"; //$NON-NLS-1$
+        URL url = ObjectFactory.getResource(resource);
+        if (url == null) {
+            // an alias such as "MyBatis3" (covered by the code source of the generator),
+            // or a class that cannot be found
+            sb.append("?,"); //$NON-NLS-1$
+            return;
+        }
+
+        Path codeSource = getCodeSource(url, resource);
+        try {
+            if (codeSource == null) {
+                // not a jar file or a class directory - use the class file alone
+                try (InputStream is = url.openStream()) {
+                    MessageDigest md = newMessageDigest();
+                    update(md, is);
+                    sb.append(toHex(md.digest()));
+                }
+            } else {
+                sb.append(digestCodeSource(codeSource));
+            }
+        } catch (IOException e) {
+            sb.append('?');
+        }
+        sb.append(',');
+    }
+
+    /**
+     * Returns the jar file or the class directory a class file is loaded from.
+     *
+     * @param url
+     *            the URL of the class file
+     * @param resource
+     *            the resource name of the class file
+     * @return the code source, or null if the URL is not a local jar file or directory
+     */
+    private static Path getCodeSource(URL url, String resource) {
+        try {
+            if ("jar".equals(url.getProtocol())) { //$NON-NLS-1$
+                String path = url.getPath();
+                int index = path.indexOf("!/"); //$NON-NLS-1$
+                URL jarUrl = new URL(path.substring(0, index));
+                return "file".equals(jarUrl.getProtocol()) ? Paths.get(jarUrl.toURI()) : null; //$NON-NLS-1$
+            } else if ("file".equals(url.getProtocol())) { //$NON-NLS-1$
+                Path path = Paths.get(url.toURI());
+                for (int i = 0; i < resource.split("/").length && path != null; i++) { //$NON-NLS-1$
+                    path = path.getParent();
+                }
+                return path;
+            } else {
+                return null;
+            }
+        } catch (MalformedURLException | URISyntaxException | IllegalArgumentException
+                | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Digests a jar file, or every file of a class directory. Code sources do not change while
+     * classes are loaded from them, so each code source is only read once in a process.
+     *
+     * @param codeSource
+     *            the jar file or class directory
+     * @return the digest, as a hex string
+     * @throws IOException
+     *             if the code source cannot be read
+     */
+    static String digestCodeSource(Path codeSource) throws IOException {
+        String answer = CODE_SOURCE_DIGESTS.get(codeSource);
+        if (answer == null) {
+            answer = calculateCodeSourceDigest(codeSource);
+            CODE_SOURCE_DIGESTS.put(codeSource, answer);
+        }
+        return answer;
+    }
+
+    static String calculateCodeSourceDigest(Path codeSource) throws IOException {
+        MessageDigest md = newMessageDigest();
+        if (Files.isDirectory(codeSource)) {
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(codeSource)) {
+                files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                md.update(codeSource.relativize(file).toString().replace('\\', '/')
+                        .getBytes(StandardCharsets.UTF_8));
+                md.update((byte) 0);
+                try (InputStream is = Files.newInputStream(file)) {
+                    update(md, is);
+                }
+            }
+        } else {
+            try (InputStream is = Files.newInputStream(codeSource)) {
+                update(md, is);
+            }
+        }
+        return toHex(md.digest());
+    }
+
+    private static void update(MessageDigest md, InputStream is) throws IOException {
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = is.read(buffer)) != -1) {
+            md.update(buffer, 0, n);
+        }
+    }
+
+    private static String digest(byte[] bytes) {
+        return toHex(newMessageDigest().digest(bytes));
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+            sb.append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.mybatis.generator.api.Plugin;
+
+/**
+ * This class is for internal use only. It wraps a plugin so that the time and allocations of
+ * every call into the plugin are added to the {@link GenerationMetrics} of the run.
+ */
+public final class TimedPlugin implements InvocationHandler {
+
+    private final Plugin delegate;
+
+    private final String pluginType;
+
+    private final GenerationMetrics metrics;
+
+    private TimedPlugin(Plugin delegate, GenerationMetrics metrics) {
+        this.delegate = delegate;
+        this.pluginType = delegate.getClass().getName();
+        this.metrics = metrics;
+    }
+
+    public static Plugin wrap(Plugin plugin, GenerationMetrics metrics) {
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(),
+                new Class<?>[] { Plugin.class }, new TimedPlugin(plugin, metrics));
+    }
+
+    /**
+     * Returns the plugin wrapped by {@link #wrap(Plugin, GenerationMetrics)}, or the plugin itself
+     * if it is not wrapped.
+     *
+     * @param plugin
+     *            the plugin, possibly wrapped
+     * @return the plugin that implements the plugin methods
+     */
+    public static Plugin unwrap(Plugin plugin) {
+        if (Proxy.isProxyClass(plugin.getClass())
+                && Proxy.getInvocationHandler(plugin) instanceof TimedPlugin) {
+            return ((TimedPlugin) Proxy.getInvocationHandler(plugin)).delegate;
+        }
+        return plugin;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeDelegate(method, args);
+        }
+
+        long startTime = metrics.startTime();
+        long startAllocation = metrics.startAllocation();
+        try {
+            return invokeDelegate(method, args);
+        } finally {
+            metrics.pluginHookCompleted(pluginType, method.getName(), startTime, startAllocation);
+        }
+    }
+
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -29,6 +30,7 @@ import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.config.MergeConstants;
@@ -68,31 +70,46 @@ public class XmlFileMergerJaxp {
         }
     }
 
+    private static DocumentBuilderFactory documentBuilderFactory;
+
+    /**
+     * Merges the generated file into the existing file. The files are merged with a streaming
+     * parser ({@link XmlFileMergerStax}) if possible, else with a DOM.
+     */
     public static String getMergedSource(GeneratedXmlFile generatedXmlFile,
             File existingFile) throws ShellException {
 
+        String newContent = generatedXmlFile.getFormattedContent();
         try {
-            return getMergedSource(new InputSource(new StringReader(generatedXmlFile.getFormattedContent())),
-                new InputSource(new InputStreamReader(new FileInputStream(existingFile), StandardCharsets.UTF_8)),
-                existingFile.getName());
+            try (Reader existingReader = newFileReader(existingFile)) {
+                String mergedSource = XmlFileMergerStax.getMergedSource(new StringReader(newContent),
+                        existingReader, existingFile.getName());
+                if (mergedSource != null) {
+                    return mergedSource;
+                }
+            } catch (XMLStreamException e) {
+                // the DOM merge will report the problem
+            }
+
+            try (Reader existingReader = newFileReader(existingFile)) {
+                return getMergedSource(new InputSource(new StringReader(newContent)),
+                        new InputSource(existingReader), existingFile.getName());
+            }
         } catch (IOException | SAXException | ParserConfigurationException e) {
             throw new ShellException(getString("Warning.13", //$NON-NLS-1$
                     existingFile.getName()), e);
         }
     }
 
+    private static Reader newFileReader(File file) throws IOException {
+        return new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
+    }
+
     public static String getMergedSource(InputSource newFile,
             InputSource existingFile, String existingFileName) throws IOException, SAXException,
             ParserConfigurationException, ShellException {
 
-        DocumentBuilderFactory factory = DocumentBuilderFactory
-                .newInstance();
-        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-        factory.setExpandEntityReferences(false);
-        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        builder.setEntityResolver(new NullEntityResolver());
+        DocumentBuilder builder = newDocumentBuilder();
 
         Document existingDocument = builder.parse(existingFile);
         Document newDocument = builder.parse(newFile);
@@ -171,6 +188,26 @@ public class XmlFileMergerJaxp {
         return prettyPrint(existingDocument);
     }
 
+    /**
+     * The factory is created once and shared by all threads, but it is not required to be thread
+     * safe - so builders are created while holding the lock.
+     */
+    private static synchronized DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        if (documentBuilderFactory == null) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory
+                    .newInstance();
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+            factory.setExpandEntityReferences(false);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            documentBuilderFactory = factory;
+        }
+
+        DocumentBuilder builder = documentBuilderFactory.newDocumentBuilder();
+        builder.setEntityResolver(new NullEntityResolver());
+        return builder;
+    }
+
     private static String prettyPrint(Document document) throws ShellException {
         DomWriter dw = new DomWriter();
         return dw.toString(document);
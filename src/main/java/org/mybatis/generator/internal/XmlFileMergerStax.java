@@ -0,0 +1,478 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.mybatis.generator.config.MergeConstants;
+import org.mybatis.generator.exception.ShellException;
+
+/**
+ * This class merges changes into an existing XML file with a single streaming pass over both
+ * files, instead of building a DOM for each of them. The result is identical to the result of
+ * {@link XmlFileMergerJaxp}: the root element gets the attributes of the new root element, the new
+ * child elements come first, and the generated elements of the existing file (and any white space
+ * before them) are removed.
+ *
+ * <p>Files with an internal DTD subset, entity references, or without a document type declaration
+ * are not merged by this class - {@link #getMergedSource(Reader, Reader, String)} returns null for
+ * them, and the caller should use {@link XmlFileMergerJaxp} instead.
+ */
+public class XmlFileMergerStax {
+    private XmlFileMergerStax() {}
+
+    private static final Pattern DOCTYPE_PATTERN = Pattern.compile(
+            "<!DOCTYPE\\s+([^\\s\\[>]+)" //$NON-NLS-1$
+            + "(?:\\s+PUBLIC\\s+(?:\"([^\"]*)\"|'([^']*)')\\s+(?:\"([^\"]*)\"|'([^']*)')" //$NON-NLS-1$
+            + "|\\s+SYSTEM\\s+(?:\"([^\"]*)\"|'([^']*)'))?\\s*>", //$NON-NLS-1$
+            Pattern.DOTALL);
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // never read the DTD - it is not needed for the merge, and it can cause problems
+        // on systems that aren't Internet connected
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        try {
+            // CDATA sections must be written back as CDATA sections
+            factory.setProperty("http://java.sun.com/xml/stream/properties/report-cdata-event", //$NON-NLS-1$
+                    Boolean.TRUE);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return factory;
+    }
+
+    /**
+     * Merges the new file into the existing file.
+     *
+     * @param newFile
+     *            the newly generated file
+     * @param existingFile
+     *            the existing file
+     * @param existingFileName
+     *            the name of the existing file, used in messages
+     * @return the merged source, or null if the files cannot be merged by this class
+     * @throws XMLStreamException
+     *             if either file is not well formed
+     * @throws ShellException
+     *             if the files have different document types
+     */
+    public static String getMergedSource(Reader newFile, Reader existingFile, String existingFileName)
+            throws XMLStreamException, ShellException {
+        if (INPUT_FACTORY == null) {
+            return null;
+        }
+
+        XMLStreamReader existingReader = createReader(existingFile);
+        XMLStreamReader newReader = createReader(newFile);
+        try {
+            return merge(newReader, existingReader, existingFileName);
+        } catch (UnsupportedContentException e) {
+            return null;
+        } finally {
+            newReader.close();
+            existingReader.close();
+        }
+    }
+
+    private static XMLStreamReader createReader(Reader reader) throws XMLStreamException {
+        // the factory is shared by all threads, but it is not required to be thread safe
+        synchronized (INPUT_FACTORY) {
+            return INPUT_FACTORY.createXMLStreamReader(reader);
+        }
+    }
+
+    private static String merge(XMLStreamReader newReader, XMLStreamReader existingReader,
+            String existingFileName) throws XMLStreamException, ShellException, UnsupportedContentException {
+        String version = existingReader.getVersion();
+        Matcher existingDocType = readProlog(existingReader);
+        Matcher newDocType = readProlog(newReader);
+
+        if (!newDocType.group(1).equals(existingDocType.group(1))) {
+            throw new ShellException(getString("Warning.12", //$NON-NLS-1$
+                    existingFileName));
+        }
+
+        MergeWriter writer = new MergeWriter("1.1".equals(version)); //$NON-NLS-1$
+        writer.writeProlog(existingDocType);
+
+        // the merged root element has the name of the existing root element
+        // and the attributes of the new root element
+        writer.writeStartElement(getName(existingReader), getAttributes(newReader));
+
+        copyNewChildren(newReader, writer);
+        copyExistingChildren(existingReader, writer);
+
+        writer.writeEndElement(getName(existingReader));
+        return writer.toString();
+    }
+
+    /**
+     * Reads up to the root element and returns the matched document type declaration.
+     * Everything else before the root element is dropped - as in the DOM merge.
+     */
+    private static Matcher readProlog(XMLStreamReader reader)
+            throws XMLStreamException, UnsupportedContentException {
+        Matcher docType = null;
+        while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+            if (reader.getEventType() == XMLStreamConstants.DTD) {
+                docType = DOCTYPE_PATTERN.matcher(reader.getText());
+                if (!docType.matches()) {
+                    // internal subset
+                    throw new UnsupportedContentException();
+                }
+            } else if (reader.getEventType() == XMLStreamConstants.ENTITY_REFERENCE) {
+                throw new UnsupportedContentException();
+            }
+        }
+
+        if (docType == null) {
+            throw new UnsupportedContentException();
+        }
+        return docType;
+    }
+
+    /**
+     * Copies all children of the new root element, except for trailing white space.
+     */
+    private static void copyNewChildren(XMLStreamReader reader, MergeWriter writer)
+            throws XMLStreamException, UnsupportedContentException {
+        StringBuilder text = new StringBuilder();
+        while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+            if (isText(reader)) {
+                text.append(reader.getText());
+                continue;
+            }
+
+            writeText(text, writer);
+            if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                copyElement(reader, writer, null);
+            } else {
+                copyNode(reader, writer);
+            }
+        }
+
+        // don't add the last node if it is only white space
+        if (!isWhiteSpace(text)) {
+            writeText(text, writer);
+        }
+    }
+
+    /**
+     * Copies the children of the existing root element, except for generated elements and white
+     * space directly before generated elements.
+     */
+    private static void copyExistingChildren(XMLStreamReader reader, MergeWriter writer)
+            throws XMLStreamException, UnsupportedContentException {
+        StringBuilder text = new StringBuilder();
+        while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+            if (isText(reader)) {
+                text.append(reader.getText());
+                continue;
+            }
+
+            if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                // whether an element is generated is known only after its first comment
+                // has been read, so the element is buffered
+                ElementInfo info = new ElementInfo();
+                MergeWriter elementWriter = writer.createBuffer();
+                copyElement(reader, elementWriter, info);
+                if (info.isGenerated()) {
+                    if (!isWhiteSpace(text)) {
+                        writeText(text, writer);
+                    }
+                    text.setLength(0);
+                } else {
+                    writeText(text, writer);
+                    writer.writeBuffer(elementWriter);
+                }
+            } else {
+                writeText(text, writer);
+                copyNode(reader, writer);
+            }
+        }
+
+        writeText(text, writer);
+    }
+
+    private static void writeText(StringBuilder text, MergeWriter writer) {
+        writer.writeText(text.toString());
+        text.setLength(0);
+    }
+
+    /**
+     * Copies the element the reader is positioned at, including all its content.
+     */
+    private static void copyElement(XMLStreamReader reader, MergeWriter writer, ElementInfo info)
+            throws XMLStreamException, UnsupportedContentException {
+        writer.writeStartElement(getName(reader), getAttributes(reader));
+        if (info != null) {
+            info.id = getId(reader);
+        }
+
+        int depth = 0;
+        while (true) {
+            int eventType = reader.next();
+            if (eventType == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                writer.writeStartElement(getName(reader), getAttributes(reader));
+            } else if (eventType == XMLStreamConstants.END_ELEMENT) {
+                writer.writeEndElement(getName(reader));
+                if (depth-- == 0) {
+                    return;
+                }
+            } else {
+                if (info != null && depth == 0 && eventType == XMLStreamConstants.COMMENT
+                        && info.firstComment == null) {
+                    info.firstComment = reader.getText();
+                }
+                copyNode(reader, writer);
+            }
+        }
+    }
+
+    private static void copyNode(XMLStreamReader reader, MergeWriter writer) throws UnsupportedContentException {
+        switch (reader.getEventType()) {
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.SPACE:
+            writer.writeText(reader.getText());
+            break;
+
+        case XMLStreamConstants.CDATA:
+            writer.writeCData(reader.getText());
+            break;
+
+        case XMLStreamConstants.COMMENT:
+            writer.writeComment(reader.getText());
+            break;
+
+        case XMLStreamConstants.PROCESSING_INSTRUCTION:
+            writer.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+            break;
+
+        default:
+            throw new UnsupportedContentException();
+        }
+    }
+
+    private static String getId(XMLStreamReader reader) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if ("id".equals(getQualifiedName(reader.getAttributePrefix(i), //$NON-NLS-1$
+                    reader.getAttributeLocalName(i)))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return ""; //$NON-NLS-1$
+    }
+
+    private static boolean isText(XMLStreamReader reader) {
+        return reader.getEventType() == XMLStreamConstants.CHARACTERS
+                || reader.getEventType() == XMLStreamConstants.SPACE;
+    }
+
+    private static boolean isWhiteSpace(CharSequence text) {
+        return text.length() > 0 && text.toString().trim().isEmpty();
+    }
+
+    private static String getName(XMLStreamReader reader) {
+        return getQualifiedName(reader.getPrefix(), reader.getLocalName());
+    }
+
+    private static String getQualifiedName(String prefix, String localName) {
+        if (prefix == null || prefix.isEmpty()) {
+            return localName;
+        }
+        return prefix + ':' + localName;
+    }
+
+    /**
+     * Returns the attributes and namespace declarations of the current element, sorted by name.
+     */
+    private static List<String[]> getAttributes(XMLStreamReader reader) {
+        List<String[]> attributes = new ArrayList<>();
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            attributes.add(new String[] {
+                    getQualifiedName("xmlns", reader.getNamespacePrefix(i)), //$NON-NLS-1$
+                    reader.getNamespaceURI(i) == null ? "" : reader.getNamespaceURI(i) //$NON-NLS-1$
+            });
+        }
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.add(new String[] {
+                    getQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                    reader.getAttributeValue(i)
+            });
+        }
+
+        attributes.sort(Comparator.comparing(a -> a[0]));
+        return attributes;
+    }
+
+    private static class ElementInfo {
+        private String id;
+        private String firstComment;
+
+        private boolean isGenerated() {
+            return MergeConstants.idStartsWithPrefix(id)
+                    || firstComment != null && MergeConstants.commentContainsTag(firstComment);
+        }
+    }
+
+    private static class UnsupportedContentException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * Writes the merged file in the same format as {@link DomWriter}.
+     */
+    private static class MergeWriter extends DomWriter {
+        private final StringWriter stringWriter = new StringWriter();
+        private boolean startTagOpen;
+
+        MergeWriter(boolean isXML11) {
+            this.isXML11 = isXML11;
+            printWriter = new PrintWriter(stringWriter);
+        }
+
+        MergeWriter createBuffer() {
+            return new MergeWriter(isXML11);
+        }
+
+        void writeProlog(Matcher docType) {
+            if (isXML11) {
+                printWriter.println("<?xml version=\"1.1\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+            } else {
+                printWriter.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+            }
+
+            printWriter.print("<!DOCTYPE "); //$NON-NLS-1$
+            printWriter.print(docType.group(1));
+            String publicId = docType.group(2) == null ? docType.group(3) : docType.group(2);
+            String systemId = docType.group(4) == null ? docType.group(5) : docType.group(4);
+            if (publicId != null) {
+                printWriter.print(" PUBLIC \""); //$NON-NLS-1$
+                printWriter.print(publicId);
+                printWriter.print("\" \""); //$NON-NLS-1$
+                printWriter.print(systemId);
+                printWriter.print('\"');
+            } else {
+                systemId = docType.group(6) == null ? docType.group(7) : docType.group(6);
+                if (systemId != null) {
+                    printWriter.print(" SYSTEM \""); //$NON-NLS-1$
+                    printWriter.print(systemId);
+                    printWriter.print('"');
+                }
+            }
+            printWriter.println('>');
+        }
+
+        void writeStartElement(String name, List<String[]> attributes) {
+            closeStartTag();
+            printWriter.print('<');
+            printWriter.print(name);
+            for (String[] attribute : attributes) {
+                printWriter.print(' ');
+                printWriter.print(attribute[0]);
+                printWriter.print("=\""); //$NON-NLS-1$
+                normalizeAndPrint(attribute[1], true);
+                printWriter.print('"');
+            }
+            startTagOpen = true;
+        }
+
+        void writeEndElement(String name) {
+            if (startTagOpen) {
+                printWriter.print(" />"); //$NON-NLS-1$
+                startTagOpen = false;
+            } else {
+                printWriter.print("</"); //$NON-NLS-1$
+                printWriter.print(name);
+                printWriter.print('>');
+            }
+        }
+
+        void writeText(String text) {
+            if (!text.isEmpty()) {
+                closeStartTag();
+                normalizeAndPrint(text, false);
+            }
+        }
+
+        void writeCData(String data) {
+            closeStartTag();
+            printWriter.print("<![CDATA["); //$NON-NLS-1$
+            // XML parsers normalize line endings to '\n'
+            printWriter.print(data.replace("\n", System.getProperty("line.separator"))); //$NON-NLS-1$ //$NON-NLS-2$
+            printWriter.print("]]>"); //$NON-NLS-1$
+        }
+
+        void writeComment(String comment) {
+            closeStartTag();
+            printWriter.print("<!--"); //$NON-NLS-1$
+            if (comment != null && comment.length() > 0) {
+                normalizeAndPrint(comment, false);
+            }
+            printWriter.print("-->"); //$NON-NLS-1$
+        }
+
+        void writeProcessingInstruction(String target, String data) {
+            closeStartTag();
+            printWriter.print("<?"); //$NON-NLS-1$
+            printWriter.print(target);
+            if (data != null && data.length() > 0) {
+                printWriter.print(' ');
+                printWriter.print(data);
+            }
+            printWriter.print("?>"); //$NON-NLS-1$
+        }
+
+        void writeBuffer(MergeWriter buffer) {
+            closeStartTag();
+            buffer.printWriter.flush();
+            printWriter.print(buffer.stringWriter.getBuffer());
+        }
+
+        private void closeStartTag() {
+            if (startTagOpen) {
+                printWriter.print('>');
+                startTagOpen = false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            printWriter.flush();
+            return stringWriter.toString();
+        }
+    }
+}
@@ -24,12 +24,12 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
@@ -39,6 +39,7 @@ import java.util.regex.Pattern;
 
 import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedIndex;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.JavaTypeResolver;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
@@ -49,6 +50,10 @@ import org.mybatis.generator.config.GeneratedKey;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.config.TableConfiguration;
 import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.ColumnMetadata;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.IndexMetadata;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.PrimaryKeyMetadata;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.TableMetadata;
 import org.mybatis.generator.internal.util.JavaBeansUtil;
 import org.mybatis.generator.logging.Log;
 import org.mybatis.generator.logging.LogFactory;
@@ -63,21 +68,116 @@ public class DatabaseIntrospector {
 
     private final Context context;
 
+    private final SchemaMetadataCache metadataCache;
+
+    private final boolean introspectIndexes;
+
     private final Log logger;
 
     public DatabaseIntrospector(Context context,
             DatabaseMetaData databaseMetaData,
             JavaTypeResolver javaTypeResolver, List<String> warnings) {
+        this(context, databaseMetaData, javaTypeResolver, warnings, null);
+    }
+
+    /**
+     * Constructs an introspector that reads the metadata of whole catalogs/schemas through the
+     * cache, instead of querying the database for every table.
+     *
+     * @param context
+     *            the context
+     * @param databaseMetaData
+     *            the database metadata, may be null if the cache was loaded from a snapshot
+     * @param javaTypeResolver
+     *            the java type resolver
+     * @param warnings
+     *            the list of warnings
+     * @param metadataCache
+     *            the metadata cache, or null to query the database for every table
+     */
+    public DatabaseIntrospector(Context context,
+            DatabaseMetaData databaseMetaData,
+            JavaTypeResolver javaTypeResolver, List<String> warnings,
+            SchemaMetadataCache metadataCache) {
         super();
         this.context = context;
         this.databaseMetaData = databaseMetaData;
         this.javaTypeResolver = javaTypeResolver;
         this.warnings = warnings;
+        this.metadataCache = metadataCache;
+        introspectIndexes = context.isIndexIntrospectionRequired();
         logger = LogFactory.getLog(getClass());
     }
 
+    /**
+     * Calculates the indexes of the table. Index columns that are not part of the introspected table
+     * (for example, ignored columns) are left out, and indexes without any remaining column are
+     * skipped entirely.
+     */
+    private void calculateIndexes(FullyQualifiedTable table,
+            IntrospectedTable introspectedTable) {
+        List<IndexMetadata> rows;
+        try {
+            if (metadataCache == null) {
+                rows = IndexMetadata.read(databaseMetaData, table.getIntrospectedCatalog(),
+                        table.getIntrospectedSchema(), table.getIntrospectedTableName());
+            } else {
+                rows = metadataCache.getIndexes(databaseMetaData, table.getIntrospectedCatalog(),
+                        table.getIntrospectedSchema(), table.getIntrospectedTableName());
+            }
+        } catch (SQLException e) {
+            warnings.add(getString("Warning.35", //$NON-NLS-1$
+                    table.toString(), e.getMessage()));
+            return;
+        }
+
+        Map<String, List<IndexMetadata>> rowsByIndex = new LinkedHashMap<>();
+        for (IndexMetadata row : rows) {
+            rowsByIndex.computeIfAbsent(row.getIndexName(), k -> new ArrayList<>()).add(row);
+        }
+
+        for (Map.Entry<String, List<IndexMetadata>> entry : rowsByIndex.entrySet()) {
+            List<IndexMetadata> indexRows = entry.getValue();
+            indexRows.sort((a, b) -> Short.compare(a.getOrdinalPosition(), b.getOrdinalPosition()));
+
+            boolean unique = false;
+            List<IntrospectedColumn> indexColumns = new ArrayList<>();
+            for (IndexMetadata row : indexRows) {
+                unique |= !row.isNonUnique();
+                introspectedTable.getColumn(row.getColumnName()).ifPresent(indexColumns::add);
+            }
+
+            if (!indexColumns.isEmpty()) {
+                introspectedTable.addIndex(new IntrospectedIndex(entry.getKey(), unique, indexColumns));
+            }
+        }
+    }
+
     private void calculatePrimaryKey(FullyQualifiedTable table,
             IntrospectedTable introspectedTable) {
+        if (metadataCache != null) {
+            List<PrimaryKeyMetadata> keys;
+            try {
+                keys = metadataCache.getPrimaryKeys(databaseMetaData,
+                        table.getIntrospectedCatalog(), table.getIntrospectedSchema(),
+                        table.getIntrospectedTableName());
+            } catch (SQLException e) {
+                warnings.add(getString("Warning.15")); //$NON-NLS-1$
+                return;
+            }
+
+            // keep primary columns in key sequence order
+            Map<Short, String> keyColumns = new TreeMap<>();
+            for (PrimaryKeyMetadata key : keys) {
+                keyColumns.put(key.getKeySequence(), key.getColumnName());
+            }
+
+            for (String columnName : keyColumns.values()) {
+                introspectedTable.addPrimaryKeyColumn(columnName);
+            }
+            return;
+        }
+
         ResultSet rs;
 
         try {
@@ -432,13 +532,13 @@ public class DatabaseIntrospector {
             localCatalog = tc.getCatalog();
             localSchema = tc.getSchema();
             localTableName = tc.getTableName();
-        } else if (databaseMetaData.storesLowerCaseIdentifiers()) {
+        } else if (storesLowerCaseIdentifiers()) {
             localCatalog = tc.getCatalog() == null ? null : tc.getCatalog()
                     .toLowerCase();
             localSchema = tc.getSchema() == null ? null : tc.getSchema()
                     .toLowerCase();
             localTableName = tc.getTableName().toLowerCase();
-        } else if (databaseMetaData.storesUpperCaseIdentifiers()) {
+        } else if (storesUpperCaseIdentifiers()) {
             localCatalog = tc.getCatalog() == null ? null : tc.getCatalog()
                     .toUpperCase();
             localSchema = tc.getSchema() == null ? null : tc.getSchema()
@@ -451,7 +551,8 @@ public class DatabaseIntrospector {
         }
 
         if (tc.isWildcardEscapingEnabled()) {
-            String escapeString = databaseMetaData.getSearchStringEscape();
+            String escapeString = metadataCache == null ? databaseMetaData.getSearchStringEscape()
+                    : metadataCache.getSearchStringEscape(databaseMetaData);
 
             if (localSchema != null) {
                 localSchema = escapeName(localSchema, escapeString);
@@ -468,51 +569,42 @@ public class DatabaseIntrospector {
             logger.debug(getString("Tracing.1", fullTableName)); //$NON-NLS-1$
         }
 
-        ResultSet rs = databaseMetaData.getColumns(localCatalog, localSchema,
-                localTableName, "%"); //$NON-NLS-1$
-
-        boolean supportsIsAutoIncrement = false;
-        boolean supportsIsGeneratedColumn = false;
-        ResultSetMetaData rsmd = rs.getMetaData();
-        int colCount = rsmd.getColumnCount();
-        for (int i = 1; i <= colCount; i++) {
-            if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
-                supportsIsAutoIncrement = true;
-            }
-            if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
-                supportsIsGeneratedColumn = true;
-            }
+        List<ColumnMetadata> rows;
+        if (metadataCache == null) {
+            ResultSet rs = databaseMetaData.getColumns(localCatalog, localSchema,
+                    localTableName, "%"); //$NON-NLS-1$
+            rows = ColumnMetadata.read(rs);
+            closeResultSet(rs);
+        } else {
+            rows = metadataCache.getColumns(databaseMetaData, localCatalog, localSchema,
+                    localTableName);
         }
 
-        while (rs.next()) {
+        for (ColumnMetadata row : rows) {
             IntrospectedColumn introspectedColumn = ObjectFactory
                     .createIntrospectedColumn(context);
 
             introspectedColumn.setTableAlias(tc.getAlias());
-            introspectedColumn.setJdbcType(rs.getInt("DATA_TYPE")); //$NON-NLS-1$
-            introspectedColumn.setActualTypeName(rs.getString("TYPE_NAME")); //$NON-NLS-1$
-            introspectedColumn.setLength(rs.getInt("COLUMN_SIZE")); //$NON-NLS-1$
-            introspectedColumn.setActualColumnName(rs.getString("COLUMN_NAME")); //$NON-NLS-1$
+            introspectedColumn.setJdbcType(row.getDataType());
+            introspectedColumn.setActualTypeName(row.getTypeName());
+            introspectedColumn.setLength(row.getColumnSize());
+            introspectedColumn.setActualColumnName(row.getColumnName());
             introspectedColumn
-                    .setNullable(rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable); //$NON-NLS-1$
-            introspectedColumn.setScale(rs.getInt("DECIMAL_DIGITS")); //$NON-NLS-1$
-            introspectedColumn.setRemarks(rs.getString("REMARKS")); //$NON-NLS-1$
-            introspectedColumn.setDefaultValue(rs.getString("COLUMN_DEF")); //$NON-NLS-1$
-
-            if (supportsIsAutoIncrement) {
-                introspectedColumn.setAutoIncrement(
-                        "YES".equals(rs.getString("IS_AUTOINCREMENT"))); //$NON-NLS-1$ //$NON-NLS-2$
+                    .setNullable(row.getNullable() == DatabaseMetaData.columnNullable);
+            introspectedColumn.setScale(row.getDecimalDigits());
+            introspectedColumn.setRemarks(row.getRemarks());
+            introspectedColumn.setDefaultValue(row.getColumnDefault());
+
+            if (row.getAutoIncrement() != null) {
+                introspectedColumn.setAutoIncrement(row.getAutoIncrement());
             }
 
-            if (supportsIsGeneratedColumn) {
-                introspectedColumn.setGeneratedColumn(
-                        "YES".equals(rs.getString("IS_GENERATEDCOLUMN"))); //$NON-NLS-1$ //$NON-NLS-2$
+            if (row.getGeneratedColumn() != null) {
+                introspectedColumn.setGeneratedColumn(row.getGeneratedColumn());
             }
 
-            ActualTableName atn = new ActualTableName(
-                    rs.getString("TABLE_CAT"), //$NON-NLS-1$
-                    rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
-                    rs.getString("TABLE_NAME")); //$NON-NLS-1$
+            ActualTableName atn = new ActualTableName(row.getCatalog(),
+                    row.getSchema(), row.getTableName());
 
             List<IntrospectedColumn> columns = answer.computeIfAbsent(atn, k -> new ArrayList<>());
 
@@ -527,8 +619,6 @@ public class DatabaseIntrospector {
             }
         }
 
-        closeResultSet(rs);
-
         if (answer.size() > 1
                 && !stringContainsSQLWildcard(localSchema)
                 && !stringContainsSQLWildcard(localTableName)) {
@@ -555,6 +645,16 @@ public class DatabaseIntrospector {
         return answer;
     }
 
+    private boolean storesLowerCaseIdentifiers() throws SQLException {
+        return metadataCache == null ? databaseMetaData.storesLowerCaseIdentifiers()
+                : metadataCache.storesLowerCaseIdentifiers(databaseMetaData);
+    }
+
+    private boolean storesUpperCaseIdentifiers() throws SQLException {
+        return metadataCache == null ? databaseMetaData.storesUpperCaseIdentifiers()
+                : metadataCache.storesUpperCaseIdentifiers(databaseMetaData);
+    }
+
     private String escapeName(String localName, String escapeString) {
         StringTokenizer st = new StringTokenizer(localName, "_%", true); //$NON-NLS-1$
         StringBuilder sb = new StringBuilder();
@@ -613,6 +713,10 @@ public class DatabaseIntrospector {
 
             calculatePrimaryKey(table, introspectedTable);
 
+            if (introspectIndexes) {
+                calculateIndexes(table, introspectedTable);
+            }
+
             enhanceIntrospectedTable(introspectedTable);
 
             answer.add(introspectedTable);
@@ -633,6 +737,16 @@ public class DatabaseIntrospector {
         try {
             FullyQualifiedTable fqt = introspectedTable.getFullyQualifiedTable();
 
+            if (metadataCache != null) {
+                TableMetadata table = metadataCache.getTable(databaseMetaData, fqt.getIntrospectedCatalog(),
+                        fqt.getIntrospectedSchema(), fqt.getIntrospectedTableName());
+                if (table != null) {
+                    introspectedTable.setRemarks(table.getRemarks());
+                    introspectedTable.setTableType(table.getTableType());
+                }
+                return;
+            }
+
             ResultSet rs = databaseMetaData.getTables(fqt.getIntrospectedCatalog(), fqt.getIntrospectedSchema(),
                     fqt.getIntrospectedTableName(), null);
             if (rs.next()) {
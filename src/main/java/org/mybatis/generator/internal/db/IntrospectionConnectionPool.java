@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import org.mybatis.generator.api.ConnectionFactory;
+
+/**
+ * A small, bounded pool of JDBC connections used for parallel table introspection.
+ * Connections are created on demand through the configured connection factory, up to
+ * the maximum size of the pool. Closing the pool closes the idle connections. A connection
+ * that is still leased is closed when it is released, so closing the pool never closes a
+ * connection another thread is using.
+ */
+public class IntrospectionConnectionPool implements AutoCloseable {
+
+    private final ConnectionFactory connectionFactory;
+
+    private final Semaphore permits;
+
+    private final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+
+    private boolean closed;
+
+    public IntrospectionConnectionPool(ConnectionFactory connectionFactory, int maximumSize) {
+        super();
+        this.connectionFactory = connectionFactory;
+        permits = new Semaphore(maximumSize);
+    }
+
+    /**
+     * Leases a connection from the pool, waiting if all connections are in use. Every leased
+     * connection must be returned with {@link #release(Connection)}.
+     *
+     * @return a connection
+     * @throws SQLException
+     *             if a new connection cannot be created
+     * @throws InterruptedException
+     *             if the thread is interrupted while waiting for a connection
+     */
+    public Connection lease() throws SQLException, InterruptedException {
+        permits.acquire();
+
+        Connection connection = idleConnections.poll();
+        if (connection != null) {
+            return connection;
+        }
+
+        try {
+            return connectionFactory.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(Connection connection) {
+        synchronized (this) {
+            if (!closed) {
+                idleConnections.add(connection);
+                permits.release();
+                return;
+            }
+        }
+        closeQuietly(connection);
+    }
+
+    @Override
+    public void close() {
+        List<Connection> connections = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            idleConnections.drainTo(connections);
+        }
+        for (Connection connection : connections) {
+            closeQuietly(connection);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // ignore
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.composeFullyQualifiedTableName;
+import static org.mybatis.generator.internal.util.StringUtility.stringContainsSpace;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.ColumnMetadata;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.IndexMetadata;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.PrimaryKeyMetadata;
+
+/**
+ * Detects which table configurations of a context are affected by schema changes. Each check
+ * reads the column, primary key and index metadata of the configured catalogs/schemas in bulk, and
+ * compares a description of every configured table with the description of the previous check.
+ *
+ * <p>When the context introspects from a schema snapshot, the snapshot file is watched instead of
+ * the database.
+ */
+public class SchemaChangeDetector {
+
+    private final Context context;
+
+    /** table name, as composed for the -tables argument, to the metadata description. */
+    private Map<String, String> descriptions = Collections.emptyMap();
+
+    public SchemaChangeDetector(Context context) {
+        super();
+        this.context = context;
+    }
+
+    /**
+     * Reads the current metadata of the configured tables, and returns the tables whose metadata
+     * changed since the previous call. The first call returns every configured table.
+     *
+     * @return the fully qualified names of the changed tables, as specified in the configuration
+     * @throws SQLException
+     *             if the metadata cannot be read. The state of the previous call is kept, so the
+     *             changes are reported by the next successful call
+     */
+    public Set<String> detectChangedTables() throws SQLException {
+        Map<String, String> current;
+        if (context.isSchemaSnapshotReadEnabled()) {
+            current = describeSnapshot();
+        } else {
+            Connection connection = context.getConnection();
+            try {
+                current = describeTables(connection.getMetaData());
+            } finally {
+                context.closeConnection(connection);
+            }
+        }
+
+        Set<String> answer = new LinkedHashSet<>();
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            if (!entry.getValue().equals(descriptions.get(entry.getKey()))) {
+                answer.add(entry.getKey());
+            }
+        }
+        descriptions = current;
+        return answer;
+    }
+
+    private Map<String, String> describeSnapshot() {
+        File snapshotFile = new File(context.getProperty(PropertyRegistry.CONTEXT_SCHEMA_SNAPSHOT_FILE));
+        String description = snapshotFile.lastModified() + "/" + snapshotFile.length(); //$NON-NLS-1$
+
+        Map<String, String> answer = new LinkedHashMap<>();
+        for (TableConfiguration tc : context.getTableConfigurations()) {
+            answer.put(getTableName(tc), description);
+        }
+        return answer;
+    }
+
+    private Map<String, String> describeTables(DatabaseMetaData databaseMetaData) throws SQLException {
+        // a new cache for every check, so each catalog/schema is read once per check
+        SchemaMetadataCache metadataCache = new SchemaMetadataCache();
+
+        Map<String, String> answer = new LinkedHashMap<>();
+        for (TableConfiguration tc : context.getTableConfigurations()) {
+            if (tc.areAnyStatementsEnabled()) {
+                answer.put(getTableName(tc), describeTable(databaseMetaData, metadataCache, tc));
+            }
+        }
+        return answer;
+    }
+
+    private String describeTable(DatabaseMetaData databaseMetaData, SchemaMetadataCache metadataCache,
+            TableConfiguration tc) throws SQLException {
+        String localCatalog = tc.getCatalog();
+        String localSchema = tc.getSchema();
+        String localTableName = tc.getTableName();
+
+        // the same case conversion and escaping as in DatabaseIntrospector
+        if (!tc.isDelimitIdentifiers()
+                && !stringContainsSpace(localCatalog)
+                && !stringContainsSpace(localSchema)
+                && !stringContainsSpace(localTableName)) {
+            if (metadataCache.storesLowerCaseIdentifiers(databaseMetaData)) {
+                localCatalog = localCatalog == null ? null : localCatalog.toLowerCase();
+                localSchema = localSchema == null ? null : localSchema.toLowerCase();
+                localTableName = localTableName.toLowerCase();
+            } else if (metadataCache.storesUpperCaseIdentifiers(databaseMetaData)) {
+                localCatalog = localCatalog == null ? null : localCatalog.toUpperCase();
+                localSchema = localSchema == null ? null : localSchema.toUpperCase();
+                localTableName = localTableName.toUpperCase();
+            }
+        }
+
+        if (tc.isWildcardEscapingEnabled()) {
+            String escapeString = metadataCache.getSearchStringEscape(databaseMetaData);
+            if (localSchema != null) {
+                localSchema = escape(localSchema, escapeString);
+            }
+            localTableName = escape(localTableName, escapeString);
+        }
+
+        // group by actual table - the table name may be a pattern
+        Map<String, List<ColumnMetadata>> columnsByTable = new HashMap<>();
+        for (ColumnMetadata column : metadataCache.getColumns(databaseMetaData, localCatalog, localSchema,
+                localTableName)) {
+            String actualTableName = composeFullyQualifiedTableName(column.getCatalog(), column.getSchema(),
+                    column.getTableName(), '.');
+            columnsByTable.computeIfAbsent(actualTableName, k -> new ArrayList<>()).add(column);
+        }
+
+        List<String> actualTableNames = new ArrayList<>(columnsByTable.keySet());
+        Collections.sort(actualTableNames);
+
+        StringBuilder sb = new StringBuilder();
+        for (String actualTableName : actualTableNames) {
+            List<ColumnMetadata> columns = columnsByTable.get(actualTableName);
+            sb.append(actualTableName).append('{');
+            for (ColumnMetadata column : columns) {
+                sb.append(column.getColumnName()).append(',')
+                        .append(column.getDataType()).append(',')
+                        .append(column.getTypeName()).append(',')
+                        .append(column.getColumnSize()).append(',')
+                        .append(column.getDecimalDigits()).append(',')
+                        .append(column.getNullable()).append(',')
+                        .append(column.getColumnDefault()).append(',')
+                        .append(column.getRemarks()).append(',')
+                        .append(column.getAutoIncrement()).append(',')
+                        .append(column.getGeneratedColumn()).append(';');
+            }
+
+            ColumnMetadata first = columns.get(0);
+            List<PrimaryKeyMetadata> keys = new ArrayList<>(metadataCache.getPrimaryKeys(databaseMetaData,
+                    first.getCatalog(), first.getSchema(), first.getTableName()));
+            keys.sort(Comparator.comparing(PrimaryKeyMetadata::getKeySequence));
+            sb.append("key:"); //$NON-NLS-1$
+            for (PrimaryKeyMetadata key : keys) {
+                sb.append(key.getColumnName()).append(';');
+            }
+
+            // indexes are read in any case - plugins may generate methods for them
+            List<IndexMetadata> indexes = new ArrayList<>(metadataCache.getIndexes(databaseMetaData,
+                    first.getCatalog(), first.getSchema(), first.getTableName()));
+            indexes.sort(Comparator.comparing(IndexMetadata::getIndexName)
+                    .thenComparing(IndexMetadata::getOrdinalPosition));
+            sb.append("indexes:"); //$NON-NLS-1$
+            for (IndexMetadata index : indexes) {
+                sb.append(index.getIndexName()).append(',')
+                        .append(index.isNonUnique()).append(',')
+                        .append(index.getColumnName()).append(';');
+            }
+            sb.append('}');
+        }
+        return sb.toString();
+    }
+
+    private static String getTableName(TableConfiguration tc) {
+        return composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(), tc.getTableName(), '.');
+    }
+
+    private static String escape(String localName, String escapeString) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : localName.toCharArray()) {
+            if (c == '_' || c == '%') {
+                sb.append(escapeString);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
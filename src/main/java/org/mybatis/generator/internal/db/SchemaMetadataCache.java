@@ -0,0 +1,742 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Holds the column, primary key, index, and table metadata of whole catalogs/schemas. Each kind of
+ * metadata is read with a single wildcard query the first time a catalog/schema is requested,
+ * bucketed by table name, and then served from memory for every table configuration in that
+ * catalog/schema.
+ *
+ * <p>One cache may be shared by several introspectors running on different threads. The contents
+ * of a cache can be saved to, and loaded from, a {@link SchemaSnapshot}.
+ */
+public class SchemaMetadataCache {
+
+    private static final String MYSQL_PRIMARY_KEYS_QUERY =
+            "select TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION" //$NON-NLS-1$
+            + " from information_schema.KEY_COLUMN_USAGE" //$NON-NLS-1$
+            + " where CONSTRAINT_NAME = 'PRIMARY' and TABLE_SCHEMA = coalesce(?, database())" //$NON-NLS-1$
+            + " order by TABLE_NAME, ORDINAL_POSITION"; //$NON-NLS-1$
+
+    private static final String MYSQL_INDEXES_QUERY =
+            "select TABLE_SCHEMA, TABLE_NAME, NON_UNIQUE, INDEX_NAME, SEQ_IN_INDEX, COLUMN_NAME" //$NON-NLS-1$
+            + " from information_schema.STATISTICS" //$NON-NLS-1$
+            + " where TABLE_SCHEMA = coalesce(?, database())" //$NON-NLS-1$
+            + " order by TABLE_NAME, NON_UNIQUE, INDEX_NAME, SEQ_IN_INDEX"; //$NON-NLS-1$
+
+    final Map<Scope, Map<String, List<ColumnMetadata>>> columns = new HashMap<>();
+
+    final Map<Scope, Map<String, List<PrimaryKeyMetadata>>> primaryKeys = new HashMap<>();
+
+    final Map<Scope, Map<String, List<TableMetadata>>> tables = new HashMap<>();
+
+    final Map<Scope, Map<String, List<IndexMetadata>>> indexes = new HashMap<>();
+
+    /** scopes whose primary keys cannot be read in bulk, and are read table by table instead. */
+    final Set<Scope> tableByTablePrimaryKeys = new HashSet<>();
+
+    /** scopes whose indexes cannot be read in bulk, and are read table by table instead. */
+    final Set<Scope> tableByTableIndexes = new HashSet<>();
+
+    Boolean storesLowerCaseIdentifiers;
+
+    Boolean storesUpperCaseIdentifiers;
+
+    String searchStringEscape;
+
+    private final boolean offline;
+
+    /**
+     * Constructs an empty cache that reads metadata from the database on demand.
+     */
+    public SchemaMetadataCache() {
+        this(false);
+    }
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param offline
+     *            if true, the cache never reads from the database. Metadata that is not in the cache
+     *            is treated as not existing. This is used for caches loaded from a
+     *            {@link SchemaSnapshot}.
+     */
+    SchemaMetadataCache(boolean offline) {
+        super();
+        this.offline = offline;
+    }
+
+    public synchronized boolean storesLowerCaseIdentifiers(DatabaseMetaData databaseMetaData)
+            throws SQLException {
+        if (storesLowerCaseIdentifiers == null) {
+            storesLowerCaseIdentifiers = !offline && databaseMetaData.storesLowerCaseIdentifiers();
+        }
+        return storesLowerCaseIdentifiers;
+    }
+
+    public synchronized boolean storesUpperCaseIdentifiers(DatabaseMetaData databaseMetaData)
+            throws SQLException {
+        if (storesUpperCaseIdentifiers == null) {
+            storesUpperCaseIdentifiers = !offline && databaseMetaData.storesUpperCaseIdentifiers();
+        }
+        return storesUpperCaseIdentifiers;
+    }
+
+    public synchronized String getSearchStringEscape(DatabaseMetaData databaseMetaData)
+            throws SQLException {
+        if (searchStringEscape == null) {
+            String escape = offline ? null : databaseMetaData.getSearchStringEscape();
+            searchStringEscape = escape == null ? "" : escape; //$NON-NLS-1$
+        }
+        return searchStringEscape;
+    }
+
+    /**
+     * Returns the columns of all tables in the catalog/schema whose name matches the table name
+     * pattern, in the order returned by the driver.
+     *
+     * @param databaseMetaData
+     *            the metadata used if the catalog/schema has not been read yet
+     * @param catalog
+     *            the catalog, as passed to {@link DatabaseMetaData#getColumns}
+     * @param schemaPattern
+     *            the schema pattern, as passed to {@link DatabaseMetaData#getColumns}
+     * @param tableNamePattern
+     *            the table name pattern, as passed to {@link DatabaseMetaData#getColumns}
+     * @return the matching columns
+     * @throws SQLException
+     *             if the columns cannot be read
+     */
+    public synchronized List<ColumnMetadata> getColumns(DatabaseMetaData databaseMetaData,
+            String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+        Scope scope = new Scope(catalog, schemaPattern);
+        Map<String, List<ColumnMetadata>> columnsByTable = columns.get(scope);
+        if (columnsByTable == null) {
+            columnsByTable = new HashMap<>();
+            if (!offline) {
+                ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern, "%", "%"); //$NON-NLS-1$ //$NON-NLS-2$
+                try {
+                    for (ColumnMetadata column : ColumnMetadata.read(rs)) {
+                        columnsByTable.computeIfAbsent(column.getTableName(), k -> new ArrayList<>()).add(column);
+                    }
+                } finally {
+                    rs.close();
+                }
+            }
+            columns.put(scope, columnsByTable);
+        }
+
+        if (!containsWildcard(tableNamePattern)) {
+            return columnsByTable.getOrDefault(tableNamePattern, Collections.emptyList());
+        }
+
+        Pattern pattern = toPattern(tableNamePattern, getSearchStringEscape(databaseMetaData));
+        List<ColumnMetadata> answer = new ArrayList<>();
+        for (Map.Entry<String, List<ColumnMetadata>> entry : columnsByTable.entrySet()) {
+            if (pattern.matcher(entry.getKey()).matches()) {
+                answer.addAll(entry.getValue());
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the primary key columns of a table. The keys of the whole catalog/schema are read at
+     * once if the driver supports it, otherwise the keys are read table by table.
+     *
+     * @param databaseMetaData
+     *            the metadata used if the keys have not been read yet
+     * @param catalog
+     *            the catalog of the table
+     * @param schema
+     *            the schema of the table
+     * @param tableName
+     *            the actual table name
+     * @return the primary key columns of the table (in no particular order)
+     * @throws SQLException
+     *             if the keys of the table cannot be read
+     */
+    public synchronized List<PrimaryKeyMetadata> getPrimaryKeys(DatabaseMetaData databaseMetaData,
+            String catalog, String schema, String tableName) throws SQLException {
+        Scope scope = new Scope(catalog, schema);
+        Map<String, List<PrimaryKeyMetadata>> keysByTable = primaryKeys.get(scope);
+        if (keysByTable == null) {
+            keysByTable = new HashMap<>();
+            if (!offline && !readPrimaryKeys(databaseMetaData, catalog, schema, keysByTable)) {
+                tableByTablePrimaryKeys.add(scope);
+            }
+            primaryKeys.put(scope, keysByTable);
+        }
+
+        if (!offline && tableByTablePrimaryKeys.contains(scope) && !keysByTable.containsKey(tableName)) {
+            List<PrimaryKeyMetadata> keys = new ArrayList<>();
+            try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, tableName)) {
+                while (rs.next()) {
+                    keys.add(readPrimaryKey(rs));
+                }
+            }
+            keysByTable.put(tableName, keys);
+        }
+
+        return filter(keysByTable.get(tableName), catalog, schema);
+    }
+
+    /**
+     * Returns the index columns of a table. The indexes of the whole catalog/schema are read at once
+     * if the database supports it, otherwise the indexes are read table by table. Table statistics
+     * rows are not included.
+     *
+     * @param databaseMetaData
+     *            the metadata used if the indexes have not been read yet
+     * @param catalog
+     *            the catalog of the table
+     * @param schema
+     *            the schema of the table
+     * @param tableName
+     *            the actual table name
+     * @return the index columns of the table, in the order returned by the database
+     * @throws SQLException
+     *             if the indexes of the table cannot be read
+     */
+    public synchronized List<IndexMetadata> getIndexes(DatabaseMetaData databaseMetaData,
+            String catalog, String schema, String tableName) throws SQLException {
+        Scope scope = new Scope(catalog, schema);
+        Map<String, List<IndexMetadata>> indexesByTable = indexes.get(scope);
+        if (indexesByTable == null) {
+            indexesByTable = new HashMap<>();
+            if (!offline && !readIndexes(databaseMetaData, catalog, schema, indexesByTable)) {
+                tableByTableIndexes.add(scope);
+            }
+            indexes.put(scope, indexesByTable);
+        }
+
+        if (!offline && tableByTableIndexes.contains(scope) && !indexesByTable.containsKey(tableName)) {
+            indexesByTable.put(tableName, IndexMetadata.read(databaseMetaData, catalog, schema, tableName));
+        }
+
+        return filter(indexesByTable.get(tableName), catalog, schema);
+    }
+
+    /**
+     * Returns the table level metadata (remarks and type) of a table, or null if the table is not
+     * found.
+     *
+     * @param databaseMetaData
+     *            the metadata used if the catalog/schema has not been read yet
+     * @param catalog
+     *            the catalog of the table
+     * @param schema
+     *            the schema of the table
+     * @param tableName
+     *            the actual table name
+     * @return the table metadata, or null
+     * @throws SQLException
+     *             if the tables cannot be read
+     */
+    public synchronized TableMetadata getTable(DatabaseMetaData databaseMetaData,
+            String catalog, String schema, String tableName) throws SQLException {
+        Scope scope = new Scope(catalog, schema);
+        Map<String, List<TableMetadata>> tablesByName = tables.get(scope);
+        if (tablesByName == null) {
+            tablesByName = new HashMap<>();
+            if (!offline) {
+                ResultSet rs = databaseMetaData.getTables(catalog, schema, "%", null); //$NON-NLS-1$
+                try {
+                    while (rs.next()) {
+                        TableMetadata table = new TableMetadata(rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                                rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                                rs.getString("TABLE_NAME"), //$NON-NLS-1$
+                                rs.getString("REMARKS"), //$NON-NLS-1$
+                                rs.getString("TABLE_TYPE")); //$NON-NLS-1$
+                        tablesByName.computeIfAbsent(table.getTableName(), k -> new ArrayList<>()).add(table);
+                    }
+                } finally {
+                    rs.close();
+                }
+            }
+            tables.put(scope, tablesByName);
+        }
+
+        List<TableMetadata> matches = filter(tablesByName.get(tableName), catalog, schema);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * Reads the primary keys of a whole catalog/schema.
+     *
+     * @return false if the driver does not support reading all keys at once
+     */
+    private boolean readPrimaryKeys(DatabaseMetaData databaseMetaData, String catalog, String schema,
+            Map<String, List<PrimaryKeyMetadata>> keysByTable) {
+        try {
+            if (isMySql(databaseMetaData)) {
+                // Connector/J does not accept a null table name in getPrimaryKeys, so read
+                // the keys of the whole database from the information schema instead. The
+                // MySQL database is reported as catalog or schema depending on the driver settings.
+                String database = catalog == null ? schema : catalog;
+                try (PreparedStatement ps = databaseMetaData.getConnection()
+                        .prepareStatement(MYSQL_PRIMARY_KEYS_QUERY)) {
+                    ps.setString(1, database);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            String tableSchema = rs.getString("TABLE_SCHEMA"); //$NON-NLS-1$
+                            PrimaryKeyMetadata key = new PrimaryKeyMetadata(
+                                    catalog == null ? null : tableSchema,
+                                    schema == null ? null : tableSchema,
+                                    rs.getString("TABLE_NAME"), //$NON-NLS-1$
+                                    rs.getString("COLUMN_NAME"), //$NON-NLS-1$
+                                    rs.getShort("ORDINAL_POSITION")); //$NON-NLS-1$
+                            keysByTable.computeIfAbsent(key.getTableName(), k -> new ArrayList<>()).add(key);
+                        }
+                    }
+                }
+            } else {
+                try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, null)) {
+                    while (rs.next()) {
+                        PrimaryKeyMetadata key = readPrimaryKey(rs);
+                        keysByTable.computeIfAbsent(key.getTableName(), k -> new ArrayList<>()).add(key);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            keysByTable.clear();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the indexes of a whole catalog/schema. The JDBC API only returns the indexes of a single
+     * table, so this is only possible for databases whose information schema is queried directly.
+     *
+     * @return false if the indexes must be read table by table
+     */
+    private boolean readIndexes(DatabaseMetaData databaseMetaData, String catalog, String schema,
+            Map<String, List<IndexMetadata>> indexesByTable) {
+        try {
+            if (!isMySql(databaseMetaData)) {
+                return false;
+            }
+
+            String database = catalog == null ? schema : catalog;
+            try (PreparedStatement ps = databaseMetaData.getConnection().prepareStatement(MYSQL_INDEXES_QUERY)) {
+                ps.setString(1, database);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String tableSchema = rs.getString("TABLE_SCHEMA"); //$NON-NLS-1$
+                        IndexMetadata index = new IndexMetadata(
+                                catalog == null ? null : tableSchema,
+                                schema == null ? null : tableSchema,
+                                rs.getString("TABLE_NAME"), //$NON-NLS-1$
+                                rs.getString("INDEX_NAME"), //$NON-NLS-1$
+                                rs.getInt("NON_UNIQUE") != 0, //$NON-NLS-1$
+                                rs.getShort("SEQ_IN_INDEX"), //$NON-NLS-1$
+                                rs.getString("COLUMN_NAME")); //$NON-NLS-1$
+                        indexesByTable.computeIfAbsent(index.getTableName(), k -> new ArrayList<>()).add(index);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            indexesByTable.clear();
+            return false;
+        }
+        return true;
+    }
+
+    private PrimaryKeyMetadata readPrimaryKey(ResultSet rs) throws SQLException {
+        return new PrimaryKeyMetadata(rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                rs.getString("TABLE_NAME"), //$NON-NLS-1$
+                rs.getString("COLUMN_NAME"), //$NON-NLS-1$
+                rs.getShort("KEY_SEQ")); //$NON-NLS-1$
+    }
+
+    private boolean isMySql(DatabaseMetaData databaseMetaData) throws SQLException {
+        String productName = databaseMetaData.getDatabaseProductName();
+        return productName != null
+                && (productName.contains("MySQL") || productName.contains("MariaDB")); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private static <T extends MetadataRow> List<T> filter(List<T> rows, String catalog, String schema) {
+        if (rows == null) {
+            return Collections.emptyList();
+        }
+
+        List<T> answer = new ArrayList<>();
+        for (T row : rows) {
+            if ((catalog == null || catalog.equals(row.getCatalog()))
+                    && (schema == null || schema.equals(row.getSchema()))) {
+                answer.add(row);
+            }
+        }
+        return answer;
+    }
+
+    private static boolean containsWildcard(String s) {
+        return s.indexOf('%') != -1 || s.indexOf('_') != -1;
+    }
+
+    /**
+     * Converts an SQL LIKE pattern, as accepted by DatabaseMetaData search parameters, into a
+     * regular expression.
+     */
+    static Pattern toPattern(String likePattern, String escape) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < likePattern.length()) {
+            if (!escape.isEmpty() && likePattern.startsWith(escape, i)
+                    && i + escape.length() < likePattern.length()) {
+                i += escape.length();
+                sb.append(Pattern.quote(String.valueOf(likePattern.charAt(i))));
+            } else {
+                char c = likePattern.charAt(i);
+                if (c == '%') {
+                    sb.append(".*"); //$NON-NLS-1$
+                } else if (c == '_') {
+                    sb.append('.');
+                } else {
+                    sb.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            i++;
+        }
+        return Pattern.compile(sb.toString(), Pattern.DOTALL);
+    }
+
+    static class Scope {
+        final String catalog;
+        final String schema;
+
+        Scope(String catalog, String schema) {
+            this.catalog = catalog;
+            this.schema = schema;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Scope)) {
+                return false;
+            }
+            Scope other = (Scope) obj;
+            return Objects.equals(catalog, other.catalog) && Objects.equals(schema, other.schema);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(catalog, schema);
+        }
+    }
+
+    /**
+     * The catalog, schema, and table name shared by all metadata rows.
+     */
+    public abstract static class MetadataRow {
+        private final String catalog;
+        private final String schema;
+        private final String tableName;
+
+        MetadataRow(String catalog, String schema, String tableName) {
+            this.catalog = catalog;
+            this.schema = schema;
+            this.tableName = tableName;
+        }
+
+        public String getCatalog() {
+            return catalog;
+        }
+
+        public String getSchema() {
+            return schema;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+    }
+
+    /**
+     * The table level metadata of a table, as returned by {@link DatabaseMetaData#getTables}.
+     */
+    public static class TableMetadata extends MetadataRow {
+        private final String remarks;
+        private final String tableType;
+
+        TableMetadata(String catalog, String schema, String tableName, String remarks, String tableType) {
+            super(catalog, schema, tableName);
+            this.remarks = remarks;
+            this.tableType = tableType;
+        }
+
+        public String getRemarks() {
+            return remarks;
+        }
+
+        public String getTableType() {
+            return tableType;
+        }
+    }
+
+    /**
+     * One primary key column of a table, as returned by {@link DatabaseMetaData#getPrimaryKeys}.
+     */
+    public static class PrimaryKeyMetadata extends MetadataRow {
+        private final String columnName;
+        private final short keySequence;
+
+        PrimaryKeyMetadata(String catalog, String schema, String tableName, String columnName,
+                short keySequence) {
+            super(catalog, schema, tableName);
+            this.columnName = columnName;
+            this.keySequence = keySequence;
+        }
+
+        public String getColumnName() {
+            return columnName;
+        }
+
+        public short getKeySequence() {
+            return keySequence;
+        }
+    }
+
+    /**
+     * One column of an index, as returned by {@link DatabaseMetaData#getIndexInfo}.
+     */
+    public static class IndexMetadata extends MetadataRow {
+        private final String indexName;
+        private final boolean nonUnique;
+        private final short ordinalPosition;
+        private final String columnName;
+
+        IndexMetadata(String catalog, String schema, String tableName, String indexName,
+                boolean nonUnique, short ordinalPosition, String columnName) {
+            super(catalog, schema, tableName);
+            this.indexName = indexName;
+            this.nonUnique = nonUnique;
+            this.ordinalPosition = ordinalPosition;
+            this.columnName = columnName;
+        }
+
+        /**
+         * Reads the indexes of a single table. Table statistics rows, and rows without an index or
+         * column name (such as expression indexes), are skipped.
+         *
+         * <p>Approximate statistics are requested, so that drivers that gather statistics for
+         * index metadata (such as Oracle) do not analyze the table.
+         *
+         * @param databaseMetaData
+         *            the database metadata
+         * @param catalog
+         *            the catalog of the table
+         * @param schema
+         *            the schema of the table
+         * @param tableName
+         *            the actual table name
+         * @return the index columns, in result set order
+         * @throws SQLException
+         *             if the indexes cannot be read
+         */
+        public static List<IndexMetadata> read(DatabaseMetaData databaseMetaData, String catalog,
+                String schema, String tableName) throws SQLException {
+            List<IndexMetadata> answer = new ArrayList<>();
+            try (ResultSet rs = databaseMetaData.getIndexInfo(catalog, schema, tableName, false, true)) {
+                while (rs.next()) {
+                    if (rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic) { //$NON-NLS-1$
+                        continue;
+                    }
+                    String indexName = rs.getString("INDEX_NAME"); //$NON-NLS-1$
+                    String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
+                    if (indexName == null || columnName == null) {
+                        continue;
+                    }
+                    answer.add(new IndexMetadata(rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                            rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                            rs.getString("TABLE_NAME"), //$NON-NLS-1$
+                            indexName,
+                            rs.getBoolean("NON_UNIQUE"), //$NON-NLS-1$
+                            rs.getShort("ORDINAL_POSITION"), //$NON-NLS-1$
+                            columnName));
+                }
+            }
+            return answer;
+        }
+
+        public String getIndexName() {
+            return indexName;
+        }
+
+        public boolean isNonUnique() {
+            return nonUnique;
+        }
+
+        public short getOrdinalPosition() {
+            return ordinalPosition;
+        }
+
+        public String getColumnName() {
+            return columnName;
+        }
+    }
+
+    /**
+     * One column of a table, as returned by {@link DatabaseMetaData#getColumns}.
+     */
+    public static class ColumnMetadata extends MetadataRow {
+        private final int dataType;
+        private final String typeName;
+        private final int columnSize;
+        private final String columnName;
+        private final int nullable;
+        private final int decimalDigits;
+        private final String remarks;
+        private final String columnDefault;
+        private final Boolean autoIncrement;
+        private final Boolean generatedColumn;
+
+        ColumnMetadata(int dataType, String typeName, int columnSize, String columnName,
+                int nullable, int decimalDigits, String remarks, String columnDefault,
+                Boolean autoIncrement, Boolean generatedColumn, String catalog, String schema,
+                String tableName) {
+            super(catalog, schema, tableName);
+            this.dataType = dataType;
+            this.typeName = typeName;
+            this.columnSize = columnSize;
+            this.columnName = columnName;
+            this.nullable = nullable;
+            this.decimalDigits = decimalDigits;
+            this.remarks = remarks;
+            this.columnDefault = columnDefault;
+            this.autoIncrement = autoIncrement;
+            this.generatedColumn = generatedColumn;
+        }
+
+        /**
+         * Reads all rows of a result set returned by {@link DatabaseMetaData#getColumns}. The
+         * result set is not closed.
+         *
+         * @param rs
+         *            the result set
+         * @return the columns, in result set order
+         * @throws SQLException
+         *             if the result set cannot be read
+         */
+        public static List<ColumnMetadata> read(ResultSet rs) throws SQLException {
+            boolean supportsIsAutoIncrement = false;
+            boolean supportsIsGeneratedColumn = false;
+            ResultSetMetaData rsmd = rs.getMetaData();
+            int colCount = rsmd.getColumnCount();
+            for (int i = 1; i <= colCount; i++) {
+                if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
+                    supportsIsAutoIncrement = true;
+                }
+                if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
+                    supportsIsGeneratedColumn = true;
+                }
+            }
+
+            List<ColumnMetadata> answer = new ArrayList<>();
+            while (rs.next()) {
+                // the columns are read in the same order as always - some drivers
+                // do not allow going back after reading a LONG column
+                int dataType = rs.getInt("DATA_TYPE"); //$NON-NLS-1$
+                String typeName = rs.getString("TYPE_NAME"); //$NON-NLS-1$
+                int columnSize = rs.getInt("COLUMN_SIZE"); //$NON-NLS-1$
+                String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
+                int nullable = rs.getInt("NULLABLE"); //$NON-NLS-1$
+                int decimalDigits = rs.getInt("DECIMAL_DIGITS"); //$NON-NLS-1$
+                String remarks = rs.getString("REMARKS"); //$NON-NLS-1$
+                String columnDefault = rs.getString("COLUMN_DEF"); //$NON-NLS-1$
+                Boolean autoIncrement = supportsIsAutoIncrement
+                        ? "YES".equals(rs.getString("IS_AUTOINCREMENT")) : null; //$NON-NLS-1$ //$NON-NLS-2$
+                Boolean generatedColumn = supportsIsGeneratedColumn
+                        ? "YES".equals(rs.getString("IS_GENERATEDCOLUMN")) : null; //$NON-NLS-1$ //$NON-NLS-2$
+
+                answer.add(new ColumnMetadata(dataType, typeName, columnSize, columnName, nullable,
+                        decimalDigits, remarks, columnDefault, autoIncrement, generatedColumn,
+                        rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                        rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                        rs.getString("TABLE_NAME"))); //$NON-NLS-1$
+            }
+            return answer;
+        }
+
+        public int getDataType() {
+            return dataType;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public int getColumnSize() {
+            return columnSize;
+        }
+
+        public String getColumnName() {
+            return columnName;
+        }
+
+        public int getNullable() {
+            return nullable;
+        }
+
+        public int getDecimalDigits() {
+            return decimalDigits;
+        }
+
+        public String getRemarks() {
+            return remarks;
+        }
+
+        public String getColumnDefault() {
+            return columnDefault;
+        }
+
+        /**
+         * Returns the IS_AUTOINCREMENT value, or null if the driver does not report it.
+         *
+         * @return the auto increment flag, or null
+         */
+        public Boolean getAutoIncrement() {
+            return autoIncrement;
+        }
+
+        /**
+         * Returns the IS_GENERATEDCOLUMN value, or null if the driver does not report it.
+         *
+         * @return the generated column flag, or null
+         */
+        public Boolean getGeneratedColumn() {
+            return generatedColumn;
+        }
+    }
+}
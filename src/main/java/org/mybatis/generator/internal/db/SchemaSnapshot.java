@@ -0,0 +1,302 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.mybatis.generator.internal.db.SchemaMetadataCache.ColumnMetadata;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.IndexMetadata;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.PrimaryKeyMetadata;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.Scope;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.TableMetadata;
+
+/**
+ * Reads and writes the contents of a {@link SchemaMetadataCache} as a compact binary file, so that
+ * code can be regenerated without a database connection.
+ *
+ * <p>The snapshot holds the raw database metadata (columns, primary keys, indexes, and table
+ * remarks), not the introspected tables. Changes to the table configurations, such as column
+ * overrides or renaming rules, are therefore still honored when generating from a snapshot.
+ */
+public class SchemaSnapshot {
+
+    private static final int MAGIC = 0x4d424753; // "MBGS"
+
+    private static final int VERSION = 2;
+
+    private SchemaSnapshot() {
+    }
+
+    public static void write(SchemaMetadataCache cache, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (OutputStream os = Files.newOutputStream(file);
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(new GZIPOutputStream(os)))) {
+            synchronized (cache) {
+                write(cache, out);
+            }
+        }
+    }
+
+    /**
+     * Reads a snapshot. The returned cache never accesses the database.
+     *
+     * @param file
+     *            the snapshot file
+     * @return a cache holding the contents of the snapshot
+     * @throws IOException
+     *             if the file cannot be read or is not a snapshot
+     */
+    public static SchemaMetadataCache read(Path file) throws IOException {
+        try (InputStream is = Files.newInputStream(file);
+                DataInputStream in = new DataInputStream(
+                        new BufferedInputStream(new GZIPInputStream(is)))) {
+            return read(in);
+        }
+    }
+
+    private static void write(SchemaMetadataCache cache, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        writeBoolean(out, cache.storesLowerCaseIdentifiers);
+        writeBoolean(out, cache.storesUpperCaseIdentifiers);
+        writeString(out, cache.searchStringEscape);
+
+        out.writeInt(cache.columns.size());
+        for (Map.Entry<Scope, Map<String, List<ColumnMetadata>>> entry : cache.columns.entrySet()) {
+            writeScope(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (Map.Entry<String, List<ColumnMetadata>> table : entry.getValue().entrySet()) {
+                writeString(out, table.getKey());
+                out.writeInt(table.getValue().size());
+                for (ColumnMetadata column : table.getValue()) {
+                    writeRow(out, column);
+                    out.writeInt(column.getDataType());
+                    writeString(out, column.getTypeName());
+                    out.writeInt(column.getColumnSize());
+                    writeString(out, column.getColumnName());
+                    out.writeInt(column.getNullable());
+                    out.writeInt(column.getDecimalDigits());
+                    writeString(out, column.getRemarks());
+                    writeString(out, column.getColumnDefault());
+                    writeBoolean(out, column.getAutoIncrement());
+                    writeBoolean(out, column.getGeneratedColumn());
+                }
+            }
+        }
+
+        out.writeInt(cache.primaryKeys.size());
+        for (Map.Entry<Scope, Map<String, List<PrimaryKeyMetadata>>> entry : cache.primaryKeys.entrySet()) {
+            writeScope(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (Map.Entry<String, List<PrimaryKeyMetadata>> table : entry.getValue().entrySet()) {
+                writeString(out, table.getKey());
+                out.writeInt(table.getValue().size());
+                for (PrimaryKeyMetadata key : table.getValue()) {
+                    writeRow(out, key);
+                    writeString(out, key.getColumnName());
+                    out.writeShort(key.getKeySequence());
+                }
+            }
+        }
+
+        out.writeInt(cache.tables.size());
+        for (Map.Entry<Scope, Map<String, List<TableMetadata>>> entry : cache.tables.entrySet()) {
+            writeScope(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (Map.Entry<String, List<TableMetadata>> table : entry.getValue().entrySet()) {
+                writeString(out, table.getKey());
+                out.writeInt(table.getValue().size());
+                for (TableMetadata row : table.getValue()) {
+                    writeRow(out, row);
+                    writeString(out, row.getRemarks());
+                    writeString(out, row.getTableType());
+                }
+            }
+        }
+
+        out.writeInt(cache.indexes.size());
+        for (Map.Entry<Scope, Map<String, List<IndexMetadata>>> entry : cache.indexes.entrySet()) {
+            writeScope(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (Map.Entry<String, List<IndexMetadata>> table : entry.getValue().entrySet()) {
+                writeString(out, table.getKey());
+                out.writeInt(table.getValue().size());
+                for (IndexMetadata index : table.getValue()) {
+                    writeRow(out, index);
+                    writeString(out, index.getIndexName());
+                    out.writeBoolean(index.isNonUnique());
+                    out.writeShort(index.getOrdinalPosition());
+                    writeString(out, index.getColumnName());
+                }
+            }
+        }
+    }
+
+    private static SchemaMetadataCache read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a schema snapshot"); //$NON-NLS-1$
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported schema snapshot version " + version); //$NON-NLS-1$
+        }
+
+        SchemaMetadataCache cache = new SchemaMetadataCache(true);
+        cache.storesLowerCaseIdentifiers = readBoolean(in);
+        cache.storesUpperCaseIdentifiers = readBoolean(in);
+        cache.searchStringEscape = readString(in);
+
+        int scopes = in.readInt();
+        for (int i = 0; i < scopes; i++) {
+            Map<String, List<ColumnMetadata>> columnsByTable = new HashMap<>();
+            cache.columns.put(readScope(in), columnsByTable);
+            int tableCount = in.readInt();
+            for (int j = 0; j < tableCount; j++) {
+                String tableName = readString(in);
+                int rowCount = in.readInt();
+                List<ColumnMetadata> rows = new ArrayList<>(rowCount);
+                for (int k = 0; k < rowCount; k++) {
+                    String catalog = readString(in);
+                    String schema = readString(in);
+                    String rowTableName = readString(in);
+                    rows.add(new ColumnMetadata(in.readInt(), readString(in), in.readInt(), readString(in),
+                            in.readInt(), in.readInt(), readString(in), readString(in), readBoolean(in),
+                            readBoolean(in), catalog, schema, rowTableName));
+                }
+                columnsByTable.put(tableName, rows);
+            }
+        }
+
+        scopes = in.readInt();
+        for (int i = 0; i < scopes; i++) {
+            Map<String, List<PrimaryKeyMetadata>> keysByTable = new HashMap<>();
+            cache.primaryKeys.put(readScope(in), keysByTable);
+            int tableCount = in.readInt();
+            for (int j = 0; j < tableCount; j++) {
+                String tableName = readString(in);
+                int rowCount = in.readInt();
+                List<PrimaryKeyMetadata> rows = new ArrayList<>(rowCount);
+                for (int k = 0; k < rowCount; k++) {
+                    rows.add(new PrimaryKeyMetadata(readString(in), readString(in), readString(in),
+                            readString(in), in.readShort()));
+                }
+                keysByTable.put(tableName, rows);
+            }
+        }
+
+        scopes = in.readInt();
+        for (int i = 0; i < scopes; i++) {
+            Map<String, List<TableMetadata>> tablesByName = new HashMap<>();
+            cache.tables.put(readScope(in), tablesByName);
+            int tableCount = in.readInt();
+            for (int j = 0; j < tableCount; j++) {
+                String tableName = readString(in);
+                int rowCount = in.readInt();
+                List<TableMetadata> rows = new ArrayList<>(rowCount);
+                for (int k = 0; k < rowCount; k++) {
+                    rows.add(new TableMetadata(readString(in), readString(in), readString(in),
+                            readString(in), readString(in)));
+                }
+                tablesByName.put(tableName, rows);
+            }
+        }
+
+        scopes = in.readInt();
+        for (int i = 0; i < scopes; i++) {
+            Map<String, List<IndexMetadata>> indexesByTable = new HashMap<>();
+            cache.indexes.put(readScope(in), indexesByTable);
+            int tableCount = in.readInt();
+            for (int j = 0; j < tableCount; j++) {
+                String tableName = readString(in);
+                int rowCount = in.readInt();
+                List<IndexMetadata> rows = new ArrayList<>(rowCount);
+                for (int k = 0; k < rowCount; k++) {
+                    rows.add(new IndexMetadata(readString(in), readString(in), readString(in),
+                            readString(in), in.readBoolean(), in.readShort(), readString(in)));
+                }
+                indexesByTable.put(tableName, rows);
+            }
+        }
+
+        return cache;
+    }
+
+    private static void writeScope(DataOutputStream out, Scope scope) throws IOException {
+        writeString(out, scope.catalog);
+        writeString(out, scope.schema);
+    }
+
+    private static Scope readScope(DataInputStream in) throws IOException {
+        return new Scope(readString(in), readString(in));
+    }
+
+    private static void writeRow(DataOutputStream out, SchemaMetadataCache.MetadataRow row)
+            throws IOException {
+        writeString(out, row.getCatalog());
+        writeString(out, row.getSchema());
+        writeString(out, row.getTableName());
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBoolean(DataOutputStream out, Boolean b) throws IOException {
+        out.writeByte(b == null ? -1 : b ? 1 : 0);
+    }
+
+    private static Boolean readBoolean(DataInputStream in) throws IOException {
+        byte b = in.readByte();
+        return b < 0 ? null : b == 1;
+    }
+}
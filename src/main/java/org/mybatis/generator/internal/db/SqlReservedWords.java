@@ -15,10 +15,6 @@
  */
 package org.mybatis.generator.internal.db;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * This class contains a somewhat comprehensive list of SQL reserved words.
  * Since different databases have different reserved words, this list is
@@ -33,7 +29,11 @@ import java.util.Set;
  */
 public class SqlReservedWords {
 
-    private static final Set<String> reservedWords;
+    /**
+     * The reserved words in an open addressing hash table. The hash is calculated over the upper case
+     * characters, so words can be looked up in any case without creating an upper case copy.
+     */
+    private static final String[] reservedWords;
 
     static {
         String[] words = { "A", //$NON-NLS-1$
@@ -951,21 +951,51 @@ public class SqlReservedWords {
                 "ZONE" //$NON-NLS-1$
         };
 
-        reservedWords = new HashSet<>(words.length);
-
-        reservedWords.addAll(Arrays.asList(words));
+        // keep the table at most half full, so that probe sequences stay short
+        int size = Integer.highestOneBit(words.length * 2 - 1) << 1;
+        reservedWords = new String[size];
+        for (String word : words) {
+            int index = hash(word) & (size - 1);
+            while (reservedWords[index] != null) {
+                index = (index + 1) & (size - 1);
+            }
+            reservedWords[index] = word;
+        }
     }
 
+    /**
+     * Returns true if the word is a reserved word, ignoring case.
+     *
+     * @param word
+     *            the word, may be null
+     * @return true if the word is reserved
+     */
     public static boolean containsWord(String word) {
-        boolean rc;
-
         if (word == null) {
-            rc = false;
-        } else {
-            rc = reservedWords.contains(word.toUpperCase());
+            return false;
+        }
+
+        int mask = reservedWords.length - 1;
+        int index = hash(word) & mask;
+        String candidate;
+        while ((candidate = reservedWords[index]) != null) {
+            if (candidate.length() == word.length()
+                    && candidate.regionMatches(true, 0, word, 0, word.length())) {
+                return true;
+            }
+            index = (index + 1) & mask;
         }
 
-        return rc;
+        return false;
+    }
+
+    private static int hash(String word) {
+        int h = 0;
+        for (int i = 0; i < word.length(); i++) {
+            h = 31 * h + Character.toUpperCase(word.charAt(i));
+        }
+        // spread the high bits, the table index only uses the low bits
+        return h ^ (h >>> 16);
     }
 
     /**
@@ -18,7 +18,10 @@ package org.mybatis.generator.internal.util;
 import static org.mybatis.generator.internal.util.StringUtility.isTrue;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
@@ -34,10 +37,51 @@ import org.mybatis.generator.config.TableConfiguration;
 
 public class JavaBeansUtil {
 
+    /** Upper bound for the number of names in each cache, further names are calculated every time. */
+    private static final int MAX_CACHED_NAMES = 16384;
+
+    // the same column and property names are converted by every generator, so the results are cached
+    private static final Map<String, String> getterMethodNames = new ConcurrentHashMap<>();
+
+    private static final Map<String, String> booleanGetterMethodNames = new ConcurrentHashMap<>();
+
+    private static final Map<String, String> setterMethodNames = new ConcurrentHashMap<>();
+
+    private static final Map<String, String> camelCaseStrings = new ConcurrentHashMap<>();
+
+    private static final Map<String, String> upperCamelCaseStrings = new ConcurrentHashMap<>();
+
+    private static final Map<String, String> validPropertyNames = new ConcurrentHashMap<>();
+
     private JavaBeansUtil() {
         super();
     }
 
+    /**
+     * Clears the cached names.  This method should be called at the beginning of a generation run, so
+     * that the caches do not grow across runs in long lived processes.
+     */
+    public static void reset() {
+        getterMethodNames.clear();
+        booleanGetterMethodNames.clear();
+        setterMethodNames.clear();
+        camelCaseStrings.clear();
+        upperCamelCaseStrings.clear();
+        validPropertyNames.clear();
+    }
+
+    private static String getCachedName(Map<String, String> cache, String input,
+            UnaryOperator<String> calculation) {
+        String answer = cache.get(input);
+        if (answer == null) {
+            answer = calculation.apply(input);
+            if (cache.size() < MAX_CACHED_NAMES) {
+                cache.put(input, answer);
+            }
+        }
+        return answer;
+    }
+
     /**
      * Computes a getter method name.  Warning - does not check to see that the property is a valid
      * property.  Call getValidPropertyName first.
@@ -50,22 +94,14 @@ public class JavaBeansUtil {
      */
     public static String getGetterMethodName(String property,
             FullyQualifiedJavaType fullyQualifiedJavaType) {
-        StringBuilder sb = new StringBuilder();
-
-        sb.append(property);
-        if (Character.isLowerCase(sb.charAt(0))
-                && (sb.length() == 1 || !Character.isUpperCase(sb.charAt(1)))) {
-            sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
-        }
-
         if (fullyQualifiedJavaType.equals(FullyQualifiedJavaType
                 .getBooleanPrimitiveInstance())) {
-            sb.insert(0, "is"); //$NON-NLS-1$
+            return getCachedName(booleanGetterMethodNames, property,
+                    p -> calculateAccessorMethodName("is", p)); //$NON-NLS-1$
         } else {
-            sb.insert(0, "get"); //$NON-NLS-1$
+            return getCachedName(getterMethodNames, property,
+                    p -> calculateAccessorMethodName("get", p)); //$NON-NLS-1$
         }
-
-        return sb.toString();
     }
 
     /**
@@ -77,6 +113,11 @@ public class JavaBeansUtil {
      * @return the setter method name
      */
     public static String getSetterMethodName(String property) {
+        return getCachedName(setterMethodNames, property,
+                p -> calculateAccessorMethodName("set", p)); //$NON-NLS-1$
+    }
+
+    private static String calculateAccessorMethodName(String prefix, String property) {
         StringBuilder sb = new StringBuilder();
 
         sb.append(property);
@@ -85,7 +126,7 @@ public class JavaBeansUtil {
             sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
         }
 
-        sb.insert(0, "set"); //$NON-NLS-1$
+        sb.insert(0, prefix);
 
         return sb.toString();
     }
@@ -98,6 +139,15 @@ public class JavaBeansUtil {
 
     public static String getCamelCaseString(String inputString,
             boolean firstCharacterUppercase) {
+        if (firstCharacterUppercase) {
+            return getCachedName(upperCamelCaseStrings, inputString, s -> calculateCamelCaseString(s, true));
+        } else {
+            return getCachedName(camelCaseStrings, inputString, s -> calculateCamelCaseString(s, false));
+        }
+    }
+
+    private static String calculateCamelCaseString(String inputString,
+            boolean firstCharacterUppercase) {
         StringBuilder sb = new StringBuilder();
 
         boolean nextUpperCase = false;
@@ -165,11 +215,16 @@ public class JavaBeansUtil {
      * @return the valid property name
      */
     public static String getValidPropertyName(String inputString) {
+        if (inputString == null) {
+            return null;
+        }
+        return getCachedName(validPropertyNames, inputString, JavaBeansUtil::calculateValidPropertyName);
+    }
+
+    private static String calculateValidPropertyName(String inputString) {
         String answer;
 
-        if (inputString == null) {
-            answer = null;
-        } else if (inputString.length() < 2) {
+        if (inputString.length() < 2) {
             answer = inputString.toLowerCase(Locale.US);
         } else {
             if (Character.isUpperCase(inputString.charAt(0))
@@ -61,7 +61,7 @@ public class BatchDeletePlugin extends PluginAdapter {
 		// 设置需要import的类
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
 		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
-		importedTypes.add(new FullyQualifiedJavaType(introspectedTable.getBaseRecordType()));
+		importedTypes.add(FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType()));
 		FullyQualifiedJavaType ibsreturnType = FullyQualifiedJavaType.getIntInstance();
 		Method method = new Method("deleteBatch");
 		// 1.设置方法可见性
@@ -75,7 +75,7 @@ public class BatchDeletePlugin extends PluginAdapter {
 
 		// 4.设置参数列表
 		FullyQualifiedJavaType paramType = FullyQualifiedJavaType.getNewListInstance();
-		FullyQualifiedJavaType paramListType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+		FullyQualifiedJavaType paramListType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		paramType.addTypeArgument(paramListType);
 		method.addParameter(new Parameter(paramType, "records"));
 
@@ -88,7 +88,7 @@ public class BatchDeletePlugin extends PluginAdapter {
 	protected void addPrimaryKeyMethodParameters(IntrospectedTable introspectedTable,boolean isSimple, Method method,
 			Set<FullyQualifiedJavaType> importedTypes) {
 		if (!isSimple && introspectedTable.getRules().generatePrimaryKeyClass()) {
-			FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+			FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 			importedTypes.add(type);
 			method.addParameter(new Parameter(type, "key")); //$NON-NLS-1$
 		} else {
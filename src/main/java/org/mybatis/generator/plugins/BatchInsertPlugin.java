@@ -33,11 +33,18 @@ import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.api.dom.xml.TextElement;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+import org.mybatis.generator.plugins.util.MultiRowStatementTool;
 
+/**
+ * 生成多行insert语句insertBatch, 以及分块执行的默认方法insertBatchChunked. 分块的属性见{@link MultiRowStatementTool}.
+ */
 public class BatchInsertPlugin extends PluginAdapter {
+
+	private final MultiRowStatementTool multiRowStatementTool = new MultiRowStatementTool();
+
 	@Override
-	public boolean validate(List<String> list) {
-		return true;
+	public boolean validate(List<String> warnings) {
+		return multiRowStatementTool.configure(properties, getClass().getSimpleName(), warnings);
 	}
 
 	/**
@@ -53,7 +60,7 @@ public class BatchInsertPlugin extends PluginAdapter {
 		// 设置需要import的类
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
 		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
-		importedTypes.add(new FullyQualifiedJavaType(introspectedTable.getBaseRecordType()));
+		importedTypes.add(FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType()));
 		FullyQualifiedJavaType ibsreturnType = FullyQualifiedJavaType.getIntInstance();
 		Method batchInsertMethod = new Method("insertBatch");
 		// 1.设置方法可见性
@@ -68,11 +75,14 @@ public class BatchInsertPlugin extends PluginAdapter {
 //		batchInsertMethod.setName("batchInsert");
 		// 4.设置参数列表
 		FullyQualifiedJavaType paramType = FullyQualifiedJavaType.getNewListInstance();
-		FullyQualifiedJavaType paramListType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+		FullyQualifiedJavaType paramListType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		paramType.addTypeArgument(paramListType);
 		batchInsertMethod.addParameter(new Parameter(paramType, "records"));
 		interfaze.addImportedTypes(importedTypes);
 		interfaze.addMethod(batchInsertMethod);
+
+		multiRowStatementTool.addChunkedMethods(interfaze, introspectedTable, context, "insertBatchChunked", //$NON-NLS-1$
+				"insertBatch", paramType, introspectedTable.getAllColumns()); //$NON-NLS-1$
 	}
 
 	/**
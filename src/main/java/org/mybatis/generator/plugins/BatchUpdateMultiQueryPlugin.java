@@ -61,7 +61,7 @@ public class BatchUpdateMultiQueryPlugin extends PluginAdapter {
 		// 设置需要import的类
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
 		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
-		importedTypes.add(new FullyQualifiedJavaType(introspectedTable.getBaseRecordType()));
+		importedTypes.add(FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType()));
 		FullyQualifiedJavaType ibsreturnType = FullyQualifiedJavaType.getIntInstance();
 		Method method = new Method("updateBatchMultiQuery");
 		// 1.设置方法可见性
@@ -75,7 +75,7 @@ public class BatchUpdateMultiQueryPlugin extends PluginAdapter {
 
 		// 4.设置参数列表
 		FullyQualifiedJavaType paramType = FullyQualifiedJavaType.getNewListInstance();
-		FullyQualifiedJavaType paramListType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+		FullyQualifiedJavaType paramListType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		paramType.addTypeArgument(paramListType);
 		method.addParameter(new Parameter(paramType, "records"));
 
@@ -0,0 +1,269 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.generator.api.CommentGenerator;
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.Field;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.config.JavaClientGeneratorConfiguration;
+import org.mybatis.generator.config.PropertyRegistry;
+
+/**
+ * This plugin generates a batch writer class for each mapper. The writer opens a
+ * <code>SqlSession</code> with <code>ExecutorType.BATCH</code> and calls the single row
+ * <code>insert</code> and <code>updateByPrimaryKey</code> statements of the mapper, flushing the
+ * batch every N statements. Unlike the multi row statements of BatchInsertPlugin and
+ * MysqlBatchUpdatePlugin, the SQL is the same for every call - so MyBatis and the driver can reuse
+ * the prepared statement, and MySQL Connector/J can rewrite the batch with
+ * <code>rewriteBatchedStatements=true</code>.
+ *
+ * <p>This plugin accepts these properties:
+ *
+ * <ul>
+ * <li><code>batchSize</code> (optional) the number of statements after which the writer flushes
+ * the batch. Defaults to 1000.</li>
+ * <li><code>targetPackage</code> (optional) the package of the writer classes. Defaults to the
+ * package of the mappers.</li>
+ * <li><code>targetProject</code> (optional) the project of the writer classes. Defaults to the
+ * project of the mappers.</li>
+ * </ul>
+ */
+public class BatchWriterPlugin extends PluginAdapter {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final FullyQualifiedJavaType SQL_SESSION =
+            FullyQualifiedJavaType.of("org.apache.ibatis.session.SqlSession"); //$NON-NLS-1$
+
+    private static final FullyQualifiedJavaType SQL_SESSION_FACTORY =
+            FullyQualifiedJavaType.of("org.apache.ibatis.session.SqlSessionFactory"); //$NON-NLS-1$
+
+    private static final FullyQualifiedJavaType EXECUTOR_TYPE =
+            FullyQualifiedJavaType.of("org.apache.ibatis.session.ExecutorType"); //$NON-NLS-1$
+
+    private static final FullyQualifiedJavaType BATCH_RESULT =
+            FullyQualifiedJavaType.of("org.apache.ibatis.executor.BatchResult"); //$NON-NLS-1$
+
+    private final Map<FullyQualifiedTable, List<Method>> writeMethods = new HashMap<>();
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Mapper methods are stored per table between plugin calls, so calls must be serialized.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    @Override
+    public boolean validate(List<String> warnings) {
+        String value = properties.getProperty("batchSize"); //$NON-NLS-1$
+        if (!stringHasValue(value)) {
+            return true;
+        }
+
+        try {
+            batchSize = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            batchSize = 0;
+        }
+        if (batchSize <= 0) {
+            warnings.add(getString("ValidationError.31", value, "batchSize", //$NON-NLS-1$ //$NON-NLS-2$
+                    getClass().getSimpleName()));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records the single row write methods the mapper really has - other plugins may have removed
+     * some of them.
+     */
+    @Override
+    public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+        List<Method> methods = new ArrayList<>();
+        addWriteMethod(methods, interfaze, introspectedTable.getInsertStatementId());
+        Method update = findWriteMethod(interfaze, introspectedTable.getUpdateByPrimaryKeyWithBLOBsStatementId());
+        if (update == null) {
+            update = findWriteMethod(interfaze, introspectedTable.getUpdateByPrimaryKeyStatementId());
+        }
+        if (update != null) {
+            methods.add(update);
+        }
+        if (!methods.isEmpty()) {
+            writeMethods.put(introspectedTable.getFullyQualifiedTable(), methods);
+        }
+        return true;
+    }
+
+    private void addWriteMethod(List<Method> methods, Interface interfaze, String name) {
+        Method method = findWriteMethod(interfaze, name);
+        if (method != null) {
+            methods.add(method);
+        }
+    }
+
+    private Method findWriteMethod(Interface interfaze, String name) {
+        for (Method method : interfaze.getMethods()) {
+            if (method.getName().equals(name) && method.getParameters().size() == 1) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles(IntrospectedTable introspectedTable) {
+        List<Method> methods = writeMethods.remove(introspectedTable.getFullyQualifiedTable());
+        JavaClientGeneratorConfiguration clientConfiguration = context.getJavaClientGeneratorConfiguration();
+        if (methods == null || clientConfiguration == null) {
+            return Collections.emptyList();
+        }
+
+        String targetPackage = properties.getProperty("targetPackage", //$NON-NLS-1$
+                clientConfiguration.getTargetPackage());
+        String targetProject = properties.getProperty("targetProject", //$NON-NLS-1$
+                clientConfiguration.getTargetProject());
+        FullyQualifiedJavaType mapperType = new FullyQualifiedJavaType(introspectedTable.getMyBatis3JavaMapperType());
+        FullyQualifiedJavaType writerType = new FullyQualifiedJavaType(targetPackage + '.'
+                + introspectedTable.getFullyQualifiedTable().getDomainObjectName() + "BatchWriter"); //$NON-NLS-1$
+
+        TopLevelClass writer = new TopLevelClass(writerType);
+        writer.setVisibility(JavaVisibility.PUBLIC);
+        writer.addSuperInterface(FullyQualifiedJavaType.of("AutoCloseable")); //$NON-NLS-1$
+        writer.addImportedType(mapperType);
+        writer.addImportedType(SQL_SESSION);
+        writer.addImportedType(SQL_SESSION_FACTORY);
+        writer.addImportedType(EXECUTOR_TYPE);
+        writer.addImportedType(BATCH_RESULT);
+        writer.addImportedType(FullyQualifiedJavaType.getNewListInstance());
+        writer.addImportedType(FullyQualifiedJavaType.of("java.util.Collection")); //$NON-NLS-1$
+
+        CommentGenerator commentGenerator = context.getCommentGenerator();
+        commentGenerator.addJavaFileComment(writer);
+        commentGenerator.addClassComment(writer, introspectedTable);
+
+        addField(writer, introspectedTable, SQL_SESSION, "sqlSession", true); //$NON-NLS-1$
+        addField(writer, introspectedTable, mapperType, "mapper", true); //$NON-NLS-1$
+        addField(writer, introspectedTable, FullyQualifiedJavaType.getIntInstance(), "batchSize", true); //$NON-NLS-1$
+        addField(writer, introspectedTable, FullyQualifiedJavaType.getIntInstance(),
+                "pendingStatements", false); //$NON-NLS-1$
+
+        Method method = newMethod(writer, introspectedTable, null);
+        method.setConstructor(true);
+        method.addParameter(new Parameter(SQL_SESSION_FACTORY, "sqlSessionFactory")); //$NON-NLS-1$
+        method.addBodyLine("this(sqlSessionFactory, " + batchSize + ");"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        method = newMethod(writer, introspectedTable, null);
+        method.setConstructor(true);
+        method.addParameter(new Parameter(SQL_SESSION_FACTORY, "sqlSessionFactory")); //$NON-NLS-1$
+        method.addParameter(new Parameter(FullyQualifiedJavaType.getIntInstance(), "batchSize")); //$NON-NLS-1$
+        method.addBodyLine("this.sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH);"); //$NON-NLS-1$
+        method.addBodyLine("this.mapper = sqlSession.getMapper(" //$NON-NLS-1$
+                + mapperType.getShortName() + ".class);"); //$NON-NLS-1$
+        method.addBodyLine("this.batchSize = batchSize;"); //$NON-NLS-1$
+
+        for (Method mapperMethod : methods) {
+            addWriteMethods(writer, introspectedTable, mapperMethod);
+        }
+
+        method = newMethod(writer, introspectedTable, "flush"); //$NON-NLS-1$
+        FullyQualifiedJavaType results = FullyQualifiedJavaType.getNewListInstance();
+        results.addTypeArgument(BATCH_RESULT);
+        method.setReturnType(results);
+        method.addBodyLine("pendingStatements = 0;"); //$NON-NLS-1$
+        method.addBodyLine("return sqlSession.flushStatements();"); //$NON-NLS-1$
+
+        method = newMethod(writer, introspectedTable, "commit"); //$NON-NLS-1$
+        method.addBodyLine("pendingStatements = 0;"); //$NON-NLS-1$
+        method.addBodyLine("sqlSession.commit();"); //$NON-NLS-1$
+
+        method = newMethod(writer, introspectedTable, "rollback"); //$NON-NLS-1$
+        method.addBodyLine("pendingStatements = 0;"); //$NON-NLS-1$
+        method.addBodyLine("sqlSession.rollback();"); //$NON-NLS-1$
+
+        method = newMethod(writer, introspectedTable, "close"); //$NON-NLS-1$
+        method.addAnnotation("@Override"); //$NON-NLS-1$
+        method.addBodyLine("sqlSession.close();"); //$NON-NLS-1$
+
+        method = newMethod(writer, introspectedTable, "statementAdded"); //$NON-NLS-1$
+        method.setVisibility(JavaVisibility.PRIVATE);
+        method.addBodyLine("if (++pendingStatements >= batchSize) {"); //$NON-NLS-1$
+        method.addBodyLine("flush();"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+
+        GeneratedJavaFile file = new GeneratedJavaFile(writer, targetProject,
+                context.getProperty(PropertyRegistry.CONTEXT_JAVA_FILE_ENCODING), context.getJavaFormatter());
+        return Collections.singletonList(file);
+    }
+
+    /**
+     * Adds a method that queues one row, and a method that queues a collection of rows.
+     */
+    private void addWriteMethods(TopLevelClass writer, IntrospectedTable introspectedTable, Method mapperMethod) {
+        FullyQualifiedJavaType rowType = mapperMethod.getParameters().get(0).getType();
+        writer.addImportedType(rowType);
+
+        Method method = newMethod(writer, introspectedTable, mapperMethod.getName());
+        method.addParameter(new Parameter(rowType, "row")); //$NON-NLS-1$
+        method.addBodyLine("mapper." + mapperMethod.getName() + "(row);"); //$NON-NLS-1$ //$NON-NLS-2$
+        method.addBodyLine("statementAdded();"); //$NON-NLS-1$
+
+        FullyQualifiedJavaType rowsType = new FullyQualifiedJavaType("java.util.Collection"); //$NON-NLS-1$
+        rowsType.addTypeArgument(rowType);
+        method = newMethod(writer, introspectedTable, mapperMethod.getName() + "All"); //$NON-NLS-1$
+        method.addParameter(new Parameter(rowsType, "rows")); //$NON-NLS-1$
+        method.addBodyLine("for (" + rowType.getShortName() + " row : rows) {"); //$NON-NLS-1$ //$NON-NLS-2$
+        method.addBodyLine(mapperMethod.getName() + "(row);"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+    }
+
+    private Method newMethod(TopLevelClass writer, IntrospectedTable introspectedTable, String name) {
+        Method method = new Method(name == null ? writer.getType().getShortName() : name);
+        method.setVisibility(JavaVisibility.PUBLIC);
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+        writer.addMethod(method);
+        return method;
+    }
+
+    private void addField(TopLevelClass writer, IntrospectedTable introspectedTable, FullyQualifiedJavaType type,
+            String name, boolean isFinal) {
+        Field field = new Field(name, type);
+        field.setVisibility(JavaVisibility.PRIVATE);
+        field.setFinal(isFinal);
+        context.getCommentGenerator().addFieldComment(field, introspectedTable);
+        writer.addField(field);
+    }
+}
@@ -175,7 +175,7 @@ public class BlobColumnTransformPlugin extends PluginAdapter {
 		beforeSaveMethod.addAnnotation("@Override");
 		beforeSaveMethod.setAbstract(false);
 		beforeSaveMethod.setVisibility(JavaVisibility.PUBLIC);
-		beforeSaveMethod.setReturnType(new FullyQualifiedJavaType("void"));
+		beforeSaveMethod.setReturnType(FullyQualifiedJavaType.of("void"));
 
 		for (BlobTransformColumn blobTransformColumn : blobTransformColumns) {
 
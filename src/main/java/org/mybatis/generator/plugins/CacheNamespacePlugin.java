@@ -98,7 +98,7 @@ public class CacheNamespacePlugin extends PluginAdapter {
     public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
         if (!skip(introspectedTable)) {
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType("org.apache.ibatis.annotations.CacheNamespace")); //$NON-NLS-1$
+                    FullyQualifiedJavaType.of("org.apache.ibatis.annotations.CacheNamespace")); //$NON-NLS-1$
 
             Arrays.stream(CacheProperty.values())
                     .filter(CacheProperty::isClassName)
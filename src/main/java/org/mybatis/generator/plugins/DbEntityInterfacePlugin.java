@@ -80,15 +80,15 @@ public class DbEntityInterfacePlugin extends PluginAdapter {
 //	}
 
 	protected void addEntityInterface(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-		topLevelClass.addImportedType(new FullyQualifiedJavaType("cn.game.games.cache.base.DbEntity"));
+		topLevelClass.addImportedType(FullyQualifiedJavaType.of("cn.game.games.cache.base.DbEntity"));
 		topLevelClass.addSuperInterface(
-				new FullyQualifiedJavaType("cn.game.games.cache.base.DbEntity"));
+				FullyQualifiedJavaType.of("cn.game.games.cache.base.DbEntity"));
 
 		Method getMapperClassMethod = new Method("getMapperClass");
 		getMapperClassMethod.addAnnotation("@Override");
 		getMapperClassMethod.setAbstract(false);
 		getMapperClassMethod.setVisibility(JavaVisibility.PUBLIC);
-		getMapperClassMethod.setReturnType(new FullyQualifiedJavaType("Class<?>"));
+		getMapperClassMethod.setReturnType(FullyQualifiedJavaType.of("Class<?>"));
 		getMapperClassMethod.addBodyLine("return " + introspectedTable.getMyBatis3JavaMapperType() + ".class;");
 
 		CustomCommentGenerator generator = new CustomCommentGenerator();
@@ -98,7 +98,7 @@ public class DbEntityInterfacePlugin extends PluginAdapter {
 		primaryKeyMethod.addAnnotation("@Override");
 		primaryKeyMethod.setAbstract(false);
 		primaryKeyMethod.setVisibility(JavaVisibility.PUBLIC);
-		primaryKeyMethod.setReturnType(new FullyQualifiedJavaType("Object"));
+		primaryKeyMethod.setReturnType(FullyQualifiedJavaType.of("Object"));
 		String bodyString = "";
 		List<IntrospectedColumn> primaryKeyColumns = introspectedTable.getPrimaryKeyColumns();
 		if (primaryKeyColumns.size() == 1) {
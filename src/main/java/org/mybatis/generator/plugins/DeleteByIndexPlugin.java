@@ -1,20 +1,16 @@
 package org.mybatis.generator.plugins;
 
-import java.sql.Connection;
-import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
-import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedIndex;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.PluginAdapter;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
@@ -46,50 +42,27 @@ public class DeleteByIndexPlugin extends PluginAdapter {
 		return true;
 	}
 
-	// 初始化，查询并设置表的索引数据到 IntrospectedTable
+	// 表的索引由 DatabaseIntrospector 统一读取
 	@Override
-	public void initialized(IntrospectedTable introspectedTable) {
-		try {
-			Connection connection = context.getConnection();
-			DatabaseMetaData metaData = connection.getMetaData();
-			Map<String, List<IntrospectedColumn>> indexMap = new HashMap<>(5);
-			Map<String, Boolean> uniqueIndexMap = new HashMap<>(5);
-			FullyQualifiedTable fullyQualifiedTable = introspectedTable.getFullyQualifiedTable();
-
-			ResultSet rs = metaData.getIndexInfo(fullyQualifiedTable.getIntrospectedCatalog(), fullyQualifiedTable.getIntrospectedSchema(),
-					fullyQualifiedTable.getIntrospectedTableName(), false, false);
-
-			while (rs.next()) {
-				String indexName = rs.getString("INDEX_NAME");
-				if ("PRIMARY".equals(indexName)) {
-					continue;
-				}
-				Optional<IntrospectedColumn> columnOptional = introspectedTable.getColumn(rs.getString("COLUMN_NAME"));
-				if (!columnOptional.isPresent()) {
-					continue;
-				}
-
-				// 收集列
-				if (indexMap.containsKey(indexName)) {
-					indexMap.get(indexName).add(columnOptional.get());
-				} else {
-					List<IntrospectedColumn> cols = new ArrayList<>();
-					cols.add(columnOptional.get());
-					indexMap.put(indexName, cols);
-				}
+	public boolean requiresIndexes() {
+		return true;
+	}
 
-				// 记录唯一性（NON_UNIQUE=false 表示唯一索引）
-				boolean nonUnique = rs.getBoolean("NON_UNIQUE");
-				boolean isUnique = !nonUnique;
-				uniqueIndexMap.merge(indexName, isUnique, (oldVal, newVal) -> oldVal || newVal);
+	// 初始化，将表的索引数据整理后设置到IntrospectedTable
+	@Override
+	public void initialized(IntrospectedTable introspectedTable) {
+		Map<String, List<IntrospectedColumn>> indexMap = new HashMap<>(5);
+		Map<String, Boolean> uniqueIndexMap = new HashMap<>(5);
+		for (IntrospectedIndex index : introspectedTable.getIndexes()) {
+			if ("PRIMARY".equals(index.getName())) {
+				continue;
 			}
-			rs.close();
-
-			introspectedTable.setAttribute("indexs_for_delete", indexMap);
-			introspectedTable.setAttribute("uniqueIndexFlags_for_delete", uniqueIndexMap);
-		} catch (Exception e) {
-			e.printStackTrace();
+			indexMap.put(index.getName(), new ArrayList<>(index.getColumns()));
+			uniqueIndexMap.put(index.getName(), index.isUnique());
 		}
+
+		introspectedTable.setAttribute("indexs_for_delete", indexMap);
+		introspectedTable.setAttribute("uniqueIndexFlags_for_delete", uniqueIndexMap);
 	}
 
 	// 在 Mapper 接口中生成 deleteBy 索引名 方法
@@ -127,7 +100,7 @@ public class DeleteByIndexPlugin extends PluginAdapter {
 
 			// 导入
 			Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
-			importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param"));
+			importedTypes.add(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param"));
 			interfaze.addImportedTypes(importedTypes);
 
 			interfaze.addMethod(method);
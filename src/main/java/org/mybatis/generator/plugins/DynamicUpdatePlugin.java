@@ -150,7 +150,7 @@ public class DynamicUpdatePlugin extends PluginAdapter {
 		}
 
 		// 添加Map参数
-		FullyQualifiedJavaType mapType = new FullyQualifiedJavaType("java.util.Map<String,Object>");
+		FullyQualifiedJavaType mapType = FullyQualifiedJavaType.of("java.util.Map<String,Object>");
 		Parameter mapParameter = new Parameter(mapType, "params");
 		mapParameter.addAnnotation("@Param(\"params\")");
 		method.addParameter(mapParameter);
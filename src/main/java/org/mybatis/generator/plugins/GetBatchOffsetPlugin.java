@@ -58,7 +58,7 @@ public class GetBatchOffsetPlugin extends PluginAdapter {
 		Method method = new Method(METHOD_NAME);
 		method.setVisibility(JavaVisibility.PUBLIC);
 		String returnType = "List<" + introspectedTable.getFullyQualifiedTable().getDomainObjectName() + ">";
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(returnType);
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(returnType);
 		method.setReturnType(fqjt);
 		method.setAbstract(true);
 
@@ -71,8 +71,8 @@ public class GetBatchOffsetPlugin extends PluginAdapter {
 		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
 		interfaze.addMethod(method);
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
-		importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
-		importedTypes.add(new FullyQualifiedJavaType("java.util.List")); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("java.util.List")); //$NON-NLS-1$
 		interfaze.addImportedTypes(importedTypes);
 
 		return super.clientGenerated(interfaze, introspectedTable);
@@ -51,8 +51,8 @@ public class GetLastIdPlugin extends PluginAdapter {
 		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
 		interfaze.addMethod(method);
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
-		importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
-		importedTypes.add(new FullyQualifiedJavaType("java.util.List")); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("java.util.List")); //$NON-NLS-1$
 		interfaze.addImportedTypes(importedTypes);
 
 		return super.clientGenerated(interfaze, introspectedTable);
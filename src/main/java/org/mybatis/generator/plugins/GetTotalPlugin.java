@@ -31,7 +31,7 @@ public class GetTotalPlugin extends PluginAdapter {
 		// 添加Mapper接口方法
 		Method method = new Method(METHOD_NAME);
 		method.setVisibility(JavaVisibility.PUBLIC);
-		method.setReturnType(new FullyQualifiedJavaType("long"));
+		method.setReturnType(FullyQualifiedJavaType.of("long"));
 		method.setAbstract(true);
 
 		// 添加JavaDoc
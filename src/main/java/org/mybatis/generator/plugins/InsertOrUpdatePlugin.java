@@ -1,5 +1,7 @@
 package org.mybatis.generator.plugins;
 
+import static org.mybatis.generator.plugins.util.SqlMapperGeneratorTool.addWrappedText;
+
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -16,13 +18,30 @@ import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.api.dom.xml.TextElement;
 import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.ListUtilities;
 import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
-
+import org.mybatis.generator.plugins.util.MultiRowStatementTool;
+
+/**
+ * 生成insertOrUpdate, 以及多行的insertOrUpdateBatch和分块执行的insertOrUpdateBatchChunked.
+ *
+ * <p>insertOrUpdateBatch默认用on duplicate key update col = values(col). 属性"useRowAlias"为true时改用MySQL
+ * 8.0.19以上的行别名: values (...) as new on duplicate key update col = new.col. 分块的属性见{@link MultiRowStatementTool}.
+ */
 public class InsertOrUpdatePlugin extends PluginAdapter {
 
+	private static final String BATCH_METHOD = "insertOrUpdateBatch"; //$NON-NLS-1$
+
+	private static final String ROW_ALIAS = "new"; //$NON-NLS-1$
+
+	private final MultiRowStatementTool multiRowStatementTool = new MultiRowStatementTool();
+
+	private boolean useRowAlias;
+
 	@Override
 	public boolean validate(List<String> warnings) {
-		return true;
+		useRowAlias = Boolean.parseBoolean(properties.getProperty("useRowAlias")); //$NON-NLS-1$
+		return multiRowStatementTool.configure(properties, getClass().getSimpleName(), warnings);
 	}
 
 	/**
@@ -41,9 +60,28 @@ public class InsertOrUpdatePlugin extends PluginAdapter {
 
 		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
 		interfaze.addMethod(method);
+
+		addBatchMethods(interfaze, introspectedTable);
 		return true;
 	}
 
+	private void addBatchMethods(Interface interfaze, IntrospectedTable introspectedTable) {
+		FullyQualifiedJavaType listType = FullyQualifiedJavaType.getNewListInstance();
+		listType.addTypeArgument(introspectedTable.getRules().calculateAllFieldsClass());
+
+		Method method = new Method(BATCH_METHOD);
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+		method.setAbstract(true);
+		method.addParameter(new Parameter(listType, "records")); //$NON-NLS-1$
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+		interfaze.addImportedType(FullyQualifiedJavaType.getNewListInstance());
+		interfaze.addMethod(method);
+
+		multiRowStatementTool.addChunkedMethods(interfaze, introspectedTable, context, BATCH_METHOD + "Chunked", //$NON-NLS-1$
+				BATCH_METHOD, listType, getBatchInsertColumns(introspectedTable));
+	}
+
 	/**
 	 * 2. 生成 XML SQL
 	 * 修复策略：
@@ -135,6 +173,64 @@ public class InsertOrUpdatePlugin extends PluginAdapter {
 
 		document.getRootElement().addElement(answer);
 
+		addBatchXml(document, introspectedTable);
 		return true;
 	}
+
+	/**
+	 * 多行insert ... on duplicate key update, 不更新主键, 自增列, 生成列和notUpdateColumns.
+	 */
+	private void addBatchXml(Document document, IntrospectedTable introspectedTable) {
+		XmlElement answer = new XmlElement("insert"); //$NON-NLS-1$
+		answer.addAttribute(new Attribute("id", BATCH_METHOD)); //$NON-NLS-1$
+		answer.addAttribute(new Attribute("parameterType", "java.util.List")); //$NON-NLS-1$ //$NON-NLS-2$
+		context.getCommentGenerator().addComment(answer);
+
+		List<IntrospectedColumn> insertColumns = getBatchInsertColumns(introspectedTable);
+		List<String> columns = new ArrayList<>();
+		List<String> values = new ArrayList<>();
+		for (IntrospectedColumn col : insertColumns) {
+			columns.add(MyBatis3FormattingUtilities.getEscapedColumnName(col));
+			values.add(MyBatis3FormattingUtilities.getParameterClause(col, "item.")); //$NON-NLS-1$
+		}
+		addWrappedText(answer, "insert into " + introspectedTable.getFullyQualifiedTableNameAtRuntime() //$NON-NLS-1$
+				+ " (", columns, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+		answer.addElement(new TextElement("values")); //$NON-NLS-1$
+
+		XmlElement foreach = new XmlElement("foreach"); //$NON-NLS-1$
+		foreach.addAttribute(new Attribute("collection", "list")); //$NON-NLS-1$ //$NON-NLS-2$
+		foreach.addAttribute(new Attribute("item", "item")); //$NON-NLS-1$ //$NON-NLS-2$
+		foreach.addAttribute(new Attribute("separator", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+		addWrappedText(foreach, "(", values, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+		answer.addElement(foreach);
+
+		List<IntrospectedColumn> updateColumns = ListUtilities
+				.removeIdentityAndGeneratedAlwaysColumns(introspectedTable.getAllColumns());
+		updateColumns.removeAll(introspectedTable.getPrimaryKeyColumns());
+		updateColumns.removeIf(context::isNotUpdateColumn);
+		List<String> assignments = new ArrayList<>();
+		for (IntrospectedColumn col : updateColumns) {
+			String columnName = MyBatis3FormattingUtilities.getEscapedColumnName(col);
+			if (useRowAlias) {
+				assignments.add(columnName + " = " + ROW_ALIAS + '.' + columnName); //$NON-NLS-1$
+			} else {
+				assignments.add(columnName + " = values(" + columnName + ')'); //$NON-NLS-1$
+			}
+		}
+		if (assignments.isEmpty()) {
+			// 没有可更新的列时, 已存在的行保持不变. 和MysqlBatchUpdatePlugin一样, 用col = col这样不改变任何值的赋值
+			IntrospectedColumn col = introspectedTable.getPrimaryKeyColumns().isEmpty() ? insertColumns.get(0)
+					: introspectedTable.getPrimaryKeyColumns().get(0);
+			String columnName = MyBatis3FormattingUtilities.getEscapedColumnName(col);
+			assignments.add(columnName + " = " + columnName); //$NON-NLS-1$
+		}
+		addWrappedText(answer, useRowAlias ? "as " + ROW_ALIAS + " on duplicate key update " //$NON-NLS-1$ //$NON-NLS-2$
+				: "on duplicate key update ", assignments, ""); //$NON-NLS-1$ //$NON-NLS-2$
+
+		document.getRootElement().addElement(answer);
+	}
+
+	private List<IntrospectedColumn> getBatchInsertColumns(IntrospectedTable introspectedTable) {
+		return ListUtilities.removeGeneratedAlwaysColumns(introspectedTable.getAllColumns());
+	}
 }
\ No newline at end of file
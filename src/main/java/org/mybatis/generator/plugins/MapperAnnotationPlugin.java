@@ -36,7 +36,7 @@ public class MapperAnnotationPlugin extends PluginAdapter {
         if (introspectedTable.getTargetRuntime() == TargetRuntime.MYBATIS3) {
             // don't need to do this for MYBATIS3_DSQL as that runtime already adds this annotation
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType("org.apache.ibatis.annotations.Mapper")); //$NON-NLS-1$
+                    FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Mapper")); //$NON-NLS-1$
             interfaze.addAnnotation("@Mapper"); //$NON-NLS-1$
         }
         return true;
@@ -21,7 +21,9 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.IntrospectedTable;
@@ -57,7 +59,19 @@ import org.mybatis.generator.codegen.XmlConstants;
  */
 public class MapperConfigPlugin extends PluginAdapter {
 
-    private final List<String> mapperFiles = new ArrayList<>();
+    /**
+     * The mapper files of each table. With parallel generation tables finish in any order, so the
+     * files are listed in the order of the introspected tables.
+     */
+    private final Map<IntrospectedTable, List<String>> tableMapperFiles = new IdentityHashMap<>();
+
+    /**
+     * Mapper files are collected across tables, so calls must be serialized.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
 
     @Override
     public boolean validate(List<String> warnings) {
@@ -88,6 +102,11 @@ public class MapperConfigPlugin extends PluginAdapter {
                 XmlConstants.MYBATIS3_MAPPER_CONFIG_PUBLIC_ID,
                 XmlConstants.MYBATIS3_MAPPER_CONFIG_SYSTEM_ID);
 
+        List<String> mapperFiles = new ArrayList<>();
+        for (IntrospectedTable introspectedTable : context.getIntrospectedTables()) {
+            mapperFiles.addAll(tableMapperFiles.getOrDefault(introspectedTable, Collections.emptyList()));
+        }
+
         if (mapperFiles.isEmpty()) {
             return Collections.emptyList();
         }
@@ -142,7 +161,7 @@ public class MapperConfigPlugin extends PluginAdapter {
         sb.setLength(0);
         sb.append(temp.replace('.', '/'));
         sb.append(sqlMap.getFileName());
-        mapperFiles.add(sb.toString());
+        tableMapperFiles.computeIfAbsent(introspectedTable, k -> new ArrayList<>()).add(sb.toString());
 
         return true;
     }
@@ -15,6 +15,12 @@
  */
 package org.mybatis.generator.plugins;
 
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+import static org.mybatis.generator.plugins.util.SqlMapperGeneratorTool.addWrappedText;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.mybatis.generator.api.IntrospectedColumn;
@@ -27,20 +33,63 @@ import org.mybatis.generator.api.dom.xml.TextElement;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.codegen.mybatis3.ListUtilities;
 import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+import org.mybatis.generator.config.TableConfiguration;
 import org.mybatis.generator.plugins.util.MBGUtil;
 import org.mybatis.generator.plugins.util.MethodGeneratorTool;
 import org.mybatis.generator.plugins.util.SqlMapperGeneratorTool;
 
+/**
+ * 生成批量更新updateBatch. SQL的写法由属性batchUpdateStrategy决定, 可以在table上覆盖:
+ * <ul>
+ * <li>"caseWhen" (默认) - update ... set col = case when pk = ... then ... end ... where pk in (...).
+ * SQL的大小是行数 x 列数</li>
+ * <li>"upsert" - 多行insert ... on duplicate key update. 注意不存在的行会被插入, 而且MySQL对每个更新的行返回2</li>
+ * <li>"join" - update t join (values row(...), ...) v on ... set ..., 需要MySQL 8.0.19以上</li>
+ * </ul>
+ */
 public class MysqlBatchUpdatePlugin extends PluginAdapter {
 
     private final static String BATCH_UPDATE = "updateBatch";
 
     private final static String PARAMETER_NAME = "recordList";
 
+    private static final String STRATEGY_PROPERTY = "batchUpdateStrategy"; //$NON-NLS-1$
+
+    private static final String STRATEGY_CASE_WHEN = "caseWhen"; //$NON-NLS-1$
+
+    private static final String STRATEGY_UPSERT = "upsert"; //$NON-NLS-1$
+
+    private static final String STRATEGY_JOIN = "join"; //$NON-NLS-1$
+
+    private static final List<String> STRATEGIES = Arrays.asList(STRATEGY_CASE_WHEN, STRATEGY_UPSERT, STRATEGY_JOIN);
 
     @Override
-    public boolean validate(List<String> list) {
-        return true;
+    public boolean validate(List<String> warnings) {
+        boolean valid = validateStrategy(properties.getProperty(STRATEGY_PROPERTY), warnings);
+        for (TableConfiguration tableConfiguration : context.getTableConfigurations()) {
+            valid &= validateStrategy(tableConfiguration.getProperty(STRATEGY_PROPERTY), warnings);
+        }
+        if (valid) {
+            warnNothingToUpdate(warnings);
+        }
+        return valid;
+    }
+
+    private boolean validateStrategy(String strategy, List<String> warnings) {
+        if (!stringHasValue(strategy) || STRATEGIES.contains(strategy)) {
+            return true;
+        }
+        warnings.add(getString("ValidationError.32", strategy, STRATEGY_PROPERTY, //$NON-NLS-1$
+                String.join(", ", STRATEGIES))); //$NON-NLS-1$
+        return false;
+    }
+
+    private String getStrategy(IntrospectedTable introspectedTable) {
+        String strategy = introspectedTable.getTableConfigurationProperty(STRATEGY_PROPERTY);
+        if (!stringHasValue(strategy)) {
+            strategy = properties.getProperty(STRATEGY_PROPERTY);
+        }
+        return stringHasValue(strategy) ? strategy : STRATEGY_CASE_WHEN;
     }
 
     @Override
@@ -61,6 +110,15 @@ public class MysqlBatchUpdatePlugin extends PluginAdapter {
     }
 
     public void addSqlMapper(Document document, IntrospectedTable introspectedTable) {
+        String strategy = getStrategy(introspectedTable);
+        if (STRATEGY_UPSERT.equals(strategy)) {
+            addUpsertSqlMapper(document, introspectedTable);
+            return;
+        } else if (STRATEGY_JOIN.equals(strategy)) {
+            addJoinSqlMapper(document, introspectedTable);
+            return;
+        }
+
         String tableName = introspectedTable.getFullyQualifiedTableNameAtRuntime();
 //        List<IntrospectedColumn> columnList = introspectedTable.getAllColumns();
 
@@ -143,5 +201,121 @@ public class MysqlBatchUpdatePlugin extends PluginAdapter {
 
         document.getRootElement().addElement(updateXmlElement);
     }
-}
 
+    /**
+     * insert into t (pk, col, ...) values (...), (...) on duplicate key update col = values(col), ...
+     */
+    private void addUpsertSqlMapper(Document document, IntrospectedTable introspectedTable) {
+        List<IntrospectedColumn> insertColumns = ListUtilities
+                .removeGeneratedAlwaysColumns(introspectedTable.getAllColumns());
+        List<IntrospectedColumn> updateColumns = getUpdateColumns(introspectedTable);
+
+        XmlElement updateXmlElement = newUpdateBatchElement(SqlMapperGeneratorTool.INSERT);
+
+        List<String> columns = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (IntrospectedColumn introspectedColumn : insertColumns) {
+            columns.add(MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn));
+            values.add(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, "item.")); //$NON-NLS-1$
+        }
+        addWrappedText(updateXmlElement, "insert into " //$NON-NLS-1$
+                + introspectedTable.getFullyQualifiedTableNameAtRuntime() + " (", columns, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+        updateXmlElement.addElement(new TextElement("values")); //$NON-NLS-1$
+
+        XmlElement foreachElement = SqlMapperGeneratorTool.baseForeachElementGenerator(PARAMETER_NAME, "item", //$NON-NLS-1$
+                "index", ","); //$NON-NLS-1$ //$NON-NLS-2$
+        addWrappedText(foreachElement, "(", values, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+        updateXmlElement.addElement(foreachElement);
+
+        List<String> assignments = new ArrayList<>();
+        for (IntrospectedColumn introspectedColumn : updateColumns) {
+            String columnName = MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn);
+            assignments.add(columnName + " = values(" + columnName + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        if (assignments.isEmpty()) {
+            // 没有可更新的列时, 已存在的行保持不变
+            IntrospectedColumn primaryKeyColumn = introspectedTable.getPrimaryKeyColumns().get(0);
+            String columnName = MyBatis3FormattingUtilities.getEscapedColumnName(primaryKeyColumn);
+            assignments.add(columnName + " = " + columnName); //$NON-NLS-1$
+        }
+        addWrappedText(updateXmlElement, "on duplicate key update ", assignments, ""); //$NON-NLS-1$ //$NON-NLS-2$
+
+        document.getRootElement().addElement(updateXmlElement);
+    }
+
+    /**
+     * update t join (values row(pk, col, ...), ...) v on t.pk = v.column_0 set t.col = v.column_1, ...
+     * VALUES语句的列名是column_0, column_1...
+     */
+    private void addJoinSqlMapper(Document document, IntrospectedTable introspectedTable) {
+        List<IntrospectedColumn> primaryKeyColumns = introspectedTable.getPrimaryKeyColumns();
+        List<IntrospectedColumn> updateColumns = getUpdateColumns(introspectedTable);
+
+        XmlElement updateXmlElement = newUpdateBatchElement(SqlMapperGeneratorTool.UPDATE);
+        updateXmlElement.addElement(new TextElement("update " //$NON-NLS-1$
+                + introspectedTable.getFullyQualifiedTableNameAtRuntime() + " t join (values")); //$NON-NLS-1$
+
+        List<String> values = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        for (IntrospectedColumn introspectedColumn : primaryKeyColumns) {
+            conditions.add("t." + MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn) //$NON-NLS-1$
+                    + " = v.column_" + values.size()); //$NON-NLS-1$
+            values.add(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, "item.")); //$NON-NLS-1$
+        }
+        for (IntrospectedColumn introspectedColumn : updateColumns) {
+            assignments.add("t." + MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn) //$NON-NLS-1$
+                    + " = v.column_" + values.size()); //$NON-NLS-1$
+            values.add(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, "item.")); //$NON-NLS-1$
+        }
+
+        XmlElement foreachElement = SqlMapperGeneratorTool.baseForeachElementGenerator(PARAMETER_NAME, "item", //$NON-NLS-1$
+                "index", ","); //$NON-NLS-1$ //$NON-NLS-2$
+        addWrappedText(foreachElement, "row(", values, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+        updateXmlElement.addElement(foreachElement);
+
+        updateXmlElement.addElement(new TextElement(") v on " + String.join(" and ", conditions))); //$NON-NLS-1$ //$NON-NLS-2$
+        if (assignments.isEmpty()) {
+            // 没有可更新的列时, set后面不能为空, 用不改变任何值的赋值
+            String columnName = MyBatis3FormattingUtilities.getEscapedColumnName(primaryKeyColumns.get(0));
+            assignments.add("t." + columnName + " = t." + columnName); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        addWrappedText(updateXmlElement, "set ", assignments, ""); //$NON-NLS-1$ //$NON-NLS-2$
+
+        document.getRootElement().addElement(updateXmlElement);
+    }
+
+    /**
+     * upsert和join在没有可更新的列时生成的updateBatch不改变任何行, 生成前对这样的表给出警告.
+     */
+    private void warnNothingToUpdate(List<String> warnings) {
+        for (IntrospectedTable introspectedTable : context.getIntrospectedTables()) {
+            String strategy = getStrategy(introspectedTable);
+            if ((STRATEGY_UPSERT.equals(strategy) || STRATEGY_JOIN.equals(strategy))
+                    && introspectedTable.getTargetRuntime() == IntrospectedTable.TargetRuntime.MYBATIS3
+                    && introspectedTable.hasPrimaryKeyColumns()
+                    && getUpdateColumns(introspectedTable).isEmpty()) {
+                warnings.add(getString("Warning.41", //$NON-NLS-1$
+                        introspectedTable.getFullyQualifiedTable().toString(), BATCH_UPDATE));
+            }
+        }
+    }
+
+    private XmlElement newUpdateBatchElement(String sqlElementType) {
+        XmlElement updateXmlElement = SqlMapperGeneratorTool.baseElementGenerator(sqlElementType, BATCH_UPDATE,
+                FullyQualifiedJavaType.getNewListInstance());
+        context.getCommentGenerator().addComment(updateXmlElement);
+        return updateXmlElement;
+    }
+
+    /**
+     * 和caseWhen一样, 更新除了主键, 自增列, 生成列和notUpdateColumns以外的列.
+     */
+    private List<IntrospectedColumn> getUpdateColumns(IntrospectedTable introspectedTable) {
+        List<IntrospectedColumn> columnList = ListUtilities
+                .removeIdentityAndGeneratedAlwaysColumns(introspectedTable.getAllColumns());
+        columnList.removeAll(introspectedTable.getPrimaryKeyColumns());
+        columnList.removeIf(context::isNotUpdateColumn);
+        return columnList;
+    }
+}
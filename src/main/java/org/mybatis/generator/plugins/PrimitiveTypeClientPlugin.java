@@ -43,7 +43,7 @@ public class PrimitiveTypeClientPlugin extends PluginAdapter {
 				String fqType = param.getType().getFullyQualifiedName();
 				if (WRAPPER_TO_PRIMITIVE.containsKey(fqType)) {
 					// 新建新的parameter（保留注解、名称）
-					Parameter newParam = new Parameter(new FullyQualifiedJavaType(WRAPPER_TO_PRIMITIVE.get(fqType)), param.getName(),
+					Parameter newParam = new Parameter(FullyQualifiedJavaType.of(WRAPPER_TO_PRIMITIVE.get(fqType)), param.getName(),
 							param.isVarargs());
 					// 复制注解
 					for (String annotation : param.getAnnotations()) {
@@ -81,7 +81,7 @@ public class PrimitiveTypeClientPlugin extends PluginAdapter {
 			Parameter param = params.get(i);
 			String fqType = param.getType().getFullyQualifiedName();
 			if (WRAPPER_TO_PRIMITIVE.containsKey(fqType)) {
-				Parameter newParam = new Parameter(new FullyQualifiedJavaType(WRAPPER_TO_PRIMITIVE.get(fqType)), param.getName(),
+				Parameter newParam = new Parameter(FullyQualifiedJavaType.of(WRAPPER_TO_PRIMITIVE.get(fqType)), param.getName(),
 						param.isVarargs());
 				for (String annotation : param.getAnnotations()) {
 					newParam.addAnnotation(annotation);
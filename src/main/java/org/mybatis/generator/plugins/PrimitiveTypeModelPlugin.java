@@ -39,7 +39,7 @@ public class PrimitiveTypeModelPlugin extends PluginAdapter {
 			IntrospectedTable introspectedTable, org.mybatis.generator.api.Plugin.ModelClassType modelClassType) {
 		String fqType = field.getType().getFullyQualifiedName();
 		if (WRAPPER_TO_PRIMITIVE.containsKey(fqType)) {
-			field.setType(new FullyQualifiedJavaType(WRAPPER_TO_PRIMITIVE.get(fqType)));
+			field.setType(FullyQualifiedJavaType.of(WRAPPER_TO_PRIMITIVE.get(fqType)));
 		}
 		return true;
 	}
@@ -51,7 +51,7 @@ public class PrimitiveTypeModelPlugin extends PluginAdapter {
 			org.mybatis.generator.api.Plugin.ModelClassType modelClassType) {
 		String fqType = method.getReturnType().get().getFullyQualifiedName();
 		if (WRAPPER_TO_PRIMITIVE.containsKey(fqType)) {
-			method.setReturnType(new FullyQualifiedJavaType(WRAPPER_TO_PRIMITIVE.get(fqType)));
+			method.setReturnType(FullyQualifiedJavaType.of(WRAPPER_TO_PRIMITIVE.get(fqType)));
 		}
 		return true;
 	}
@@ -67,7 +67,7 @@ public class PrimitiveTypeModelPlugin extends PluginAdapter {
 			if (WRAPPER_TO_PRIMITIVE.containsKey(fqType)) {
 				// 新建一个参数（参数名和注解都保留）
 				org.mybatis.generator.api.dom.java.Parameter newParam = new org.mybatis.generator.api.dom.java.Parameter(
-						new FullyQualifiedJavaType(WRAPPER_TO_PRIMITIVE.get(fqType)), oldParam.getName());
+						FullyQualifiedJavaType.of(WRAPPER_TO_PRIMITIVE.get(fqType)), oldParam.getName());
 				// 拷贝注解
 				for (String annotation : oldParam.getAnnotations()) {
 					newParam.addAnnotation(annotation);
@@ -43,6 +43,12 @@ public class RootClassProtectedFieldPlugin extends PluginAdapter {
 		return true;
 	}
 
+	// rootClassSet 在各个表之间共享，并行生成时需要串行调用
+	@Override
+	public boolean isThreadSafe() {
+		return false;
+	}
+
 	@Override
 	public void initialized(IntrospectedTable introspectedTable) {
 		List<IntrospectedTable> introspectedTables = context.getIntrospectedTables();
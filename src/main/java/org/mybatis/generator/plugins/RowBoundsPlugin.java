@@ -44,9 +44,17 @@ import org.mybatis.generator.internal.util.messages.Messages;
 public class RowBoundsPlugin extends PluginAdapter {
 
     private final FullyQualifiedJavaType rowBounds =
-            new FullyQualifiedJavaType("org.apache.ibatis.session.RowBounds"); //$NON-NLS-1$
+            FullyQualifiedJavaType.of("org.apache.ibatis.session.RowBounds"); //$NON-NLS-1$
     private final Map<FullyQualifiedTable, List<XmlElement>> elementsToAdd = new HashMap<>();
 
+    /**
+     * Elements are stored per table between plugin calls, so calls must be serialized.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     @Override
     public boolean validate(List<String> warnings) {
         if ("MyBatis3DynamicSql".equalsIgnoreCase(context.getTargetRuntime())) { //$NON-NLS-1$
@@ -2,21 +2,17 @@ package org.mybatis.generator.plugins;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
-import java.sql.Connection;
-import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
-import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedIndex;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.PluginAdapter;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
@@ -45,52 +41,27 @@ public class SelectByIndexPlugin extends PluginAdapter {
 		return true;
 	}
 
-	// 初始化，查询并设置表的索引数据到IntrospectedTable
+	// 表的索引由 DatabaseIntrospector 统一读取
 	@Override
-	public void initialized(IntrospectedTable introspectedTable) {
-		try {
-			Connection connection = context.getConnection();
-			DatabaseMetaData metaData = connection.getMetaData();
-			Map<String, List<IntrospectedColumn>> indexMap = new HashMap<>(5);
-			Map<String, Boolean> uniqueIndexMap = new HashMap<>(5);
-			FullyQualifiedTable fullyQualifiedTable = introspectedTable.getFullyQualifiedTable();
-
-			ResultSet rs = metaData.getIndexInfo(fullyQualifiedTable.getIntrospectedCatalog(), fullyQualifiedTable.getIntrospectedSchema(),
-					fullyQualifiedTable.getIntrospectedTableName(), false, false);
-
-			while (rs.next()) {
-				// 文档参考 DatabaseMetaData.getIndexInfo 返回集
-				String indexName = rs.getString("INDEX_NAME");
-				if ("PRIMARY".equals(indexName)) {
-					continue;
-				}
-				Optional<IntrospectedColumn> columnOptional = introspectedTable.getColumn(rs.getString("COLUMN_NAME"));
-				if (!columnOptional.isPresent()) {
-					continue;
-				}
-
-				// 收集列
-				if (indexMap.containsKey(indexName)) {
-					indexMap.get(indexName).add(columnOptional.get());
-				} else {
-					List<IntrospectedColumn> cols = new ArrayList<>();
-					cols.add(columnOptional.get());
-					indexMap.put(indexName, cols);
-				}
+	public boolean requiresIndexes() {
+		return true;
+	}
 
-				// 记录唯一性（NON_UNIQUE=false 表示唯一索引）
-				// 如果多行返回（多列索引会多行），只要有一次出现 NON_UNIQUE=false 即为唯一索引
-				boolean nonUnique = rs.getBoolean("NON_UNIQUE");
-				boolean isUnique = !nonUnique;
-				uniqueIndexMap.merge(indexName, isUnique, (oldVal, newVal) -> oldVal || newVal);
+	// 初始化，将表的索引数据整理后设置到IntrospectedTable
+	@Override
+	public void initialized(IntrospectedTable introspectedTable) {
+		Map<String, List<IntrospectedColumn>> indexMap = new HashMap<>(5);
+		Map<String, Boolean> uniqueIndexMap = new HashMap<>(5);
+		for (IntrospectedIndex index : introspectedTable.getIndexes()) {
+			if ("PRIMARY".equals(index.getName())) {
+				continue;
 			}
-			rs.close();
-
-			introspectedTable.setAttribute("indexs", indexMap);
-			introspectedTable.setAttribute("uniqueIndexFlags", uniqueIndexMap);
-		} catch (Exception e) {
-			e.printStackTrace();
+			indexMap.put(index.getName(), new ArrayList<>(index.getColumns()));
+			uniqueIndexMap.put(index.getName(), index.isUnique());
 		}
+
+		introspectedTable.setAttribute("indexs", indexMap);
+		introspectedTable.setAttribute("uniqueIndexFlags", uniqueIndexMap);
 	}
 
 	// Mapper 接口中生成方法
@@ -118,7 +89,7 @@ public class SelectByIndexPlugin extends PluginAdapter {
 
 			// 实体类型
 			String entityTypeName = introspectedTable.getFullyQualifiedTable().getDomainObjectName();
-			FullyQualifiedJavaType entityType = new FullyQualifiedJavaType(entityTypeName);
+			FullyQualifiedJavaType entityType = FullyQualifiedJavaType.of(entityTypeName);
 
 			// 返回类型
 			FullyQualifiedJavaType returnType;
@@ -149,9 +120,9 @@ public class SelectByIndexPlugin extends PluginAdapter {
 
 			// 导入
 			Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
-			importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param"));
+			importedTypes.add(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param"));
 			if (!isUnique) {
-				importedTypes.add(new FullyQualifiedJavaType("java.util.List"));
+				importedTypes.add(FullyQualifiedJavaType.of("java.util.List"));
 			}
 			// 如果实体是全限定名才需要导入，这里通常由 MBG 管理，此处无需重复导入
 			interfaze.addImportedTypes(importedTypes);
@@ -50,8 +50,8 @@ public class SerializablePlugin extends PluginAdapter {
 
     public SerializablePlugin() {
         super();
-        serializable = new FullyQualifiedJavaType("java.io.Serializable"); //$NON-NLS-1$
-        gwtSerializable = new FullyQualifiedJavaType("com.google.gwt.user.client.rpc.IsSerializable"); //$NON-NLS-1$
+        serializable = FullyQualifiedJavaType.of("java.io.Serializable"); //$NON-NLS-1$
+        gwtSerializable = FullyQualifiedJavaType.of("com.google.gwt.user.client.rpc.IsSerializable"); //$NON-NLS-1$
     }
 
     @Override
@@ -100,7 +100,7 @@ public class SerializablePlugin extends PluginAdapter {
             topLevelClass.addSuperInterface(serializable);
 
             Field field = new Field("serialVersionUID", //$NON-NLS-1$
-                    new FullyQualifiedJavaType("long")); //$NON-NLS-1$
+                    FullyQualifiedJavaType.of("long")); //$NON-NLS-1$
             field.setFinal(true);
             field.setInitializationString("1L"); //$NON-NLS-1$
             field.setStatic(true);
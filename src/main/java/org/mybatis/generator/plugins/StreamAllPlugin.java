@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import static org.mybatis.generator.internal.util.StringUtility.isTrue;
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.util.List;
+
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.config.TableConfiguration;
+
+/**
+ * 流式查询一个表的所有数据, 不会像selectAll一样把所有行都放进一个List.
+ * <ul>
+ * <li>Cursor&lt;T&gt; streamAll() - 返回Cursor, 遍历时session必须保持打开</li>
+ * <li>void scanAll(ResultHandler&lt;T&gt; handler) - 每读到一行就调用handler</li>
+ * </ul>
+ * 两个查询都是resultSetType="FORWARD_ONLY". 这些属性可以在table上覆盖:
+ * <ul>
+ * <li>"fetchSize" - 每次从数据库读取的行数, 默认1000</li>
+ * <li>"mysqlStreaming" - 为true时fetchSize是Integer.MIN_VALUE, MySQL驱动会逐行读取结果.
+ * 注意读取结束之前, 同一个连接不能执行别的语句</li>
+ * </ul>
+ */
+public class StreamAllPlugin extends PluginAdapter {
+
+	private static final String STREAM_METHOD_NAME = "streamAll"; //$NON-NLS-1$
+
+	private static final String SCAN_METHOD_NAME = "scanAll"; //$NON-NLS-1$
+
+	private static final String FETCH_SIZE = "fetchSize"; //$NON-NLS-1$
+
+	private static final String MYSQL_STREAMING = "mysqlStreaming"; //$NON-NLS-1$
+
+	private static final int DEFAULT_FETCH_SIZE = 1000;
+
+	@Override
+	public boolean validate(List<String> warnings) {
+		boolean valid = validateFetchSize(properties.getProperty(FETCH_SIZE), warnings);
+		for (TableConfiguration tableConfiguration : context.getTableConfigurations()) {
+			valid &= validateFetchSize(tableConfiguration.getProperty(FETCH_SIZE), warnings);
+		}
+		return valid;
+	}
+
+	private boolean validateFetchSize(String value, List<String> warnings) {
+		if (!stringHasValue(value) || parseFetchSize(value) > 0) {
+			return true;
+		}
+		warnings.add(getString("ValidationError.31", value, FETCH_SIZE, //$NON-NLS-1$
+				getClass().getSimpleName()));
+		return false;
+	}
+
+	private int parseFetchSize(String value) {
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private String getProperty(IntrospectedTable introspectedTable, String name) {
+		String value = introspectedTable.getTableConfigurationProperty(name);
+		return stringHasValue(value) ? value : properties.getProperty(name);
+	}
+
+	private int getFetchSize(IntrospectedTable introspectedTable) {
+		if (isTrue(getProperty(introspectedTable, MYSQL_STREAMING))) {
+			return Integer.MIN_VALUE;
+		}
+		String value = getProperty(introspectedTable, FETCH_SIZE);
+		return stringHasValue(value) ? parseFetchSize(value) : DEFAULT_FETCH_SIZE;
+	}
+
+	// Mapper 接口中生成streamAll和scanAll方法
+	@Override
+	public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+		if (introspectedTable.getTargetRuntime() != IntrospectedTable.TargetRuntime.MYBATIS3) {
+			return true;
+		}
+		// 和查询的resultMap对应的类型
+		FullyQualifiedJavaType recordType = introspectedTable.hasBLOBColumns()
+				? introspectedTable.getRules().calculateAllFieldsClass()
+				: FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
+
+		Method method = new Method(STREAM_METHOD_NAME);
+		method.setVisibility(JavaVisibility.PUBLIC);
+		FullyQualifiedJavaType cursorType = new FullyQualifiedJavaType("org.apache.ibatis.cursor.Cursor"); //$NON-NLS-1$
+		cursorType.addTypeArgument(recordType);
+		method.setReturnType(cursorType);
+		method.setAbstract(true);
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+		interfaze.addMethod(method);
+
+		method = new Method(SCAN_METHOD_NAME);
+		method.setVisibility(JavaVisibility.PUBLIC);
+		FullyQualifiedJavaType handlerType =
+				new FullyQualifiedJavaType("org.apache.ibatis.session.ResultHandler"); //$NON-NLS-1$
+		handlerType.addTypeArgument(recordType);
+		method.addParameter(new Parameter(handlerType, "handler")); //$NON-NLS-1$
+		method.setAbstract(true);
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+		interfaze.addMethod(method);
+
+		interfaze.addImportedType(cursorType);
+		interfaze.addImportedType(handlerType);
+		interfaze.addImportedType(recordType);
+		return true;
+	}
+
+	// mapper.xml中生成streamAll和scanAll查询
+	@Override
+	public boolean sqlMapDocumentGenerated(Document document, IntrospectedTable introspectedTable) {
+		if (introspectedTable.getTargetRuntime() != IntrospectedTable.TargetRuntime.MYBATIS3) {
+			return true;
+		}
+		int fetchSize = getFetchSize(introspectedTable);
+		document.getRootElement().addElement(newSelect(introspectedTable, STREAM_METHOD_NAME, fetchSize));
+		document.getRootElement().addElement(newSelect(introspectedTable, SCAN_METHOD_NAME, fetchSize));
+		return true;
+	}
+
+	private XmlElement newSelect(IntrospectedTable introspectedTable, String id, int fetchSize) {
+		XmlElement select = new XmlElement("select"); //$NON-NLS-1$
+		context.getCommentGenerator().addComment(select);
+		select.addAttribute(new Attribute("id", id)); //$NON-NLS-1$
+		// 和selectAll一样的返回类型
+		if (introspectedTable.hasBLOBColumns()) {
+			select.addAttribute(new Attribute("resultMap", //$NON-NLS-1$
+					introspectedTable.getResultMapWithBLOBsId()));
+		} else {
+			select.addAttribute(new Attribute("resultMap", //$NON-NLS-1$
+					introspectedTable.getBaseResultMapId()));
+		}
+		select.addAttribute(new Attribute("fetchSize", Integer.toString(fetchSize))); //$NON-NLS-1$
+		select.addAttribute(new Attribute("resultSetType", "FORWARD_ONLY")); //$NON-NLS-1$ //$NON-NLS-2$
+		select.addElement(new TextElement("SELECT * FROM " //$NON-NLS-1$
+				+ introspectedTable.getFullyQualifiedTableNameAtRuntime()));
+		return select;
+	}
+}
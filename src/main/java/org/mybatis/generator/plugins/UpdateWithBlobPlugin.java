@@ -145,7 +145,7 @@ public class UpdateWithBlobPlugin extends PluginAdapter {
 				method.getParameters().clear();
 
 				// 正确创建FullyQualifiedJavaType
-				FullyQualifiedJavaType parameterType = new FullyQualifiedJavaType(introspectedTable.getRecordWithBLOBsType());
+				FullyQualifiedJavaType parameterType = FullyQualifiedJavaType.of(introspectedTable.getRecordWithBLOBsType());
 
 				method.addParameter(new Parameter(parameterType, "record"));
             }
@@ -78,7 +78,7 @@ public class MethodGeneratorTool {
         //获取实体类类型
         FullyQualifiedJavaType parameterType = introspectedTable.getRules().calculateAllFieldsClass();
         //@Param需要导入的类型
-        FullyQualifiedJavaType paramType = new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param");
+        FullyQualifiedJavaType paramType = FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param");
         //Integer类型
         FullyQualifiedJavaType intInstance = FullyQualifiedJavaType.getIntInstance();
         //List<Entity>
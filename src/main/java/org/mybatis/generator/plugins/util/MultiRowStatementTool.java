@@ -0,0 +1,200 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.plugins.util;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Properties;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+import org.mybatis.generator.config.Context;
+
+/**
+ * 多行insert语句的分块工具. 生成xxxChunked默认方法, 把列表按固定行数切分, 在同一个session中依次执行多行语句,
+ * 以免单条语句超过MySQL的max_allowed_packet或者65535个占位符的限制. 每条语句的行数在生成时按表计算,
+ * 可以用插件的这些属性调整:
+ * <ul>
+ * <li>"maxAllowedPacket" - 语句的最大字节数, 默认4194304 (MySQL 5.7的默认值)</li>
+ * <li>"estimatedRowBytes" - 一行数据的估计字节数. 不指定时按列的类型和长度估算</li>
+ * <li>"maxRowsPerStatement" - 每条语句的最大行数. 不指定时只受上面两个限制</li>
+ * </ul>
+ */
+public class MultiRowStatementTool {
+
+    /** MySQL和PostgreSQL的预编译语句最多支持65535个占位符. */
+    private static final int MAX_PLACEHOLDERS = 65535;
+
+    private static final int DEFAULT_MAX_ALLOWED_PACKET = 4 * 1024 * 1024;
+
+    /** 长度未知的字符串和二进制列的估计字节数. */
+    private static final int DEFAULT_LOB_BYTES = 1024;
+
+    /** 数字, 日期等其他列的估计字节数. */
+    private static final int DEFAULT_COLUMN_BYTES = 20;
+
+    private int maxAllowedPacket = DEFAULT_MAX_ALLOWED_PACKET;
+
+    private int estimatedRowBytes;
+
+    private int maxRowsPerStatement = Integer.MAX_VALUE;
+
+    /**
+     * 读取插件的属性, 无效的值加为警告.
+     *
+     * @param properties 插件的属性
+     * @param pluginName 插件的名字
+     * @param warnings 警告
+     * @return 属性是否都有效
+     */
+    public boolean configure(Properties properties, String pluginName, List<String> warnings) {
+        boolean valid = true;
+        String value = properties.getProperty("maxAllowedPacket"); //$NON-NLS-1$
+        if (stringHasValue(value)) {
+            maxAllowedPacket = parsePositiveInt(value, "maxAllowedPacket", pluginName, warnings); //$NON-NLS-1$
+            valid = maxAllowedPacket > 0;
+        }
+        value = properties.getProperty("estimatedRowBytes"); //$NON-NLS-1$
+        if (stringHasValue(value)) {
+            estimatedRowBytes = parsePositiveInt(value, "estimatedRowBytes", pluginName, warnings); //$NON-NLS-1$
+            valid &= estimatedRowBytes > 0;
+        }
+        value = properties.getProperty("maxRowsPerStatement"); //$NON-NLS-1$
+        if (stringHasValue(value)) {
+            maxRowsPerStatement = parsePositiveInt(value, "maxRowsPerStatement", pluginName, warnings); //$NON-NLS-1$
+            valid &= maxRowsPerStatement > 0;
+        }
+        return valid;
+    }
+
+    private int parsePositiveInt(String value, String property, String pluginName, List<String> warnings) {
+        int i;
+        try {
+            i = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            i = 0;
+        }
+        if (i <= 0) {
+            warnings.add(getString("ValidationError.31", value, property, pluginName)); //$NON-NLS-1$
+        }
+        return i;
+    }
+
+    /**
+     * 加两个默认方法: methodName(records, rowsPerStatement)把列表切分后依次调用batchMethodName,
+     * rowsPerStatement不是正数时抛出IllegalArgumentException; methodName(records)使用按表计算的行数.
+     * 每块都通过同一个mapper执行, 所以都在同一个session中.
+     *
+     * @param interfaze mapper接口
+     * @param introspectedTable 表
+     * @param context context
+     * @param methodName 生成的方法名
+     * @param batchMethodName 执行多行语句的方法名
+     * @param paramType 列表的类型
+     * @param columns 多行语句的列
+     */
+    public void addChunkedMethods(Interface interfaze, IntrospectedTable introspectedTable, Context context,
+            String methodName, String batchMethodName, FullyQualifiedJavaType paramType,
+            List<IntrospectedColumn> columns) {
+        Method method = new Method(methodName);
+        method.setDefault(true);
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+        method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+        method.addParameter(new Parameter(paramType, "records")); //$NON-NLS-1$
+        method.addBodyLine("return " + methodName + "(records, " //$NON-NLS-1$ //$NON-NLS-2$
+                + calculateRowsPerStatement(introspectedTable, columns) + ");"); //$NON-NLS-1$
+        interfaze.addMethod(method);
+
+        method = new Method(methodName);
+        method.setDefault(true);
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+        method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+        method.addParameter(new Parameter(paramType, "records")); //$NON-NLS-1$
+        method.addParameter(new Parameter(FullyQualifiedJavaType.getIntInstance(), "rowsPerStatement")); //$NON-NLS-1$
+        // 行数不是正数时下面的循环不会结束
+        method.addBodyLine("if (rowsPerStatement <= 0) {"); //$NON-NLS-1$
+        method.addBodyLine("throw new IllegalArgumentException(\"rowsPerStatement must be positive: \"" //$NON-NLS-1$
+                + " + rowsPerStatement);"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("int rows = 0;"); //$NON-NLS-1$
+        method.addBodyLine("for (int fromIndex = 0; fromIndex < records.size(); fromIndex += rowsPerStatement) {"); //$NON-NLS-1$
+        method.addBodyLine("int toIndex = Math.min(fromIndex + rowsPerStatement, records.size());"); //$NON-NLS-1$
+        method.addBodyLine("rows += " + batchMethodName + "(records.subList(fromIndex, toIndex));"); //$NON-NLS-1$ //$NON-NLS-2$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("return rows;"); //$NON-NLS-1$
+        interfaze.addMethod(method);
+    }
+
+    /**
+     * 计算每条多行语句的行数: 不超过占位符的限制, 也不超过max_allowed_packet.
+     *
+     * @param introspectedTable 表
+     * @param columns 每行的列
+     * @return 每条语句的行数
+     */
+    public int calculateRowsPerStatement(IntrospectedTable introspectedTable, List<IntrospectedColumn> columns) {
+        int rowBytes = estimatedRowBytes;
+        // 语句开头的insert into和结尾的on duplicate key update都按列名估算
+        int headerBytes = introspectedTable.getAliasedFullyQualifiedTableNameAtRuntime().length() + 32;
+        if (rowBytes <= 0) {
+            rowBytes = 4; // "(", ")", ", "
+            for (IntrospectedColumn column : columns) {
+                rowBytes += estimateColumnBytes(column) + 2;
+            }
+        }
+        for (IntrospectedColumn column : columns) {
+            headerBytes += (MyBatis3FormattingUtilities.getEscapedColumnName(column).length() + 2) * 3;
+        }
+
+        long packetRows = Math.max(1, (maxAllowedPacket - headerBytes) / rowBytes);
+        long rows = Math.min(packetRows, MAX_PLACEHOLDERS / Math.max(1, columns.size()));
+        rows = Math.min(rows, maxRowsPerStatement);
+        return (int) Math.max(1, rows);
+    }
+
+    /**
+     * 估算一个值在SQL语句中的字节数. 字符串按列长度计算, 二进制按十六进制计算.
+     */
+    private int estimateColumnBytes(IntrospectedColumn column) {
+        int length = column.getLength();
+        switch (column.getJdbcType()) {
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.NCHAR:
+        case Types.NVARCHAR:
+        case Types.LONGVARCHAR:
+        case Types.LONGNVARCHAR:
+        case Types.CLOB:
+        case Types.NCLOB:
+            return (length > 0 && length < DEFAULT_LOB_BYTES ? length : DEFAULT_LOB_BYTES) + 2;
+        case Types.BINARY:
+        case Types.VARBINARY:
+        case Types.LONGVARBINARY:
+        case Types.BLOB:
+            return (length > 0 && length < DEFAULT_LOB_BYTES ? length : DEFAULT_LOB_BYTES) * 2 + 3;
+        default:
+            return DEFAULT_COLUMN_BYTES;
+        }
+    }
+}
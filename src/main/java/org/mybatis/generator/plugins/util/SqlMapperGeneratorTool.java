@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.plugins.util;
 
+import java.util.List;
+
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.TextElement;
@@ -141,5 +143,31 @@ public class SqlMapperGeneratorTool {
         }
         return trimElement;
     }
-}
 
+    /**
+     * 把逗号分隔的部分加为多行文本, 每行不超过80个字符.
+     *
+     * @param parent 父元素
+     * @param prefix 第一行的开头
+     * @param parts  逗号分隔的部分
+     * @param suffix 最后一行的结尾
+     */
+    public static void addWrappedText(XmlElement parent, String prefix, List<String> parts, String suffix) {
+        StringBuilder sb = new StringBuilder(prefix);
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+                if (sb.length() + parts.get(i).length() > 80) {
+                    parent.addElement(new TextElement(sb.toString()));
+                    sb.setLength(0);
+                    sb.append("  "); //$NON-NLS-1$
+                } else {
+                    sb.append(' ');
+                }
+            }
+            sb.append(parts.get(i));
+        }
+        sb.append(suffix);
+        parent.addElement(new TextElement(sb.toString()));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.TableConfiguration;
+
+class BulkIntrospectionTest {
+
+    @TempDir
+    Path targetProject;
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+    }
+
+    @Test
+    void testBulkIntrospectionOutputIsTheSameAsTableByTableOutput() throws Exception {
+        List<String> tableWarnings = new ArrayList<>();
+        Map<String, String> tableByTable = PerformanceTestSupport.generate(
+                PerformanceTestSupport.parseConfiguration(targetProject),
+                PerformanceTestSupport.contexts("mysql", "hierarchical"), tableWarnings);
+        List<String> bulkWarnings = new ArrayList<>();
+        Map<String, String> bulk = PerformanceTestSupport.generate(
+                PerformanceTestSupport.parseConfiguration(targetProject, "bulkIntrospection", "true"),
+                PerformanceTestSupport.contexts("mysql", "hierarchical"), bulkWarnings);
+
+        assertThat(bulk).containsExactlyEntriesOf(tableByTable);
+        assertThat(bulkWarnings).isEqualTo(tableWarnings);
+    }
+
+    @Test
+    void testBulkIntrospectionWithParallelIntrospection() throws Exception {
+        Map<String, String> tableByTable = PerformanceTestSupport.generate(
+                PerformanceTestSupport.parseConfiguration(targetProject),
+                PerformanceTestSupport.contexts("mysql", "hierarchical"), new ArrayList<>());
+        // the threads share the metadata of the schema
+        Map<String, String> bulk = PerformanceTestSupport.generate(
+                PerformanceTestSupport.parseConfiguration(targetProject, "bulkIntrospection", "true",
+                        "parallelIntrospection", "true"),
+                PerformanceTestSupport.contexts("mysql", "hierarchical"), new ArrayList<>());
+
+        assertThat(bulk).containsExactlyEntriesOf(tableByTable);
+    }
+
+    @Test
+    void testMissingTableWithBulkIntrospection() throws Exception {
+        List<String> tableWarnings = new ArrayList<>();
+        Map<String, String> tableByTable = generateWithMissingTable(tableWarnings);
+        List<String> bulkWarnings = new ArrayList<>();
+        Map<String, String> bulk = generateWithMissingTable(bulkWarnings, "bulkIntrospection", "true");
+
+        assertThat(bulk).containsExactlyEntriesOf(tableByTable);
+        assertThat(bulkWarnings).isEqualTo(tableWarnings)
+                .anyMatch(warning -> warning.contains("t_missing"));
+    }
+
+    private Map<String, String> generateWithMissingTable(List<String> warnings, String... contextProperties)
+            throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject, contextProperties);
+        TableConfiguration tableConfiguration = new TableConfiguration(
+                PerformanceTestSupport.getContext(config, "mysql"));
+        tableConfiguration.setTableName("t_missing");
+        PerformanceTestSupport.getContext(config, "mysql").addTableConfiguration(tableConfiguration);
+        return PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql"), warnings);
+    }
+}
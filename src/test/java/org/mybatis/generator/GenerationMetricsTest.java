@@ -0,0 +1,159 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.GenerationMetricsListener;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+class GenerationMetricsTest {
+
+    @TempDir
+    Path targetProject;
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+    }
+
+    @Test
+    void testListenerGetsTheTablesPhasesAndPluginHooks() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(
+                PerformanceTestSupport.parseConfiguration(targetProject), new DefaultShellCallback(true),
+                new ArrayList<>());
+        myBatisGenerator.addMetricsListener(listener);
+        myBatisGenerator.generate(null, PerformanceTestSupport.contexts("mysql"), null, true);
+
+        assertThat(listener.tables).containsExactlyInAnyOrder(
+                "mysql t_player introspection", "mysql t_item introspection",
+                "mysql t_friend introspection", "mysql t_player_tag introspection",
+                "mysql T_PLAYER initialization", "mysql T_ITEM initialization",
+                "mysql T_FRIEND initialization", "mysql T_PLAYER_TAG initialization",
+                "mysql T_PLAYER generation", "mysql T_ITEM generation",
+                "mysql T_FRIEND generation", "mysql T_PLAYER_TAG generation");
+        assertThat(listener.phases).contains("mysql introspection 1", "mysql generation 1", "null save 1");
+        assertThat(listener.phases).anyMatch(phase -> phase.startsWith("null write "));
+        assertThat(listener.pluginHooks).contains(
+                "org.mybatis.generator.plugins.SelectByIndexPlugin sqlMapDocumentGenerated 4",
+                "org.mybatis.generator.plugins.SelectByIndexPlugin clientGenerated 4");
+    }
+
+    @Test
+    void testParallelGenerationReportsEveryTable() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(
+                PerformanceTestSupport.parseConfiguration(targetProject, "parallelGeneration", "true"),
+                new DefaultShellCallback(true), new ArrayList<>());
+        myBatisGenerator.addMetricsListener(listener);
+        myBatisGenerator.generate(null, PerformanceTestSupport.contexts("mysql"), null, false);
+
+        assertThat(listener.tables).filteredOn(table -> table.endsWith(" generation"))
+                .containsExactlyInAnyOrder("mysql T_PLAYER generation", "mysql T_ITEM generation",
+                        "mysql T_FRIEND generation", "mysql T_PLAYER_TAG generation");
+        assertThat(listener.pluginHooks)
+                .contains("org.mybatis.generator.plugins.SelectByIndexPlugin sqlMapDocumentGenerated 4");
+    }
+
+    @Test
+    void testMetricsDoNotChangeTheOutput() throws Exception {
+        Map<String, String> withoutMetrics = PerformanceTestSupport.generate(
+                PerformanceTestSupport.parseConfiguration(targetProject),
+                PerformanceTestSupport.contexts("mysql", "hierarchical"), new ArrayList<>());
+
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(
+                PerformanceTestSupport.parseConfiguration(targetProject), new DefaultShellCallback(true),
+                new ArrayList<>());
+        myBatisGenerator.addMetricsListener(new RecordingListener());
+        myBatisGenerator.generate(null, PerformanceTestSupport.contexts("mysql", "hierarchical"), null, false);
+
+        assertThat(PerformanceTestSupport.contents(myBatisGenerator)).containsExactlyEntriesOf(withoutMetrics);
+    }
+
+    @Test
+    void testReport() throws Exception {
+        Path report = targetProject.resolve("reports/metrics.json");
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(
+                PerformanceTestSupport.parseConfiguration(targetProject), new DefaultShellCallback(true),
+                new ArrayList<>());
+        myBatisGenerator.setMetricsReportFile(report.toFile());
+        myBatisGenerator.generate(null, PerformanceTestSupport.contexts("mysql"), null, true);
+
+        String json = new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+        assertThat(json).startsWith("{\n  \"elapsedMillis\": ")
+                .contains("\"phases\": [", "\"plugins\": [", "\"pluginHooks\": [", "\"tables\": [")
+                .contains("{\"context\": \"mysql\", \"phase\": \"introspection\", \"count\": 1, ")
+                .contains("{\"context\": null, \"phase\": \"save\", \"count\": 1, ")
+                .contains("{\"context\": \"mysql\", \"table\": \"T_FRIEND\", \"phase\": \"generation\", ")
+                .contains("{\"plugin\": \"org.mybatis.generator.plugins.MysqlBatchUpdatePlugin\", \"calls\": ")
+                .endsWith("\n  ]\n}\n");
+
+        // plugins and plugin hooks are listed most expensive first
+        assertThat(elapsedMillis(json, "\"plugins\": [")).isSortedAccordingTo(Collections.reverseOrder());
+        assertThat(elapsedMillis(json, "\"pluginHooks\": [")).isSortedAccordingTo(Collections.reverseOrder());
+    }
+
+    private static List<Double> elapsedMillis(String json, String section) {
+        int start = json.indexOf(section);
+        String list = json.substring(start, json.indexOf("\n  ]", start));
+        List<Double> answer = new ArrayList<>();
+        Matcher matcher = Pattern.compile("\"elapsedMillis\": ([0-9.]+)").matcher(list);
+        while (matcher.find()) {
+            answer.add(Double.valueOf(matcher.group(1)));
+        }
+        assertThat(answer).isNotEmpty();
+        return answer;
+    }
+
+    private static class RecordingListener implements GenerationMetricsListener {
+        private final List<String> tables = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> phases = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> pluginHooks = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void tableCompleted(String contextId, String tableName, String phase, long elapsedNanos,
+                long allocatedBytes) {
+            tables.add(contextId + ' ' + tableName + ' ' + phase);
+        }
+
+        @Override
+        public void phaseSummary(String contextId, String phase, long count, long elapsedNanos,
+                long allocatedBytes) {
+            phases.add(contextId + ' ' + phase + ' ' + count);
+        }
+
+        @Override
+        public void pluginHookSummary(String pluginType, String hook, long calls, long elapsedNanos,
+                long allocatedBytes) {
+            pluginHooks.add(pluginType + ' ' + hook + ' ' + calls);
+        }
+    }
+}
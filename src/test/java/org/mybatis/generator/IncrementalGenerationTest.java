@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+class IncrementalGenerationTest {
+
+    @TempDir
+    Path targetProject;
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+    }
+
+    @Test
+    void testUnchangedTablesAreSkipped() throws Exception {
+        MyBatisGenerator first = generate();
+        Map<String, String> files = PerformanceTestSupport.readFiles(targetProject);
+        assertThat(first.getGeneratedJavaFiles()).isNotEmpty();
+
+        MyBatisGenerator second = generate();
+
+        assertThat(second.getGeneratedJavaFiles()).isEmpty();
+        assertThat(second.getGeneratedXmlFiles()).isEmpty();
+        assertThat(PerformanceTestSupport.readFiles(targetProject)).isEqualTo(files);
+    }
+
+    @Test
+    void testChangedTableIsGenerated() throws Exception {
+        generate();
+        execute("alter table t_friend add column intimacy int");
+
+        MyBatisGenerator second = generate();
+
+        assertThat(PerformanceTestSupport.contents(second).keySet()).containsExactlyInAnyOrder(
+                "mbg.test.performance.entity/Friend.java",
+                "mbg.test.performance.mapper/FriendMapper.java",
+                "mbg.test.performance.mapper/FriendBatchWriter.java",
+                "mbg.test.performance.mapper/FriendMapper.xml",
+                "mbg.test.performance.hierarchical.model/TFriend.java",
+                "mbg.test.performance.hierarchical.model/TFriendKey.java",
+                "mbg.test.performance.hierarchical.mapper/TFriendMapper.java",
+                "mbg.test.performance.hierarchical.xml/TFriendMapper.xml");
+        assertThat(read("mbg/test/performance/entity/Friend.java")).contains("intimacy");
+    }
+
+    @Test
+    void testExecutionPropertiesAreNotPartOfTheFingerprint() throws Exception {
+        generate();
+        String manifest = read("manifest.txt");
+
+        PerformanceTestSupport.generateAndWrite(
+                parseConfiguration("streamingGeneration", "true", "parallelGeneration", "true"),
+                new DefaultShellCallback(true), new ArrayList<>());
+
+        // a changed fingerprint would be written to the manifest
+        assertThat(read("manifest.txt")).isEqualTo(manifest);
+    }
+
+    @Test
+    void testMissingFilesAreGenerated() throws Exception {
+        generate();
+        Files.delete(targetProject.resolve("mbg/test/performance/mapper/ItemMapper.xml"));
+
+        MyBatisGenerator second = generate();
+
+        assertThat(PerformanceTestSupport.contents(second)).containsKey("mbg.test.performance.mapper/ItemMapper.xml")
+                .doesNotContainKey("mbg.test.performance.mapper/PlayerMapper.xml");
+        assertThat(targetProject.resolve("mbg/test/performance/mapper/ItemMapper.xml")).exists();
+    }
+
+    @Test
+    void testContextFilesPluginSeesEveryTable() throws Exception {
+        generate();
+
+        List<String> warnings = new ArrayList<>();
+        Configuration config = parseConfiguration();
+        PluginConfiguration pluginConfiguration = new PluginConfiguration();
+        pluginConfiguration.setConfigurationType("org.mybatis.generator.plugins.MapperConfigPlugin");
+        pluginConfiguration.addProperty("targetProject", targetProject.toString());
+        pluginConfiguration.addProperty("targetPackage", "mbg.test.performance");
+        PerformanceTestSupport.getContext(config, "mysql").addPluginConfiguration(pluginConfiguration);
+        PerformanceTestSupport.generateAndWrite(config, new DefaultShellCallback(true), warnings);
+
+        assertThat(read("mbg/test/performance/MapperConfig.xml")).contains(
+                "mbg/test/performance/mapper/PlayerMapper.xml",
+                "mbg/test/performance/mapper/ItemMapper.xml",
+                "mbg/test/performance/mapper/FriendMapper.xml",
+                "mbg/test/performance/mapper/PlayerTagMapper.xml");
+    }
+
+    @Test
+    void testEntriesOfRemovedTablesArePruned() throws Exception {
+        generate();
+        Path manifest = targetProject.resolve("manifest.txt");
+        List<String> lines = new ArrayList<>(Files.readAllLines(manifest, StandardCharsets.UTF_8));
+        lines.add("mysql/T_DROPPED/Dropped\tfingerprint\t" + targetProject.resolve("Dropped.java"));
+        lines.add("other/T_DROPPED/Dropped\tfingerprint\t" + targetProject.resolve("Dropped.java"));
+        Files.write(manifest, lines, StandardCharsets.UTF_8);
+
+        generate();
+
+        String content = new String(Files.readAllBytes(manifest), StandardCharsets.UTF_8);
+        assertThat(content).doesNotContain("mysql/T_DROPPED/Dropped")
+                .contains("other/T_DROPPED/Dropped")
+                .contains("mysql/T_PLAYER/Player")
+                .contains("hierarchical/T_PLAYER/TPlayer");
+    }
+
+    private MyBatisGenerator generate() throws Exception {
+        return PerformanceTestSupport.generateAndWrite(parseConfiguration(), new DefaultShellCallback(true),
+                new ArrayList<>());
+    }
+
+    private Configuration parseConfiguration(String... contextProperties) throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject, contextProperties);
+        for (Context context : config.getContexts()) {
+            context.addProperty("incrementalManifest", targetProject.resolve("manifest.txt").toString());
+        }
+        return config;
+    }
+
+    private String read(String file) throws Exception {
+        return new String(Files.readAllBytes(targetProject.resolve(file)), StandardCharsets.UTF_8);
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(PerformanceTestSupport.DATABASE_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.internal.db.SchemaSnapshot;
+
+class IndexIntrospectionTest {
+
+    @TempDir
+    Path targetProject;
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        CountingPlugin.instances.set(0);
+        CountingPlugin.indexes.clear();
+    }
+
+    @Test
+    void testIndexPluginsGetTheIndexes() throws Exception {
+        Map<String, String> files = PerformanceTestSupport.generate(
+                PerformanceTestSupport.parseConfiguration(targetProject), PerformanceTestSupport.contexts("mysql"),
+                new ArrayList<>());
+
+        assertThat(files.get("mbg.test.performance.mapper/ItemMapper.java"))
+                .contains("Item selectByUKITEMPLAYERITEM(@Param(\"playerId\") long playerId, "
+                        + "@Param(\"itemId\") int itemId);")
+                .contains("List<Item> selectByIDXITEMEXPIRE(@Param(\"expireTime\") java.util.Date expireTime);");
+        assertThat(files.get("mbg.test.performance.mapper/ItemMapper.xml"))
+                .contains("id=\"selectByUKITEMPLAYERITEM\"")
+                .contains("id=\"deleteByUKITEMPLAYERITEM\"");
+    }
+
+    @Test
+    void testPluginsAreCreatedOncePerRun() throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject);
+        PluginConfiguration pluginConfiguration = new PluginConfiguration();
+        pluginConfiguration.setConfigurationType(CountingPlugin.class.getName());
+        PerformanceTestSupport.getContext(config, "mysql").addPluginConfiguration(pluginConfiguration);
+
+        PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql"), new ArrayList<>());
+        assertThat(CountingPlugin.instances).hasValue(1);
+        assertThat(CountingPlugin.indexes).containsExactly("T_PLAYER:UK_PLAYER_PLAYER_ID",
+                "T_ITEM:UK_ITEM_PLAYER_ITEM", "T_ITEM:IDX_ITEM_EXPIRE");
+
+        PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql"), new ArrayList<>());
+        assertThat(CountingPlugin.instances).hasValue(2);
+    }
+
+    @Test
+    void testSnapshotsWithoutIndexesAreRejected() throws Exception {
+        Path file = targetProject.resolve("schema.snapshot");
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(0x4d424753);
+            out.writeInt(1);
+        }
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> SchemaSnapshot.read(file))
+                .withMessage("Unsupported schema snapshot version 1");
+    }
+
+    public static class CountingPlugin extends PluginAdapter {
+        static final AtomicInteger instances = new AtomicInteger();
+
+        static final List<String> indexes = new ArrayList<>();
+
+        public CountingPlugin() {
+            instances.incrementAndGet();
+        }
+
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+
+        @Override
+        public boolean requiresIndexes() {
+            return true;
+        }
+
+        @Override
+        public void initialized(IntrospectedTable introspectedTable) {
+            introspectedTable.getIndexes().stream()
+                    .filter(index -> !index.getName().startsWith("SYS_"))
+                    .forEach(index -> indexes.add(introspectedTable.getFullyQualifiedTable()
+                            .getIntrospectedTableName() + ':' + index.getName()));
+        }
+    }
+}
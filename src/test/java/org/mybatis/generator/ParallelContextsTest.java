@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+class ParallelContextsTest {
+
+    @TempDir
+    Path root;
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+    }
+
+    @Test
+    void testParallelContextsOutputIsTheSameAsSequentialOutput() throws Exception {
+        List<String> sequentialWarnings = new ArrayList<>();
+        Map<String, String> sequential = generate(false, sequentialWarnings);
+        List<String> parallelWarnings = new ArrayList<>();
+        Map<String, String> parallel = generate(true, parallelWarnings);
+
+        assertThat(parallel).containsExactlyEntriesOf(sequential);
+        // the warnings are in context order, not in the order the contexts finish
+        assertThat(parallelWarnings).isEqualTo(sequentialWarnings);
+        assertThat(sequentialWarnings).hasSize(2);
+        assertThat(sequentialWarnings.get(0)).contains("t_missing_mysql");
+        assertThat(sequentialWarnings.get(1)).contains("t_missing_hierarchical");
+    }
+
+    @Test
+    void testParallelContextsWithParallelTables() throws Exception {
+        List<String> sequentialWarnings = new ArrayList<>();
+        Map<String, String> sequential = generate(false, sequentialWarnings);
+        List<String> parallelWarnings = new ArrayList<>();
+        Map<String, String> parallel = generate(true, parallelWarnings, "parallelIntrospection", "true",
+                "parallelGeneration", "true");
+
+        assertThat(parallel).containsExactlyEntriesOf(sequential);
+        assertThat(parallelWarnings).isEqualTo(sequentialWarnings);
+    }
+
+    @Test
+    void testParallelContextsWithStreamingGeneration() throws Exception {
+        Path sequentialProject = Files.createDirectory(root.resolve("sequential"));
+        Path parallelProject = Files.createDirectory(root.resolve("parallel"));
+        write(sequentialProject, false);
+        write(parallelProject, true);
+
+        assertThat(PerformanceTestSupport.readFiles(parallelProject))
+                .isEqualTo(PerformanceTestSupport.readFiles(sequentialProject))
+                .containsKeys("mbg/test/performance/entity/Player.java",
+                        "mbg/test/performance/hierarchical/model/TPlayer.java");
+    }
+
+    @Test
+    void testFailureInOneContext() throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(root);
+        Context context = PerformanceTestSupport.getContext(config, "hierarchical");
+        context.addProperty("schemaSnapshotMode", "read");
+        context.addProperty("schemaSnapshotFile", root.resolve("missing.snapshot").toString());
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, new DefaultShellCallback(true),
+                new ArrayList<>());
+        myBatisGenerator.setParallelContexts(true);
+
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> myBatisGenerator.generate(null, null, null, false))
+                .withMessageStartingWith("Cannot read schema snapshot");
+    }
+
+    private Map<String, String> generate(boolean parallelContexts, List<String> warnings,
+            String... contextProperties) throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(root, contextProperties);
+        // a warning from the introspection of each context
+        for (Context context : config.getContexts()) {
+            TableConfiguration tableConfiguration = new TableConfiguration(context);
+            tableConfiguration.setTableName("t_missing_" + context.getId());
+            context.addTableConfiguration(tableConfiguration);
+        }
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, new DefaultShellCallback(true), warnings);
+        myBatisGenerator.setParallelContexts(parallelContexts);
+        myBatisGenerator.generate(null, PerformanceTestSupport.contexts("mysql", "hierarchical"), null, false);
+        return PerformanceTestSupport.contents(myBatisGenerator);
+    }
+
+    private void write(Path targetProject, boolean parallelContexts) throws Exception {
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(
+                PerformanceTestSupport.parseConfiguration(targetProject, "streamingGeneration", "true"),
+                new DefaultShellCallback(true), new ArrayList<>());
+        myBatisGenerator.setParallelContexts(parallelContexts);
+        myBatisGenerator.generate(null);
+    }
+}
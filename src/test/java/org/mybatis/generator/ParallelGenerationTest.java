@@ -0,0 +1,145 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PluginConfiguration;
+
+class ParallelGenerationTest {
+
+    @TempDir
+    Path targetProject;
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        SlowPlugin.active.set(0);
+        SlowPlugin.maxActive.set(0);
+    }
+
+    @Test
+    void testParallelOutputIsTheSameAsSequentialOutput() throws Exception {
+        List<String> sequentialWarnings = new ArrayList<>();
+        Map<String, String> sequential = generate(sequentialWarnings);
+        List<String> parallelWarnings = new ArrayList<>();
+        Map<String, String> parallel = generate(parallelWarnings,
+                "parallelGeneration", "true", "generationThreads", "4");
+
+        // the same files, with the same content, in the same order
+        assertThat(parallel).containsExactlyEntriesOf(sequential);
+        assertThat(parallelWarnings).isEqualTo(sequentialWarnings);
+        assertThat(sequential).containsKeys("mbg.test.performance/MapperConfig.xml",
+                "mbg.test.performance.mapper/PlayerTagMapper.xml");
+        // mapper files are listed in table order, not in the order the tables finish
+        assertThat(parallel.get("mbg.test.performance/MapperConfig.xml")).containsSubsequence(
+                "mbg/test/performance/mapper/PlayerMapper.xml",
+                "mbg/test/performance/mapper/ItemMapper.xml",
+                "mbg/test/performance/mapper/FriendMapper.xml",
+                "mbg/test/performance/mapper/PlayerTagMapper.xml");
+    }
+
+    @Test
+    void testOneGenerationThread() throws Exception {
+        Map<String, String> sequential = generate(new ArrayList<>());
+        Map<String, String> parallel = generate(new ArrayList<>(),
+                "parallelGeneration", "true", "generationThreads", "1");
+
+        assertThat(parallel).containsExactlyEntriesOf(sequential);
+    }
+
+    @Test
+    void testPluginsThatAreNotThreadSafeAreCalledByOneThreadAtATime() throws Exception {
+        Configuration config = parseConfiguration("parallelGeneration", "true", "generationThreads", "4");
+        PluginConfiguration pluginConfiguration = new PluginConfiguration();
+        pluginConfiguration.setConfigurationType(SlowPlugin.class.getName());
+        PerformanceTestSupport.getContext(config, "mysql").addPluginConfiguration(pluginConfiguration);
+
+        PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql"), new ArrayList<>());
+
+        assertThat(SlowPlugin.maxActive).hasValue(1);
+    }
+
+    private Map<String, String> generate(List<String> warnings, String... contextProperties) throws Exception {
+        Map<String, String> files = PerformanceTestSupport.generate(parseConfiguration(contextProperties),
+                PerformanceTestSupport.contexts("mysql", "hierarchical"), warnings);
+        // the mapper config records when it was generated
+        Map<String, String> answer = new LinkedHashMap<>();
+        files.forEach((name, content) -> answer.put(name,
+                content.replaceAll("This file was generated on .*", "This file was generated on")));
+        return answer;
+    }
+
+    private Configuration parseConfiguration(String... contextProperties) throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject, contextProperties);
+        // a plugin with state for the whole context
+        PluginConfiguration pluginConfiguration = new PluginConfiguration();
+        pluginConfiguration.setConfigurationType("org.mybatis.generator.plugins.MapperConfigPlugin");
+        pluginConfiguration.addProperty("targetProject", targetProject.toString());
+        pluginConfiguration.addProperty("targetPackage", "mbg.test.performance");
+        Context context = PerformanceTestSupport.getContext(config, "mysql");
+        context.addPluginConfiguration(pluginConfiguration);
+        return config;
+    }
+
+    /**
+     * Records how many threads call the plugin at the same time.
+     */
+    public static class SlowPlugin extends PluginAdapter {
+        static final AtomicInteger active = new AtomicInteger();
+        static final AtomicInteger maxActive = new AtomicInteger();
+
+        @Override
+        public boolean isThreadSafe() {
+            return false;
+        }
+
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+
+        @Override
+        public boolean modelBaseRecordClassGenerated(TopLevelClass topLevelClass,
+                IntrospectedTable introspectedTable) {
+            int current = active.incrementAndGet();
+            maxActive.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+            return true;
+        }
+    }
+}
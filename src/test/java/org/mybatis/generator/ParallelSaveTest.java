@@ -0,0 +1,174 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.ShellCallback;
+import org.mybatis.generator.exception.ShellException;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+class ParallelSaveTest {
+
+    @TempDir
+    Path root;
+
+    private Path sequentialProject;
+
+    private Path parallelProject;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        sequentialProject = Files.createDirectory(root.resolve("sequential"));
+        parallelProject = Files.createDirectory(root.resolve("parallel"));
+    }
+
+    @Test
+    void testParallelSaveWritesTheSameFiles() throws Exception {
+        List<String> sequentialWarnings = save(sequentialProject, new DefaultShellCallback(true));
+        List<String> parallelWarnings = save(parallelProject, new DefaultShellCallback(true),
+                "parallelSave", "true");
+
+        assertThat(PerformanceTestSupport.readFiles(parallelProject))
+                .isEqualTo(PerformanceTestSupport.readFiles(sequentialProject))
+                .isNotEmpty();
+        assertThat(parallelWarnings).isEqualTo(sequentialWarnings);
+    }
+
+    @Test
+    void testExistingFilesWithoutOverwrite() throws Exception {
+        save(sequentialProject, new DefaultShellCallback(false));
+        List<String> sequentialWarnings = save(sequentialProject, new DefaultShellCallback(false));
+        save(parallelProject, new DefaultShellCallback(false), "parallelSave", "true");
+        List<String> parallelWarnings = save(parallelProject, new DefaultShellCallback(false),
+                "parallelSave", "true");
+
+        Map<String, String> files = PerformanceTestSupport.readFiles(parallelProject);
+        assertThat(files).isEqualTo(PerformanceTestSupport.readFiles(sequentialProject))
+                .containsKey("mbg/test/performance/entity/Player.java.1");
+        // the same unique names, warned about in the same order
+        assertThat(parallelWarnings).isEqualTo(sequentialWarnings).isNotEmpty();
+    }
+
+    @Test
+    void testMergeWithParallelSave() throws Exception {
+        save(sequentialProject, new DefaultShellCallback(true, true));
+        save(parallelProject, new DefaultShellCallback(true, true), "parallelSave", "true");
+        execute("alter table t_friend drop column remark");
+
+        List<String> sequentialWarnings = save(sequentialProject, new DefaultShellCallback(true, true));
+        List<String> parallelWarnings = save(parallelProject, new DefaultShellCallback(true, true),
+                "parallelSave", "true");
+
+        Map<String, String> files = PerformanceTestSupport.readFiles(parallelProject);
+        assertThat(files).isEqualTo(PerformanceTestSupport.readFiles(sequentialProject));
+        assertThat(files.get("mbg/test/performance/entity/Friend.java")).doesNotContain("remark");
+        assertThat(parallelWarnings).isEqualTo(sequentialWarnings);
+    }
+
+    @Test
+    void testOneConcurrentFileWrite() throws Exception {
+        save(sequentialProject, new DefaultShellCallback(true));
+        save(parallelProject, new DefaultShellCallback(true), "parallelSave", "true",
+                "concurrentFileWrites", "1");
+
+        assertThat(PerformanceTestSupport.readFiles(parallelProject))
+                .isEqualTo(PerformanceTestSupport.readFiles(sequentialProject));
+    }
+
+    @Test
+    void testShellCallbacksThatAreNotThreadSafeAreCalledByOneThreadAtATime() throws Exception {
+        save(sequentialProject, new DefaultShellCallback(true));
+        SlowShellCallback shellCallback = new SlowShellCallback();
+        save(parallelProject, shellCallback, "parallelSave", "true");
+
+        assertThat(PerformanceTestSupport.readFiles(parallelProject))
+                .isEqualTo(PerformanceTestSupport.readFiles(sequentialProject));
+        assertThat(shellCallback.calls.get()).isPositive();
+        assertThat(shellCallback.maxActive).hasValue(1);
+    }
+
+    /**
+     * Generates and saves the files, and returns the warnings with the project directory removed.
+     */
+    private List<String> save(Path targetProject, ShellCallback shellCallback, String... contextProperties)
+            throws Exception {
+        List<String> warnings = new ArrayList<>();
+        PerformanceTestSupport.generateAndWrite(
+                PerformanceTestSupport.parseConfiguration(targetProject, contextProperties), shellCallback,
+                warnings);
+        return warnings.stream()
+                .map(warning -> warning.replace(targetProject.toString(), ""))
+                .collect(Collectors.toList());
+    }
+
+    private static void execute(String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(PerformanceTestSupport.DATABASE_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Records how many threads call the shell callback at the same time.
+     */
+    private static class SlowShellCallback extends DefaultShellCallback {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+
+        SlowShellCallback() {
+            super(true);
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return false;
+        }
+
+        @Override
+        public File getDirectory(String targetProject, String targetPackage) throws ShellException {
+            calls.incrementAndGet();
+            int current = active.incrementAndGet();
+            maxActive.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(5);
+                return super.getDirectory(targetProject, targetPackage);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ShellException(e.getMessage());
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+}
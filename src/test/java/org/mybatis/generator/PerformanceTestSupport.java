@@ -0,0 +1,155 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.ShellCallback;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+/**
+ * Runs the generator with scripts/generatorConfig_performance.xml against the HSQLDB database
+ * created by scripts/CreateDB_performance.sql, and collects the output so the tests can compare
+ * a run in one mode with a run in another.
+ */
+public class PerformanceTestSupport {
+
+    public static final String DATABASE_URL = "jdbc:hsqldb:mem:performance";
+
+    public static final String CONFIG_FILE = "/scripts/generatorConfig_performance.xml";
+
+    private PerformanceTestSupport() {
+    }
+
+    public static void createDatabase() throws Exception {
+        SqlScriptRunner scriptRunner = new SqlScriptRunner(
+                PerformanceTestSupport.class.getResourceAsStream("/scripts/CreateDB_performance.sql"),
+                "org.hsqldb.jdbcDriver", DATABASE_URL, "sa", "");
+        scriptRunner.executeScript();
+    }
+
+    /**
+     * Parses the configuration and adds the properties to every context.
+     *
+     * @param targetProject the directory the files are generated to
+     * @param contextProperties context properties as name value pairs
+     * @return the configuration
+     */
+    public static Configuration parseConfiguration(Path targetProject, String... contextProperties)
+            throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("targetProject", targetProject.toString());
+        ConfigurationParser cp = new ConfigurationParser(properties, new ArrayList<>());
+        Configuration config = cp.parseConfiguration(PerformanceTestSupport.class.getResourceAsStream(CONFIG_FILE));
+        for (Context context : config.getContexts()) {
+            for (int i = 0; i < contextProperties.length; i += 2) {
+                context.addProperty(contextProperties[i], contextProperties[i + 1]);
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Generates the files of the contexts without writing them.
+     *
+     * @return the formatted content of the generated Java and XML files, by target package and name,
+     *     in generation order
+     */
+    public static Map<String, String> generate(Configuration config, Set<String> contextIds,
+            List<String> warnings) throws Exception {
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, new DefaultShellCallback(true), warnings);
+        myBatisGenerator.generate(null, contextIds, null, false);
+        return contents(myBatisGenerator);
+    }
+
+    /**
+     * Generates and writes the files of all contexts.
+     *
+     * @return the generator, for the lists of generated files
+     */
+    public static MyBatisGenerator generateAndWrite(Configuration config, ShellCallback shellCallback,
+            List<String> warnings) throws Exception {
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, shellCallback, warnings);
+        myBatisGenerator.generate(null, null, null, true);
+        return myBatisGenerator;
+    }
+
+    public static Map<String, String> contents(MyBatisGenerator myBatisGenerator) {
+        Map<String, String> answer = new LinkedHashMap<>();
+        for (GeneratedJavaFile file : myBatisGenerator.getGeneratedJavaFiles()) {
+            answer.put(file.getTargetPackage() + '/' + file.getFileName(), file.getFormattedContent());
+        }
+        for (GeneratedXmlFile file : myBatisGenerator.getGeneratedXmlFiles()) {
+            answer.put(file.getTargetPackage() + '/' + file.getFileName(), file.getFormattedContent());
+        }
+        return answer;
+    }
+
+    /**
+     * Reads every file below a directory.
+     *
+     * @return the content of the files, by path relative to the directory
+     */
+    public static Map<String, String> readFiles(Path directory) throws IOException {
+        Map<String, String> answer = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                try {
+                    answer.put(directory.relativize(path).toString().replace('\\', '/'),
+                            new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return answer;
+    }
+
+    public static Context getContext(Configuration config, String id) {
+        for (Context context : config.getContexts()) {
+            if (context.getId().equals(id)) {
+                return context;
+            }
+        }
+        throw new IllegalArgumentException(id);
+    }
+
+    public static Set<String> contexts(String... contextIds) {
+        Set<String> answer = new HashSet<>();
+        Collections.addAll(answer, contextIds);
+        return answer;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.exception.InvalidConfigurationException;
+
+class SchemaSnapshotTest {
+
+    @TempDir
+    Path targetProject;
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+    }
+
+    @Test
+    void testOutputFromSnapshotIsTheSameAsOutputFromDatabase() throws Exception {
+        List<String> databaseWarnings = new ArrayList<>();
+        Map<String, String> fromDatabase = generate(databaseWarnings, "write");
+        assertThat(snapshotFile("mysql")).exists();
+        assertThat(snapshotFile("hierarchical")).exists();
+
+        List<String> snapshotWarnings = new ArrayList<>();
+        Map<String, String> fromSnapshot = generate(snapshotWarnings, "read");
+
+        assertThat(fromSnapshot).containsExactlyEntriesOf(fromDatabase);
+        assertThat(snapshotWarnings).isEqualTo(databaseWarnings);
+    }
+
+    @Test
+    void testSnapshotIsReadInsteadOfTheDatabase() throws Exception {
+        Map<String, String> fromDatabase = generate(new ArrayList<>(), "write");
+        execute("alter table t_friend drop column remark");
+        execute("drop table t_player_tag");
+
+        Map<String, String> fromSnapshot = generate(new ArrayList<>(), "read");
+
+        assertThat(fromSnapshot).containsExactlyEntriesOf(fromDatabase);
+        assertThat(fromSnapshot.get("mbg.test.performance.entity/Friend.java")).contains("private String remark;");
+    }
+
+    @Test
+    void testSnapshotWithParallelIntrospection() throws Exception {
+        Map<String, String> fromDatabase = generate(new ArrayList<>(), null);
+        generate(new ArrayList<>(), "write", "parallelIntrospection", "true");
+
+        Map<String, String> fromSnapshot = generate(new ArrayList<>(), "read");
+
+        assertThat(fromSnapshot).containsExactlyEntriesOf(fromDatabase);
+    }
+
+    @Test
+    void testMissingSnapshot() throws Exception {
+        Path file = snapshotFile("mysql");
+
+        assertThatExceptionOfType(SQLException.class).isThrownBy(() -> generate(new ArrayList<>(), "read"))
+                .withMessageStartingWith("Cannot read schema snapshot " + file);
+    }
+
+    @Test
+    void testInvalidMode() throws Exception {
+        assertThatExceptionOfType(InvalidConfigurationException.class)
+                .isThrownBy(() -> generate(new ArrayList<>(), "update"))
+                .satisfies(e -> assertThat(e.getErrors()).contains(
+                        "Invalid value \"update\" for property schemaSnapshotMode in context mysql,"
+                                + " must be \"read\" or \"write\""));
+    }
+
+    @Test
+    void testModeWithoutFile() throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject,
+                "schemaSnapshotMode", "read");
+
+        assertThatExceptionOfType(InvalidConfigurationException.class)
+                .isThrownBy(() -> PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql"),
+                        new ArrayList<>()))
+                .satisfies(e -> assertThat(e.getErrors()).contains(
+                        "Property schemaSnapshotFile is required when schemaSnapshotMode is specified"
+                                + " in context mysql"));
+    }
+
+    /**
+     * Generates both contexts, each with its own snapshot file.
+     */
+    private Map<String, String> generate(List<String> warnings, String snapshotMode, String... contextProperties)
+            throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject, contextProperties);
+        if (snapshotMode != null) {
+            for (Context context : config.getContexts()) {
+                context.addProperty("schemaSnapshotMode", snapshotMode);
+                context.addProperty("schemaSnapshotFile", snapshotFile(context.getId()).toString());
+            }
+        }
+        return PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql", "hierarchical"),
+                warnings);
+    }
+
+    private Path snapshotFile(String contextId) {
+        return targetProject.resolve(contextId + ".snapshot");
+    }
+
+    private static void execute(String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(PerformanceTestSupport.DATABASE_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
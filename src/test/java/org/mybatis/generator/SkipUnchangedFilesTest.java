@@ -0,0 +1,174 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+class SkipUnchangedFilesTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(1000000000000L);
+
+    @TempDir
+    Path targetProject;
+
+    private final List<String> warnings = new ArrayList<>();
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+    }
+
+    @Test
+    void testUnchangedFilesAreNotWritten() throws Exception {
+        SaveCounts first = generate(true, "skipUnchangedFiles", "true");
+        Map<String, String> files = PerformanceTestSupport.readFiles(targetProject);
+        assertThat(first.written).isEqualTo(files.size());
+        assertThat(first.unchanged).isZero();
+        setOldModificationTimes();
+
+        warnings.clear();
+        SaveCounts second = generate(true, "skipUnchangedFiles", "true");
+
+        assertThat(second.written).isZero();
+        assertThat(second.unchanged).isEqualTo(files.size());
+        assertThat(PerformanceTestSupport.readFiles(targetProject)).isEqualTo(files);
+        assertThat(modificationTimes()).containsOnly(OLD_TIME);
+        // no "existing file was overwritten" warnings
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    void testOnlyChangedFilesAreWritten() throws Exception {
+        generate(true, "skipUnchangedFiles", "true");
+        setOldModificationTimes();
+        execute("alter table t_friend add column intimacy int");
+
+        SaveCounts second = generate(true, "skipUnchangedFiles", "true");
+
+        Path mapperDirectory = targetProject.resolve("mbg/test/performance/mapper");
+        assertThat(Files.getLastModifiedTime(targetProject.resolve("mbg/test/performance/entity/Friend.java")))
+                .isNotEqualTo(OLD_TIME);
+        assertThat(Files.getLastModifiedTime(mapperDirectory.resolve("FriendMapper.xml"))).isNotEqualTo(OLD_TIME);
+        assertThat(Files.getLastModifiedTime(mapperDirectory.resolve("PlayerMapper.xml"))).isEqualTo(OLD_TIME);
+        assertThat(Files.getLastModifiedTime(targetProject.resolve("mbg/test/performance/entity/Player.java")))
+                .isEqualTo(OLD_TIME);
+        assertThat(second.written).isPositive();
+        assertThat(second.unchanged).isPositive();
+        assertThat(PerformanceTestSupport.readFiles(targetProject).get("mbg/test/performance/entity/Friend.java"))
+                .contains("private int intimacy;");
+    }
+
+    @Test
+    void testNoDuplicateFilesWithoutOverwrite() throws Exception {
+        generate(false, "skipUnchangedFiles", "true");
+        Map<String, String> files = PerformanceTestSupport.readFiles(targetProject);
+
+        SaveCounts second = generate(false, "skipUnchangedFiles", "true");
+
+        assertThat(PerformanceTestSupport.readFiles(targetProject)).isEqualTo(files);
+        assertThat(second.written).isZero();
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    void testFilesAreWrittenByDefault() throws Exception {
+        generate(true);
+        Map<String, String> files = PerformanceTestSupport.readFiles(targetProject);
+        setOldModificationTimes();
+
+        SaveCounts second = generate(true);
+
+        assertThat(second.written).isEqualTo(files.size());
+        assertThat(second.unchanged).isZero();
+        assertThat(modificationTimes()).doesNotContain(OLD_TIME);
+    }
+
+    @Test
+    void testSkippingWithParallelSave() throws Exception {
+        generate(true, "skipUnchangedFiles", "true", "parallelSave", "true");
+        Map<String, String> files = PerformanceTestSupport.readFiles(targetProject);
+        setOldModificationTimes();
+
+        SaveCounts second = generate(true, "skipUnchangedFiles", "true", "parallelSave", "true");
+
+        assertThat(second.written).isZero();
+        assertThat(second.unchanged).isEqualTo(files.size());
+        assertThat(modificationTimes()).containsOnly(OLD_TIME);
+    }
+
+    private SaveCounts generate(boolean overwrite, String... contextProperties) throws Exception {
+        SaveCounts counts = new SaveCounts();
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(
+                PerformanceTestSupport.parseConfiguration(targetProject, contextProperties),
+                new DefaultShellCallback(overwrite), warnings);
+        myBatisGenerator.generate(counts);
+        return counts;
+    }
+
+    private void setOldModificationTimes() throws Exception {
+        try (Stream<Path> paths = Files.walk(targetProject)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                Files.setLastModifiedTime(path, OLD_TIME);
+            }
+        }
+    }
+
+    private List<FileTime> modificationTimes() throws Exception {
+        List<FileTime> answer = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(targetProject)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                answer.add(Files.getLastModifiedTime(path));
+            }
+        }
+        return answer;
+    }
+
+    private static void execute(String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(PerformanceTestSupport.DATABASE_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static class SaveCounts implements ProgressCallback {
+        private int written;
+        private int unchanged;
+
+        @Override
+        public void saveCompleted(int filesWritten, int filesUnchanged) {
+            written = filesWritten;
+            unchanged = filesUnchanged;
+        }
+    }
+}
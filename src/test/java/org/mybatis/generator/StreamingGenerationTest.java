@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+class StreamingGenerationTest {
+
+    @TempDir
+    Path root;
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+    }
+
+    @Test
+    void testWrittenFilesAreTheSameAsBufferedFiles() throws Exception {
+        Path bufferedProject = Files.createDirectory(root.resolve("buffered"));
+        Path streamingProject = Files.createDirectory(root.resolve("streaming"));
+        PerformanceTestSupport.generateAndWrite(PerformanceTestSupport.parseConfiguration(bufferedProject),
+                new DefaultShellCallback(true), new ArrayList<>());
+        PerformanceTestSupport.generateAndWrite(
+                PerformanceTestSupport.parseConfiguration(streamingProject, "streamingGeneration", "true"),
+                new DefaultShellCallback(true), new ArrayList<>());
+
+        Map<String, String> bufferedFiles = PerformanceTestSupport.readFiles(bufferedProject);
+        assertThat(PerformanceTestSupport.readFiles(streamingProject)).containsOnlyKeys(bufferedFiles.keySet());
+        assertThat(bufferedFiles).containsKeys("mbg/test/performance/entity/Player.java",
+                "mbg/test/performance/mapper/PlayerMapper.xml");
+        for (String file : bufferedFiles.keySet()) {
+            assertThat(streamingProject.resolve(file)).as(file).hasBinaryContent(
+                    Files.readAllBytes(bufferedProject.resolve(file)));
+        }
+    }
+
+    @Test
+    void testFilesAreReturnedWhenNotWritten() throws Exception {
+        Map<String, String> buffered = PerformanceTestSupport.generate(
+                PerformanceTestSupport.parseConfiguration(root), null, new ArrayList<>());
+        Map<String, String> streaming = PerformanceTestSupport.generate(
+                PerformanceTestSupport.parseConfiguration(root, "streamingGeneration", "true"), null,
+                new ArrayList<>());
+
+        assertThat(streaming).isNotEmpty().containsExactlyEntriesOf(buffered);
+        assertThat(root).isEmptyDirectory();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.internal.SynchronizedPlugin;
+
+class CompositePluginTest {
+
+    @Test
+    void testOnlyOverridingPluginsAreCalled() {
+        List<String> calls = new ArrayList<>();
+        PluginAggregator aggregator = new PluginAggregator();
+        aggregator.addPlugin(new RecordingPlugin("client", calls) {
+            @Override
+            public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+                calls.add(name);
+                return true;
+            }
+        });
+        aggregator.addPlugin(SynchronizedPlugin.wrap(new RecordingPlugin("model", calls) {
+            @Override
+            public boolean modelBaseRecordClassGenerated(TopLevelClass topLevelClass,
+                    IntrospectedTable introspectedTable) {
+                calls.add(name);
+                return true;
+            }
+        }));
+
+        assertThat(aggregator.clientGenerated(null, null)).isTrue();
+        assertThat(aggregator.modelBaseRecordClassGenerated(null, null)).isTrue();
+        assertThat(aggregator.modelPrimaryKeyClassGenerated(null, null)).isTrue();
+
+        assertThat(calls).containsExactly("client", "model");
+    }
+
+    @Test
+    void testFalseStopsLaterPlugins() {
+        List<String> calls = new ArrayList<>();
+        PluginAggregator aggregator = new PluginAggregator();
+        for (String name : new String[] { "first", "second" }) {
+            aggregator.addPlugin(new RecordingPlugin(name, calls) {
+                @Override
+                public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+                    calls.add(name);
+                    return false;
+                }
+            });
+        }
+
+        assertThat(aggregator.clientGenerated(null, null)).isFalse();
+        assertThat(calls).containsExactly("first");
+    }
+
+    private abstract static class RecordingPlugin extends PluginAdapter {
+        final String name;
+        final List<String> calls;
+
+        RecordingPlugin(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+    }
+}
@@ -17,10 +17,19 @@ package org.mybatis.generator.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.InitializationBlock;
+import org.mybatis.generator.api.dom.java.InnerClass;
+import org.mybatis.generator.api.dom.java.InnerEnum;
 import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
 
 class GeneratedJavaFileTest {
 
@@ -46,4 +55,44 @@ class GeneratedJavaFileTest {
         assertThat(gjf.getFileName()).isEqualTo("TestInterface.java");
         assertThat(gjf.getTargetPackage()).isEqualTo("org.mybatis.test");
     }
+
+    @Test
+    void testWriteFormattedContent() throws IOException {
+        TopLevelClass tlc = new TopLevelClass("org.mybatis.test.TestClass");
+        tlc.addImportedType("java.util.List");
+        tlc.addField(new Field("names", new FullyQualifiedJavaType("java.util.List<java.lang.String>")));
+        Method method = new Method("getNames");
+        method.setReturnType(new FullyQualifiedJavaType("java.util.List<java.lang.String>"));
+        method.addBodyLine("if (names == null) {");
+        method.addBodyLine("return null;");
+        method.addBodyLine("}");
+        method.addBodyLine("return names;");
+        tlc.addMethod(method);
+        InnerClass innerClass = new InnerClass("Inner");
+        innerClass.addInitializationBlock(new InitializationBlock());
+        innerClass.addInnerEnum(new InnerEnum("Kind"));
+        tlc.addInnerClass(innerClass);
+        GeneratedJavaFile gjf = new GeneratedJavaFile(tlc, "src", new DefaultJavaFormatter());
+
+        StringWriter sw = new StringWriter();
+        gjf.writeFormattedContent(sw);
+
+        assertThat(sw.toString()).isEqualTo(gjf.getFormattedContent());
+    }
+
+    @Test
+    void testWriteFormattedContentUsesOverriddenVisit() throws IOException {
+        JavaFormatter jf = new DefaultJavaFormatter() {
+            @Override
+            public String visit(TopLevelClass topLevelClass) {
+                return "// formatted\n" + super.visit(topLevelClass);
+            }
+        };
+        GeneratedJavaFile gjf = new GeneratedJavaFile(new TopLevelClass("org.mybatis.test.TestClass"), "src", jf);
+
+        StringWriter sw = new StringWriter();
+        gjf.writeFormattedContent(sw);
+
+        assertThat(sw.toString()).startsWith("// formatted\n").isEqualTo(gjf.getFormattedContent());
+    }
 }
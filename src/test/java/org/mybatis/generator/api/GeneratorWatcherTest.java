@@ -0,0 +1,168 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.PerformanceTestSupport;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+class GeneratorWatcherTest {
+
+    private static final long TIMEOUT_MILLIS = 30000;
+
+    @TempDir
+    Path targetProject;
+
+    private Path configurationFile;
+
+    private Thread watcherThread;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        String configuration = new String(Files.readAllBytes(
+                Paths.get(getClass().getResource(PerformanceTestSupport.CONFIG_FILE).toURI())),
+                StandardCharsets.UTF_8);
+        configurationFile = targetProject.resolve("generatorConfig.xml");
+        Files.write(configurationFile, configuration.replace("${targetProject}",
+                targetProject.toString().replace('\\', '/')).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void stopWatcher() throws Exception {
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+            watcherThread.join(TIMEOUT_MILLIS);
+        }
+    }
+
+    @Test
+    void testChangedTableIsGenerated() throws Exception {
+        startWatcher(null);
+        waitForFile("Friend.java", "friendId");
+
+        execute("alter table t_friend add column intimacy int");
+
+        waitForFile("Friend.java", "intimacy");
+    }
+
+    @Test
+    void testChangeMadeWhileGeneratingIsFound() throws Exception {
+        AtomicBoolean changed = new AtomicBoolean();
+        startWatcher(new ProgressCallback() {
+            @Override
+            public void generationStarted(int totalTasks) {
+                // the first run introspects the old schema, so only the next check finds the change
+                if (changed.compareAndSet(false, true)) {
+                    try {
+                        execute("alter table t_friend add column intimacy int");
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        });
+
+        waitForFile("Friend.java", "intimacy");
+    }
+
+    @Test
+    void testContextFilesPluginSeesEveryTable() throws Exception {
+        String configuration = new String(Files.readAllBytes(configurationFile), StandardCharsets.UTF_8);
+        Files.write(configurationFile, configuration.replace(
+                "<plugin type=\"org.mybatis.generator.plugins.SerializablePlugin\" />",
+                "<plugin type=\"org.mybatis.generator.plugins.SerializablePlugin\" />"
+                        + "<plugin type=\"org.mybatis.generator.plugins.MapperConfigPlugin\">"
+                        + "<property name=\"targetProject\" value=\""
+                        + targetProject.toString().replace('\\', '/') + "\" />"
+                        + "<property name=\"targetPackage\" value=\"mbg.test.performance\" />"
+                        + "</plugin>").getBytes(StandardCharsets.UTF_8));
+        AtomicInteger runs = new AtomicInteger();
+        startWatcher(new ProgressCallback() {
+            @Override
+            public void done() {
+                runs.incrementAndGet();
+            }
+        });
+        waitForRuns(runs, 1);
+
+        execute("alter table t_friend add column intimacy int");
+
+        waitForRuns(runs, 2);
+        assertThat(targetProject.resolve("mbg/test/performance/entity/Friend.java")).content()
+                .contains("intimacy");
+        assertThat(targetProject.resolve("mbg/test/performance/MapperConfig.xml")).content().contains(
+                "mbg/test/performance/mapper/PlayerMapper.xml",
+                "mbg/test/performance/mapper/ItemMapper.xml",
+                "mbg/test/performance/mapper/FriendMapper.xml",
+                "mbg/test/performance/mapper/PlayerTagMapper.xml");
+    }
+
+    private void startWatcher(ProgressCallback progressCallback) {
+        GeneratorWatcher watcher = new GeneratorWatcher(configurationFile.toFile(),
+                new DefaultShellCallback(true), Collections.singleton("mysql"), Collections.emptySet(),
+                progressCallback, 50);
+        watcherThread = new Thread(() -> {
+            try {
+                watcher.watch();
+            } catch (InterruptedException e) {
+                // stopped by the test
+            }
+        });
+        watcherThread.start();
+    }
+
+    private void waitForFile(String fileName, String content) throws Exception {
+        Path file = targetProject.resolve("mbg/test/performance/entity").resolve(fileName);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!Files.exists(file)
+                || !new String(Files.readAllBytes(file), StandardCharsets.UTF_8).contains(content)) {
+            assertThat(System.currentTimeMillis()).as(fileName + " with " + content).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private static void waitForRuns(AtomicInteger runs, int expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (runs.get() < expected) {
+            assertThat(System.currentTimeMillis()).as("run " + expected).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private static void execute(String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(PerformanceTestSupport.DATABASE_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
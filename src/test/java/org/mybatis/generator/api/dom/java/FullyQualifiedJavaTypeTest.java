@@ -17,6 +17,8 @@ package org.mybatis.generator.api.dom.java;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -270,4 +272,25 @@ class FullyQualifiedJavaTypeTest {
         assertTrue(fqjt.getImportList().contains("java.util.List"));
         assertFalse(fqjt.getImportList().contains("java.util.List[]"));
     }
+
+    @Test
+    void testSharedInstance() {
+        FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of("java.util.Map<java.lang.String, java.util.List<java.math.BigDecimal>>");
+        assertSame(fqjt, FullyQualifiedJavaType.of("java.util.Map<java.lang.String, java.util.List<java.math.BigDecimal>>"));
+        assertEquals(new FullyQualifiedJavaType("java.util.Map<java.lang.String, java.util.List<java.math.BigDecimal>>"), fqjt);
+        assertEquals("Map<String, List<BigDecimal>>", fqjt.getShortName());
+        assertEquals(3, fqjt.getImportList().size());
+        assertTrue(fqjt.getImportList().contains("java.math.BigDecimal"));
+    }
+
+    @Test
+    void testSharedInstanceCannotBeModified() {
+        FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of("java.util.List<java.util.Set>");
+        FullyQualifiedJavaType argument = fqjt.getTypeArguments().get(0);
+        FullyQualifiedJavaType string = FullyQualifiedJavaType.getStringInstance();
+
+        assertThrows(UnsupportedOperationException.class, () -> fqjt.addTypeArgument(string));
+        assertThrows(UnsupportedOperationException.class, () -> argument.addTypeArgument(string));
+        assertEquals("java.util.List<java.util.Set>", fqjt.getFullyQualifiedName());
+    }
 }
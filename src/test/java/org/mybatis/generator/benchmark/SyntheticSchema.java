@@ -0,0 +1,183 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.JDBCConnectionConfiguration;
+import org.mybatis.generator.config.JavaClientGeneratorConfiguration;
+import org.mybatis.generator.config.JavaModelGeneratorConfiguration;
+import org.mybatis.generator.config.ModelType;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.config.SqlMapGeneratorConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.logging.LogFactory;
+
+/**
+ * Creates synthetic schemas in an in-memory HSQLDB database, and contexts that generate code for
+ * them. Narrow tables have 6 columns, wide tables have 60 columns. Every table has a primary key
+ * and a secondary index.
+ */
+public final class SyntheticSchema {
+
+    private static final String DRIVER = "org.hsqldb.jdbcDriver";
+
+    private static final String[] COLUMN_TYPES = {
+            "varchar(64)", "integer", "timestamp", "decimal(18,2)", "bigint", "varbinary(256)"
+    };
+
+    private static final ProgressCallback NULL_CALLBACK = new ProgressCallback() {
+    };
+
+    private SyntheticSchema() {
+    }
+
+    /**
+     * Creates the tables, unless they exist already.
+     *
+     * @param tables
+     *            the number of tables
+     * @param width
+     *            "narrow" or "wide"
+     * @return the JDBC URL of the database
+     * @throws Exception
+     *             if the database cannot be created
+     */
+    public static String create(int tables, String width) throws Exception {
+        // the generator logs every statement at debug level, which would dominate the measurements
+        LogFactory.forceJavaLogging();
+        Class.forName(DRIVER);
+
+        String url = "jdbc:hsqldb:mem:bench_" + tables + '_' + width;
+        int columns = columnCount(width);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < tables; i++) {
+                StringBuilder sb = new StringBuilder();
+                sb.append("create table if not exists ").append(tableName(i)).append(" (id bigint not null");
+                for (int j = 1; j < columns; j++) {
+                    sb.append(", col_").append(j).append(' ').append(COLUMN_TYPES[j % COLUMN_TYPES.length]);
+                }
+                sb.append(", primary key (id))");
+                statement.execute(sb.toString());
+                statement.execute("create index if not exists idx_" + i + " on " + tableName(i) + " (col_1)");
+            }
+        }
+        return url;
+    }
+
+    /**
+     * Creates a MyBatis3 context with one table configuration per table.
+     *
+     * @param url
+     *            the JDBC URL returned by {@link #create(int, String)}
+     * @param tables
+     *            the number of tables
+     * @param targetProject
+     *            the target project of the generated files
+     * @return the context
+     */
+    public static Context createContext(String url, int tables, String targetProject) {
+        Context context = new Context(ModelType.CONDITIONAL);
+        context.setId("benchmark");
+        context.setTargetRuntime("MyBatis3");
+
+        JDBCConnectionConfiguration jdbcConnectionConfiguration = new JDBCConnectionConfiguration();
+        jdbcConnectionConfiguration.setDriverClass(DRIVER);
+        jdbcConnectionConfiguration.setConnectionURL(url);
+        jdbcConnectionConfiguration.setUserId("sa");
+        jdbcConnectionConfiguration.setPassword("");
+        context.setJdbcConnectionConfiguration(jdbcConnectionConfiguration);
+
+        JavaModelGeneratorConfiguration javaModelGeneratorConfiguration = new JavaModelGeneratorConfiguration();
+        javaModelGeneratorConfiguration.setTargetPackage("bench.model");
+        javaModelGeneratorConfiguration.setTargetProject(targetProject);
+        context.setJavaModelGeneratorConfiguration(javaModelGeneratorConfiguration);
+
+        SqlMapGeneratorConfiguration sqlMapGeneratorConfiguration = new SqlMapGeneratorConfiguration();
+        sqlMapGeneratorConfiguration.setTargetPackage("bench.mapper");
+        sqlMapGeneratorConfiguration.setTargetProject(targetProject);
+        context.setSqlMapGeneratorConfiguration(sqlMapGeneratorConfiguration);
+
+        JavaClientGeneratorConfiguration javaClientGeneratorConfiguration = new JavaClientGeneratorConfiguration();
+        javaClientGeneratorConfiguration.setConfigurationType("XMLMAPPER");
+        javaClientGeneratorConfiguration.setTargetPackage("bench.mapper");
+        javaClientGeneratorConfiguration.setTargetProject(targetProject);
+        context.setJavaClientGeneratorConfiguration(javaClientGeneratorConfiguration);
+
+        for (int i = 0; i < tables; i++) {
+            TableConfiguration tc = new TableConfiguration(context);
+            tc.setTableName(tableName(i));
+            context.addTableConfiguration(tc);
+        }
+        return context;
+    }
+
+    /**
+     * Sets the bulk introspection property of a context.
+     *
+     * @param context
+     *            the context
+     * @param bulkIntrospection
+     *            the property value
+     */
+    public static void setBulkIntrospection(Context context, boolean bulkIntrospection) {
+        context.addProperty(PropertyRegistry.CONTEXT_BULK_INTROSPECTION, Boolean.toString(bulkIntrospection));
+    }
+
+    public static void introspect(Context context) throws Exception {
+        List<String> warnings = new ArrayList<>();
+        context.introspectTables(NULL_CALLBACK, warnings, null);
+        if (!warnings.isEmpty()) {
+            throw new IllegalStateException(warnings.toString());
+        }
+    }
+
+    /**
+     * Generates the files of the introspected tables.
+     *
+     * @param context
+     *            an introspected context
+     * @param javaFiles
+     *            receives the generated Java files
+     * @param xmlFiles
+     *            receives the generated XML files
+     * @throws Exception
+     *             if the generation fails
+     */
+    public static void generate(Context context, List<GeneratedJavaFile> javaFiles,
+            List<GeneratedXmlFile> xmlFiles) throws Exception {
+        context.generateFiles(NULL_CALLBACK, javaFiles, xmlFiles, new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>());
+    }
+
+    private static int columnCount(String width) {
+        return "wide".equals(width) ? 60 : 6;
+    }
+
+    private static String tableName(int i) {
+        return "bench_table_" + i;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.config.Context;
+
+/**
+ * Checks that the benchmarks measure what they claim to - a small schema is introspected and
+ * generated the same way the benchmarks do, in both introspection modes. Runs with the other tests
+ * when the benchmarks profile is active.
+ */
+class SyntheticSchemaTest {
+
+    private static final int TABLES = 5;
+
+    @Test
+    void testNarrowTables() throws Exception {
+        Map<String, String> files = generate("narrow", false);
+
+        assertThat(files).hasSize(TABLES * 3)
+                .containsKeys("BenchTable0.java", "BenchTable0Mapper.java", "BenchTable0Mapper.xml");
+        assertThat(files.get("BenchTable4.java")).contains("private Integer col1;", "private byte[] col5;");
+    }
+
+    @Test
+    void testWideTables() throws Exception {
+        Map<String, String> files = generate("wide", false);
+
+        // a class with the binary columns is added for each table
+        assertThat(files).hasSize(TABLES * 4).containsKey("BenchTable0WithBLOBs.java");
+        assertThat(files.get("BenchTable4.java")).contains("private Long col58;");
+        assertThat(files.get("BenchTable4WithBLOBs.java")).contains("private byte[] col59;");
+    }
+
+    @Test
+    void testBulkIntrospectionGeneratesTheSameFiles() throws Exception {
+        assertThat(generate("wide", true)).isEqualTo(generate("wide", false));
+    }
+
+    /**
+     * Generates the files like GenerationBenchmark does.
+     *
+     * @return the content of the files by file name
+     */
+    private Map<String, String> generate(String width, boolean bulkIntrospection) throws Exception {
+        String url = SyntheticSchema.create(TABLES, width);
+        Context context = SyntheticSchema.createContext(url, TABLES, "target");
+        SyntheticSchema.setBulkIntrospection(context, bulkIntrospection);
+        SyntheticSchema.introspect(context);
+        assertThat(context.getIntrospectedTables()).hasSize(TABLES);
+
+        List<GeneratedJavaFile> javaFiles = new ArrayList<>();
+        List<GeneratedXmlFile> xmlFiles = new ArrayList<>();
+        SyntheticSchema.generate(context, javaFiles, xmlFiles);
+
+        Map<String, String> answer = new LinkedHashMap<>();
+        javaFiles.forEach(file -> answer.put(file.getFileName(), file.getFormattedContent()));
+        xmlFiles.forEach(file -> answer.put(file.getFileName(), file.getFormattedContent()));
+        return answer;
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.PerformanceTestSupport;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.MergeConstants;
+import org.mybatis.generator.exception.ShellException;
+
+class JavaFileMergerJavaParserTest {
+
+    private static final String NEW_SOURCE = String.join("\n",
+            "package test;",
+            "",
+            "import java.io.Serializable;",
+            "import java.util.Date;",
+            "",
+            "public class Player extends BaseEntity implements Serializable {",
+            "    /**",
+            "     * @mbg.generated",
+            "     */",
+            "    private long id;",
+            "",
+            "    /**",
+            "     * @mbg.generated",
+            "     */",
+            "    private Date created;",
+            "",
+            "    /**",
+            "     * @mbg.generated",
+            "     */",
+            "    public long getId() {",
+            "        return id;",
+            "    }",
+            "",
+            "    /**",
+            "     * @mbg.generated",
+            "     */",
+            "    public Date getCreated() {",
+            "        return created;",
+            "    }",
+            "}",
+            "");
+
+    @TempDir
+    Path targetProject;
+
+    @Test
+    void testThatFilesAreTheSameAfterMerge() throws Exception {
+        assertEquals(NEW_SOURCE, merge(NEW_SOURCE, NEW_SOURCE));
+    }
+
+    @Test
+    void testThatGeneratedMembersAreReplacedAndCustomMembersKept() throws Exception {
+        String existingSource = String.join("\n",
+                "package test;",
+                "",
+                "import java.io.Serializable;",
+                "",
+                "public class Player extends BaseEntity implements Serializable {",
+                "    /**",
+                "     * @mbg.generated",
+                "     */",
+                "    private long id;",
+                "",
+                "    /**",
+                "     * @mbg.generated",
+                "     */",
+                "    private String removed;",
+                "",
+                "    /**",
+                "     * @mbg.generated",
+                "     */",
+                "    public long getId() {",
+                "        return 0;",
+                "    }",
+                "",
+                "    /**",
+                "     * @mbg.generated",
+                "     */",
+                "    public String getRemoved() {",
+                "        return removed;",
+                "    }",
+                "",
+                "    public String describe() {",
+                "        return \"player \" + id;",
+                "    }",
+                "}",
+                "");
+
+        String mergedSource = merge(NEW_SOURCE, existingSource);
+
+        assertFalse(mergedSource.contains("removed"));
+        assertFalse(mergedSource.contains("return 0;"));
+        assertTrue(mergedSource.contains("return id;"));
+        assertTrue(mergedSource.contains("private Date created;"));
+        assertTrue(mergedSource.contains("    public String describe() {\n"
+                + "        return \"player \" + id;\n"
+                + "    }"));
+    }
+
+    @Test
+    void testThatMembersMarkedDoNotDeleteAreKept() throws Exception {
+        String existingSource = String.join("\n",
+                "package test;",
+                "",
+                "public class Player {",
+                "    /**",
+                "     * @mbg.generated do_not_delete_during_merge",
+                "     */",
+                "    public long getId() {",
+                "        return 42;",
+                "    }",
+                "}",
+                "");
+
+        String mergedSource = merge(NEW_SOURCE, existingSource);
+
+        assertTrue(mergedSource.contains("return 42;"));
+        assertFalse(mergedSource.contains("return id;"));
+        assertTrue(mergedSource.contains("public Date getCreated() {"));
+    }
+
+    @Test
+    void testThatMissingImportsAreAdded() throws Exception {
+        String existingSource = String.join("\n",
+                "package test;",
+                "",
+                "import java.io.Serializable;",
+                "import java.util.List;",
+                "",
+                "public class Player extends BaseEntity implements Serializable {",
+                "}",
+                "");
+
+        String mergedSource = merge(NEW_SOURCE, existingSource);
+
+        assertTrue(mergedSource.contains("import java.io.Serializable;\n"
+                + "import java.util.List;\n"
+                + "import java.util.Date;\n"));
+        assertEquals(1, countOccurrences(mergedSource, "import java.io.Serializable;"));
+    }
+
+    @Test
+    void testThatSuperTypesAreMerged() throws Exception {
+        String existingSource = String.join("\n",
+                "package test;",
+                "",
+                "public class Player implements Comparable<Player> {",
+                "    public int compareTo(Player other) {",
+                "        return 0;",
+                "    }",
+                "}",
+                "");
+
+        String mergedSource = merge(NEW_SOURCE, existingSource);
+
+        assertTrue(mergedSource.contains(
+                "public class Player extends BaseEntity implements Comparable<Player>, Serializable {"));
+        assertTrue(mergedSource.contains("public int compareTo(Player other) {"));
+    }
+
+    @Test
+    void testThatLineSeparatorsOfTheExistingFileAreKept() throws Exception {
+        String existingSource = String.join("\r\n",
+                "package test;",
+                "",
+                "import java.io.Serializable;",
+                "",
+                "public class Player extends BaseEntity implements Serializable {",
+                "    /**",
+                "     * @mbg.generated",
+                "     */",
+                "    private long id;",
+                "",
+                "    public String describe() {",
+                "        return \"player\";",
+                "    }",
+                "}",
+                "");
+
+        String mergedSource = merge(NEW_SOURCE, existingSource);
+
+        assertFalse(mergedSource.replace("\r\n", "").contains("\n"));
+        assertTrue(mergedSource.contains("import java.util.Date;\r\n"));
+        assertTrue(mergedSource.contains("    public Date getCreated() {\r\n"
+                + "        return created;\r\n"
+                + "    }"));
+        assertTrue(mergedSource.contains("public String describe() {"));
+        assertTrue(mergedSource.endsWith("}\r\n"));
+    }
+
+    @Test
+    void testThatDifferentTypeKindsAreNotMerged() {
+        String existingSource = "package test;\n\npublic interface Player {\n}\n";
+
+        assertThrows(ShellException.class, () -> merge(NEW_SOURCE, existingSource));
+    }
+
+    /**
+     * CustomCommentGenerator marks the members with the JavaDoc tag, so members of dropped columns
+     * are removed when a file generated with it is merged.
+     */
+    @Test
+    void testThatStaleMembersGeneratedWithTheCustomCommentGeneratorAreReplaced() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject);
+        PerformanceTestSupport.generateAndWrite(config, new DefaultShellCallback(true, true), new ArrayList<>());
+
+        Path friend = targetProject.resolve("mbg/test/performance/entity/Friend.java");
+        String source = new String(Files.readAllBytes(friend), StandardCharsets.UTF_8);
+        int end = source.lastIndexOf('}');
+        source = source.substring(0, end) + "    public boolean isGift() {\n        return gifted;\n    }\n}\n";
+        Files.write(friend, source.getBytes(StandardCharsets.UTF_8));
+        execute("alter table t_friend drop column remark");
+
+        config = PerformanceTestSupport.parseConfiguration(targetProject);
+        PerformanceTestSupport.generateAndWrite(config, new DefaultShellCallback(true, true), new ArrayList<>());
+
+        String mergedSource = new String(Files.readAllBytes(friend), StandardCharsets.UTF_8);
+        assertFalse(mergedSource.contains("remark"));
+        assertTrue(mergedSource.contains("public boolean isGift() {"));
+        assertTrue(mergedSource.contains("getGifted()"));
+    }
+
+    @Test
+    void testThatMergingWithoutJavaParserFails() throws Exception {
+        Path existingFile = Files.write(targetProject.resolve("Player.java"),
+                "public class Player {\n}\n".getBytes(StandardCharsets.UTF_8));
+        // only the generator classes, without JavaParser
+        URL generatorClasses = DefaultShellCallback.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { generatorClasses }, null)) {
+            Class<?> callbackClass = classLoader.loadClass(DefaultShellCallback.class.getName());
+            Object callback = callbackClass.getConstructor(boolean.class, boolean.class).newInstance(true, true);
+            Method mergeJavaFile = callbackClass.getMethod("mergeJavaFile", String.class, File.class,
+                    String[].class, String.class);
+
+            InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                    () -> mergeJavaFile.invoke(callback, "public class Player {\n}\n", existingFile.toFile(),
+                            MergeConstants.getOldElementTags(), "UTF-8"));
+            assertEquals(ShellException.class.getName(), e.getCause().getClass().getName());
+            assertTrue(e.getCause().getMessage().contains("com.github.javaparser:javaparser-core"));
+        }
+    }
+
+    private static String merge(String newSource, String existingSource) throws ShellException {
+        return new JavaFileMergerJavaParser().getMergedSource(newSource, existingSource,
+                MergeConstants.getOldElementTags(), "Player.java");
+    }
+
+    private static int countOccurrences(String s, String part) {
+        int count = 0;
+        for (int i = s.indexOf(part); i != -1; i = s.indexOf(part, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static void execute(String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(PerformanceTestSupport.DATABASE_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ObjectFactoryTest {
+
+    /** A class that only {@link ExternalClassLoader} can load. */
+    private static final String EXTERNAL_CLASS = "mbg.test.external.ExternalType";
+
+    @AfterEach
+    void reset() {
+        ObjectFactory.reset();
+    }
+
+    @Test
+    void testFoundClasses() throws Exception {
+        assertThat(ObjectFactory.internalClassForName("java.lang.String")).isSameAs(String.class);
+        assertThat(ObjectFactory.internalClassForName("java.lang.String")).isSameAs(String.class);
+        assertThat(ObjectFactory.externalClassForName(ObjectFactoryTest.class.getName()))
+                .isSameAs(ObjectFactoryTest.class);
+    }
+
+    @Test
+    void testMissingClassIsReportedEveryTime() {
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(ClassNotFoundException.class)
+                    .isThrownBy(() -> ObjectFactory.internalClassForName(EXTERNAL_CLASS))
+                    .withMessage(EXTERNAL_CLASS);
+            assertThatExceptionOfType(ClassNotFoundException.class)
+                    .isThrownBy(() -> ObjectFactory.externalClassForName(EXTERNAL_CLASS))
+                    .withMessage(EXTERNAL_CLASS);
+        }
+    }
+
+    @Test
+    void testClassLoaderAddedAfterAMiss() throws Exception {
+        assertThatExceptionOfType(ClassNotFoundException.class)
+                .isThrownBy(() -> ObjectFactory.externalClassForName(EXTERNAL_CLASS));
+
+        ExternalClassLoader classLoader = new ExternalClassLoader();
+        ObjectFactory.addExternalClassLoader(classLoader);
+
+        Class<?> clazz = ObjectFactory.externalClassForName(EXTERNAL_CLASS);
+        assertThat(clazz.getName()).isEqualTo(EXTERNAL_CLASS);
+        assertThat(clazz.getClassLoader()).isSameAs(classLoader);
+        assertThat(ObjectFactory.externalClassForName(EXTERNAL_CLASS)).isSameAs(clazz);
+    }
+
+    @Test
+    void testResetForgetsExternalClasses() throws Exception {
+        ObjectFactory.addExternalClassLoader(new ExternalClassLoader());
+        assertThat(ObjectFactory.externalClassForName(EXTERNAL_CLASS)).isNotNull();
+
+        ObjectFactory.reset();
+
+        assertThatExceptionOfType(ClassNotFoundException.class)
+                .isThrownBy(() -> ObjectFactory.externalClassForName(EXTERNAL_CLASS));
+    }
+
+    @Test
+    void testLookupsDependOnTheContextClassLoader() throws Exception {
+        assertThatExceptionOfType(ClassNotFoundException.class)
+                .isThrownBy(() -> ObjectFactory.internalClassForName(EXTERNAL_CLASS));
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        ExternalClassLoader classLoader = new ExternalClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            assertThat(ObjectFactory.internalClassForName(EXTERNAL_CLASS).getClassLoader()).isSameAs(classLoader);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        assertThatExceptionOfType(ClassNotFoundException.class)
+                .isThrownBy(() -> ObjectFactory.internalClassForName(EXTERNAL_CLASS));
+    }
+
+    @Test
+    void testConcurrentLookups() throws Exception {
+        ObjectFactory.addExternalClassLoader(new ExternalClassLoader());
+
+        List<Class<?>> classes = IntStream.range(0, 1000).parallel()
+                .mapToObj(i -> {
+                    try {
+                        return ObjectFactory.externalClassForName(i % 2 == 0 ? EXTERNAL_CLASS : "java.lang.String");
+                    } catch (ClassNotFoundException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .distinct()
+                .collect(Collectors.toList());
+
+        assertThat(classes).hasSize(2);
+    }
+
+    /**
+     * Defines an empty class named {@link #EXTERNAL_CLASS}, like a class loader of a classPathEntry.
+     */
+    private static class ExternalClassLoader extends ClassLoader {
+        ExternalClassLoader() {
+            super(ObjectFactoryTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            if (!EXTERNAL_CLASS.equals(name)) {
+                throw new ClassNotFoundException(name);
+            }
+            try {
+                byte[] bytes = emptyClass(name.replace('.', '/'));
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+
+        private static byte[] emptyClass(String internalName) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(0xCAFEBABE);
+                out.writeShort(0); // minor version
+                out.writeShort(52); // Java 8
+                out.writeShort(5); // constant pool count + 1
+                out.writeByte(7); // #1 class #2
+                out.writeShort(2);
+                out.writeByte(1); // #2 utf8
+                out.writeUTF(internalName);
+                out.writeByte(7); // #3 class #4
+                out.writeShort(4);
+                out.writeByte(1); // #4 utf8
+                out.writeUTF("java/lang/Object");
+                out.writeShort(0x0001 | 0x0020); // public super
+                out.writeShort(1); // this class
+                out.writeShort(3); // super class
+                out.writeShort(0); // interfaces
+                out.writeShort(0); // fields
+                out.writeShort(0); // methods
+                out.writeShort(0); // attributes
+            }
+            return bytes.toByteArray();
+        }
+    }
+}
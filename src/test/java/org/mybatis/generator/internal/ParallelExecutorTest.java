@@ -0,0 +1,170 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelExecutorTest {
+
+    @Test
+    void testResultsAreInTaskOrder() throws Exception {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int value = i;
+            tasks.add(() -> {
+                Thread.sleep(20 - value);
+                return value;
+            });
+        }
+
+        List<Integer> results;
+        try (ParallelExecutor executor = new ParallelExecutor(4, "test-")) {
+            results = executor.invokeAll(tasks);
+        }
+
+        assertThat(results).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+    }
+
+    @Test
+    void testCloseWaitsForRunningTasks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        Callable<Void> failing = () -> {
+            started.await();
+            throw new SQLException("failed");
+        };
+        // ignores the interrupt, like a thread blocked in a JDBC call
+        Callable<Void> running = () -> {
+            started.countDown();
+            long end = System.currentTimeMillis() + 200;
+            while (System.currentTimeMillis() < end) {
+                Thread.yield();
+            }
+            finished.set(true);
+            return null;
+        };
+
+        ParallelExecutor executor = new ParallelExecutor(2, "test-");
+        try {
+            assertThatExceptionOfType(SQLException.class)
+                    .isThrownBy(() -> executor.invokeAll(Arrays.asList(failing, running), SQLException.class));
+        } finally {
+            executor.close();
+        }
+
+        assertThat(finished).isTrue();
+    }
+
+    @Test
+    void testShutdownWaitsNoLongerThanTheTimeout() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // ignores the interrupt until it is released
+        Callable<Void> blocked = () -> {
+            started.countDown();
+            while (true) {
+                try {
+                    release.await();
+                    return null;
+                } catch (InterruptedException e) {
+                    // keep waiting
+                }
+            }
+        };
+
+        ParallelExecutor executor = new ParallelExecutor(1, "test-");
+        Thread caller = new Thread(() -> {
+            try {
+                executor.invokeAll(Collections.singletonList(blocked));
+            } catch (InterruptedException e) {
+                // expected
+            }
+        });
+        caller.start();
+        started.await();
+
+        long start = System.nanoTime();
+        assertThat(executor.shutdown(100, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5000);
+
+        release.countDown();
+        assertThat(executor.shutdown(5, TimeUnit.SECONDS)).isTrue();
+        caller.interrupt();
+        caller.join();
+    }
+
+    @Test
+    void testInterruptedShutdownStopsWaiting() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<Void> blocked = () -> {
+            started.countDown();
+            while (true) {
+                try {
+                    release.await();
+                    return null;
+                } catch (InterruptedException e) {
+                    // keep waiting
+                }
+            }
+        };
+
+        ParallelExecutor executor = new ParallelExecutor(1, "test-");
+        Thread caller = new Thread(() -> {
+            try {
+                executor.invokeAll(Collections.singletonList(blocked));
+            } catch (InterruptedException e) {
+                // expected
+            }
+        });
+        caller.start();
+        started.await();
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(executor.shutdown(1, TimeUnit.MINUTES)).isFalse();
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+            release.countDown();
+            executor.shutdown(5, TimeUnit.SECONDS);
+            caller.interrupt();
+            caller.join();
+        }
+    }
+
+    @Test
+    void testCalculateThreadCount() {
+        assertThat(ParallelExecutor.calculateThreadCount("3", 5)).isEqualTo(3);
+        assertThat(ParallelExecutor.calculateThreadCount(" 2 ", 5)).isEqualTo(2);
+        assertThat(ParallelExecutor.calculateThreadCount("0", 5)).isEqualTo(5);
+        assertThat(ParallelExecutor.calculateThreadCount("x", 5)).isEqualTo(5);
+        assertThat(ParallelExecutor.calculateThreadCount(null, 5)).isEqualTo(5);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TableFingerprintTest {
+
+    @TempDir
+    Path classes;
+
+    @Test
+    void testClassDirectoryDigestCoversEveryFile() throws Exception {
+        write("com/example/Plugin.class", "plugin");
+        write("com/example/Helper.class", "helper");
+        String digest = TableFingerprint.calculateCodeSourceDigest(classes);
+
+        assertThat(TableFingerprint.calculateCodeSourceDigest(classes)).isEqualTo(digest);
+
+        write("com/example/Helper.class", "changed helper");
+        assertThat(TableFingerprint.calculateCodeSourceDigest(classes)).isNotEqualTo(digest);
+    }
+
+    @Test
+    void testClassDirectoryDigestCoversFileNames() throws Exception {
+        write("com/example/Plugin.class", "plugin");
+        String digest = TableFingerprint.calculateCodeSourceDigest(classes);
+
+        Files.move(classes.resolve("com/example/Plugin.class"), classes.resolve("com/example/Other.class"));
+        assertThat(TableFingerprint.calculateCodeSourceDigest(classes)).isNotEqualTo(digest);
+    }
+
+    @Test
+    void testJarFileDigest() throws Exception {
+        Path jar = write("plugins.jar", "jar");
+        String digest = TableFingerprint.calculateCodeSourceDigest(jar);
+
+        write("plugins.jar", "upgraded jar");
+        assertThat(TableFingerprint.calculateCodeSourceDigest(jar)).isNotEqualTo(digest);
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path file = classes.resolve(name);
+        Files.createDirectories(file.getParent());
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -149,6 +149,40 @@ class XmlFileMergerTest {
         assertEquals(expectedGeneratedFile.getFormattedContent(), mergedSource);
     }
 
+    @Test
+    void testThatStreamingMergeMatchesDomMerge() throws Exception {
+        DefaultXmlFormatter xmlFormatter = new DefaultXmlFormatter();
+        CommentGenerator commentGenerator = new DefaultCommentGenerator();
+
+        Document newDocument = new Document(XmlConstants.MYBATIS3_MAPPER_PUBLIC_ID,
+                XmlConstants.MYBATIS3_MAPPER_SYSTEM_ID);
+        newDocument.setRootElement(getSqlMapElement(commentGenerator));
+
+        Document existingDocument = new Document(XmlConstants.MYBATIS3_MAPPER_PUBLIC_ID,
+                XmlConstants.MYBATIS3_MAPPER_SYSTEM_ID);
+        XmlElement root = getSqlMapElement(commentGenerator);
+        XmlElement element = new XmlElement("select");
+        element.addAttribute(new Attribute("id", "customSelect"));
+        element.addAttribute(new Attribute("resultType", "java.lang.String"));
+        element.addElement(new TextElement("<!-- custom & kept -->"));
+        element.addElement(new TextElement("select name from t where id &lt; 10"));
+        root.addElement(element);
+        root.addElement(new XmlElement("sql"));
+        existingDocument.setRootElement(root);
+
+        String newContent = new GeneratedXmlFile(newDocument, "TestMapper.xml", "org.mybatis.test", "src",
+                true, xmlFormatter).getFormattedContent();
+        String existingContent = new GeneratedXmlFile(existingDocument, "TestMapper.xml", "org.mybatis.test", "src",
+                true, xmlFormatter).getFormattedContent();
+
+        String domMergedSource = XmlFileMergerJaxp.getMergedSource(new InputSource(new StringReader(newContent)),
+                new InputSource(new StringReader(existingContent)), "TestMapper.xml");
+        String streamingMergedSource = XmlFileMergerStax.getMergedSource(new StringReader(newContent),
+                new StringReader(existingContent), "TestMapper.xml");
+
+        assertEquals(domMergedSource, streamingMergedSource);
+    }
+
     private XmlElement getSqlMapElement(CommentGenerator commentGenerator) {
 
         XmlElement answer = new XmlElement("mapper");
@@ -0,0 +1,78 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.PerformanceTestSupport;
+import org.mybatis.generator.api.ConnectionFactory;
+
+class IntrospectionConnectionPoolTest {
+
+    @Test
+    void testReleasedConnectionIsReused() throws Exception {
+        try (IntrospectionConnectionPool pool = createPool()) {
+            Connection connection = pool.lease();
+            pool.release(connection);
+
+            assertThat(pool.lease()).isSameAs(connection);
+        }
+    }
+
+    @Test
+    void testCloseClosesIdleConnections() throws Exception {
+        IntrospectionConnectionPool pool = createPool();
+        Connection connection = pool.lease();
+        pool.release(connection);
+
+        pool.close();
+
+        assertThat(connection.isClosed()).isTrue();
+    }
+
+    @Test
+    void testConnectionInUseIsClosedWhenReleased() throws Exception {
+        IntrospectionConnectionPool pool = createPool();
+        Connection connection = pool.lease();
+
+        pool.close();
+        assertThat(connection.isClosed()).isFalse();
+
+        pool.release(connection);
+        assertThat(connection.isClosed()).isTrue();
+    }
+
+    private static IntrospectionConnectionPool createPool() {
+        ConnectionFactory connectionFactory = new ConnectionFactory() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return DriverManager.getConnection(PerformanceTestSupport.DATABASE_URL, "sa", ""); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+
+            @Override
+            public void addConfigurationProperties(Properties properties) {
+                // nothing to configure
+            }
+        };
+        return new IntrospectionConnectionPool(connectionFactory, 2);
+    }
+}
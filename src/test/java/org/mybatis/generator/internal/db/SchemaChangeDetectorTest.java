@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.PerformanceTestSupport;
+import org.mybatis.generator.config.Configuration;
+
+class SchemaChangeDetectorTest {
+
+    @TempDir
+    Path targetProject;
+
+    private SchemaChangeDetector detector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject);
+        detector = new SchemaChangeDetector(PerformanceTestSupport.getContext(config, "mysql"));
+    }
+
+    @Test
+    void testFirstCheckReturnsEveryTable() throws Exception {
+        assertThat(detector.detectChangedTables()).containsExactly("t_player", "t_item", "t_friend",
+                "t_player_tag");
+        assertThat(detector.detectChangedTables()).isEmpty();
+    }
+
+    @Test
+    void testColumnChangeIsDetected() throws Exception {
+        detector.detectChangedTables();
+        execute("alter table t_friend add column intimacy int");
+
+        assertThat(detector.detectChangedTables()).containsExactly("t_friend");
+        assertThat(detector.detectChangedTables()).isEmpty();
+    }
+
+    @Test
+    void testPrimaryKeyChangeIsDetected() throws Exception {
+        detector.detectChangedTables();
+        execute("alter table t_player_tag drop primary key");
+
+        assertThat(detector.detectChangedTables()).containsExactly("t_player_tag");
+    }
+
+    @Test
+    void testIndexChangeIsDetected() throws Exception {
+        detector.detectChangedTables();
+        execute("create index idx_item_count on t_item (item_count)");
+
+        assertThat(detector.detectChangedTables()).containsExactly("t_item");
+
+        execute("drop index idx_item_count");
+
+        assertThat(detector.detectChangedTables()).containsExactly("t_item");
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(PerformanceTestSupport.DATABASE_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
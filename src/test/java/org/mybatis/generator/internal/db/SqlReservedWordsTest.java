@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+class SqlReservedWordsTest {
+
+    @Test
+    void testReservedWordsInAnyCase() {
+        assertThat(SqlReservedWords.containsWord("SELECT")).isTrue();
+        assertThat(SqlReservedWords.containsWord("select")).isTrue();
+        assertThat(SqlReservedWords.containsWord("SeLeCt")).isTrue();
+        assertThat(SqlReservedWords.containsWord("A")).isTrue();
+        assertThat(SqlReservedWords.containsWord("zone")).isTrue();
+        assertThat(SqlReservedWords.containsWord("CURRENT_TIMESTAMP")).isTrue();
+    }
+
+    @Test
+    void testOtherWords() {
+        assertThat(SqlReservedWords.containsWord(null)).isFalse();
+        assertThat(SqlReservedWords.containsWord("")).isFalse();
+        assertThat(SqlReservedWords.containsWord("PLAYER_ID")).isFalse();
+        assertThat(SqlReservedWords.containsWord("SELEC")).isFalse();
+        assertThat(SqlReservedWords.containsWord("SELECTS")).isFalse();
+        assertThat(SqlReservedWords.containsWord("SELECT ")).isFalse();
+    }
+
+    @Test
+    void testLookupsDoNotDependOnTheDefaultLocale() {
+        Locale locale = Locale.getDefault();
+        // in Turkish, "i".toUpperCase() is a dotted capital I
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertThat(SqlReservedWords.containsWord("insert")).isTrue();
+            assertThat(SqlReservedWords.containsWord("limit")).isTrue();
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.mybatis.generator.internal.util;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mybatis.generator.internal.util.JavaBeansUtil.getCamelCaseString;
 import static org.mybatis.generator.internal.util.JavaBeansUtil.getGetterMethodName;
 import static org.mybatis.generator.internal.util.JavaBeansUtil.getSetterMethodName;
 import static org.mybatis.generator.internal.util.JavaBeansUtil.getValidPropertyName;
@@ -67,4 +68,27 @@ class JavaBeansUtilTest {
         assertEquals("set_fred", getSetterMethodName("_fred")); //$NON-NLS-1$ //$NON-NLS-2$
         assertEquals("setAccountType", getSetterMethodName("AccountType")); //$NON-NLS-1$ //$NON-NLS-2$
     }
+
+    @Test
+    void testCachedNamesDependOnAllArguments() {
+        for (int i = 0; i < 2; i++) {
+            assertEquals("isActive", getGetterMethodName("active", FullyQualifiedJavaType.getBooleanPrimitiveInstance())); //$NON-NLS-1$ //$NON-NLS-2$
+            assertEquals("getActive", getGetterMethodName("active", FullyQualifiedJavaType.getStringInstance())); //$NON-NLS-1$ //$NON-NLS-2$
+            assertEquals("setActive", getSetterMethodName("active")); //$NON-NLS-1$ //$NON-NLS-2$
+            assertEquals("PlayerId", getCamelCaseString("player_id", true)); //$NON-NLS-1$ //$NON-NLS-2$
+            assertEquals("playerId", getCamelCaseString("player_id", false)); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        assertNull(getValidPropertyName(null));
+    }
+
+    @Test
+    void testMoreNamesThanTheCacheHolds() {
+        for (int i = 0; i < 20000; i++) {
+            assertEquals("Column" + i, getCamelCaseString("COLUMN_" + i, true)); //$NON-NLS-1$ //$NON-NLS-2$
+            assertEquals("setColumn" + i, getSetterMethodName("column" + i)); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        JavaBeansUtil.reset();
+        assertEquals("Column19999", getCamelCaseString("COLUMN_19999", true)); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals("column19999", getCamelCaseString("COLUMN_19999", false)); //$NON-NLS-1$ //$NON-NLS-2$
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.PerformanceTestSupport;
+
+class BatchInsertPluginTest {
+
+    @TempDir
+    static Path targetProject;
+
+    private static Map<String, String> files;
+
+    @BeforeAll
+    static void generate() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        files = PerformanceTestSupport.generate(PerformanceTestSupport.parseConfiguration(targetProject),
+                PerformanceTestSupport.contexts("mysql"), new ArrayList<>());
+    }
+
+    @Test
+    void testInsertBatchInsertsEveryRowInOneStatement() {
+        String xml = files.get("mbg.test.performance.mapper/PlayerTagMapper.xml");
+
+        assertThat(xml).contains("<insert id=\"insertBatch\" parameterType=\"java.util.List\">")
+                .contains("insert into T_PLAYER_TAG")
+                .contains("PLAYER_ID, TAG")
+                .contains("<foreach collection=\"list\" index=\"index\" item=\"item\" separator=\",\">")
+                .contains("#{item.playerId,jdbcType=BIGINT}, #{item.tag,jdbcType=VARCHAR}");
+    }
+
+    @Test
+    void testChunkedMethodsUseTheRowsPerStatementOfTheTable() {
+        String mapper = files.get("mbg.test.performance.mapper/ItemMapper.java");
+
+        // 5 columns - the placeholder limit allows 65535 / 5 rows
+        assertThat(mapper).contains("default int insertBatchChunked(List<Item> records) {\n"
+                + "        return insertBatchChunked(records, 13107);\n"
+                + "    }");
+    }
+
+    @Test
+    void testChunkedMethodRejectsRowsPerStatementThatAreNotPositive() {
+        String mapper = files.get("mbg.test.performance.mapper/PlayerMapper.java");
+
+        assertThat(mapper).contains("default int insertBatchChunked(List<Player> records, int rowsPerStatement) {\n"
+                + "        if (rowsPerStatement <= 0) {\n"
+                + "            throw new IllegalArgumentException(\"rowsPerStatement must be positive: \""
+                + " + rowsPerStatement);\n"
+                + "        }\n"
+                + "        int rows = 0;\n");
+    }
+
+    @Test
+    void testInvalidPropertiesAreReported() {
+        List<String> warnings = new ArrayList<>();
+        Properties properties = new Properties();
+        properties.setProperty("maxRowsPerStatement", "0");
+        properties.setProperty("estimatedRowBytes", "many");
+        BatchInsertPlugin plugin = new BatchInsertPlugin();
+        plugin.setProperties(properties);
+
+        assertThat(plugin.validate(warnings)).isFalse();
+        assertThat(warnings).containsExactlyInAnyOrder(
+                "Invalid value \"many\" for property estimatedRowBytes of plugin BatchInsertPlugin,"
+                        + " must be a positive integer",
+                "Invalid value \"0\" for property maxRowsPerStatement of plugin BatchInsertPlugin,"
+                        + " must be a positive integer");
+    }
+
+    @Test
+    void testValidPropertiesAreAccepted() {
+        List<String> warnings = new ArrayList<>();
+        Properties properties = new Properties();
+        properties.setProperty("maxAllowedPacket", "16777216");
+        properties.setProperty("maxRowsPerStatement", "500");
+        InsertOrUpdatePlugin plugin = new InsertOrUpdatePlugin();
+        plugin.setProperties(properties);
+
+        assertThat(plugin.validate(warnings)).isTrue();
+        assertThat(warnings).isEmpty();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.PerformanceTestSupport;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.PluginConfiguration;
+
+class BatchWriterPluginTest {
+
+    @TempDir
+    static Path targetProject;
+
+    private static Map<String, String> files;
+
+    @BeforeAll
+    static void generate() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject);
+        PluginConfiguration pluginConfiguration = new PluginConfiguration();
+        pluginConfiguration.setConfigurationType("org.mybatis.generator.plugins.BatchWriterPlugin");
+        pluginConfiguration.addProperty("batchSize", "50");
+        pluginConfiguration.addProperty("targetPackage", "mbg.test.performance.hierarchical.writer");
+        PerformanceTestSupport.getContext(config, "hierarchical").addPluginConfiguration(pluginConfiguration);
+        files = PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql", "hierarchical"),
+                new ArrayList<>());
+    }
+
+    @Test
+    void testWriterUsesABatchSession() {
+        String writer = files.get("mbg.test.performance.mapper/PlayerBatchWriter.java");
+
+        assertThat(writer).contains("public class PlayerBatchWriter implements AutoCloseable {")
+                .contains("public PlayerBatchWriter(SqlSessionFactory sqlSessionFactory) {\n"
+                        + "        this(sqlSessionFactory, 1000);\n"
+                        + "    }")
+                .contains("this.sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH);\n"
+                        + "        this.mapper = sqlSession.getMapper(PlayerMapper.class);\n")
+                .contains("private void statementAdded() {\n"
+                        + "        if (++pendingStatements >= batchSize) {\n"
+                        + "            flush();\n"
+                        + "        }\n"
+                        + "    }")
+                .contains("public List<BatchResult> flush() {\n"
+                        + "        pendingStatements = 0;\n"
+                        + "        return sqlSession.flushStatements();\n"
+                        + "    }");
+    }
+
+    @Test
+    void testWriterCallsTheSingleRowStatements() {
+        String writer = files.get("mbg.test.performance.mapper/PlayerBatchWriter.java");
+
+        // the update with the BLOB column, as the writer must not lose data
+        assertThat(writer).contains("public void insert(Player row) {\n"
+                        + "        mapper.insert(row);\n"
+                        + "        statementAdded();\n"
+                        + "    }")
+                .contains("public void insertAll(Collection<Player> rows) {\n"
+                        + "        for (Player row : rows) {\n"
+                        + "            insert(row);\n"
+                        + "        }\n"
+                        + "    }")
+                .contains("public void updateByPrimaryKeyWithBLOBs(Player row) {\n"
+                        + "        mapper.updateByPrimaryKeyWithBLOBs(row);\n")
+                .doesNotContain("mapper.updateByPrimaryKey(row);");
+    }
+
+    @Test
+    void testStatementsOfTheWriterAreTheSameForEveryRow() {
+        String xml = files.get("mbg.test.performance.mapper/PlayerMapper.xml");
+
+        // static SQL - the driver can reuse one prepared statement for the whole batch
+        assertThat(statement(xml, "<insert id=\"insert\" ", "</insert>"))
+                .contains("insert into T_PLAYER (")
+                .doesNotContain("<if", "<foreach", "<trim");
+        assertThat(statement(xml, "<update id=\"updateByPrimaryKeyWithBLOBs\" ", "</update>"))
+                .contains("update T_PLAYER")
+                .doesNotContain("<if", "<foreach", "<set");
+    }
+
+    @Test
+    void testTableWithoutUpdatableColumns() {
+        String writer = files.get("mbg.test.performance.mapper/PlayerTagBatchWriter.java");
+
+        // every column is part of the primary key, so the mapper has no updateByPrimaryKey
+        assertThat(writer).contains("public void insert(PlayerTag row) {")
+                .doesNotContain("update");
+    }
+
+    @Test
+    void testProperties() {
+        String writer = files.get("mbg.test.performance.hierarchical.writer/TPlayerBatchWriter.java");
+
+        assertThat(writer).startsWith("package mbg.test.performance.hierarchical.writer;")
+                .contains("import mbg.test.performance.hierarchical.mapper.TPlayerMapper;")
+                .contains("this(sqlSessionFactory, 50);")
+                .contains("public void insert(TPlayerWithBLOBs row) {")
+                .contains("public void updateByPrimaryKeyWithBLOBs(TPlayerWithBLOBs row) {");
+    }
+
+    @Test
+    void testInvalidBatchSizeIsReported() {
+        List<String> warnings = new ArrayList<>();
+        Properties properties = new Properties();
+        properties.setProperty("batchSize", "0");
+        BatchWriterPlugin plugin = new BatchWriterPlugin();
+        plugin.setProperties(properties);
+
+        assertThat(plugin.validate(warnings)).isFalse();
+        assertThat(warnings).containsExactly(
+                "Invalid value \"0\" for property batchSize of plugin BatchWriterPlugin, must be a positive integer");
+    }
+
+    private static String statement(String xml, String start, String end) {
+        int index = xml.indexOf(start);
+        assertThat(index).as(start).isNotNegative();
+        return xml.substring(index, xml.indexOf(end, index));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.PerformanceTestSupport;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.PluginConfiguration;
+
+class InsertOrUpdatePluginTest {
+
+    @TempDir
+    static Path targetProject;
+
+    private static Map<String, String> files;
+
+    @BeforeAll
+    static void generate() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject);
+        PluginConfiguration pluginConfiguration = new PluginConfiguration();
+        pluginConfiguration.setConfigurationType(InsertOrUpdatePlugin.class.getName());
+        pluginConfiguration.addProperty("useRowAlias", "true");
+        PerformanceTestSupport.getContext(config, "hierarchical").addPluginConfiguration(pluginConfiguration);
+        files = PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql", "hierarchical"),
+                new ArrayList<>());
+    }
+
+    @Test
+    void testBatchUpdatesTheColumnsThatAreNotKeys() {
+        assertThat(files.get("mbg.test.performance.mapper/FriendMapper.xml"))
+                .contains("<insert id=\"insertOrUpdateBatch\" parameterType=\"java.util.List\">")
+                .contains("insert into T_FRIEND (PLAYER_ID, FRIEND_ID, GIFTED, REMARK)\n"
+                        + "    values\n"
+                        + "    <foreach collection=\"list\" item=\"item\" separator=\",\">")
+                .contains("on duplicate key update GIFTED = values(GIFTED), REMARK = values(REMARK)\n");
+    }
+
+    @Test
+    void testBatchDoesNotUpdateNotUpdateColumns() {
+        assertThat(files.get("mbg.test.performance.mapper/ItemMapper.xml"))
+                .contains("on duplicate key update ITEM_ID = values(ITEM_ID),\n"
+                        + "      ITEM_COUNT = values(ITEM_COUNT), EXPIRE_TIME = values(EXPIRE_TIME)\n")
+                .doesNotContain("PLAYER_ID = values(PLAYER_ID)");
+    }
+
+    @Test
+    void testBatchWithoutUpdatableColumnsKeepsExistingRows() {
+        assertThat(files.get("mbg.test.performance.mapper/PlayerTagMapper.xml"))
+                .contains("on duplicate key update PLAYER_ID = PLAYER_ID\n")
+                .doesNotContain("values(PLAYER_ID)");
+    }
+
+    @Test
+    void testBatchWithRowAlias() {
+        assertThat(files.get("mbg.test.performance.hierarchical.xml/TFriendMapper.xml"))
+                .contains("as new on duplicate key update GIFTED = new.GIFTED, REMARK = new.REMARK\n");
+    }
+
+    @Test
+    void testChunkedMethods() {
+        assertThat(files.get("mbg.test.performance.mapper/FriendMapper.java"))
+                .contains("default int insertOrUpdateBatchChunked(List<Friend> records) {")
+                .contains("rows += insertOrUpdateBatch(records.subList(fromIndex, toIndex));");
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.PerformanceTestSupport;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.TableConfiguration;
+
+class MysqlBatchUpdatePluginTest {
+
+    @TempDir
+    Path targetProject;
+
+    private final List<String> warnings = new ArrayList<>();
+
+    @BeforeEach
+    void createDatabase() throws Exception {
+        PerformanceTestSupport.createDatabase();
+    }
+
+    @Test
+    void testJoinStrategy() throws Exception {
+        Map<String, String> files = generate("join");
+
+        assertThat(files.get("mbg.test.performance.mapper/FriendMapper.xml"))
+                .contains("<update id=\"updateBatch\" parameterType=\"java.util.List\">")
+                .contains("update T_FRIEND t join (values")
+                .contains("row(#{item.playerId,jdbcType=BIGINT}, #{item.friendId,jdbcType=BIGINT},")
+                .contains(") v on t.PLAYER_ID = v.column_0 and t.FRIEND_ID = v.column_1")
+                .contains("set t.GIFTED = v.column_2, t.REMARK = v.column_3");
+        // notUpdateColumns are not updated
+        assertThat(files.get("mbg.test.performance.mapper/PlayerMapper.xml"))
+                .contains(") v on t.ID = v.column_0")
+                .contains("set t.NAME = v.column_1,")
+                .doesNotContain("t.PLAYER_ID =");
+    }
+
+    @Test
+    void testJoinStrategyWithoutUpdatableColumns() throws Exception {
+        Map<String, String> files = generate("join");
+
+        assertThat(files.get("mbg.test.performance.mapper/PlayerTagMapper.xml"))
+                .contains(") v on t.PLAYER_ID = v.column_0 and t.TAG = v.column_1\n"
+                        + "    set t.PLAYER_ID = t.PLAYER_ID\n"
+                        + "  </update>");
+        assertThat(warnings).containsExactly("Table T_PLAYER_TAG has no column that updateBatch can update"
+                + " - every column is part of the primary key or a notUpdateColumn.  The generated updateBatch"
+                + " does not change any row.");
+    }
+
+    @Test
+    void testWarningsWithParallelGeneration() throws Exception {
+        Map<String, String> files = generate("join", "parallelGeneration", "true", "generationThreads", "4");
+
+        assertThat(files.get("mbg.test.performance.mapper/PlayerTagMapper.xml"))
+                .contains("set t.PLAYER_ID = t.PLAYER_ID");
+        assertThat(warnings).hasSize(1);
+    }
+
+    @Test
+    void testUpsertStrategy() throws Exception {
+        Map<String, String> files = generate("upsert");
+
+        assertThat(files.get("mbg.test.performance.mapper/FriendMapper.xml"))
+                .contains("<insert id=\"updateBatch\" parameterType=\"java.util.List\">")
+                .contains("insert into T_FRIEND (PLAYER_ID, FRIEND_ID, GIFTED, REMARK)")
+                .contains("on duplicate key update GIFTED = values(GIFTED), REMARK = values(REMARK)");
+        assertThat(files.get("mbg.test.performance.mapper/PlayerTagMapper.xml"))
+                .contains("on duplicate key update PLAYER_ID = PLAYER_ID");
+        assertThat(warnings).hasSize(1);
+    }
+
+    private Map<String, String> generate(String strategy, String... contextProperties) throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject, contextProperties);
+        for (TableConfiguration tableConfiguration : PerformanceTestSupport.getContext(config, "mysql")
+                .getTableConfigurations()) {
+            tableConfiguration.addProperty("batchUpdateStrategy", strategy);
+        }
+        return PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql"), warnings);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2006-2024 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.PerformanceTestSupport;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+
+class StreamAllPluginTest {
+
+    @TempDir
+    static Path targetProject;
+
+    private static Map<String, String> files;
+
+    @BeforeAll
+    static void generate() throws Exception {
+        PerformanceTestSupport.createDatabase();
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject);
+        Context context = PerformanceTestSupport.getContext(config, "hierarchical");
+        PluginConfiguration pluginConfiguration = new PluginConfiguration();
+        pluginConfiguration.setConfigurationType("org.mybatis.generator.plugins.StreamAllPlugin");
+        pluginConfiguration.addProperty("fetchSize", "200");
+        context.addPluginConfiguration(pluginConfiguration);
+        getTableConfiguration(context, "t_item").addProperty("mysqlStreaming", "true");
+        getTableConfiguration(context, "t_friend").addProperty("fetchSize", "10");
+        files = PerformanceTestSupport.generate(config, PerformanceTestSupport.contexts("mysql", "hierarchical"),
+                new ArrayList<>());
+    }
+
+    @Test
+    void testMapperMethods() {
+        assertThat(files.get("mbg.test.performance.mapper/PlayerMapper.java"))
+                .contains("import org.apache.ibatis.cursor.Cursor;")
+                .contains("import org.apache.ibatis.session.ResultHandler;")
+                .contains("Cursor<Player> streamAll();")
+                .contains("void scanAll(ResultHandler<Player> handler);");
+        assertThat(files.get("mbg.test.performance.mapper/ItemMapper.java"))
+                .contains("Cursor<Item> streamAll();")
+                .contains("void scanAll(ResultHandler<Item> handler);");
+    }
+
+    @Test
+    void testStatementsReadEveryRowForwardOnly() {
+        assertThat(files.get("mbg.test.performance.mapper/PlayerMapper.xml"))
+                .contains("<select fetchSize=\"1000\" id=\"streamAll\" resultMap=\"ResultMapWithBLOBs\""
+                        + " resultSetType=\"FORWARD_ONLY\">")
+                .contains("<select fetchSize=\"1000\" id=\"scanAll\" resultMap=\"ResultMapWithBLOBs\""
+                        + " resultSetType=\"FORWARD_ONLY\">")
+                .contains("    SELECT * FROM T_PLAYER\n  </select>");
+        assertThat(files.get("mbg.test.performance.mapper/ItemMapper.xml"))
+                .contains("<select fetchSize=\"1000\" id=\"streamAll\" resultMap=\"BaseResultMap\""
+                        + " resultSetType=\"FORWARD_ONLY\">")
+                .contains("    SELECT * FROM T_ITEM\n  </select>");
+    }
+
+    @Test
+    void testRecordTypeOfTablesWithBlobColumns() {
+        // the type of the result map, like selectByPrimaryKey
+        assertThat(files.get("mbg.test.performance.hierarchical.mapper/TPlayerMapper.java"))
+                .contains("Cursor<TPlayerWithBLOBs> streamAll();")
+                .contains("void scanAll(ResultHandler<TPlayerWithBLOBs> handler);");
+    }
+
+    @Test
+    void testFetchSizeProperties() {
+        assertThat(files.get("mbg.test.performance.hierarchical.xml/TPlayerMapper.xml"))
+                .contains("<select fetchSize=\"200\" id=\"streamAll\" resultMap=\"ResultMapWithBLOBs\"");
+        // the MySQL driver streams the rows one by one with Integer.MIN_VALUE
+        assertThat(files.get("mbg.test.performance.hierarchical.xml/TItemMapper.xml"))
+                .contains("<select fetchSize=\"-2147483648\" id=\"streamAll\" resultMap=\"BaseResultMap\"")
+                .contains("<select fetchSize=\"-2147483648\" id=\"scanAll\" resultMap=\"BaseResultMap\"");
+        assertThat(files.get("mbg.test.performance.hierarchical.xml/TFriendMapper.xml"))
+                .contains("<select fetchSize=\"10\" id=\"streamAll\" resultMap=\"BaseResultMap\"");
+    }
+
+    @Test
+    void testInvalidFetchSizesAreReported() throws Exception {
+        Configuration config = PerformanceTestSupport.parseConfiguration(targetProject);
+        Context context = PerformanceTestSupport.getContext(config, "mysql");
+        getTableConfiguration(context, "t_item").addProperty("fetchSize", "0");
+        List<String> warnings = new ArrayList<>();
+        Properties properties = new Properties();
+        properties.setProperty("fetchSize", "many");
+        StreamAllPlugin plugin = new StreamAllPlugin();
+        plugin.setContext(context);
+        plugin.setProperties(properties);
+
+        assertThat(plugin.validate(warnings)).isFalse();
+        assertThat(warnings).containsExactly(
+                "Invalid value \"many\" for property fetchSize of plugin StreamAllPlugin, must be a positive integer",
+                "Invalid value \"0\" for property fetchSize of plugin StreamAllPlugin, must be a positive integer");
+    }
+
+    private static TableConfiguration getTableConfiguration(Context context, String tableName) {
+        return context.getTableConfigurations().stream()
+                .filter(tableConfiguration -> tableConfiguration.getTableName().equals(tableName))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+}
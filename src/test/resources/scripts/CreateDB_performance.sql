@@ -0,0 +1,63 @@
+--
+--    Copyright 2006-2024 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       http://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+-- a small game schema like the one this generator is used with, for the tests of the generation
+-- modes and of the plugins that generate statements for MySQL
+
+drop table t_player if exists;
+drop table t_item if exists;
+drop table t_friend if exists;
+drop table t_player_tag if exists;
+
+create table t_player (
+  id bigint not null,
+  player_id bigint not null,
+  name varchar(32),
+  level int,
+  gold bigint,
+  created timestamp,
+  data longvarbinary,
+  primary key (id)
+);
+
+create unique index uk_player_player_id on t_player (player_id);
+
+create table t_item (
+  id bigint not null,
+  player_id bigint not null,
+  item_id int not null,
+  item_count int,
+  expire_time timestamp,
+  primary key (id)
+);
+
+create unique index uk_item_player_item on t_item (player_id, item_id);
+create index idx_item_expire on t_item (expire_time);
+
+create table t_friend (
+  player_id bigint not null,
+  friend_id bigint not null,
+  gifted bit,
+  remark varchar(64),
+  primary key (player_id, friend_id)
+);
+
+-- every column is part of the primary key or is not updated, so there is nothing to update
+create table t_player_tag (
+  player_id bigint not null,
+  tag varchar(20) not null,
+  primary key (player_id, tag)
+);